@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access;
+
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.io.Serializable;
+
+/**
+ * Emitted to a client instead of the events buffered for it when the client's event buffer
+ * overflowed.
+ * <p>
+ * Since at least one event has been discarded, a client receiving this event cannot rely on the
+ * events it has received so far to reflect the kernel's current state and should resynchronize,
+ * i.e. fetch the current states of the objects it is interested in.
+ * </p>
+ */
+public class EventBufferOverflowEvent
+    implements
+      Serializable {
+
+  /**
+   * The number of events that were discarded.
+   */
+  private final int discardedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param discardedEventCount The number of events that were discarded.
+   */
+  public EventBufferOverflowEvent(int discardedEventCount) {
+    this.discardedEventCount = checkInRange(
+        discardedEventCount,
+        1,
+        Integer.MAX_VALUE,
+        "discardedEventCount"
+    );
+  }
+
+  /**
+   * Returns the number of events that were discarded.
+   *
+   * @return The number of events that were discarded.
+   */
+  public int getDiscardedEventCount() {
+    return discardedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "discardedEventCount=" + discardedEventCount
+        + '}';
+  }
+}
@@ -0,0 +1,480 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Describes how the states of objects of a specific class are encoded in
+ * {@link TCSObjectDeltaEvent}s.
+ * <p>
+ * An encoding consists of the attributes of an object that can be modified via the public
+ * {@code with*} methods of its class. A modified object state is restored by applying the modified
+ * attributes' values to the object's previous state via these methods, in the order the attributes
+ * are declared in. The object's properties are always applied first and its history last, so the
+ * history entries some {@code with*} methods add implicitly are replaced with the actual ones.
+ * </p>
+ * <p>
+ * Some {@code with*} methods also modify values other than the given one, e.g. set a timestamp to
+ * the current time. An encoding therefore also declares such values, so the encoder can check
+ * whether an object state can actually be restored from a delta.
+ * </p>
+ *
+ * @param <T> The class of the objects.
+ */
+final class DeltaEncoding<T extends TCSObject<T>> {
+
+  /**
+   * The encodings for the supported object classes.
+   */
+  private static final Map<Class<?>, DeltaEncoding<?>> ENCODINGS = Map.of(
+      Vehicle.class, vehicleEncoding(),
+      TransportOrder.class, transportOrderEncoding(),
+      PeripheralJob.class, peripheralJobEncoding(),
+      Point.class, pointEncoding(),
+      Path.class, pathEncoding(),
+      Location.class, locationEncoding()
+  );
+  /**
+   * The class of the objects.
+   */
+  private final Class<T> type;
+  /**
+   * The attributes, in the order they are applied in.
+   */
+  private final List<Attribute<T>> attributes;
+  /**
+   * Values that are not attributes themselves but may be modified implicitly by {@code with*}
+   * methods.
+   */
+  private final List<Function<T, ?>> implicitValues;
+
+  private DeltaEncoding(
+      Class<T> type,
+      List<Attribute<T>> attributes,
+      List<Function<T, ?>> implicitValues
+  ) {
+    this.type = type;
+    this.attributes = new ArrayList<>();
+    this.attributes.add(
+        new Attribute<T>(
+            "Properties",
+            TCSObject::getProperties,
+            (object, value) -> type.cast(object.withProperties(castValue(value))),
+            Objects::equals
+        )
+    );
+    this.attributes.addAll(attributes);
+    this.attributes.add(
+        new Attribute<T>(
+            "History",
+            TCSObject::getHistory,
+            (object, value) -> type.cast(object.withHistory((ObjectHistory) value)),
+            (value1, value2) -> isSameHistory((ObjectHistory) value1, (ObjectHistory) value2)
+        )
+    );
+    this.implicitValues = implicitValues;
+  }
+
+  /**
+   * Returns the encoding for objects of the given class.
+   *
+   * @param type The class of the objects.
+   * @return The encoding, or {@code null}, if objects of the given class are not encoded in delta
+   * events.
+   */
+  @Nullable
+  static DeltaEncoding<?> forClass(
+      @Nonnull
+      Class<?> type
+  ) {
+    return ENCODINGS.get(requireNonNull(type, "type"));
+  }
+
+  /**
+   * Returns the number of attributes.
+   *
+   * @return The number of attributes.
+   */
+  int getAttributeCount() {
+    return attributes.size();
+  }
+
+  /**
+   * Returns the name of the given attribute, i.e. the name of the {@code with*} method modifying it
+   * without the prefix.
+   *
+   * @param attribute The attribute's index.
+   * @return The attribute's name.
+   */
+  String getAttributeName(int attribute) {
+    return attributes.get(attribute).name;
+  }
+
+  /**
+   * Returns the value of the given attribute of the given object.
+   *
+   * @param attribute The attribute's index.
+   * @param object The object.
+   * @return The attribute's value.
+   */
+  Object getValue(int attribute, TCSObject<?> object) {
+    return attributes.get(attribute).getter.apply(type.cast(object));
+  }
+
+  /**
+   * Returns a copy of the given object with the given value of the given attribute.
+   *
+   * @param attribute The attribute's index.
+   * @param object The object.
+   * @param value The attribute's value.
+   * @return The copy of the object.
+   */
+  TCSObject<?> withValue(int attribute, TCSObject<?> object, Object value) {
+    return attributes.get(attribute).wither.apply(type.cast(object), value);
+  }
+
+  /**
+   * Checks whether the given values of the given attribute are equivalent.
+   *
+   * @param attribute The attribute's index.
+   * @param value1 The first value.
+   * @param value2 The second value.
+   * @return {@code true}, if the values are equivalent.
+   */
+  boolean isEquivalent(int attribute, Object value1, Object value2) {
+    return value1 == value2 || attributes.get(attribute).equivalence.test(value1, value2);
+  }
+
+  /**
+   * Checks whether the given object states are equivalent with regard to all attributes and values
+   * that may be modified implicitly.
+   *
+   * @param object1 The first object state.
+   * @param object2 The second object state.
+   * @return {@code true}, if the object states are equivalent.
+   */
+  boolean isEquivalent(TCSObject<?> object1, TCSObject<?> object2) {
+    for (int i = 0; i < attributes.size(); i++) {
+      if (!isEquivalent(i, getValue(i, object1), getValue(i, object2))) {
+        return false;
+      }
+    }
+    for (Function<T, ?> implicitValue : implicitValues) {
+      if (!Objects.equals(
+          implicitValue.apply(type.cast(object1)),
+          implicitValue.apply(type.cast(object2))
+      )) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSameHistory(ObjectHistory history1, ObjectHistory history2) {
+    // History entries do not implement equals(), so this compares them by identity.
+    return history1.getMaxEntryCount() == history2.getMaxEntryCount()
+        && history1.getEntries().equals(history2.getEntries());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V castValue(Object value) {
+    return (V) value;
+  }
+
+  private static <T extends TCSObject<T>, V> Attribute<T> attribute(
+      String name,
+      Function<T, V> getter,
+      BiFunction<T, V, T> wither
+  ) {
+    return new Attribute<>(
+        name,
+        getter,
+        (object, value) -> wither.apply(object, castValue(value)),
+        Objects::equals
+    );
+  }
+
+  private static DeltaEncoding<Vehicle> vehicleEncoding() {
+    return new DeltaEncoding<>(
+        Vehicle.class,
+        List.of(
+            attribute("State", Vehicle::getState, Vehicle::withState),
+            attribute("ProcState", Vehicle::getProcState, Vehicle::withProcState),
+            attribute("EnergyLevel", Vehicle::getEnergyLevel, Vehicle::withEnergyLevel),
+            attribute(
+                "EnergyLevelThresholdSet",
+                Vehicle::getEnergyLevelThresholdSet,
+                Vehicle::withEnergyLevelThresholdSet
+            ),
+            attribute(
+                "RechargeOperation",
+                Vehicle::getRechargeOperation,
+                Vehicle::withRechargeOperation
+            ),
+            attribute(
+                "LoadHandlingDevices",
+                Vehicle::getLoadHandlingDevices,
+                Vehicle::withLoadHandlingDevices
+            ),
+            attribute("MaxVelocity", Vehicle::getMaxVelocity, Vehicle::withMaxVelocity),
+            attribute(
+                "MaxReverseVelocity",
+                Vehicle::getMaxReverseVelocity,
+                Vehicle::withMaxReverseVelocity
+            ),
+            attribute(
+                "IntegrationLevel",
+                Vehicle::getIntegrationLevel,
+                Vehicle::withIntegrationLevel
+            ),
+            attribute("Paused", Vehicle::isPaused, Vehicle::withPaused),
+            attribute("BoundingBox", Vehicle::getBoundingBox, Vehicle::withBoundingBox),
+            attribute("TransportOrder", Vehicle::getTransportOrder, Vehicle::withTransportOrder),
+            attribute("OrderSequence", Vehicle::getOrderSequence, Vehicle::withOrderSequence),
+            attribute(
+                "AcceptableOrderTypes",
+                Vehicle::getAcceptableOrderTypes,
+                Vehicle::withAcceptableOrderTypes
+            ),
+            attribute(
+                "ClaimedResources",
+                Vehicle::getClaimedResources,
+                Vehicle::withClaimedResources
+            ),
+            attribute(
+                "AllocatedResources",
+                Vehicle::getAllocatedResources,
+                Vehicle::withAllocatedResources
+            ),
+            attribute("CurrentPosition", Vehicle::getCurrentPosition, Vehicle::withCurrentPosition),
+            attribute("Pose", Vehicle::getPose, Vehicle::withPose),
+            attribute("EnvelopeKey", Vehicle::getEnvelopeKey, Vehicle::withEnvelopeKey),
+            attribute("Layout", Vehicle::getLayout, Vehicle::withLayout)
+        ),
+        List.of(Vehicle::getStateTimestamp, Vehicle::getProcStateTimestamp)
+    );
+  }
+
+  private static DeltaEncoding<TransportOrder> transportOrderEncoding() {
+    return new DeltaEncoding<>(
+        TransportOrder.class,
+        List.of(
+            attribute("State", TransportOrder::getState, TransportOrder::withState),
+            attribute("Type", TransportOrder::getType, TransportOrder::withType),
+            attribute(
+                "CreationTime",
+                TransportOrder::getCreationTime,
+                TransportOrder::withCreationTime
+            ),
+            attribute("Deadline", TransportOrder::getDeadline, TransportOrder::withDeadline),
+            attribute(
+                "FinishedTime",
+                TransportOrder::getFinishedTime,
+                TransportOrder::withFinishedTime
+            ),
+            attribute(
+                "IntendedVehicle",
+                TransportOrder::getIntendedVehicle,
+                TransportOrder::withIntendedVehicle
+            ),
+            attribute(
+                "ProcessingVehicle",
+                TransportOrder::getProcessingVehicle,
+                TransportOrder::withProcessingVehicle
+            ),
+            attribute(
+                "Dependencies",
+                TransportOrder::getDependencies,
+                TransportOrder::withDependencies
+            ),
+            attribute(
+                "DriveOrders",
+                TransportOrder::getAllDriveOrders,
+                TransportOrder::withDriveOrders
+            ),
+            attribute(
+                "PeripheralReservationToken",
+                TransportOrder::getPeripheralReservationToken,
+                TransportOrder::withPeripheralReservationToken
+            ),
+            attribute(
+                "CurrentDriveOrderIndex",
+                TransportOrder::getCurrentDriveOrderIndex,
+                TransportOrder::withCurrentDriveOrderIndex
+            ),
+            attribute(
+                "CurrentRouteStepIndex",
+                TransportOrder::getCurrentRouteStepIndex,
+                TransportOrder::withCurrentRouteStepIndex
+            ),
+            attribute(
+                "WrappingSequence",
+                TransportOrder::getWrappingSequence,
+                TransportOrder::withWrappingSequence
+            ),
+            attribute("Dispensable", TransportOrder::isDispensable, TransportOrder::withDispensable)
+        ),
+        List.of()
+    );
+  }
+
+  private static DeltaEncoding<PeripheralJob> peripheralJobEncoding() {
+    return new DeltaEncoding<>(
+        PeripheralJob.class,
+        List.of(
+            attribute("State", PeripheralJob::getState, PeripheralJob::withState),
+            attribute(
+                "ReservationToken",
+                PeripheralJob::getReservationToken,
+                PeripheralJob::withReservationToken
+            ),
+            attribute(
+                "RelatedVehicle",
+                PeripheralJob::getRelatedVehicle,
+                PeripheralJob::withRelatedVehicle
+            ),
+            attribute(
+                "RelatedTransportOrder",
+                PeripheralJob::getRelatedTransportOrder,
+                PeripheralJob::withRelatedTransportOrder
+            ),
+            attribute(
+                "PeripheralOperation",
+                PeripheralJob::getPeripheralOperation,
+                PeripheralJob::withPeripheralOperation
+            ),
+            attribute(
+                "CreationTime",
+                PeripheralJob::getCreationTime,
+                PeripheralJob::withCreationTime
+            ),
+            attribute(
+                "FinishedTime",
+                PeripheralJob::getFinishedTime,
+                PeripheralJob::withFinishedTime
+            )
+        ),
+        List.of()
+    );
+  }
+
+  private static DeltaEncoding<Point> pointEncoding() {
+    return new DeltaEncoding<>(
+        Point.class,
+        List.of(
+            attribute("Pose", Point::getPose, Point::withPose),
+            attribute("Type", Point::getType, Point::withType),
+            attribute("OccupyingVehicle", Point::getOccupyingVehicle, Point::withOccupyingVehicle),
+            attribute("IncomingPaths", Point::getIncomingPaths, Point::withIncomingPaths),
+            attribute("OutgoingPaths", Point::getOutgoingPaths, Point::withOutgoingPaths),
+            attribute("AttachedLinks", Point::getAttachedLinks, Point::withAttachedLinks),
+            attribute("VehicleEnvelopes", Point::getVehicleEnvelopes, Point::withVehicleEnvelopes),
+            attribute(
+                "MaxVehicleBoundingBox",
+                Point::getMaxVehicleBoundingBox,
+                Point::withMaxVehicleBoundingBox
+            ),
+            attribute("Layout", Point::getLayout, Point::withLayout)
+        ),
+        List.of()
+    );
+  }
+
+  private static DeltaEncoding<Path> pathEncoding() {
+    return new DeltaEncoding<>(
+        Path.class,
+        List.of(
+            attribute("Length", Path::getLength, Path::withLength),
+            attribute("MaxVelocity", Path::getMaxVelocity, Path::withMaxVelocity),
+            attribute(
+                "MaxReverseVelocity",
+                Path::getMaxReverseVelocity,
+                Path::withMaxReverseVelocity
+            ),
+            attribute(
+                "PeripheralOperations",
+                Path::getPeripheralOperations,
+                Path::withPeripheralOperations
+            ),
+            attribute("Locked", Path::isLocked, Path::withLocked),
+            attribute("VehicleEnvelopes", Path::getVehicleEnvelopes, Path::withVehicleEnvelopes),
+            attribute("Layout", Path::getLayout, Path::withLayout)
+        ),
+        List.of()
+    );
+  }
+
+  private static DeltaEncoding<Location> locationEncoding() {
+    return new DeltaEncoding<>(
+        Location.class,
+        List.of(
+            attribute("Position", Location::getPosition, Location::withPosition),
+            attribute("AttachedLinks", Location::getAttachedLinks, Location::withAttachedLinks),
+            attribute(
+                "PeripheralInformation",
+                Location::getPeripheralInformation,
+                Location::withPeripheralInformation
+            ),
+            attribute("Locked", Location::isLocked, Location::withLocked),
+            attribute("Layout", Location::getLayout, Location::withLayout)
+        ),
+        List.of()
+    );
+  }
+
+  /**
+   * An attribute of an object that can be modified via a {@code with*} method.
+   *
+   * @param <T> The class of the object.
+   */
+  private static class Attribute<T> {
+
+    /**
+     * The attribute's name.
+     */
+    private final String name;
+    /**
+     * Returns the attribute's value.
+     */
+    private final Function<T, ?> getter;
+    /**
+     * Returns a copy of an object with the given attribute value.
+     */
+    private final BiFunction<T, Object, T> wither;
+    /**
+     * Checks whether two values of the attribute are equivalent.
+     */
+    private final BiPredicate<Object, Object> equivalence;
+
+    Attribute(
+        String name,
+        Function<T, ?> getter,
+        BiFunction<T, Object, T> wither,
+        BiPredicate<Object, Object> equivalence
+    ) {
+      this.name = name;
+      this.getter = getter;
+      this.wither = wither;
+      this.equivalence = equivalence;
+    }
+  }
+}
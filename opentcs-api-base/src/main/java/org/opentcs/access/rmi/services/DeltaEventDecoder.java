@@ -0,0 +1,106 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Restores the {@link TCSObjectEvent}s represented by {@link TCSObjectDeltaEvent}s received from
+ * the kernel.
+ * <p>
+ * For this, the most recent state of every object received with an event is kept.
+ * </p>
+ */
+class DeltaEventDecoder {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DeltaEventDecoder.class);
+  /**
+   * The most recent states of objects received with events, mapped by the objects' references.
+   */
+  private final Map<TCSObjectReference<?>, TCSObject<?>> objectStates = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  DeltaEventDecoder() {
+  }
+
+  /**
+   * Replaces the delta events in the given list of events with the events they represent.
+   * <p>
+   * If a delta event cannot be restored, e.g. because the modified object's previous state is
+   * unknown, it is dropped and an {@link EventBufferOverflowEvent} is added instead, requesting the
+   * client to resynchronize.
+   * </p>
+   *
+   * @param events The events received from the kernel.
+   * @return The decoded events.
+   */
+  synchronized List<Object> decode(List<Object> events) {
+    List<Object> result = new ArrayList<>(events.size());
+    int undecodableCount = 0;
+    for (Object event : events) {
+      Object decodedEvent = event;
+      if (event instanceof TCSObjectDeltaEvent deltaEvent) {
+        TCSObject<?> previousState = objectStates.get(deltaEvent.getObjectReference());
+        if (previousState == null) {
+          LOG.debug("Previous state unknown, dropping event: {}", deltaEvent);
+          undecodableCount++;
+          continue;
+        }
+        try {
+          decodedEvent = deltaEvent.toObjectEvent(previousState);
+        }
+        catch (IllegalArgumentException exc) {
+          LOG.warn("Could not restore event, dropping it: {}", deltaEvent, exc);
+          undecodableCount++;
+          continue;
+        }
+      }
+
+      if (decodedEvent instanceof TCSObjectEvent objectEvent) {
+        updateObjectStates(objectEvent);
+      }
+      else if (decodedEvent instanceof EventBufferOverflowEvent) {
+        objectStates.clear();
+      }
+      result.add(decodedEvent);
+    }
+
+    if (undecodableCount > 0) {
+      result.add(new EventBufferOverflowEvent(undecodableCount));
+    }
+    return result;
+  }
+
+  /**
+   * Forgets all known object states.
+   */
+  synchronized void clear() {
+    objectStates.clear();
+  }
+
+  private void updateObjectStates(TCSObjectEvent event) {
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      objectStates.remove(event.getPreviousObjectState().getReference());
+    }
+    else {
+      objectStates.put(
+          event.getCurrentObjectState().getReference(),
+          event.getCurrentObjectState()
+      );
+    }
+  }
+}
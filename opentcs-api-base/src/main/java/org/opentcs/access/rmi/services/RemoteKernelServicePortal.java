@@ -38,6 +38,32 @@ public interface RemoteKernelServicePortal
   Kernel.State getState(ClientID clientId)
       throws RemoteException;
 
+  /**
+   * Requests modification events to be transferred to the client as {@link TCSObjectDeltaEvent}s
+   * where possible.
+   * <p>
+   * A client calling this method needs to restore the events represented by delta events using the
+   * modified objects' states it received with earlier events.
+   * </p>
+   *
+   * @param clientId The client's identification object.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  void enableDeltaEvents(ClientID clientId)
+      throws RemoteException;
+
+  /**
+   * Fetches events buffered for the client.
+   * <p>
+   * If the client requested delta events via {@link #enableDeltaEvents(ClientID)}, modification
+   * events may be transferred as {@link TCSObjectDeltaEvent}s.
+   * </p>
+   *
+   * @param clientId The client's identification object.
+   * @param timeout The maximum amount of time (in ms) to wait for events to arrive.
+   * @return The buffered events.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
   List<Object> fetchEvents(ClientID clientId, long timeout)
       throws RemoteException;
 
@@ -123,6 +123,10 @@ public class RemoteKernelServicePortalProxy
    */
   private final RemotePeripheralDispatcherServiceProxy peripheralDispatcherService
       = new RemotePeripheralDispatcherServiceProxy();
+  /**
+   * Restores events the kernel transferred as delta events.
+   */
+  private final DeltaEventDecoder deltaEventDecoder = new DeltaEventDecoder();
 
   /**
    * Creates a new instance.
@@ -185,6 +189,9 @@ public class RemoteKernelServicePortalProxy
       setRemoteService((RemoteKernelServicePortal) registry.lookup(REMOTE_KERNEL_CLIENT_PORTAL));
       // Login and save the client ID.
       setClientId(getRemoteService().login(userName, password, eventFilter));
+      // Delta events are restored transparently when fetching events.
+      deltaEventDecoder.clear();
+      getRemoteService().enableDeltaEvents(getClientId());
       // Get notified when a service call on us fails.
       setServiceListener(this);
 
@@ -236,7 +243,7 @@ public class RemoteKernelServicePortalProxy
     checkServiceAvailability();
 
     try {
-      return getRemoteService().fetchEvents(getClientId(), timeout);
+      return deltaEventDecoder.decode(getRemoteService().fetchEvents(getClientId(), timeout));
     }
     catch (RemoteException ex) {
       throw findSuitableExceptionFor(ex);
@@ -0,0 +1,283 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * A compact representation of a {@link TCSObjectEvent} of type
+ * {@link TCSObjectEvent.Type#OBJECT_MODIFIED}, transferred to RMI clients instead of the event
+ * itself.
+ * <p>
+ * Instead of the object's previous and current states, this event only contains the values of the
+ * attributes that differ between the two states. If entries were appended to the object's history,
+ * only the appended entries are contained. The receiver restores the original event by applying
+ * these values to the object's previous state, which it must have received with an earlier event,
+ * via the public {@code with*} methods of the object's class.
+ * </p>
+ */
+public class TCSObjectDeltaEvent
+    implements
+      Serializable {
+
+  /**
+   * A reference to the modified object.
+   */
+  private final TCSObjectReference<?> objectReference;
+  /**
+   * The indices of the attributes that were modified.
+   */
+  private final int[] modifiedAttributes;
+  /**
+   * The modified attributes' new values, in the same order as the attribute indices.
+   */
+  private final Object[] modifiedValues;
+
+  private TCSObjectDeltaEvent(
+      TCSObjectReference<?> objectReference,
+      int[] modifiedAttributes,
+      Object[] modifiedValues
+  ) {
+    this.objectReference = objectReference;
+    this.modifiedAttributes = modifiedAttributes;
+    this.modifiedValues = modifiedValues;
+  }
+
+  /**
+   * Creates a delta event representing the given modification event.
+   * <p>
+   * Delta events are only created for objects of classes with an explicit encoding, i.e. vehicles,
+   * transport orders, peripheral jobs, points, paths and locations. Additionally, the object's
+   * current state must be restorable from its previous state via the public {@code with*} methods
+   * of its class, which is not the case if the modification also changed values that cannot be set
+   * explicitly, e.g. the timestamp of a vehicle's state.
+   * </p>
+   *
+   * @param event The modification event.
+   * @return The delta event, or {@code null}, if the event cannot be represented by a delta event.
+   * @throws IllegalArgumentException If the given event is not a modification event.
+   */
+  @Nullable
+  public static TCSObjectDeltaEvent fromObjectEvent(
+      @Nonnull
+      TCSObjectEvent event
+  )
+      throws IllegalArgumentException {
+    requireNonNull(event, "event");
+    checkArgument(
+        event.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED,
+        "Not a modification event: %s",
+        event
+    );
+
+    TCSObject<?> previousState = event.getPreviousObjectState();
+    TCSObject<?> currentState = event.getCurrentObjectState();
+    DeltaEncoding<?> encoding = DeltaEncoding.forClass(currentState.getClass());
+    if (encoding == null || previousState.getClass() != currentState.getClass()) {
+      return null;
+    }
+
+    int[] modifiedAttributes = new int[encoding.getAttributeCount()];
+    Object[] modifiedValues = new Object[encoding.getAttributeCount()];
+    int modifiedCount = 0;
+    for (int i = 0; i < encoding.getAttributeCount(); i++) {
+      Object previousValue = encoding.getValue(i, previousState);
+      Object currentValue = encoding.getValue(i, currentState);
+      if (encoding.isEquivalent(i, previousValue, currentValue)) {
+        continue;
+      }
+
+      modifiedAttributes[modifiedCount] = i;
+      modifiedValues[modifiedCount] = (currentValue instanceof ObjectHistory currentHistory)
+          ? encodeHistory((ObjectHistory) previousValue, currentHistory)
+          : currentValue;
+      modifiedCount++;
+    }
+
+    TCSObjectDeltaEvent result = new TCSObjectDeltaEvent(
+        currentState.getReference(),
+        Arrays.copyOf(modifiedAttributes, modifiedCount),
+        Arrays.copyOf(modifiedValues, modifiedCount)
+    );
+
+    // Some with* methods modify more than the given value, so ensure the receiver will actually be
+    // able to restore the current state.
+    try {
+      if (!encoding.isEquivalent(result.restore(encoding, previousState), currentState)) {
+        return null;
+      }
+    }
+    catch (IllegalArgumentException exc) {
+      return null;
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns a reference to the modified object.
+   *
+   * @return A reference to the modified object.
+   */
+  @Nonnull
+  public TCSObjectReference<?> getObjectReference() {
+    return objectReference;
+  }
+
+  /**
+   * Returns the number of attributes that were modified.
+   *
+   * @return The number of attributes that were modified.
+   */
+  public int getModifiedAttributeCount() {
+    return modifiedAttributes.length;
+  }
+
+  /**
+   * Restores the modification event represented by this delta event.
+   *
+   * @param previousState The modified object's previous state, i.e. the state the modification was
+   * applied to.
+   * @return The modification event.
+   * @throws IllegalArgumentException If the given object state does not belong to the modified
+   * object or cannot be modified as described by this delta event.
+   */
+  @Nonnull
+  public TCSObjectEvent toObjectEvent(
+      @Nonnull
+      TCSObject<?> previousState
+  )
+      throws IllegalArgumentException {
+    requireNonNull(previousState, "previousState");
+    checkArgument(
+        objectReference.equals(previousState.getReference()),
+        "Object state %s does not belong to %s",
+        previousState,
+        objectReference
+    );
+    DeltaEncoding<?> encoding = DeltaEncoding.forClass(previousState.getClass());
+    checkArgument(encoding != null, "Unsupported object state: %s", previousState);
+
+    return new TCSObjectEvent(
+        restore(encoding, previousState),
+        previousState,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectDeltaEvent{"
+        + "objectReference=" + objectReference
+        + ", modifiedAttributeCount=" + modifiedAttributes.length
+        + '}';
+  }
+
+  /**
+   * Returns the given current history, or only the entries appended to the given previous history,
+   * if the current history can be restored by appending them.
+   *
+   * @param previousHistory The previous history.
+   * @param currentHistory The current history.
+   * @return The current history or the appended entries.
+   */
+  private static Object encodeHistory(ObjectHistory previousHistory, ObjectHistory currentHistory) {
+    if (previousHistory.getMaxEntryCount() != currentHistory.getMaxEntryCount()) {
+      return currentHistory;
+    }
+
+    List<ObjectHistory.Entry> previousEntries = previousHistory.getEntries();
+    List<ObjectHistory.Entry> currentEntries = currentHistory.getEntries();
+
+    // Entries may have been dropped at the head of the history if its length is limited.
+    int droppedCount = 0;
+    if (!previousEntries.isEmpty()
+        && !currentEntries.isEmpty()
+        && previousEntries.get(0) != currentEntries.get(0)) {
+      droppedCount = indexOfIdentical(previousEntries, currentEntries.get(0));
+      if (droppedCount < 0) {
+        return currentHistory;
+      }
+    }
+
+    int retainedCount = previousEntries.size() - droppedCount;
+    if (currentEntries.size() < retainedCount) {
+      return currentHistory;
+    }
+    for (int i = 0; i < retainedCount; i++) {
+      if (currentEntries.get(i) != previousEntries.get(droppedCount + i)) {
+        return currentHistory;
+      }
+    }
+
+    List<ObjectHistory.Entry> appendedEntries
+        = currentEntries.subList(retainedCount, currentEntries.size());
+    // Appending the entries must drop exactly the entries that were dropped.
+    int expectedDroppedCount = Math.max(
+        previousEntries.size() + appendedEntries.size() - currentHistory.getMaxEntryCount(),
+        0
+    );
+    if (expectedDroppedCount != droppedCount) {
+      return currentHistory;
+    }
+
+    return new AppendedHistoryEntries(new ArrayList<>(appendedEntries));
+  }
+
+  private static int indexOfIdentical(List<?> list, Object element) {
+    for (int i = 0; i < list.size(); i++) {
+      if (list.get(i) == element) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private TCSObject<?> restore(DeltaEncoding<?> encoding, TCSObject<?> previousState) {
+    TCSObject<?> result = previousState;
+    for (int i = 0; i < modifiedAttributes.length; i++) {
+      Object value = (modifiedValues[i] instanceof AppendedHistoryEntries appendedEntries)
+          ? appendedEntries.appendTo(previousState.getHistory())
+          : modifiedValues[i];
+      result = encoding.withValue(modifiedAttributes[i], result, value);
+    }
+    return result;
+  }
+
+  /**
+   * Entries appended to an object's history.
+   */
+  private static class AppendedHistoryEntries
+      implements
+        Serializable {
+
+    /**
+     * The appended entries.
+     */
+    private final List<ObjectHistory.Entry> entries;
+
+    AppendedHistoryEntries(List<ObjectHistory.Entry> entries) {
+      this.entries = entries;
+    }
+
+    ObjectHistory appendTo(ObjectHistory history) {
+      ObjectHistory result = history;
+      for (ObjectHistory.Entry entry : entries) {
+        result = result.withEntryAppended(entry);
+      }
+      return result;
+    }
+  }
+}
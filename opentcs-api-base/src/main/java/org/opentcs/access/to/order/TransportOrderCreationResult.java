@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.to.order;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Describes the outcome of the attempt to create a single transport order as part of a batch.
+ */
+public class TransportOrderCreationResult
+    implements
+      Serializable {
+
+  /**
+   * The name given in the transfer object describing the transport order to be created.
+   */
+  @Nonnull
+  private final String requestedName;
+  /**
+   * The created transport order, or {@code null}, if creation failed.
+   */
+  @Nullable
+  private final TransportOrder transportOrder;
+  /**
+   * A description of why creation failed, or {@code null}, if creation succeeded.
+   */
+  @Nullable
+  private final String failureReason;
+
+  private TransportOrderCreationResult(
+      @Nonnull
+      String requestedName,
+      @Nullable
+      TransportOrder transportOrder,
+      @Nullable
+      String failureReason
+  ) {
+    this.requestedName = requireNonNull(requestedName, "requestedName");
+    this.transportOrder = transportOrder;
+    this.failureReason = failureReason;
+  }
+
+  /**
+   * Creates a result describing a successfully created transport order.
+   *
+   * @param requestedName The name given in the transfer object describing the transport order.
+   * @param transportOrder The created transport order.
+   * @return The result.
+   */
+  public static TransportOrderCreationResult success(
+      @Nonnull
+      String requestedName,
+      @Nonnull
+      TransportOrder transportOrder
+  ) {
+    return new TransportOrderCreationResult(
+        requestedName,
+        requireNonNull(transportOrder, "transportOrder"),
+        null
+    );
+  }
+
+  /**
+   * Creates a result describing a transport order that could not be created.
+   *
+   * @param requestedName The name given in the transfer object describing the transport order.
+   * @param failureReason A description of why creation failed.
+   * @return The result.
+   */
+  public static TransportOrderCreationResult failure(
+      @Nonnull
+      String requestedName,
+      @Nonnull
+      String failureReason
+  ) {
+    return new TransportOrderCreationResult(
+        requestedName,
+        null,
+        requireNonNull(failureReason, "failureReason")
+    );
+  }
+
+  /**
+   * Returns the name given in the transfer object describing the transport order to be created.
+   * <p>
+   * Note that the name of the created transport order may differ from this one if the transfer
+   * object's name was marked as incomplete.
+   * </p>
+   *
+   * @return The name given in the transfer object.
+   */
+  @Nonnull
+  public String getRequestedName() {
+    return requestedName;
+  }
+
+  /**
+   * Indicates whether the transport order was created successfully.
+   *
+   * @return {@code true} if, and only if, the transport order was created.
+   */
+  public boolean isSuccessful() {
+    return transportOrder != null;
+  }
+
+  /**
+   * Returns the created transport order.
+   *
+   * @return The created transport order, or {@code null}, if creation failed.
+   */
+  @Nullable
+  public TransportOrder getTransportOrder() {
+    return transportOrder;
+  }
+
+  /**
+   * Returns a description of why creation failed.
+   *
+   * @return A description of why creation failed, or {@code null}, if creation succeeded.
+   */
+  @Nullable
+  public String getFailureReason() {
+    return failureReason;
+  }
+
+  @Override
+  public String toString() {
+    return "TransportOrderCreationResult{"
+        + "requestedName=" + requestedName
+        + ", transportOrder=" + transportOrder
+        + ", failureReason=" + failureReason
+        + '}';
+  }
+}
@@ -0,0 +1,40 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.opentcs.data.order.Route;
+
+/**
+ * A computation of routes for a vehicle to process a transport order, as prepared by a
+ * {@link Router}.
+ * <p>
+ * A computation does not access any kernel services. It may thus be executed on any thread,
+ * including concurrently with other computations.
+ * </p>
+ */
+public interface RouteComputation {
+
+  /**
+   * Computes the routes.
+   * <p>
+   * This method may be called from any thread. If the computation fails or its result is outdated,
+   * e.g. because the routing topology has been updated in the meantime, no result will be
+   * available.
+   * </p>
+   */
+  void compute();
+
+  /**
+   * Returns the computed routes.
+   *
+   * @return The computed routes, or {@link Optional#empty()}, if the routes have not been computed,
+   * yet, or have been discarded.
+   * An empty set of routes indicates that no route exists.
+   */
+  @Nonnull
+  Optional<Set<List<Route>>> getResult();
+}
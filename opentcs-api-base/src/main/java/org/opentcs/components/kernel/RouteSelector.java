@@ -31,4 +31,20 @@ public interface RouteSelector {
    * @return The selected route sequence, or an empty optional, if no route sequence was selected.
    */
   Optional<List<Route>> selectSequence(Set<List<Route>> routes);
+
+  /**
+   * Indicates whether this route selector always selects the route with the lowest costs.
+   * <p>
+   * If it does, callers only interested in the costs of the route that would be selected may use
+   * {@link Router#getCosts(org.opentcs.data.model.Vehicle, org.opentcs.data.model.Point,
+   * org.opentcs.data.model.Point) Router.getCosts()} instead of selecting from a set of computed
+   * routes.
+   * </p>
+   *
+   * @return {@code true} if, and only if, this route selector always selects the route with the
+   * lowest costs. By default, {@code false}.
+   */
+  default boolean selectsLowestCost() {
+    return false;
+  }
 }
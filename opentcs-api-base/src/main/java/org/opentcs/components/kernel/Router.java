@@ -4,6 +4,7 @@ package org.opentcs.components.kernel;
 
 import jakarta.annotation.Nonnull;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.Path;
@@ -133,6 +134,51 @@ public interface Router
       int maxRouteCount
   );
 
+  /**
+   * Prepares the computation of route sequences for a given vehicle that start on a specified
+   * point and allow the vehicle to process a given transport order.
+   * <p>
+   * All data required for the computation is to be retrieved when preparing it, so that the
+   * returned computation may be executed on any thread. This allows routes for many vehicles to be
+   * computed in parallel.
+   * By default, the route sequences are computed right away via
+   * {@link #getRoutes(Vehicle, Point, TransportOrder, int)}, and executing the returned computation
+   * has no effect.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the calculated routes must be passable.
+   * @param sourcePoint The position at which the vehicle would start processing the transport order
+   * (e.g. the vehicle's current position).
+   * @param transportOrder The transport order to be processed by the vehicle.
+   * @param maxRouteCount The maximum number of route sequences to compute.
+   * @return The prepared route computation.
+   */
+  @Nonnull
+  default RouteComputation prepareRouteComputation(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      TransportOrder transportOrder,
+      int maxRouteCount
+  ) {
+    Set<List<Route>> routes = getRoutes(vehicle, sourcePoint, transportOrder, maxRouteCount);
+    return new RouteComputation() {
+      @Override
+      public void compute() {
+      }
+
+      @Override
+      public Optional<Set<List<Route>>> getResult() {
+        return Optional.of(routes);
+      }
+    };
+  }
+
   /**
    * Returns possible routes from one point to another, passable by a given vehicle.
    * <p>
@@ -158,4 +204,37 @@ public interface Router
       Set<TCSResourceReference<?>> resourcesToAvoid,
       int maxRouteCount
   );
+
+  /**
+   * Returns the costs for travelling the cheapest route from one point to another for the given
+   * vehicle.
+   * <p>
+   * Implementations may look up the costs without computing a complete route, e.g. in tables of
+   * costs maintained for destination points that costs are frequently requested for. By default,
+   * the costs of the cheapest route returned by
+   * {@link #getRoutes(Vehicle, Point, Point, Set, int)} are returned.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the route must be passable.
+   * @param sourcePoint The starting point of the route.
+   * @param destinationPoint The end point of the route.
+   * @return The costs for travelling the cheapest route, or {@link Long#MAX_VALUE}, if no route
+   * between the given points exists.
+   */
+  default long getCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Point destinationPoint
+  ) {
+    return getRoutes(vehicle, sourcePoint, destinationPoint, Set.of(), 1).stream()
+        .mapToLong(Route::getCosts)
+        .min()
+        .orElse(Long.MAX_VALUE);
+  }
 }
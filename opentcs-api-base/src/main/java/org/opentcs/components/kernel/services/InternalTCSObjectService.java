@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import jakarta.annotation.Nullable;
+import java.util.Comparator;
 import java.util.stream.Stream;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.TCSObject;
@@ -34,4 +36,36 @@ public interface InternalTCSObjectService
    */
   <T extends TCSObject<T>> Stream<T> stream(Class<T> clazz)
       throws KernelRuntimeException;
+
+  /**
+   * Returns a stream of all {@link TCSObject}s of the given class, ordered by their names and
+   * optionally starting after a given name.
+   * <p>
+   * This is intended for retrieving large sets of objects in chunks (e.g. for paginated
+   * responses): Implementations are expected to maintain an ordered index of object names, so that
+   * resuming after a given name does not require sorting or skipping the preceding objects.
+   * The default implementation falls back to filtering and sorting the result of
+   * {@link #stream(Class)}.
+   * </p>
+   * <p>
+   * The notes on {@link #stream(Class)} apply to this method, too.
+   * </p>
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @param afterName If not {@code null}, only objects with names ordered strictly after this name
+   * (in the names' natural order) are included.
+   * @return The objects of the given class, ordered by their names.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default <T extends TCSObject<T>> Stream<T> streamSortedByName(
+      Class<T> clazz,
+      @Nullable
+      String afterName
+  )
+      throws KernelRuntimeException {
+    return stream(clazz)
+        .filter(object -> afterName == null || object.getName().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(TCSObject::getName));
+  }
 }
@@ -2,8 +2,14 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -54,6 +60,44 @@ public interface TransportOrderService
         ObjectExistsException,
         KernelRuntimeException;
 
+  /**
+   * Creates a batch of new transport orders.
+   * The transport orders are created in the given order, as if by calling
+   * {@link #createTransportOrder(TransportOrderCreationTO)} for each of the given transfer objects.
+   * Transport orders may thus depend on transport orders created earlier in the same batch.
+   * Failing to create one of the transport orders does not affect the creation of the others.
+   * <p>
+   * Implementations should create all transport orders of the batch at once, i.e. without
+   * interleaving them with other modifications of the kernel's state.
+   * </p>
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return One result for every given transfer object, in the same order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos
+  )
+      throws KernelRuntimeException {
+    requireNonNull(tos, "tos");
+
+    List<TransportOrderCreationResult> results = new ArrayList<>(tos.size());
+    for (TransportOrderCreationTO to : tos) {
+      try {
+        results.add(TransportOrderCreationResult.success(to.getName(), createTransportOrder(to)));
+      }
+      catch (KernelRuntimeException | IllegalArgumentException exc) {
+        results.add(
+            TransportOrderCreationResult.failure(
+                to.getName(),
+                Objects.toString(exc.getMessage(), exc.getClass().getName())
+            )
+        );
+      }
+    }
+    return results;
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
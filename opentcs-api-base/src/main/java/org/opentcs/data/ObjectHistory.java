@@ -3,16 +3,20 @@
 package org.opentcs.data;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * A history of events related to an object.
+ * <p>
+ * Instances share their entries with the instances they were derived from, so appending an entry
+ * does not copy all previous entries. Optionally, the number of entries kept may be limited, in
+ * which case the oldest entries are dropped when new ones are appended.
+ * </p>
  */
 public class ObjectHistory
     implements
@@ -21,22 +25,29 @@ public class ObjectHistory
   /**
    * The actual history entries.
    */
-  private final List<Entry> entries;
+  private final PersistentList<Entry> entries;
+  /**
+   * The maximum number of entries kept in this history.
+   */
+  private final int maxEntryCount;
 
   /**
    * Creates a new instance.
    */
   public ObjectHistory() {
-    this(List.of());
+    this(PersistentList.empty(), Integer.MAX_VALUE);
   }
 
   /**
    * Creates a new instance with the given list of entries.
    *
    * @param entries The entries.
+   * @param maxEntryCount The maximum number of entries kept in this history.
    */
-  private ObjectHistory(List<Entry> entries) {
-    this.entries = Collections.unmodifiableList(requireNonNull(entries, "entries"));
+  private ObjectHistory(PersistentList<Entry> entries, int maxEntryCount) {
+    requireNonNull(entries, "entries");
+    this.entries = entries.withoutFirst(Math.max(entries.size() - maxEntryCount, 0));
+    this.maxEntryCount = maxEntryCount;
   }
 
   /**
@@ -55,7 +66,33 @@ public class ObjectHistory
    * @return A copy of this object, with the given entries.
    */
   public ObjectHistory withEntries(List<Entry> entries) {
-    return new ObjectHistory(entries);
+    return new ObjectHistory(PersistentList.copyOf(entries), maxEntryCount);
+  }
+
+  /**
+   * Returns the maximum number of entries kept in this history.
+   *
+   * @return The maximum number of entries kept in this history.
+   */
+  public int getMaxEntryCount() {
+    return maxEntryCount;
+  }
+
+  /**
+   * Returns a copy of this object, with the given maximum number of entries.
+   * <p>
+   * If this history contains more entries than the given maximum, the oldest entries are dropped.
+   * The maximum also applies to all histories derived from the returned one, i.e. whenever an entry
+   * is appended, the oldest entry is dropped if necessary.
+   * </p>
+   *
+   * @param maxEntryCount The maximum number of entries kept in the history.
+   * @return A copy of this object, with the given maximum number of entries.
+   */
+  public ObjectHistory withMaxEntryCount(int maxEntryCount) {
+    checkArgument(maxEntryCount > 0, "maxEntryCount must be greater than zero");
+
+    return new ObjectHistory(entries, maxEntryCount);
   }
 
   /**
@@ -67,10 +104,7 @@ public class ObjectHistory
   public ObjectHistory withEntryAppended(Entry entry) {
     requireNonNull(entry, "entry");
 
-    List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
-    newEntries.addAll(entries);
-    newEntries.add(entry);
-    return new ObjectHistory(newEntries);
+    return new ObjectHistory(entries.appended(entry), maxEntryCount);
   }
 
   @Override
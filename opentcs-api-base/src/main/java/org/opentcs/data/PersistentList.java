@@ -0,0 +1,253 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares its structure with the lists it was derived from.
+ * <p>
+ * The elements are kept in a tree with a branching factor of 32 and an additional tail node, so
+ * appending an element only copies the tail node or the nodes along a single path of the tree
+ * instead of copying all elements. Removing elements from the head of the list is done by
+ * skipping them; the skipped elements are released once they outnumber the remaining ones.
+ * </p>
+ *
+ * @param <E> The type of the list's elements.
+ */
+final class PersistentList<E>
+    extends
+      AbstractList<E>
+    implements
+      RandomAccess,
+      Serializable {
+
+  /**
+   * The number of bits used for indexing the children of a node.
+   */
+  private static final int BITS = 5;
+  /**
+   * The maximum number of children of a node.
+   */
+  private static final int WIDTH = 1 << BITS;
+  /**
+   * The mask for indexing the children of a node.
+   */
+  private static final int MASK = WIDTH - 1;
+  /**
+   * The empty list.
+   */
+  private static final PersistentList<?> EMPTY
+      = new PersistentList<>(0, BITS, new Object[WIDTH], new Object[0], 0);
+  /**
+   * The number of elements in the tree and the tail, including skipped ones.
+   */
+  private final int count;
+  /**
+   * The shift of the root node, i.e. the number of bits to shift an index by for the root level.
+   */
+  private final int shift;
+  /**
+   * The root node of the tree.
+   */
+  private final Object[] root;
+  /**
+   * The last elements of the list, not yet pushed into the tree.
+   */
+  private final Object[] tail;
+  /**
+   * The number of elements at the head of the list that are skipped.
+   */
+  private final int offset;
+
+  private PersistentList(int count, int shift, Object[] root, Object[] tail, int offset) {
+    this.count = count;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+    this.offset = offset;
+  }
+
+  /**
+   * Returns an empty list.
+   *
+   * @param <E> The type of the list's elements.
+   * @return An empty list.
+   */
+  @SuppressWarnings("unchecked")
+  static <E> PersistentList<E> empty() {
+    return (PersistentList<E>) EMPTY;
+  }
+
+  /**
+   * Returns a list containing the elements of the given collection, in its iteration order.
+   *
+   * @param <E> The type of the list's elements.
+   * @param elements The elements.
+   * @return A list containing the given elements. If the given collection already is a
+   * {@code PersistentList}, it is returned as it is.
+   */
+  @SuppressWarnings("unchecked")
+  static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+    requireNonNull(elements, "elements");
+
+    if (elements instanceof PersistentList) {
+      return (PersistentList<E>) elements;
+    }
+
+    PersistentList<E> result = empty();
+    for (E element : elements) {
+      result = result.appended(element);
+    }
+    return result;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    Objects.checkIndex(index, size());
+
+    int treeIndex = index + offset;
+    return (E) nodeFor(treeIndex)[treeIndex & MASK];
+  }
+
+  @Override
+  public int size() {
+    return count - offset;
+  }
+
+  /**
+   * Returns a list with the given element appended to this list's elements.
+   *
+   * @param element The element.
+   * @return A list with the given element appended.
+   */
+  PersistentList<E> appended(E element) {
+    // If there is still room in the tail, just copy the tail.
+    if (count - tailOffset() < WIDTH) {
+      Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+      newTail[tail.length] = element;
+      return new PersistentList<>(count + 1, shift, root, newTail, offset);
+    }
+
+    // Otherwise, push the full tail into the tree, adding a new root level if the tree is full.
+    Object[] newRoot;
+    int newShift = shift;
+    if ((count >>> BITS) > (1 << shift)) {
+      newRoot = new Object[WIDTH];
+      newRoot[0] = root;
+      newRoot[1] = newPath(shift, tail);
+      newShift += BITS;
+    }
+    else {
+      newRoot = pushTail(shift, root, tail);
+    }
+    return new PersistentList<>(count + 1, newShift, newRoot, new Object[]{element}, offset);
+  }
+
+  /**
+   * Returns a list without the given number of elements at the head of this list.
+   *
+   * @param elementCount The number of elements to remove.
+   * @return A list without the given number of elements at the head of this list.
+   */
+  PersistentList<E> withoutFirst(int elementCount) {
+    checkArgument(elementCount >= 0, "elementCount must not be negative");
+
+    if (elementCount == 0) {
+      return this;
+    }
+    if (elementCount >= size()) {
+      return empty();
+    }
+
+    int newOffset = offset + elementCount;
+    // Release the skipped elements once they outnumber the remaining ones. This keeps the amortized
+    // costs per removed element constant.
+    if (newOffset > count - newOffset) {
+      return copyOf(subList(elementCount, size()));
+    }
+    return new PersistentList<>(count, shift, root, tail, newOffset);
+  }
+
+  private int tailOffset() {
+    return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+  }
+
+  private Object[] nodeFor(int treeIndex) {
+    if (treeIndex >= tailOffset()) {
+      return tail;
+    }
+
+    Object[] node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(treeIndex >>> level) & MASK];
+    }
+    return node;
+  }
+
+  private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+    int childIndex = ((count - 1) >>> level) & MASK;
+    Object[] result = parent.clone();
+    if (level == BITS) {
+      result[childIndex] = tailNode;
+    }
+    else {
+      Object[] child = (Object[]) parent[childIndex];
+      result[childIndex] = (child == null)
+          ? newPath(level - BITS, tailNode)
+          : pushTail(level - BITS, child, tailNode);
+    }
+    return result;
+  }
+
+  private static Object[] newPath(int level, Object[] node) {
+    if (level == 0) {
+      return node;
+    }
+
+    Object[] result = new Object[WIDTH];
+    result[0] = newPath(level - BITS, node);
+    return result;
+  }
+
+  private Object writeReplace() {
+    return new SerializationProxy(toArray());
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialization proxy required");
+  }
+
+  /**
+   * The serialized form of a {@link PersistentList}, containing only the list's elements.
+   */
+  private static class SerializationProxy
+      implements
+        Serializable {
+
+    /**
+     * The list's elements.
+     */
+    private final Object[] elements;
+
+    SerializationProxy(Object[] elements) {
+      this.elements = elements;
+    }
+
+    private Object readResolve() {
+      return copyOf(Arrays.asList(elements));
+    }
+  }
+}
@@ -0,0 +1,553 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map that shares its structure with the maps it was derived from.
+ * <p>
+ * The entries are kept in a hash array mapped trie, so adding, replacing or removing an entry only
+ * copies the nodes along a single path of the trie instead of copying all entries.
+ * Neither {@code null} keys nor {@code null} values are supported.
+ * </p>
+ *
+ * @param <K> The type of the map's keys.
+ * @param <V> The type of the map's values.
+ */
+final class PersistentMap<K, V>
+    extends
+      AbstractMap<K, V>
+    implements
+      Serializable {
+
+  /**
+   * The number of hash bits used for indexing the children of a node.
+   */
+  private static final int BITS = 5;
+  /**
+   * The mask for indexing the children of a node.
+   */
+  private static final int MASK = (1 << BITS) - 1;
+  /**
+   * The maximum depth of the trie, including a collision node at the bottom.
+   */
+  private static final int MAX_DEPTH = (Integer.SIZE + BITS - 1) / BITS + 1;
+  /**
+   * The empty map.
+   */
+  private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+  /**
+   * The root node of the trie, or {@code null}, if this map is empty.
+   */
+  private final transient Node root;
+  /**
+   * The number of entries in this map.
+   */
+  private final int size;
+  /**
+   * A view on this map's entries, created lazily.
+   */
+  private transient Set<Map.Entry<K, V>> entrySet;
+
+  private PersistentMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns an empty map.
+   *
+   * @param <K> The type of the map's keys.
+   * @param <V> The type of the map's values.
+   * @return An empty map.
+   */
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentMap<K, V> empty() {
+    return (PersistentMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns a map containing the entries of the given map.
+   * Entries with {@code null} keys or values are ignored.
+   *
+   * @param <K> The type of the map's keys.
+   * @param <V> The type of the map's values.
+   * @param map The map.
+   * @return A map containing the entries of the given map. If the given map already is a
+   * {@code PersistentMap}, it is returned as it is.
+   */
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    requireNonNull(map, "map");
+
+    if (map instanceof PersistentMap) {
+      return (PersistentMap<K, V>) map;
+    }
+
+    PersistentMap<K, V> result = empty();
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      if (entry.getKey() != null && entry.getValue() != null) {
+        result = result.with(entry.getKey(), entry.getValue());
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    if (key == null || root == null) {
+      return null;
+    }
+    return (V) root.get(key, hash(key), 0);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  /**
+   * Returns a map with the given entry added to or replaced in this map's entries.
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return A map with the given entry added or replaced.
+   */
+  PersistentMap<K, V> with(K key, V value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+
+    if (root == null) {
+      return new PersistentMap<>(
+          new BitmapNode(bit(hash(key), 0), new Object[]{Map.entry(key, value)}),
+          1
+      );
+    }
+
+    boolean[] added = new boolean[1];
+    Node newRoot = root.with(key, value, hash(key), 0, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map with the entry for the given key removed from this map's entries.
+   *
+   * @param key The key.
+   * @return A map without an entry for the given key.
+   */
+  PersistentMap<K, V> without(K key) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return this;
+    }
+
+    Node newRoot = root.without(key, hash(key), 0);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? empty() : new PersistentMap<>(newRoot, size - 1);
+  }
+
+  private static int hash(Object key) {
+    int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  private static Node createNode(
+      int shift,
+      Map.Entry<?, ?> entry1,
+      int hash1,
+      Map.Entry<?, ?> entry2,
+      int hash2
+  ) {
+    if (shift >= Integer.SIZE) {
+      return new CollisionNode(new Object[]{entry1, entry2});
+    }
+
+    int bit1 = bit(hash1, shift);
+    int bit2 = bit(hash2, shift);
+    if (bit1 == bit2) {
+      return new BitmapNode(
+          bit1,
+          new Object[]{createNode(shift + BITS, entry1, hash1, entry2, hash2)}
+      );
+    }
+    return new BitmapNode(
+        bit1 | bit2,
+        Integer.compareUnsigned(bit1, bit2) < 0
+            ? new Object[]{entry1, entry2}
+            : new Object[]{entry2, entry1}
+    );
+  }
+
+  private static Object[] inserted(Object[] slots, int index, Object slot) {
+    Object[] result = new Object[slots.length + 1];
+    System.arraycopy(slots, 0, result, 0, index);
+    result[index] = slot;
+    System.arraycopy(slots, index, result, index + 1, slots.length - index);
+    return result;
+  }
+
+  private static Object[] replaced(Object[] slots, int index, Object slot) {
+    Object[] result = slots.clone();
+    result[index] = slot;
+    return result;
+  }
+
+  private static Object[] removed(Object[] slots, int index) {
+    Object[] result = new Object[slots.length - 1];
+    System.arraycopy(slots, 0, result, 0, index);
+    System.arraycopy(slots, index + 1, result, index, slots.length - index - 1);
+    return result;
+  }
+
+  private Object writeReplace() {
+    Object[] keys = new Object[size];
+    Object[] values = new Object[size];
+    int i = 0;
+    for (Map.Entry<K, V> entry : entrySet()) {
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
+    }
+    return new SerializationProxy(keys, values);
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialization proxy required");
+  }
+
+  /**
+   * A node of the trie.
+   * Each slot of a node contains either an entry ({@link Map.Entry}) or a child node.
+   */
+  private abstract static class Node {
+
+    /**
+     * The node's slots.
+     */
+    protected final Object[] slots;
+
+    Node(Object[] slots) {
+      this.slots = slots;
+    }
+
+    abstract Object get(Object key, int hash, int shift);
+
+    abstract Node with(Object key, Object value, int hash, int shift, boolean[] added);
+
+    abstract Node without(Object key, int hash, int shift);
+  }
+
+  /**
+   * A node whose slots are indexed by parts of the keys' hashes.
+   */
+  private static final class BitmapNode
+      extends
+        Node {
+
+    /**
+     * Indicates which parts of hashes slots exist for.
+     */
+    private final int bitmap;
+
+    BitmapNode(int bitmap, Object[] slots) {
+      super(slots);
+      this.bitmap = bitmap;
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+
+      Object slot = slots[index(bit)];
+      if (slot instanceof Node node) {
+        return node.get(key, hash, shift + BITS);
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) slot;
+      return key.equals(entry.getKey()) ? entry.getValue() : null;
+    }
+
+    @Override
+    Node with(Object key, Object value, int hash, int shift, boolean[] added) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        return new BitmapNode(bitmap | bit, inserted(slots, index, Map.entry(key, value)));
+      }
+
+      Object slot = slots[index];
+      if (slot instanceof Node node) {
+        Node newNode = node.with(key, value, hash, shift + BITS, added);
+        return newNode == node ? this : new BitmapNode(bitmap, replaced(slots, index, newNode));
+      }
+
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) slot;
+      if (key.equals(entry.getKey())) {
+        return value.equals(entry.getValue())
+            ? this
+            : new BitmapNode(bitmap, replaced(slots, index, Map.entry(key, value)));
+      }
+
+      added[0] = true;
+      return new BitmapNode(
+          bitmap,
+          replaced(
+              slots,
+              index,
+              createNode(
+                  shift + BITS,
+                  entry,
+                  hash(entry.getKey()),
+                  Map.entry(key, value),
+                  hash
+              )
+          )
+      );
+    }
+
+    @Override
+    Node without(Object key, int hash, int shift) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+
+      int index = index(bit);
+      Object slot = slots[index];
+      if (slot instanceof Node node) {
+        Node newNode = node.without(key, hash, shift + BITS);
+        if (newNode == node) {
+          return this;
+        }
+        if (newNode != null) {
+          return new BitmapNode(bitmap, replaced(slots, index, newNode));
+        }
+      }
+      else if (!key.equals(((Map.Entry<?, ?>) slot).getKey())) {
+        return this;
+      }
+
+      return bitmap == bit ? null : new BitmapNode(bitmap & ~bit, removed(slots, index));
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+
+  /**
+   * A node containing entries whose keys' hashes are all equal.
+   */
+  private static final class CollisionNode
+      extends
+        Node {
+
+    CollisionNode(Object[] slots) {
+      super(slots);
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      int index = indexOf(key);
+      return index < 0 ? null : ((Map.Entry<?, ?>) slots[index]).getValue();
+    }
+
+    @Override
+    Node with(Object key, Object value, int hash, int shift, boolean[] added) {
+      int index = indexOf(key);
+      if (index < 0) {
+        added[0] = true;
+        return new CollisionNode(inserted(slots, slots.length, Map.entry(key, value)));
+      }
+      if (value.equals(((Map.Entry<?, ?>) slots[index]).getValue())) {
+        return this;
+      }
+      return new CollisionNode(replaced(slots, index, Map.entry(key, value)));
+    }
+
+    @Override
+    Node without(Object key, int hash, int shift) {
+      int index = indexOf(key);
+      if (index < 0) {
+        return this;
+      }
+      return slots.length == 1 ? null : new CollisionNode(removed(slots, index));
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < slots.length; i++) {
+        if (key.equals(((Map.Entry<?, ?>) slots[i]).getKey())) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * A view on this map's entries.
+   */
+  private class EntrySet
+      extends
+        AbstractSet<Map.Entry<K, V>> {
+
+    EntrySet() {
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new EntryIterator<>(root);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * Iterates over the entries in a trie, depth first.
+   *
+   * @param <K> The type of the map's keys.
+   * @param <V> The type of the map's values.
+   */
+  private static class EntryIterator<K, V>
+      implements
+        Iterator<Map.Entry<K, V>> {
+
+    /**
+     * The slots of the nodes on the path to the current position.
+     */
+    private final Object[][] slotStack = new Object[MAX_DEPTH][];
+    /**
+     * The index of the next slot to visit, for each node on the path to the current position.
+     */
+    private final int[] indexStack = new int[MAX_DEPTH];
+    /**
+     * The depth of the current position.
+     */
+    private int depth;
+    /**
+     * The next entry to be returned, or {@code null}, if there is none.
+     */
+    private Map.Entry<K, V> next;
+
+    EntryIterator(Node root) {
+      if (root == null) {
+        depth = -1;
+      }
+      else {
+        slotStack[0] = root.slots;
+      }
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+
+      Map.Entry<K, V> result = next;
+      advance();
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      while (depth >= 0) {
+        Object[] slots = slotStack[depth];
+        if (indexStack[depth] >= slots.length) {
+          depth--;
+          continue;
+        }
+
+        Object slot = slots[indexStack[depth]++];
+        if (slot instanceof Node node) {
+          depth++;
+          slotStack[depth] = node.slots;
+          indexStack[depth] = 0;
+        }
+        else {
+          next = (Map.Entry<K, V>) slot;
+          return;
+        }
+      }
+      next = null;
+    }
+  }
+
+  /**
+   * The serialized form of a {@link PersistentMap}, containing only the map's keys and values.
+   */
+  private static class SerializationProxy
+      implements
+        Serializable {
+
+    /**
+     * The map's keys.
+     */
+    private final Object[] keys;
+    /**
+     * The map's values, in the same order as the keys.
+     */
+    private final Object[] values;
+
+    SerializationProxy(Object[] keys, Object[] values) {
+      this.keys = keys;
+      this.values = values;
+    }
+
+    private Object readResolve() {
+      PersistentMap<Object, Object> result = empty();
+      for (int i = 0; i < keys.length; i++) {
+        result = result.with(keys[i], values[i]);
+      }
+      return result;
+    }
+  }
+}
@@ -7,8 +7,6 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -203,14 +201,9 @@ public abstract class TCSObject<E extends TCSObject<E>>
   protected final Map<String, String> propertiesWith(String key, String value) {
     requireNonNull(key, "key");
 
-    Map<String, String> result = new HashMap<>(properties);
-    if (value == null) {
-      result.remove(key);
-    }
-    else {
-      result.put(key, value);
-    }
-    return Collections.unmodifiableMap(result);
+    // Share the structure of this object's properties with the new map instead of copying them.
+    PersistentMap<String, String> result = PersistentMap.copyOf(properties);
+    return value == null ? result.without(key) : result.with(key, value);
   }
 
   /**
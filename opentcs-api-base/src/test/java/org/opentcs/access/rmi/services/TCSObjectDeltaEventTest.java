@@ -0,0 +1,226 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.theInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Unit tests for {@link TCSObjectDeltaEvent}.
+ */
+class TCSObjectDeltaEventTest {
+
+  @Test
+  void containOnlyModifiedFields() {
+    Vehicle previous = new Vehicle("vehicle");
+    Vehicle current = previous.withEnergyLevel(42).withPaused(true);
+
+    TCSObjectDeltaEvent delta
+        = TCSObjectDeltaEvent.fromObjectEvent(modification(previous, current));
+
+    assertThat(delta.getObjectReference(), is(previous.getReference()));
+    assertThat(delta.getModifiedAttributeCount(), is(2));
+  }
+
+  @Test
+  void restoreModifiedObjectState()
+      throws Exception {
+    Vehicle previous = new Vehicle("vehicle")
+        .withProperty("some-key", "some-value")
+        .withHistoryEntry(new ObjectHistory.Entry("some-event"));
+    ObjectHistory.Entry entry = new ObjectHistory.Entry("some-other-event");
+    Vehicle current = previous.withEnergyLevel(42)
+        .withProperty("some-other-key", "some-other-value")
+        .withHistoryEntry(entry);
+
+    TCSObjectEvent event = serializeAndDeserialize(
+        TCSObjectDeltaEvent.fromObjectEvent(modification(previous, current))
+    ).toObjectEvent(previous);
+
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(event.getPreviousObjectState(), is(theInstance(previous)));
+    Vehicle restored = (Vehicle) event.getCurrentObjectState();
+    assertThat(restored.getName(), is("vehicle"));
+    assertThat(restored.getEnergyLevel(), is(42));
+    assertThat(restored.getProperties(), is(current.getProperties()));
+    assertThat(restored.getHistory().getEntries().size(), is(2));
+    assertThat(restored.getHistory().getEntries().get(1).getEventCode(), is("some-other-event"));
+    assertThat(previous.getEnergyLevel(), is(100));
+  }
+
+  @Test
+  void restoreHistoryWithDroppedEntries() {
+    Point previous = new Point("point")
+        .withHistory(new ObjectHistory().withMaxEntryCount(2))
+        .withHistoryEntry(new ObjectHistory.Entry("event-1"))
+        .withHistoryEntry(new ObjectHistory.Entry("event-2"));
+    Point current = previous.withHistoryEntry(new ObjectHistory.Entry("event-3"));
+
+    TCSObjectEvent event = TCSObjectDeltaEvent.fromObjectEvent(modification(previous, current))
+        .toObjectEvent(previous);
+
+    assertThat(
+        event.getCurrentObjectState().getHistory().getEntries().stream()
+            .map(ObjectHistory.Entry::getEventCode)
+            .toList(),
+        contains("event-2", "event-3")
+    );
+  }
+
+  @Test
+  void restoreTransportOrderStateWithImplicitlyModifiedValues() {
+    TransportOrder previous = new TransportOrder("order", List.of());
+    TransportOrder current = previous.withState(TransportOrder.State.FINISHED);
+
+    TCSObjectEvent event = TCSObjectDeltaEvent.fromObjectEvent(modification(previous, current))
+        .toObjectEvent(previous);
+
+    TransportOrder restored = (TransportOrder) event.getCurrentObjectState();
+    assertThat(restored.getState(), is(TransportOrder.State.FINISHED));
+    assertThat(restored.getFinishedTime(), is(current.getFinishedTime()));
+    assertThat(restored.getHistory().getEntries(), is(current.getHistory().getEntries()));
+  }
+
+  @Test
+  void doNotEncodeModificationsOfValuesThatCannotBeRestored() {
+    Vehicle previous = new Vehicle("vehicle");
+    // The state's timestamp is set implicitly and cannot be restored.
+    Vehicle current = previous.withState(Vehicle.State.EXECUTING);
+
+    assertThat(
+        TCSObjectDeltaEvent.fromObjectEvent(modification(previous, current)),
+        is(nullValue())
+    );
+  }
+
+  @Test
+  void doNotEncodeObjectsWithoutEncoding() {
+    Block previous = new Block("block");
+
+    assertThat(
+        TCSObjectDeltaEvent.fromObjectEvent(
+            modification(previous, previous.withType(Block.Type.SAME_DIRECTION_ONLY))
+        ),
+        is(nullValue())
+    );
+  }
+
+  @Test
+  void encodeAllAttributesModifiableViaWithMethods() {
+    // Methods modifying attributes that are covered by other attributes.
+    Set<String> coveredMethods
+        = Set.of("withProperty", "withHistoryEntry", "withCurrentDriveOrderState");
+
+    for (Class<?> type : List.of(
+        Vehicle.class,
+        TransportOrder.class,
+        PeripheralJob.class,
+        Point.class,
+        Path.class,
+        Location.class
+    )) {
+      DeltaEncoding<?> encoding = DeltaEncoding.forClass(type);
+      Set<String> attributeNames = IntStream.range(0, encoding.getAttributeCount())
+          .mapToObj(encoding::getAttributeName)
+          .collect(Collectors.toSet());
+
+      Arrays.stream(type.getDeclaredMethods())
+          .filter(method -> Modifier.isPublic(method.getModifiers()))
+          .filter(method -> method.getName().startsWith("with"))
+          .filter(method -> method.getReturnType() == type)
+          .filter(method -> !coveredMethods.contains(method.getName()))
+          .forEach(
+              method -> assertThat(
+                  type.getSimpleName() + "." + method.getName(),
+                  attributeNames,
+                  hasItem(method.getName().substring("with".length()))
+              )
+          );
+    }
+  }
+
+  @Test
+  void rejectEventsOtherThanModificationEvents() {
+    Point point = new Point("point");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> TCSObjectDeltaEvent.fromObjectEvent(
+            new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED)
+        )
+    );
+  }
+
+  @Test
+  void rejectStateOfOtherObject() {
+    Point previous = new Point("point");
+    TCSObjectDeltaEvent delta = TCSObjectDeltaEvent.fromObjectEvent(
+        modification(previous, previous.withType(Point.Type.PARK_POSITION))
+    );
+
+    assertThrows(IllegalArgumentException.class, () -> delta.toObjectEvent(new Point("other")));
+  }
+
+  @Test
+  void restoreEventsWithDecoder() {
+    DeltaEventDecoder decoder = new DeltaEventDecoder();
+    Point pointA = new Point("point");
+    Point pointB = pointA.withType(Point.Type.PARK_POSITION);
+    TCSObjectDeltaEvent delta = TCSObjectDeltaEvent.fromObjectEvent(modification(pointA, pointB));
+
+    List<Object> events = decoder.decode(
+        List.of(new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED), delta)
+    );
+
+    assertThat(events.size(), is(2));
+    assertThat(
+        ((Point) ((TCSObjectEvent) events.get(1)).getCurrentObjectState()).getType(),
+        is(Point.Type.PARK_POSITION)
+    );
+  }
+
+  private static TCSObjectEvent modification(TCSObject<?> previous, TCSObject<?> current) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private static TCSObjectDeltaEvent serializeAndDeserialize(TCSObjectDeltaEvent delta)
+      throws IOException,
+        ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(delta);
+    }
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (TCSObjectDeltaEvent) in.readObject();
+    }
+  }
+}
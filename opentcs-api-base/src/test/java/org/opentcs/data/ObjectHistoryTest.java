@@ -69,6 +69,30 @@ class ObjectHistoryTest {
     assertThat(history.getEntries(), contains(entry1, entry2));
   }
 
+  @Test
+  void dropOldestEntriesWhenExceedingMaxEntryCount() {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    Entry entry3 = new Entry(Instant.now(), "eventCode3");
+
+    ObjectHistory history = new ObjectHistory()
+        .withEntries(List.of(entry1, entry2, entry3))
+        .withMaxEntryCount(2);
+
+    assertThat(history.getEntries(), contains(entry2, entry3));
+
+    Entry entry4 = new Entry(Instant.now(), "eventCode4");
+    history = history.withEntryAppended(entry4);
+
+    assertThat(history.getMaxEntryCount(), is(2));
+    assertThat(history.getEntries(), contains(entry3, entry4));
+  }
+
+  @Test
+  void rejectNonPositiveMaxEntryCount() {
+    assertThrows(IllegalArgumentException.class, () -> new ObjectHistory().withMaxEntryCount(0));
+  }
+
   @Test
   void checkIfEntryHasTimestampEventCodeAndSupplements() {
     Instant timestamp = Instant.now();
@@ -0,0 +1,97 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistentList}.
+ */
+class PersistentListTest {
+
+  @Test
+  void containAppendedElementsInOrder() {
+    List<Integer> expected = new ArrayList<>();
+    PersistentList<Integer> list = PersistentList.empty();
+    // Enough elements for the tree to grow beyond two levels.
+    for (int i = 0; i < 40_000; i++) {
+      list = list.appended(i);
+      expected.add(i);
+    }
+
+    assertThat(list).hasSize(40_000).isEqualTo(expected);
+  }
+
+  @Test
+  void leaveOriginalListUnmodifiedWhenAppending() {
+    PersistentList<String> original = PersistentList.copyOf(List.of("a", "b"));
+
+    PersistentList<String> derived = original.appended("c");
+
+    assertThat(original).containsExactly("a", "b");
+    assertThat(derived).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void removeElementsFromHead() {
+    PersistentList<Integer> list = PersistentList.empty();
+    for (int i = 0; i < 100; i++) {
+      list = list.appended(i);
+    }
+
+    PersistentList<Integer> shortened = list.withoutFirst(10);
+    assertThat(shortened).hasSize(90);
+    assertThat(shortened.get(0)).isEqualTo(10);
+
+    shortened = shortened.withoutFirst(60).appended(100);
+    assertThat(shortened).hasSize(31);
+    assertThat(shortened.get(0)).isEqualTo(70);
+    assertThat(shortened.get(30)).isEqualTo(100);
+
+    assertThat(list.withoutFirst(100)).isEmpty();
+  }
+
+  @Test
+  void throwOnIndexOutOfBounds() {
+    PersistentList<String> list = PersistentList.copyOf(List.of("a", "b")).withoutFirst(1);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+  }
+
+  @Test
+  void rejectModification() {
+    PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+
+    assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+  }
+
+  @Test
+  void surviveSerialization()
+      throws Exception {
+    PersistentList<Integer> list = PersistentList.empty();
+    for (int i = 0; i < 100; i++) {
+      list = list.appended(i);
+    }
+    list = list.withoutFirst(5);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(PersistentList.class).isEqualTo(list);
+    }
+  }
+}
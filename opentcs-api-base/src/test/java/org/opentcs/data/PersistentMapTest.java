@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistentMap}.
+ */
+class PersistentMapTest {
+
+  @Test
+  void containAddedEntries() {
+    Map<String, String> expected = new HashMap<>();
+    PersistentMap<String, String> map = PersistentMap.empty();
+    for (int i = 0; i < 10_000; i++) {
+      map = map.with("key-" + i, "value-" + i);
+      expected.put("key-" + i, "value-" + i);
+    }
+
+    assertThat(map).hasSize(10_000).isEqualTo(expected);
+    assertThat(map.get("key-1234")).isEqualTo("value-1234");
+    assertThat(map.get("key-10000")).isNull();
+  }
+
+  @Test
+  void leaveOriginalMapUnmodified() {
+    PersistentMap<String, String> original = PersistentMap.copyOf(Map.of("a", "1", "b", "2"));
+
+    PersistentMap<String, String> derived = original.with("a", "3").with("c", "4").without("b");
+
+    assertThat(original).isEqualTo(Map.of("a", "1", "b", "2"));
+    assertThat(derived).isEqualTo(Map.of("a", "3", "c", "4"));
+  }
+
+  @Test
+  void returnSameMapIfNothingChanges() {
+    PersistentMap<String, String> map = PersistentMap.copyOf(Map.of("a", "1"));
+
+    assertThat(map.with("a", "1")).isSameAs(map);
+    assertThat(map.without("b")).isSameAs(map);
+  }
+
+  @Test
+  void removeEntries() {
+    PersistentMap<Integer, Integer> map = PersistentMap.empty();
+    for (int i = 0; i < 1000; i++) {
+      map = map.with(i, i);
+    }
+    for (int i = 0; i < 1000; i += 2) {
+      map = map.without(i);
+    }
+
+    assertThat(map).hasSize(500);
+    assertThat(map.entrySet()).allMatch(entry -> entry.getKey() % 2 == 1);
+    assertThat(map.containsKey(2)).isFalse();
+    assertThat(map.containsKey(3)).isTrue();
+  }
+
+  @Test
+  void handleKeysWithCollidingHashes() {
+    // "Aa" and "BB" have the same hash code.
+    PersistentMap<String, String> map = PersistentMap.<String, String>empty()
+        .with("Aa", "1")
+        .with("BB", "2");
+
+    assertThat(map).isEqualTo(Map.of("Aa", "1", "BB", "2"));
+    assertThat(map.without("Aa")).isEqualTo(Map.of("BB", "2"));
+    assertThat(map.without("Aa").without("BB")).isEmpty();
+  }
+
+  @Test
+  void rejectModification() {
+    PersistentMap<String, String> map = PersistentMap.copyOf(Map.of("a", "1"));
+
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", "2"));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+  }
+
+  @Test
+  void surviveSerialization()
+      throws Exception {
+    PersistentMap<String, String> map = PersistentMap.copyOf(Map.of("a", "1", "b", "2"));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(map);
+    }
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(PersistentMap.class).isEqualTo(map);
+    }
+  }
+}
@@ -96,6 +96,23 @@ public interface CommAdapterConfiguration {
   )
   Map<ConfigOperatingMode, Boolean> onOpModeChangeDoResetPosition();
 
+  @ConfigurationEntry(
+      type = "Map of message types to an integer",
+      description = {
+          "Set to a map of incoming VDA5050 message type names to validation intervals.",
+          "With an interval of `n`, only the first of every `n` incoming messages of the "
+              + "respective type is validated against the message type's JSON schema. An interval "
+              + "of `1`, which is the default for every message type, means every message is "
+              + "validated; an interval of `0` means no message is validated.",
+          "Valid values for message type names are `CONNECTION`, `STATE` and `VISUALIZATION`.",
+          "Note that this only applies to vehicles for which validation of incoming messages is "
+              + "enabled."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "2_1_validationIntervals"
+  )
+  Map<ConfigMessageType, Integer> incomingMessageValidationIntervals();
+
   /**
    * Vehicle operating modes.
    */
@@ -122,6 +139,24 @@ public interface CommAdapterConfiguration {
     AUTOMATIC,
   }
 
+  /**
+   * Types of incoming messages.
+   */
+  enum ConfigMessageType {
+    /**
+     * Connection messages.
+     */
+    CONNECTION,
+    /**
+     * State messages.
+     */
+    STATE,
+    /**
+     * Visualization messages.
+     */
+    VISUALIZATION
+  }
+
   /**
    * Vehicle integration levels.
    */
@@ -69,6 +69,47 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Parses the given UTF-8 encoded JSON input to a tree.
+   *
+   * @param json The UTF-8 encoded JSON input.
+   * @return The tree parsed from the JSON input.
+   * @throws IllegalArgumentException In case there was a problem parsing the JSON input.
+   */
+  public JsonNode toTree(byte[] json)
+      throws IllegalArgumentException {
+    try {
+      JsonNode tree = objectMapper.readTree(json);
+      if (tree == null || tree.isMissingNode()) {
+        throw new IllegalArgumentException("Empty JSON input");
+      }
+      return tree;
+    }
+    catch (IOException exc) {
+      throw new IllegalArgumentException("Could not parse JSON input", exc);
+    }
+  }
+
+  /**
+   * Maps the given JSON tree to an object.
+   *
+   * @param <T> The type of object to map to.
+   * @param tree The JSON tree.
+   * @param clazz The type of object to map to.
+   * @return The object created from the JSON tree.
+   * @throws IllegalArgumentException In case there was a problem mapping the given object from
+   * JSON.
+   */
+  public <T> T fromTree(JsonNode tree, Class<T> clazz)
+      throws IllegalArgumentException {
+    try {
+      return objectMapper.treeToValue(tree, clazz);
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalArgumentException("Could not map JSON input", exc);
+    }
+  }
+
   /**
    * Applies the filter set via {@link #setFilter(Function)} and maps the given
    * object to a JSON string.
@@ -5,6 +5,7 @@ package org.opentcs.commadapter.vehicle.vda5050.common;
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkState;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
 import java.io.Reader;
@@ -13,6 +14,7 @@ import java.util.stream.Collectors;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
@@ -81,6 +83,69 @@ public class JsonValidator {
     }
   }
 
+  /**
+   * Validates the given JSON tree against a schema registered for the given JSON binding class.
+   * <p>
+   * The tree is converted to the representation the schema validation requires structurally, i.e.
+   * without serializing it and parsing it again.
+   * </p>
+   *
+   * @param tree The JSON tree.
+   * @param clazz The JSON binding class.
+   * @throws IllegalStateException If a schema is not registered for the given class.
+   * @throws IllegalArgumentException If the given JSON tree is not valid for the schema registered
+   * for the given class.
+   */
+  public void validate(
+      @Nonnull
+      JsonNode tree,
+      @Nonnull
+      Class<?> clazz
+  )
+      throws IllegalStateException,
+        IllegalArgumentException {
+    requireNonNull(tree, "tree");
+    requireNonNull(clazz, "clazz");
+
+    Schema schema = schemasByClass.get(clazz);
+    checkState(schema != null, "Schema not registered for class %s", clazz.getName());
+
+    if (!tree.isObject()) {
+      throw new IllegalArgumentException("Invalid JSON input: Not a JSON object");
+    }
+
+    try {
+      schema.validate(toJsonValue(tree));
+    }
+    catch (ValidationException e) {
+      throw new IllegalArgumentException(
+          e.getMessage() + '\n' + String.join("\n", e.getAllMessages()),
+          e
+      );
+    }
+  }
+
+  private static Object toJsonValue(JsonNode node) {
+    return switch (node.getNodeType()) {
+      case OBJECT -> {
+        JSONObject object = new JSONObject();
+        node.fields().forEachRemaining(
+            field -> object.put(field.getKey(), toJsonValue(field.getValue()))
+        );
+        yield object;
+      }
+      case ARRAY -> {
+        JSONArray array = new JSONArray();
+        node.forEach(element -> array.put(toJsonValue(element)));
+        yield array;
+      }
+      case STRING -> node.textValue();
+      case NUMBER -> node.numberValue();
+      case BOOLEAN -> node.booleanValue();
+      default -> JSONObject.NULL;
+    };
+  }
+
   private static Schema createSchema(
       @Nonnull
       Reader schemaReader
@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides which incoming messages are to be validated, based on a validation interval per message
+ * type.
+ * <p>
+ * With an interval of {@code n}, the first of every {@code n} messages of the respective type is
+ * validated. An interval of 1 means every message is validated, an interval of 0 (or less) means no
+ * message is validated. Messages of types for which no interval is given are always validated.
+ * </p>
+ *
+ * @param <K> The type of message type keys.
+ */
+public class ValidationSampler<K> {
+
+  /**
+   * The validation intervals, mapped by message type.
+   */
+  private final Map<K, Integer> validationIntervals;
+  /**
+   * The number of messages seen so far, mapped by message type.
+   */
+  private final Map<K, Long> messageCounts = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param validationIntervals The validation intervals, mapped by message type.
+   */
+  public ValidationSampler(
+      @Nonnull
+      Map<K, Integer> validationIntervals
+  ) {
+    this.validationIntervals = Map.copyOf(
+        requireNonNull(validationIntervals, "validationIntervals")
+    );
+  }
+
+  /**
+   * Registers a message of the given type and checks whether it is to be validated.
+   *
+   * @param messageType The message type.
+   * @return {@code true} if, and only if, the message is to be validated.
+   */
+  public synchronized boolean shouldValidate(
+      @Nonnull
+      K messageType
+  ) {
+    requireNonNull(messageType, "messageType");
+
+    int interval = validationIntervals.getOrDefault(messageType, 1);
+    if (interval <= 0) {
+      return false;
+    }
+
+    long messageCount = messageCounts.merge(messageType, 1L, Long::sum);
+    return (messageCount - 1) % interval == 0;
+  }
+}
@@ -9,8 +9,22 @@ import jakarta.annotation.Nonnull;
  */
 public interface ConnectionEventListener {
 
+  /**
+   * Returns a name identifying this listener, e.g. in metrics.
+   *
+   * @return A name identifying this listener.
+   */
+  @Nonnull
+  default String getName() {
+    return getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(this));
+  }
+
   /**
    * Called when a message from the remote peer has been received and decoded.
+   * <p>
+   * Messages are delivered to a listener one after another and in the order they arrived, but not
+   * necessarily on the same thread.
+   * </p>
    *
    * @param message The incoming message.
    */
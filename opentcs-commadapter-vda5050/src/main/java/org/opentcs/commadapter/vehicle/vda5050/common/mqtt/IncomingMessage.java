@@ -5,9 +5,14 @@ package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A message received via a topic.
+ * <p>
+ * The message content is kept as received, i.e. as UTF-8 encoded bytes, so it can be parsed
+ * without being decoded to a string first. It is decoded to a string only on demand.
+ * </p>
  */
 public class IncomingMessage {
 
@@ -16,9 +21,13 @@ public class IncomingMessage {
    */
   private final String topic;
   /**
-   * The message content.
+   * The message content, UTF-8 encoded.
    */
-  private final String message;
+  private final byte[] payload;
+  /**
+   * The message content, decoded lazily.
+   */
+  private String message;
 
   /**
    * Creates a new instance.
@@ -34,6 +43,26 @@ public class IncomingMessage {
   ) {
     this.topic = requireNonNull(topic, "topic");
     this.message = requireNonNull(message, "message");
+    this.payload = message.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a new instance.
+   * <p>
+   * Note that the given payload is not copied and must not be modified after creating the message.
+   * </p>
+   *
+   * @param topic The topic the message was received on.
+   * @param payload The message content, UTF-8 encoded.
+   */
+  public IncomingMessage(
+      @Nonnull
+      String topic,
+      @Nonnull
+      byte[] payload
+  ) {
+    this.topic = requireNonNull(topic, "topic");
+    this.payload = requireNonNull(payload, "payload");
   }
 
   /**
@@ -45,12 +74,27 @@ public class IncomingMessage {
     return topic;
   }
 
+  /**
+   * Returns the message content as received, UTF-8 encoded.
+   * <p>
+   * Note that the returned array is not a copy and must not be modified.
+   * </p>
+   *
+   * @return the message content as received
+   */
+  public byte[] getPayload() {
+    return payload;
+  }
+
   /**
    * Returns the message.
    *
    * @return the message
    */
   public String getMessage() {
+    if (message == null) {
+      message = new String(payload, StandardCharsets.UTF_8);
+    }
     return message;
   }
 }
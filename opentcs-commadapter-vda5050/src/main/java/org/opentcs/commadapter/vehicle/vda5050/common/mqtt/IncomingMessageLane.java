@@ -0,0 +1,171 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers incoming messages to a single subscriber, one after another and in the order they
+ * arrived.
+ * <p>
+ * Messages are queued and delivered asynchronously, so that a subscriber that is slow to process
+ * its messages does not delay the delivery of messages to other subscribers or the MQTT client's
+ * callback thread.
+ * </p>
+ * <p>
+ * For topics on which every message supersedes the previous ones (e.g. a vehicle's state), the
+ * lane can conflate messages: a new message on such a topic replaces a message on the same topic
+ * that has not been delivered, yet. This way, at most one message per conflated topic is pending,
+ * which bounds the queue for subscribers that cannot keep up with frequent messages.
+ * </p>
+ */
+class IncomingMessageLane {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(IncomingMessageLane.class);
+  /**
+   * The queue depth at which a warning is logged.
+   */
+  private static final int QUEUE_DEPTH_WARNING_THRESHOLD = 100;
+  /**
+   * The subscriber to deliver messages to.
+   */
+  private final ConnectionEventListener subscriber;
+  /**
+   * The executor used for delivering messages.
+   */
+  private final Executor deliveryExecutor;
+  /**
+   * The messages not yet delivered to the subscriber.
+   */
+  private final Queue<IncomingMessage> pendingMessages = new ArrayDeque<>();
+  /**
+   * The topics for which messages are conflated.
+   */
+  private final Set<String> conflatedTopics = ConcurrentHashMap.newKeySet();
+  /**
+   * The maximum number of messages that have been pending at the same time.
+   */
+  private int maxQueueDepth;
+  /**
+   * Whether a task delivering pending messages is currently scheduled or running.
+   */
+  private boolean delivering;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param subscriber The subscriber to deliver messages to.
+   * @param deliveryExecutor The executor used for delivering messages.
+   */
+  IncomingMessageLane(ConnectionEventListener subscriber, Executor deliveryExecutor) {
+    this.subscriber = requireNonNull(subscriber, "subscriber");
+    this.deliveryExecutor = requireNonNull(deliveryExecutor, "deliveryExecutor");
+  }
+
+  /**
+   * Sets whether messages on the given topic are conflated, i.e. whether a new message on the topic
+   * replaces a pending message on the same topic.
+   *
+   * @param topic The topic.
+   * @param conflated Whether messages on the topic are conflated.
+   */
+  void setConflated(String topic, boolean conflated) {
+    requireNonNull(topic, "topic");
+
+    if (conflated) {
+      conflatedTopics.add(topic);
+    }
+    else {
+      conflatedTopics.remove(topic);
+    }
+  }
+
+  /**
+   * Queues the given message to be delivered to the subscriber.
+   * <p>
+   * If messages on the message's topic are conflated, a pending message on the same topic is
+   * discarded. The given message is queued at the end either way, so messages are still delivered
+   * in the order they arrived.
+   * </p>
+   *
+   * @param message The message.
+   */
+  void enqueue(IncomingMessage message) {
+    requireNonNull(message, "message");
+
+    synchronized (pendingMessages) {
+      if (conflatedTopics.contains(message.getTopic())) {
+        pendingMessages.removeIf(pending -> pending.getTopic().equals(message.getTopic()));
+      }
+      pendingMessages.add(message);
+      maxQueueDepth = Math.max(maxQueueDepth, pendingMessages.size());
+      if (pendingMessages.size() == QUEUE_DEPTH_WARNING_THRESHOLD) {
+        LOG.warn(
+            "{} incoming messages queued for a subscriber of topic '{}', which does not keep up.",
+            pendingMessages.size(),
+            message.getTopic()
+        );
+      }
+
+      if (!delivering) {
+        delivering = true;
+        deliveryExecutor.execute(this::deliverPendingMessages);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of messages currently queued for the subscriber.
+   *
+   * @return The number of messages currently queued for the subscriber.
+   */
+  int getQueueDepth() {
+    synchronized (pendingMessages) {
+      return pendingMessages.size();
+    }
+  }
+
+  /**
+   * Returns the maximum number of messages that have been queued for the subscriber at the same
+   * time.
+   *
+   * @return The maximum number of messages that have been queued for the subscriber at the same
+   * time.
+   */
+  int getMaxQueueDepth() {
+    synchronized (pendingMessages) {
+      return maxQueueDepth;
+    }
+  }
+
+  private void deliverPendingMessages() {
+    while (true) {
+      IncomingMessage message;
+      synchronized (pendingMessages) {
+        message = pendingMessages.poll();
+        if (message == null) {
+          delivering = false;
+          return;
+        }
+      }
+
+      try {
+        subscriber.onIncomingMessage(message);
+      }
+      catch (RuntimeException e) {
+        LOG.warn("Failed to process message on topic '{}'.", message.getTopic(), e);
+      }
+    }
+  }
+}
@@ -11,8 +11,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 import org.eclipse.paho.client.mqttv3.DisconnectedBufferOptions;
 import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
@@ -20,11 +24,19 @@ import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Manages an MQTT client and its connection to a server/broker.
+ * <p>
+ * Incoming messages are delivered to each subscriber via a separate lane, i.e. one after another
+ * and in the order they arrived, but independently of other subscribers and off the MQTT client's
+ * callback thread. Messages on topics subscribed to as conflated replace pending messages on the
+ * same topic, which bounds the number of messages queued for a subscriber that does not keep up.
+ * The number of queued messages per subscriber is provided via the metrics registry.
+ * </p>
  */
 public class MqttClientManager {
 
@@ -36,6 +48,15 @@ public class MqttClientManager {
    * A map from topics to corresponding subscriptions managed by this class.
    */
   private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+  /**
+   * The lanes delivering incoming messages, mapped by the subscribers they deliver to.
+   */
+  private final Map<ConnectionEventListener, IncomingMessageLane> incomingMessageLanes
+      = new ConcurrentHashMap<>();
+  /**
+   * The executor used for delivering incoming messages.
+   */
+  private final Executor incomingMessageExecutor = Executors.newVirtualThreadPerTaskExecutor();
   /**
    * Configuration for the comm adapter.
    */
@@ -70,6 +91,7 @@ public class MqttClientManager {
    *
    * @param configuration The VDA 5050 adapter configuration.
    * @param kernelExecutor The executor to run tasks on.
+   * @param metricsRegistry The registry to provide metrics on incoming messages with.
    * @throws IllegalStateException If there was a problem initializing the MQTT client.
    */
   @SuppressWarnings("this-escape")
@@ -77,11 +99,27 @@ public class MqttClientManager {
   public MqttClientManager(
       MqttConfiguration configuration,
       @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      MetricsRegistry metricsRegistry
   )
       throws IllegalStateException {
     this.configuration = requireNonNull(configuration, "configuration");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+
+    metricsRegistry.gauges(
+        "opentcs_vda5050_incoming_message_backlog",
+        "Number of incoming MQTT messages waiting to be processed by subscribers",
+        "subscriber",
+        () -> incomingMessageQueueDepths(this::getIncomingMessageQueueDepth)
+    );
+    metricsRegistry.gauges(
+        "opentcs_vda5050_incoming_message_backlog_max",
+        "Maximum number of incoming MQTT messages that have been waiting to be processed by "
+            + "subscribers at the same time",
+        "subscriber",
+        () -> incomingMessageQueueDepths(this::getMaxIncomingMessageQueueDepth)
+    );
     initialize();
   }
 
@@ -127,6 +165,40 @@ public class MqttClientManager {
     return client;
   }
 
+  /**
+   * Returns the number of incoming messages currently queued for the given subscriber.
+   *
+   * @param listener The subscriber.
+   * @return The number of incoming messages currently queued for the given subscriber.
+   */
+  public int getIncomingMessageQueueDepth(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    IncomingMessageLane lane = incomingMessageLanes.get(listener);
+    return lane == null ? 0 : lane.getQueueDepth();
+  }
+
+  /**
+   * Returns the maximum number of incoming messages that have been queued for the given subscriber
+   * at the same time.
+   *
+   * @param listener The subscriber.
+   * @return The maximum number of incoming messages that have been queued for the given subscriber
+   * at the same time.
+   */
+  public int getMaxIncomingMessageQueueDepth(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    IncomingMessageLane lane = incomingMessageLanes.get(listener);
+    return lane == null ? 0 : lane.getMaxQueueDepth();
+  }
+
   /**
    * Publish a message to a topic.
    *
@@ -179,6 +251,33 @@ public class MqttClientManager {
       QualityOfService qos,
       @Nonnull
       ConnectionEventListener listener
+  ) {
+    subscribe(topic, qos, listener, false);
+  }
+
+  /**
+   * Subscribes to the given topic with the given {@link QualityOfService} and registers the given
+   * {@link ConnectionEventListener} to be notified when a message is received on the given topic.
+   * <p>
+   * In case the underlying MQTT client is already subscribed to the given topic, the given
+   * {@link ConnectionEventListener} is merely registered to be notified when a message is received
+   * on the given topic.
+   *
+   * @param topic The topic to subscribe to.
+   * @param qos The {@link QualityOfService} to subscribe with.
+   * @param listener The {@link ConnectionEventListener} that is interested in messages received on
+   * the given topic.
+   * @param conflated Whether every message on the given topic supersedes the previous ones, so that
+   * a message not yet delivered to the given listener is discarded when a new one arrives.
+   */
+  public void subscribe(
+      @Nonnull
+      String topic,
+      @Nonnull
+      QualityOfService qos,
+      @Nonnull
+      ConnectionEventListener listener,
+      boolean conflated
   ) {
     requireNonNull(topic, "topic");
     requireNonNull(qos, "qos");
@@ -196,6 +295,9 @@ public class MqttClientManager {
       LOG.debug("Adding listener to already subscribed topic '{}'...", topic);
       subscription.getSubscribers().add(listener);
     }
+
+    incomingMessageLanes.computeIfAbsent(listener, this::createIncomingMessageLane)
+        .setConflated(topic, conflated);
   }
 
   /**
@@ -227,6 +329,11 @@ public class MqttClientManager {
         unsubscribe(topic);
       }
     }
+
+    if (subscriptions.values().stream()
+        .noneMatch(subscription -> subscription.getSubscribers().contains(listener))) {
+      incomingMessageLanes.remove(listener);
+    }
   }
 
   /**
@@ -273,9 +380,11 @@ public class MqttClientManager {
     requireNonNull(message, "message");
 
     if (subscriptions.containsKey(topic)) {
-      IncomingMessage msg = new IncomingMessage(topic, message.toString());
+      IncomingMessage msg = new IncomingMessage(topic, message.getPayload());
       subscriptions.get(topic).getSubscribers().forEach(
-          listener -> listener.onIncomingMessage(msg)
+          listener -> incomingMessageLanes
+              .computeIfAbsent(listener, this::createIncomingMessageLane)
+              .enqueue(msg)
       );
     }
   }
@@ -307,6 +416,23 @@ public class MqttClientManager {
     );
   }
 
+  private IncomingMessageLane createIncomingMessageLane(ConnectionEventListener subscriber) {
+    return new IncomingMessageLane(subscriber, incomingMessageExecutor);
+  }
+
+  private Map<String, Integer> incomingMessageQueueDepths(
+      ToIntFunction<ConnectionEventListener> queueDepth
+  ) {
+    return incomingMessageLanes.keySet().stream()
+        .collect(
+            Collectors.toMap(
+                ConnectionEventListener::getName,
+                queueDepth::applyAsInt,
+                Math::max
+            )
+        );
+  }
+
   private void initialize()
       throws IllegalStateException {
     try {
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.annotation.Nonnull;
 import java.io.InputStreamReader;
 import java.util.Map;
@@ -78,5 +79,15 @@ public class MessageValidator
     ) {
       // Accepts all JSON inputs, i.e. never throws.
     }
+
+    @Override
+    public void validate(
+        @Nonnull
+        JsonNode tree,
+        @Nonnull
+        Class<?> clazz
+    ) {
+      // Accepts all JSON inputs, i.e. never throws.
+    }
   }
 }
@@ -2,7 +2,10 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v1_1.simulation;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.Strings;
+import jakarta.annotation.Nonnull;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -41,6 +44,7 @@ import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.NodeState;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.OperatingMode;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.SafetyState;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.State;
+import org.opentcs.util.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,32 +65,30 @@ public class VehicleSimulator
    */
   private static final String MANUFACTURER = "fraunhofer_iml";
   /**
-   * Serial number.
+   * Serial number used when running the simulation of a single vehicle.
    */
   private static final String SERIAL_NUMBER = "S123";
   /**
    * Version.
    */
   private static final String VERSION = "v1";
-  /**
-   * The base path for any topic.
-   */
-  private static final String TOPIC_BASE
-      = "uagv/" + VERSION + "/" + MANUFACTURER + "/" + SERIAL_NUMBER;
   /**
    * Movement speed in milliseconds.
    */
   private static final long MOVEMENTSPEED = 3000;
   /**
-   * The executor for the simulation.
+   * Serial number of this agv.
    */
-  private final ScheduledExecutorService simulationExecutor = Executors
-      .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "simulationExecutor"));
+  private final String serialNumber;
+  /**
+   * The base path for any topic.
+   */
+  private final String topicBase;
   /**
    * The executor for specific tasks.
+   * All modifications of the simulated vehicle's state happen on this executor.
    */
-  private final ScheduledExecutorService taskExecutor = Executors
-      .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "taskExecutor"));
+  private final ScheduledExecutorService taskExecutor;
   /**
    * Header id.
    */
@@ -121,10 +123,46 @@ public class VehicleSimulator
   private ScheduledFuture<?> movementTask;
 
   /**
-   * Creates a new instance.
+   * Creates a new instance simulating a single vehicle with its own MQTT connection.
    */
   public VehicleSimulator() {
-    clientManager = new MqttClientManager(new ConfigurationImpl(), taskExecutor);
+    this(
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "taskExecutor")
+        )
+    );
+  }
+
+  private VehicleSimulator(ScheduledExecutorService taskExecutor) {
+    this(
+        SERIAL_NUMBER,
+        new MqttClientManager(new ConfigurationImpl(), taskExecutor, new MetricsRegistry()),
+        taskExecutor
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   * <p>
+   * The given MQTT client manager and executor may be shared with other simulated vehicles.
+   * </p>
+   *
+   * @param serialNumber The serial number of the simulated vehicle.
+   * @param clientManager The MQTT client manager to use.
+   * @param taskExecutor The executor to simulate the vehicle on. Must execute tasks sequentially.
+   */
+  public VehicleSimulator(
+      @Nonnull
+      String serialNumber,
+      @Nonnull
+      MqttClientManager clientManager,
+      @Nonnull
+      ScheduledExecutorService taskExecutor
+  ) {
+    this.serialNumber = requireNonNull(serialNumber, "serialNumber");
+    this.clientManager = requireNonNull(clientManager, "clientManager");
+    this.taskExecutor = requireNonNull(taskExecutor, "taskExecutor");
+    this.topicBase = "uagv/" + VERSION + "/" + MANUFACTURER + "/" + serialNumber;
     // initialise vehicle state.
     vehicleState = new State(
         "",
@@ -148,9 +186,7 @@ public class VehicleSimulator
    * Initialises the MQTT connection.
    */
   private void initialize() {
-    clientManager.registerConnectionEventListener(this);
-    clientManager.subscribe(TOPIC_BASE + "/instantActions", QualityOfService.AT_LEAST_ONCE, this);
-    clientManager.subscribe(TOPIC_BASE + "/order", QualityOfService.AT_LEAST_ONCE, this);
+    subscribe();
     // set connection broke last will
     try {
       String message = jsonBinder.toJson(
@@ -159,12 +195,12 @@ public class VehicleSimulator
               Instant.now(),
               VERSION,
               MANUFACTURER,
-              SERIAL_NUMBER,
+              serialNumber,
               ConnectionState.CONNECTIONBROKEN
           )
       );
       clientManager.setLastWill(
-          TOPIC_BASE + "/connection",
+          topicBase + "/connection",
           message,
           QualityOfService.AT_LEAST_ONCE,
           true
@@ -175,10 +211,27 @@ public class VehicleSimulator
     }
   }
 
+  /**
+   * Subscribes to the topics relevant for the simulated vehicle.
+   * <p>
+   * Unlike {@link #initialize()}, this does not set a last will, so it may be used with an MQTT
+   * connection shared by multiple simulated vehicles.
+   * </p>
+   */
+  void subscribe() {
+    clientManager.registerConnectionEventListener(this);
+    clientManager.subscribe(topicBase + "/instantActions", QualityOfService.AT_LEAST_ONCE, this);
+    clientManager.subscribe(topicBase + "/order", QualityOfService.AT_LEAST_ONCE, this);
+    if (clientManager.isConnected()) {
+      // We may have missed the connection event, so report being online right away.
+      onConnect();
+    }
+  }
+
   /**
    * Closes the MQTT connection gracefully.
    */
-  private void terminate() {
+  void terminate() {
     if (clientManager.isConnected()) {
       sendConnection(
           new Connection(
@@ -186,7 +239,7 @@ public class VehicleSimulator
               Instant.now(),
               VERSION,
               MANUFACTURER,
-              SERIAL_NUMBER,
+              serialNumber,
               ConnectionState.OFFLINE
           )
       );
@@ -199,8 +252,17 @@ public class VehicleSimulator
   private void terminateCrash() {
   }
 
+  @Override
+  public String getName() {
+    return serialNumber;
+  }
+
   @Override
   public void onIncomingMessage(IncomingMessage message) {
+    taskExecutor.execute(() -> processIncomingMessage(message));
+  }
+
+  private void processIncomingMessage(IncomingMessage message) {
     if (message.getTopic().endsWith("/instantActions")) {
       try {
         InstantActions instantAction = jsonBinder.fromJson(
@@ -454,14 +516,16 @@ public class VehicleSimulator
   @Override
   public void onConnect() {
     LOG.info("Simulator connected to broker.");
-    sendConnection(
-        new Connection(
-            headerId++,
-            Instant.now(),
-            VERSION,
-            MANUFACTURER,
-            SERIAL_NUMBER,
-            ConnectionState.ONLINE
+    taskExecutor.execute(
+        () -> sendConnection(
+            new Connection(
+                headerId++,
+                Instant.now(),
+                VERSION,
+                MANUFACTURER,
+                serialNumber,
+                ConnectionState.ONLINE
+            )
         )
     );
   }
@@ -485,7 +549,7 @@ public class VehicleSimulator
     try {
       String message = jsonBinder.toJson(connection);
       clientManager.publish(
-          TOPIC_BASE + "/connection",
+          topicBase + "/connection",
           QualityOfService.AT_LEAST_ONCE,
           message,
           true
@@ -502,7 +566,7 @@ public class VehicleSimulator
     vehicleState.setTimestamp(Instant.now());
     vehicleState.setVersion(VERSION);
     vehicleState.setManufacturer(MANUFACTURER);
-    vehicleState.setSerialNumber(SERIAL_NUMBER);
+    vehicleState.setSerialNumber(serialNumber);
     // update action states.
     vehicleState.setActionStates(
         actionMap.values().stream()
@@ -512,7 +576,7 @@ public class VehicleSimulator
     try {
       String message = jsonBinder.toJson(vehicleState);
       clientManager.publish(
-          TOPIC_BASE + "/state",
+          topicBase + "/state",
           QualityOfService.AT_MOST_ONCE,
           message,
           false
@@ -583,6 +647,8 @@ public class VehicleSimulator
       terminate();
       System.exit(0);
     };
+    ScheduledExecutorService simulationExecutor = Executors
+        .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "simulationExecutor"));
     simulationExecutor.schedule(simulationTask, 0, TimeUnit.SECONDS);
   }
 
@@ -592,6 +658,16 @@ public class VehicleSimulator
    * @param args The command line arguments.
    */
   public static void main(String[] args) {
+    configureLogging();
+
+    VehicleSimulator simulator = new VehicleSimulator();
+    simulator.startSimulationThread();
+  }
+
+  /**
+   * Configures logging to the console for a standalone simulation.
+   */
+  static void configureLogging() {
     LogManager logManager = LogManager.getLogManager();
     try {
       Properties prop = new Properties();
@@ -614,9 +690,6 @@ public class VehicleSimulator
     catch (IOException | SecurityException e) {
       LOG.error("error setting up logger", e);
     }
-
-    VehicleSimulator simulator = new VehicleSimulator();
-    simulator.startSimulationThread();
   }
 
   private class ActionTuple {
@@ -25,6 +25,7 @@ import static org.opentcs.commadapter.vehicle.vda5050.v2_0.StateMappings.toLoadH
 import static org.opentcs.commadapter.vehicle.vda5050.v2_0.StateMappings.toVehicleLength;
 import static org.opentcs.commadapter.vehicle.vda5050.v2_0.StateMappings.toVehicleState;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.assistedinject.Assisted;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
@@ -40,9 +41,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration.ConfigIntegrationLevel;
+import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration.ConfigMessageType;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration.ConfigOperatingMode;
 import org.opentcs.commadapter.vehicle.vda5050.common.DistanceInAdvanceController;
 import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.common.ValidationSampler;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.ConnectionEventListener;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.IncomingMessage;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttClientManager;
@@ -168,6 +171,10 @@ public class CommAdapterImpl
    * Maps {@link VehicleCommAdapterMessage} to other types.
    */
   private final CommAdapterMessageMapper commAdapterMessageMapper;
+  /**
+   * Decides which incoming messages are validated.
+   */
+  private final ValidationSampler<ConfigMessageType> validationSampler;
 
   /**
    * Creates a new instance.
@@ -220,6 +227,8 @@ public class CommAdapterImpl
     this.incomingMessageFilter = requireNonNull(incomingMessageFilter, "incomingMessageFilter");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.validationSampler
+        = new ValidationSampler<>(configuration.incomingMessageValidationIntervals());
     requireNonNull(unsupportedPropertiesExtractor, "unsupportedPropertiesExtractor");
 
     movementCommandManager = componentsFactory.createMovementCommandManager(vehicle);
@@ -275,10 +284,10 @@ public class CommAdapterImpl
         mqttSetting.connectionTopicName(), mqttSetting.connectionTopicQos(), this
     );
     clientManager.subscribe(
-        mqttSetting.stateTopicName(), mqttSetting.stateTopicQos(), this
+        mqttSetting.stateTopicName(), mqttSetting.stateTopicQos(), this, true
     );
     clientManager.subscribe(
-        mqttSetting.visualizationTopicName(), mqttSetting.visualizationTopicQos(), this
+        mqttSetting.visualizationTopicName(), mqttSetting.visualizationTopicQos(), this, true
     );
     clientManager.subscribe(
         mqttSetting.factsheetTopicName(), mqttSetting.factsheetTopicQos(), this
@@ -492,13 +501,13 @@ public class CommAdapterImpl
   }
 
   @Override
-  public synchronized void onIncomingMessage(IncomingMessage message) {
+  public void onIncomingMessage(IncomingMessage message) {
     requireNonNull(message, "message");
 
     if (Objects.equals(message.getTopic(), mqttSetting.connectionTopicName())) {
       try {
-        messageValidator.validate(message.getMessage(), Connection.class);
-        Connection connectionMessage = jsonBinder.fromJson(message.getMessage(), Connection.class);
+        Connection connectionMessage
+            = parseIncomingMessage(message, Connection.class, ConfigMessageType.CONNECTION);
         getExecutor().execute(() -> onConnectionMessage(connectionMessage));
       }
       catch (IllegalArgumentException ex) {
@@ -507,8 +516,7 @@ public class CommAdapterImpl
     }
     else if (Objects.equals(message.getTopic(), mqttSetting.stateTopicName())) {
       try {
-        messageValidator.validate(message.getMessage(), State.class);
-        State stateMessage = jsonBinder.fromJson(message.getMessage(), State.class);
+        State stateMessage = parseIncomingMessage(message, State.class, ConfigMessageType.STATE);
         getExecutor().execute(() -> onStateMessage(stateMessage));
       }
       catch (IllegalArgumentException ex) {
@@ -517,8 +525,8 @@ public class CommAdapterImpl
     }
     else if (Objects.equals(message.getTopic(), mqttSetting.visualizationTopicName())) {
       try {
-        messageValidator.validate(message.getMessage(), Visualization.class);
-        Visualization vis = jsonBinder.fromJson(message.getMessage(), Visualization.class);
+        Visualization vis
+            = parseIncomingMessage(message, Visualization.class, ConfigMessageType.VISUALIZATION);
         getExecutor().execute(() -> onVisualizationMessage(vis));
       }
       catch (IllegalArgumentException ex) {
@@ -537,6 +545,29 @@ public class CommAdapterImpl
     }
   }
 
+  /**
+   * Parses the given incoming message once, validates it (if it is sampled for validation) and
+   * binds it to the given class.
+   *
+   * @param message The incoming message.
+   * @param clazz The JSON binding class.
+   * @param messageType The message type.
+   * @return The bound message.
+   * @throws IllegalArgumentException If the message could not be parsed, validated or bound.
+   */
+  private <T> T parseIncomingMessage(
+      IncomingMessage message,
+      Class<T> clazz,
+      ConfigMessageType messageType
+  )
+      throws IllegalArgumentException {
+    JsonNode tree = jsonBinder.toTree(message.getPayload());
+    if (validationSampler.shouldValidate(messageType)) {
+      messageValidator.validate(tree, clazz);
+    }
+    return jsonBinder.fromTree(tree, clazz);
+  }
+
   @Override
   public void onVehiclePaused(boolean paused) {
     Action pauseAction = new Action(
@@ -2,6 +2,9 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v2_0.simulation;
 
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttConfiguration;
 
 /**
@@ -11,10 +14,28 @@ public class ConfigurationImpl
     implements
       MqttConfiguration {
 
+  /**
+   * The client ID to connect to the broker with.
+   */
+  private final String clientId;
+
   /**
    * Creates a new instance.
    */
   public ConfigurationImpl() {
+    this("opentcs-vda5050-driver");
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientId The client ID to connect to the broker with.
+   */
+  public ConfigurationImpl(
+      @Nonnull
+      String clientId
+  ) {
+    this.clientId = requireNonNull(clientId, "clientId");
   }
 
   @Override
@@ -44,7 +65,7 @@ public class ConfigurationImpl
 
   @Override
   public String clientId() {
-    return "opentcs-vda5050-driver";
+    return clientId;
   }
 
   @Override
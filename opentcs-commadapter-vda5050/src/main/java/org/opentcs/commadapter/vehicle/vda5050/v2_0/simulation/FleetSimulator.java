@@ -0,0 +1,192 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0.simulation;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttClientManager;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.CommAdapterImpl;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A standalone application to simulate communication between the {@link CommAdapterImpl} and a
+ * fleet of vehicles within a single JVM.
+ * <p>
+ * Unlike running a {@link VehicleSimulator} per vehicle, the simulated vehicles share a small
+ * number of scheduler threads and MQTT connections to the broker. Each vehicle is assigned to one
+ * of the scheduler threads, so all of its tasks are still executed sequentially. Since a last will
+ * can only be set per MQTT connection, simulated vehicles do not set one.
+ * </p>
+ * <p>
+ * The simulated vehicles' serial numbers consist of the given prefix followed by the vehicle's
+ * index, starting with 1 (e.g. {@code S1}, {@code S2}, ...).
+ * </p>
+ */
+public class FleetSimulator {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(FleetSimulator.class);
+  /**
+   * The default number of simulated vehicles.
+   */
+  private static final int DEFAULT_VEHICLE_COUNT = 100;
+  /**
+   * The default number of MQTT connections.
+   */
+  private static final int DEFAULT_CONNECTION_COUNT = 4;
+  /**
+   * The default number of scheduler threads.
+   */
+  private static final int DEFAULT_SCHEDULER_COUNT = 4;
+  /**
+   * The default prefix for the simulated vehicles' serial numbers.
+   */
+  private static final String DEFAULT_SERIAL_NUMBER_PREFIX = "S";
+  /**
+   * The prefix for the MQTT client IDs.
+   */
+  private static final String CLIENT_ID_PREFIX = "opentcs-vda5050-fleet-simulator-";
+  /**
+   * The executors the simulated vehicles are assigned to.
+   */
+  private final List<ScheduledExecutorService> schedulers = new ArrayList<>();
+  /**
+   * The MQTT client managers shared by the simulated vehicles.
+   */
+  private final List<MqttClientManager> clientManagers = new ArrayList<>();
+  /**
+   * The simulated vehicles.
+   */
+  private final List<VehicleSimulator> vehicles = new ArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleCount The number of vehicles to simulate.
+   * @param connectionCount The number of MQTT connections to share among the vehicles.
+   * @param schedulerCount The number of scheduler threads to share among the vehicles.
+   * @param serialNumberPrefix The prefix for the simulated vehicles' serial numbers.
+   */
+  public FleetSimulator(
+      int vehicleCount,
+      int connectionCount,
+      int schedulerCount,
+      String serialNumberPrefix
+  ) {
+    checkInRange(vehicleCount, 1, Integer.MAX_VALUE, "vehicleCount");
+    checkInRange(connectionCount, 1, vehicleCount, "connectionCount");
+    checkInRange(schedulerCount, 1, vehicleCount, "schedulerCount");
+    requireNonNull(serialNumberPrefix, "serialNumberPrefix");
+
+    for (int i = 0; i < schedulerCount; i++) {
+      String threadName = "fleetSimulatorExecutor-" + i;
+      schedulers.add(
+          Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, threadName))
+      );
+    }
+    for (int i = 0; i < connectionCount; i++) {
+      clientManagers.add(
+          new MqttClientManager(
+              new ConfigurationImpl(CLIENT_ID_PREFIX + i),
+              schedulers.get(i % schedulerCount),
+              new MetricsRegistry()
+          )
+      );
+    }
+    for (int i = 0; i < vehicleCount; i++) {
+      vehicles.add(
+          new VehicleSimulator(
+              serialNumberPrefix + (i + 1),
+              clientManagers.get(i % connectionCount),
+              schedulers.get(i % schedulerCount)
+          )
+      );
+    }
+  }
+
+  /**
+   * Starts the simulation of all vehicles.
+   */
+  public void start() {
+    LOG.info(
+        "Starting simulation of {} vehicles using {} MQTT connections and {} threads...",
+        vehicles.size(),
+        clientManagers.size(),
+        schedulers.size()
+    );
+    vehicles.forEach(VehicleSimulator::subscribe);
+  }
+
+  /**
+   * Stops the simulation of all vehicles and closes the MQTT connections.
+   */
+  public void stop() {
+    LOG.info("Stopping simulation...");
+    List<Future<?>> terminations = new ArrayList<>();
+    for (int i = 0; i < vehicles.size(); i++) {
+      terminations.add(schedulers.get(i % schedulers.size()).submit(vehicles.get(i)::terminate));
+    }
+    for (Future<?> termination : terminations) {
+      try {
+        termination.get();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      catch (ExecutionException e) {
+        LOG.warn("Failed to terminate simulated vehicle.", e.getCause());
+      }
+    }
+
+    for (MqttClientManager clientManager : clientManagers) {
+      try {
+        clientManager.getClient().disconnect();
+      }
+      catch (MqttException e) {
+        LOG.warn("Failed to disconnect from broker.", e);
+      }
+    }
+    schedulers.forEach(ScheduledExecutorService::shutdownNow);
+  }
+
+  /**
+   * Starts the simulation of a fleet of vehicles.
+   * <p>
+   * Optional arguments, in this order: the number of vehicles (default: 100), the number of MQTT
+   * connections (default: 4), the number of scheduler threads (default: 4) and the prefix for the
+   * vehicles' serial numbers (default: {@code S}).
+   * </p>
+   *
+   * @param args The command line arguments.
+   */
+  public static void main(String[] args) {
+    VehicleSimulator.configureLogging();
+
+    FleetSimulator simulator = new FleetSimulator(
+        args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VEHICLE_COUNT,
+        args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONNECTION_COUNT,
+        args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SCHEDULER_COUNT,
+        args.length > 3 ? args[3] : DEFAULT_SERIAL_NUMBER_PREFIX
+    );
+    simulator.start();
+
+    LOG.info("Simulation running... (press the return key to stop the simulation)");
+    new Scanner(System.in).nextLine();
+    simulator.stop();
+    System.exit(0);
+  }
+}
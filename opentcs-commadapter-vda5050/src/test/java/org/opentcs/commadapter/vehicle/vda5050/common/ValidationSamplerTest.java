@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ValidationSampler}.
+ */
+public class ValidationSamplerTest {
+
+  @Test
+  public void validateEveryMessageOfTypesWithoutInterval() {
+    ValidationSampler<String> sampler = new ValidationSampler<>(Map.of());
+
+    assertThat(decisions(sampler, "state", 3), contains(true, true, true));
+  }
+
+  @Test
+  public void validateNoMessageWithIntervalZero() {
+    ValidationSampler<String> sampler = new ValidationSampler<>(Map.of("visualization", 0));
+
+    assertThat(decisions(sampler, "visualization", 3), contains(false, false, false));
+  }
+
+  @Test
+  public void validateFirstOfEveryNMessages() {
+    ValidationSampler<String> sampler = new ValidationSampler<>(
+        Map.of("visualization", 3, "state", 1)
+    );
+
+    assertThat(
+        decisions(sampler, "visualization", 7),
+        contains(true, false, false, true, false, false, true)
+    );
+    assertThat(decisions(sampler, "state", 2), contains(true, true));
+  }
+
+  private static List<Boolean> decisions(
+      ValidationSampler<String> sampler,
+      String messageType,
+      int count
+  ) {
+    List<Boolean> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      result.add(sampler.shouldValidate(messageType));
+    }
+    return result;
+  }
+}
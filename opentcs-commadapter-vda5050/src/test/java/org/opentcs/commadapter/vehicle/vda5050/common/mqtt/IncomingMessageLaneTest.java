@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link IncomingMessageLane}.
+ */
+public class IncomingMessageLaneTest {
+
+  private ConnectionEventListener subscriber;
+  private Queue<Runnable> deliveryTasks;
+  private IncomingMessageLane lane;
+
+  @BeforeEach
+  public void setUp() {
+    subscriber = mock(ConnectionEventListener.class);
+    deliveryTasks = new ArrayDeque<>();
+    lane = new IncomingMessageLane(subscriber, deliveryTasks::add);
+  }
+
+  @Test
+  public void deliverMessagesInOrder() {
+    IncomingMessage message1 = new IncomingMessage("topic", "message-1");
+    IncomingMessage message2 = new IncomingMessage("topic", "message-2");
+
+    lane.enqueue(message1);
+    lane.enqueue(message2);
+
+    verify(subscriber, never()).onIncomingMessage(any());
+    assertThat(lane.getQueueDepth(), is(2));
+    assertThat(deliveryTasks.size(), is(1));
+
+    runDeliveryTasks();
+
+    InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).onIncomingMessage(message1);
+    inOrder.verify(subscriber).onIncomingMessage(message2);
+    assertThat(lane.getQueueDepth(), is(0));
+    assertThat(lane.getMaxQueueDepth(), is(2));
+  }
+
+  @Test
+  public void continueDeliveringAfterSubscriberFailure() {
+    IncomingMessage message1 = new IncomingMessage("topic", "message-1");
+    IncomingMessage message2 = new IncomingMessage("topic", "message-2");
+    doThrow(new IllegalStateException()).when(subscriber).onIncomingMessage(message1);
+
+    lane.enqueue(message1);
+    lane.enqueue(message2);
+    runDeliveryTasks();
+
+    verify(subscriber).onIncomingMessage(message2);
+  }
+
+  @Test
+  public void scheduleNewDeliveryTaskAfterQueueWasDrained() {
+    lane.enqueue(new IncomingMessage("topic", "message-1"));
+    runDeliveryTasks();
+
+    lane.enqueue(new IncomingMessage("topic", "message-2"));
+
+    assertThat(deliveryTasks.size(), is(1));
+  }
+
+  @Test
+  public void conflateMessagesOnConflatedTopic() {
+    IncomingMessage state1 = new IncomingMessage("state", "state-1");
+    IncomingMessage connection = new IncomingMessage("connection", "connection-1");
+    IncomingMessage state2 = new IncomingMessage("state", "state-2");
+    lane.setConflated("state", true);
+
+    lane.enqueue(state1);
+    lane.enqueue(connection);
+    lane.enqueue(state2);
+
+    assertThat(lane.getQueueDepth(), is(2));
+
+    runDeliveryTasks();
+
+    InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).onIncomingMessage(connection);
+    inOrder.verify(subscriber).onIncomingMessage(state2);
+    verify(subscriber, never()).onIncomingMessage(state1);
+  }
+
+  @Test
+  public void keepMessagesOnTopicNoLongerConflated() {
+    IncomingMessage message1 = new IncomingMessage("topic", "message-1");
+    IncomingMessage message2 = new IncomingMessage("topic", "message-2");
+    lane.setConflated("topic", true);
+    lane.setConflated("topic", false);
+
+    lane.enqueue(message1);
+    lane.enqueue(message2);
+
+    assertThat(lane.getQueueDepth(), is(2));
+  }
+
+  private void runDeliveryTasks() {
+    while (!deliveryTasks.isEmpty()) {
+      deliveryTasks.poll().run();
+    }
+  }
+}
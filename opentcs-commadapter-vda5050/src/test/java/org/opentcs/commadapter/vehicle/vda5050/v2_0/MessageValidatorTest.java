@@ -5,8 +5,10 @@ package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.connection.Connection;
 
 /**
@@ -86,6 +88,36 @@ public class MessageValidatorTest {
     );
   }
 
+  @Test
+  public void handleParsedMessages() {
+    JsonBinder jsonBinder = new JsonBinder();
+
+    assertDoesNotThrow(
+        () -> messageValidator.validate(
+            jsonBinder.toTree(validConnectionMessage().getBytes(StandardCharsets.UTF_8)),
+            Connection.class
+        )
+    );
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> messageValidator.validate(
+            jsonBinder.toTree(
+                connectionMessageWithNullConnectionState().getBytes(StandardCharsets.UTF_8)
+            ),
+            Connection.class
+        )
+    );
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> messageValidator.validate(
+            jsonBinder.toTree(
+                connectionMessageWithExtraProperty().getBytes(StandardCharsets.UTF_8)
+            ),
+            Connection.class
+        )
+    );
+  }
+
   private static String validConnectionMessage() {
     return """
         {
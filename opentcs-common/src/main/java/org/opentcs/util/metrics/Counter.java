@@ -0,0 +1,53 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count of occurrences.
+ * <p>
+ * Instances are thread-safe and cheap to update.
+ * </p>
+ */
+public class Counter {
+
+  /**
+   * The current count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   */
+  Counter() {
+  }
+
+  /**
+   * Increments this counter by one.
+   */
+  public void increment() {
+    count.increment();
+  }
+
+  /**
+   * Increments this counter by the given amount.
+   *
+   * @param amount The amount. Must not be negative.
+   */
+  public void increment(long amount) {
+    checkArgument(amount >= 0, "amount < 0: %s", amount);
+    count.add(amount);
+  }
+
+  /**
+   * Returns the current count.
+   *
+   * @return The current count.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+}
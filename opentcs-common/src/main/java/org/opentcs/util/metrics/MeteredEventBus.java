@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * An {@link EventBus} counting the events published via a delegate event bus and recording the
+ * time it takes to deliver them to all subscribers.
+ */
+public class MeteredEventBus
+    implements
+      EventBus {
+
+  /**
+   * The event bus actually delivering events.
+   */
+  private final EventBus delegate;
+  /**
+   * The registry providing the counters.
+   */
+  private final MetricsRegistry metricsRegistry;
+  /**
+   * The name of this event bus, as used in metric tags.
+   */
+  private final String busName;
+  /**
+   * Records the time it takes to deliver events to all subscribers.
+   */
+  private final Timer deliveryTimer;
+  /**
+   * Counts published events, mapped by event class.
+   */
+  private final Map<Class<?>, Counter> eventCounters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The event bus actually delivering events.
+   * @param metricsRegistry The registry to register metrics with.
+   * @param busName The name of this event bus, as used in metric tags.
+   */
+  public MeteredEventBus(
+      @Nonnull
+      EventBus delegate,
+      @Nonnull
+      MetricsRegistry metricsRegistry,
+      @Nonnull
+      String busName
+  ) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
+    this.busName = requireNonNull(busName, "busName");
+    this.deliveryTimer = metricsRegistry.timer(
+        "opentcs_event_bus_delivery_duration_seconds",
+        "Time taken to deliver an event to all subscribers",
+        "bus",
+        busName
+    );
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    eventCounters.computeIfAbsent(event.getClass(), this::createCounter).increment();
+    deliveryTimer.record(() -> delegate.onEvent(event));
+  }
+
+  @Override
+  public void subscribe(EventHandler listener) {
+    delegate.subscribe(listener);
+  }
+
+  @Override
+  public void unsubscribe(EventHandler listener) {
+    delegate.unsubscribe(listener);
+  }
+
+  private Counter createCounter(Class<?> eventClass) {
+    return metricsRegistry.counter(
+        "opentcs_event_bus_events_total",
+        "Number of events published",
+        "bus",
+        busName,
+        "type",
+        eventClass.getSimpleName()
+    );
+  }
+}
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+
+/**
+ * Extends the {@link LoggingScheduledThreadPoolExecutor} by recording metrics about the executed
+ * tasks.
+ * <p>
+ * The following metrics are registered, each tagged with the executor's name:
+ * </p>
+ * <ul>
+ * <li>The number of tasks in the executor's queue, including delayed and periodic ones.</li>
+ * <li>The number of tasks in the executor's queue that are due but have not been started, yet.
+ * </li>
+ * <li>The time tasks are started after they were due, i.e. the time they spent waiting in the
+ * queue.</li>
+ * <li>The time it takes to execute tasks.</li>
+ * </ul>
+ */
+public class MeteredScheduledThreadPoolExecutor
+    extends
+      LoggingScheduledThreadPoolExecutor {
+
+  /**
+   * Records the time tasks are started after they were due.
+   */
+  private final Timer taskDelayTimer;
+  /**
+   * Records the time it takes to execute tasks.
+   */
+  private final Timer taskDurationTimer;
+  /**
+   * The points of time (in nanoseconds) at which the tasks currently being executed were started.
+   */
+  private final ThreadLocal<Long> taskStartTime = new ThreadLocal<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param corePoolSize The number of threads to keep in the pool.
+   * @param threadFactory The factory to use when the executor creates a new thread.
+   * @param metricsRegistry The registry to register metrics with.
+   * @param executorName The executor's name, as used in metric tags.
+   * @throws IllegalArgumentException If {@code corePoolSize < 0}
+   * @throws NullPointerException If {@code threadFactory} is null
+   */
+  @SuppressWarnings("this-escape")
+  public MeteredScheduledThreadPoolExecutor(
+      int corePoolSize,
+      @Nonnull
+      ThreadFactory threadFactory,
+      @Nonnull
+      MetricsRegistry metricsRegistry,
+      @Nonnull
+      String executorName
+  ) {
+    super(corePoolSize, threadFactory);
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    requireNonNull(executorName, "executorName");
+
+    metricsRegistry.gauge(
+        "opentcs_executor_queued_tasks",
+        "Number of tasks in the executor's queue, including delayed and periodic ones",
+        () -> getQueue().size(),
+        "executor",
+        executorName
+    );
+    metricsRegistry.gauge(
+        "opentcs_executor_due_tasks",
+        "Number of tasks in the executor's queue that are due but have not been started",
+        this::countDueTasks,
+        "executor",
+        executorName
+    );
+    taskDelayTimer = metricsRegistry.timer(
+        "opentcs_executor_task_delay_seconds",
+        "Time tasks were started after they were due",
+        "executor",
+        executorName
+    );
+    taskDurationTimer = metricsRegistry.timer(
+        "opentcs_executor_task_duration_seconds",
+        "Time taken to execute tasks",
+        "executor",
+        executorName
+    );
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    super.beforeExecute(t, r);
+    if (r instanceof Delayed delayed) {
+      taskDelayTimer.record(-delayed.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+    taskStartTime.set(System.nanoTime());
+  }
+
+  @Override
+  protected void afterExecute(Runnable r, Throwable t) {
+    Long startTime = taskStartTime.get();
+    if (startTime != null) {
+      taskStartTime.remove();
+      taskDurationTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+    super.afterExecute(r, t);
+  }
+
+  private int countDueTasks() {
+    int count = 0;
+    for (Runnable task : getQueue()) {
+      if (task instanceof Delayed delayed && delayed.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,405 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A registry for metrics (counters, timers and gauges) describing the kernel's runtime behaviour.
+ * <p>
+ * Every metric is identified by its name and a (possibly empty) list of tags, i.e. key-value pairs
+ * that distinguish e.g. different phases or clients. All metrics with the same name form a metric
+ * family of a single type. Counters and timers are updated by the components owning them, while
+ * gauges are sampled only when the registry's content is {@link #scrape() scraped}.
+ * </p>
+ * <p>
+ * The registry's content is provided in the Prometheus text exposition format. Timers are
+ * represented as summaries (count and sum, in seconds), accompanied by a gauge for the maximum
+ * recorded duration.
+ * </p>
+ */
+public class MetricsRegistry {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MetricsRegistry.class);
+  /**
+   * The pattern metric names and tag keys have to match.
+   */
+  private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+  /**
+   * The metric families, mapped by their names.
+   */
+  private final Map<String, MetricFamily> families = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  public MetricsRegistry() {
+  }
+
+  /**
+   * Returns the counter with the given name and tags, creating it if it does not exist, yet.
+   *
+   * @param name The counter's name.
+   * @param description A description of the counter.
+   * @param tags The counter's tags, as alternating keys and values.
+   * @return The counter.
+   * @throws IllegalArgumentException If the name or tags are invalid or a metric of a different
+   * type with the given name already exists.
+   */
+  @Nonnull
+  public Counter counter(
+      @Nonnull
+      String name,
+      @Nonnull
+      String description,
+      String... tags
+  ) {
+    return (Counter) family(name, description, MetricType.COUNTER)
+        .metrics.computeIfAbsent(toTagList(tags), key -> new Counter());
+  }
+
+  /**
+   * Returns the timer with the given name and tags, creating it if it does not exist, yet.
+   *
+   * @param name The timer's name.
+   * @param description A description of the timer.
+   * @param tags The timer's tags, as alternating keys and values.
+   * @return The timer.
+   * @throws IllegalArgumentException If the name or tags are invalid or a metric of a different
+   * type with the given name already exists.
+   */
+  @Nonnull
+  public Timer timer(
+      @Nonnull
+      String name,
+      @Nonnull
+      String description,
+      String... tags
+  ) {
+    return (Timer) family(name, description, MetricType.TIMER)
+        .metrics.computeIfAbsent(toTagList(tags), key -> new Timer());
+  }
+
+  /**
+   * Registers a gauge with the given name and tags, replacing any gauge previously registered with
+   * the same name and tags.
+   *
+   * @param name The gauge's name.
+   * @param description A description of the gauge.
+   * @param value Provides the gauge's current value. Called whenever the registry's content is
+   * scraped, possibly by a thread other than the one that registered the gauge.
+   * @param tags The gauge's tags, as alternating keys and values.
+   * @throws IllegalArgumentException If the name or tags are invalid or a metric of a different
+   * type with the given name already exists.
+   */
+  public void gauge(
+      @Nonnull
+      String name,
+      @Nonnull
+      String description,
+      @Nonnull
+      Supplier<? extends Number> value,
+      String... tags
+  ) {
+    requireNonNull(value, "value");
+
+    family(name, description, MetricType.GAUGE).metrics.put(toTagList(tags), new Gauge(value));
+  }
+
+  /**
+   * Registers a set of gauges with the given name, replacing any set previously registered with the
+   * same name and tag key.
+   * <p>
+   * This is meant for gauges for a varying set of entities, e.g. connected clients, that would
+   * otherwise have to be registered and unregistered individually.
+   * </p>
+   *
+   * @param name The gauges' name.
+   * @param description A description of the gauges.
+   * @param tagKey The key of the tag distinguishing the gauges.
+   * @param values Provides the gauges' current values, mapped by the respective tag values. Called
+   * whenever the registry's content is scraped, possibly by a thread other than the one that
+   * registered the gauges.
+   * @throws IllegalArgumentException If the name or tag key are invalid or a metric of a different
+   * type with the given name already exists.
+   */
+  public void gauges(
+      @Nonnull
+      String name,
+      @Nonnull
+      String description,
+      @Nonnull
+      String tagKey,
+      @Nonnull
+      Supplier<? extends Map<String, ? extends Number>> values
+  ) {
+    requireNonNull(tagKey, "tagKey");
+    requireNonNull(values, "values");
+    checkArgument(NAME_PATTERN.matcher(tagKey).matches(), "Invalid tag key: %s", tagKey);
+
+    family(name, description, MetricType.GAUGE)
+        .metrics.put(List.of(tagKey), new GaugeSet(tagKey, values));
+  }
+
+  /**
+   * Returns the content of this registry in the Prometheus text exposition format.
+   *
+   * @return The content of this registry.
+   */
+  @Nonnull
+  public String scrape() {
+    StringBuilder sb = new StringBuilder();
+    new TreeMap<>(families).forEach((name, family) -> family.appendTo(sb, name));
+    return sb.toString();
+  }
+
+  private MetricFamily family(String name, String description, MetricType type) {
+    requireNonNull(name, "name");
+    requireNonNull(description, "description");
+    checkArgument(NAME_PATTERN.matcher(name).matches(), "Invalid metric name: %s", name);
+
+    MetricFamily family
+        = families.computeIfAbsent(name, key -> new MetricFamily(type, description));
+    checkArgument(
+        family.type == type,
+        "Metric %s already registered as %s, not %s",
+        name,
+        family.type,
+        type
+    );
+    return family;
+  }
+
+  private static List<String> toTagList(String... tags) {
+    requireNonNull(tags, "tags");
+    checkArgument(tags.length % 2 == 0, "Odd number of tag keys and values: %s", tags.length);
+    for (int i = 0; i < tags.length; i += 2) {
+      requireNonNull(tags[i], "tag key");
+      requireNonNull(tags[i + 1], "tag value");
+      checkArgument(NAME_PATTERN.matcher(tags[i]).matches(), "Invalid tag key: %s", tags[i]);
+    }
+    return List.of(tags);
+  }
+
+  private static void appendSample(
+      StringBuilder sb,
+      String name,
+      List<String> tags,
+      String value
+  ) {
+    sb.append(name);
+    if (!tags.isEmpty()) {
+      sb.append('{');
+      for (int i = 0; i < tags.size(); i += 2) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        sb.append(tags.get(i)).append("=\"");
+        appendEscaped(sb, tags.get(i + 1));
+        sb.append('"');
+      }
+      sb.append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+
+  private static void appendEscaped(StringBuilder sb, String tagValue) {
+    for (int i = 0; i < tagValue.length(); i++) {
+      char c = tagValue.charAt(i);
+      switch (c) {
+        case '\\' -> sb.append("\\\\");
+        case '"' -> sb.append("\\\"");
+        case '\n' -> sb.append("\\n");
+        default -> sb.append(c);
+      }
+    }
+  }
+
+  private static String format(double value) {
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    return Double.toString(value);
+  }
+
+  private static String format(Number value) {
+    if (value instanceof Double || value instanceof Float) {
+      return format(value.doubleValue());
+    }
+    return value.toString();
+  }
+
+  /**
+   * The types of metrics.
+   */
+  private enum MetricType {
+    /**
+     * A counter.
+     */
+    COUNTER,
+    /**
+     * A timer.
+     */
+    TIMER,
+    /**
+     * A gauge.
+     */
+    GAUGE;
+  }
+
+  /**
+   * All metrics with the same name.
+   */
+  private static class MetricFamily {
+
+    /**
+     * The type of the metrics.
+     */
+    private final MetricType type;
+    /**
+     * A description of the metrics.
+     */
+    private final String description;
+    /**
+     * The metrics, mapped by their tags.
+     */
+    private final Map<List<String>, Object> metrics = new ConcurrentHashMap<>();
+
+    MetricFamily(MetricType type, String description) {
+      this.type = type;
+      this.description = description;
+    }
+
+    void appendTo(StringBuilder sb, String name) {
+      List<Map.Entry<List<String>, Object>> entries = new ArrayList<>(metrics.entrySet());
+      entries.sort(Comparator.comparing(entry -> entry.getKey().toString()));
+
+      switch (type) {
+        case COUNTER -> {
+          appendHeader(sb, name, "counter");
+          for (Map.Entry<List<String>, Object> entry : entries) {
+            Counter counter = (Counter) entry.getValue();
+            appendSample(sb, name, entry.getKey(), Long.toString(counter.getCount()));
+          }
+        }
+        case TIMER -> {
+          appendHeader(sb, name, "summary");
+          for (Map.Entry<List<String>, Object> entry : entries) {
+            Timer timer = (Timer) entry.getValue();
+            appendSample(sb, name + "_count", entry.getKey(), Long.toString(timer.getCount()));
+            appendSample(
+                sb,
+                name + "_sum",
+                entry.getKey(),
+                format(timer.getTotalTime(TimeUnit.SECONDS))
+            );
+          }
+          sb.append("# HELP ").append(name).append("_max ").append(description)
+              .append(" (maximum)\n");
+          sb.append("# TYPE ").append(name).append("_max gauge\n");
+          for (Map.Entry<List<String>, Object> entry : entries) {
+            Timer timer = (Timer) entry.getValue();
+            appendSample(
+                sb,
+                name + "_max",
+                entry.getKey(),
+                format(timer.getMax(TimeUnit.SECONDS))
+            );
+          }
+        }
+        case GAUGE -> {
+          appendHeader(sb, name, "gauge");
+          for (Map.Entry<List<String>, Object> entry : entries) {
+            if (entry.getValue() instanceof Gauge gauge) {
+              gauge.appendTo(sb, name, entry.getKey());
+            }
+            else {
+              ((GaugeSet) entry.getValue()).appendTo(sb, name);
+            }
+          }
+        }
+        default -> throw new IllegalStateException("Unhandled metric type: " + type);
+      }
+    }
+
+    private void appendHeader(StringBuilder sb, String name, String typeName) {
+      sb.append("# HELP ").append(name).append(' ').append(description).append('\n');
+      sb.append("# TYPE ").append(name).append(' ').append(typeName).append('\n');
+    }
+  }
+
+  /**
+   * A single gauge.
+   */
+  private static class Gauge {
+
+    /**
+     * Provides the gauge's current value.
+     */
+    private final Supplier<? extends Number> value;
+
+    Gauge(Supplier<? extends Number> value) {
+      this.value = value;
+    }
+
+    void appendTo(StringBuilder sb, String name, List<String> tags) {
+      try {
+        Number currentValue = value.get();
+        if (currentValue != null) {
+          appendSample(sb, name, tags, format(currentValue));
+        }
+      }
+      catch (RuntimeException exc) {
+        LOG.debug("Could not sample gauge {}{}, skipping it.", name, tags, exc);
+      }
+    }
+  }
+
+  /**
+   * A set of gauges distinguished by a single tag.
+   */
+  private static class GaugeSet {
+
+    /**
+     * The key of the tag distinguishing the gauges.
+     */
+    private final String tagKey;
+    /**
+     * Provides the gauges' current values, mapped by the respective tag values.
+     */
+    private final Supplier<? extends Map<String, ? extends Number>> values;
+
+    GaugeSet(String tagKey, Supplier<? extends Map<String, ? extends Number>> values) {
+      this.tagKey = tagKey;
+      this.values = values;
+    }
+
+    void appendTo(StringBuilder sb, String name) {
+      try {
+        new TreeMap<>(values.get()).forEach(
+            (tagValue, value) -> appendSample(sb, name, List.of(tagKey, tagValue), format(value))
+        );
+      }
+      catch (RuntimeException exc) {
+        LOG.debug("Could not sample gauges {}, skipping them.", name, exc);
+      }
+    }
+  }
+}
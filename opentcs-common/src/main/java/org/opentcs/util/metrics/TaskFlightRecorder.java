@@ -0,0 +1,84 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the traces of the most recent task executions in a ring buffer.
+ * <p>
+ * Once the buffer has reached its capacity, the oldest trace is dropped whenever a new one is
+ * recorded.
+ * </p>
+ */
+public class TaskFlightRecorder {
+
+  /**
+   * The maximum number of traces kept.
+   */
+  private final int capacity;
+  /**
+   * The traces, oldest first.
+   */
+  private final Deque<TaskTrace> traces = new ArrayDeque<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of traces kept. If 0, no traces are kept at all.
+   */
+  public TaskFlightRecorder(int capacity) {
+    this.capacity = checkInRange(capacity, 0, Integer.MAX_VALUE, "capacity");
+  }
+
+  /**
+   * Records the given trace.
+   *
+   * @param trace The trace.
+   */
+  public void record(
+      @Nonnull
+      TaskTrace trace
+  ) {
+    requireNonNull(trace, "trace");
+
+    if (capacity == 0) {
+      return;
+    }
+
+    synchronized (traces) {
+      if (traces.size() >= capacity) {
+        traces.removeFirst();
+      }
+      traces.addLast(trace);
+    }
+  }
+
+  /**
+   * Returns the traces currently kept, oldest first.
+   *
+   * @return The traces currently kept.
+   */
+  @Nonnull
+  public List<TaskTrace> getTraces() {
+    synchronized (traces) {
+      return new ArrayList<>(traces);
+    }
+  }
+
+  /**
+   * Returns the maximum number of traces kept.
+   *
+   * @return The maximum number of traces kept.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+
+/**
+ * Describes a single execution of a task by an executor.
+ */
+public class TaskTrace {
+
+  /**
+   * The type of the task, i.e. the name of the class that implements it.
+   */
+  private final String taskType;
+  /**
+   * The name of the thread that submitted the task.
+   */
+  private final String submitterThread;
+  /**
+   * The point of time at which the execution started.
+   */
+  private final Instant startTime;
+  /**
+   * The time (in nanoseconds) the execution started after the task was due.
+   */
+  private final long delayNanos;
+  /**
+   * The duration (in nanoseconds) of the execution.
+   */
+  private final long durationNanos;
+  /**
+   * Whether the execution took longer than the executor's threshold for slow tasks.
+   */
+  private final boolean slow;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param taskType The type of the task, i.e. the name of the class that implements it.
+   * @param submitterThread The name of the thread that submitted the task.
+   * @param startTime The point of time at which the execution started.
+   * @param delayNanos The time (in nanoseconds) the execution started after the task was due.
+   * @param durationNanos The duration (in nanoseconds) of the execution.
+   * @param slow Whether the execution took longer than the executor's threshold for slow tasks.
+   */
+  public TaskTrace(
+      @Nonnull
+      String taskType,
+      @Nonnull
+      String submitterThread,
+      @Nonnull
+      Instant startTime,
+      long delayNanos,
+      long durationNanos,
+      boolean slow
+  ) {
+    this.taskType = requireNonNull(taskType, "taskType");
+    this.submitterThread = requireNonNull(submitterThread, "submitterThread");
+    this.startTime = requireNonNull(startTime, "startTime");
+    this.delayNanos = delayNanos;
+    this.durationNanos = durationNanos;
+    this.slow = slow;
+  }
+
+  /**
+   * Returns the type of the task, i.e. the name of the class that implements it.
+   *
+   * @return The type of the task.
+   */
+  @Nonnull
+  public String getTaskType() {
+    return taskType;
+  }
+
+  /**
+   * Returns the name of the thread that submitted the task.
+   *
+   * @return The name of the thread that submitted the task.
+   */
+  @Nonnull
+  public String getSubmitterThread() {
+    return submitterThread;
+  }
+
+  /**
+   * Returns the point of time at which the execution started.
+   *
+   * @return The point of time at which the execution started.
+   */
+  @Nonnull
+  public Instant getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Returns the time the execution started after the task was due.
+   *
+   * @return The time (in nanoseconds) the execution started after the task was due.
+   */
+  public long getDelayNanos() {
+    return delayNanos;
+  }
+
+  /**
+   * Returns the duration of the execution.
+   *
+   * @return The duration (in nanoseconds) of the execution.
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * Indicates whether the execution took longer than the executor's threshold for slow tasks.
+   *
+   * @return Whether the execution took longer than the executor's threshold for slow tasks.
+   */
+  public boolean isSlow() {
+    return slow;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskTrace{"
+        + "taskType=" + taskType
+        + ", submitterThread=" + submitterThread
+        + ", startTime=" + startTime
+        + ", delayNanos=" + delayNanos
+        + ", durationNanos=" + durationNanos
+        + ", slow=" + slow
+        + '}';
+  }
+}
@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records the number, total and maximum duration of occurrences of some activity.
+ * <p>
+ * Instances are thread-safe and cheap to update.
+ * </p>
+ */
+public class Timer {
+
+  /**
+   * The number of recorded durations.
+   */
+  private final LongAdder count = new LongAdder();
+  /**
+   * The sum of all recorded durations (in nanoseconds).
+   */
+  private final LongAdder totalNanos = new LongAdder();
+  /**
+   * The maximum recorded duration (in nanoseconds).
+   */
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   */
+  Timer() {
+  }
+
+  /**
+   * Records the given duration.
+   * Negative durations are recorded as zero.
+   *
+   * @param duration The duration.
+   * @param unit The duration's time unit.
+   */
+  public void record(long duration, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+
+    long nanos = Math.max(0, unit.toNanos(duration));
+    count.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Executes the given task and records its duration.
+   *
+   * @param task The task.
+   */
+  public void record(Runnable task) {
+    requireNonNull(task, "task");
+
+    long start = System.nanoTime();
+    try {
+      task.run();
+    }
+    finally {
+      record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Executes the given task and records its duration.
+   *
+   * @param <T> The task's result type.
+   * @param task The task.
+   * @return The task's result.
+   */
+  public <T> T record(Supplier<T> task) {
+    requireNonNull(task, "task");
+
+    long start = System.nanoTime();
+    try {
+      return task.get();
+    }
+    finally {
+      record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Returns the number of recorded durations.
+   *
+   * @return The number of recorded durations.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the sum of all recorded durations.
+   *
+   * @param unit The time unit of the returned value.
+   * @return The sum of all recorded durations.
+   */
+  public double getTotalTime(TimeUnit unit) {
+    return toUnit(totalNanos.sum(), unit);
+  }
+
+  /**
+   * Returns the maximum recorded duration.
+   *
+   * @param unit The time unit of the returned value.
+   * @return The maximum recorded duration.
+   */
+  public double getMax(TimeUnit unit) {
+    return toUnit(maxNanos.get(), unit);
+  }
+
+  private static double toUnit(long nanos, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    return (double) nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+  }
+}
@@ -0,0 +1,317 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extends the {@link MeteredScheduledThreadPoolExecutor} by tracing the execution of individual
+ * tasks.
+ * <p>
+ * For every task, the type of the task (i.e. the name of the class implementing it, which, for
+ * lambda expressions, is the class declaring them) and the name of the thread that submitted it are
+ * remembered. For every execution of a task, the following is done:
+ * </p>
+ * <ul>
+ * <li>The time the execution started after the task was due and the duration of the execution are
+ * recorded in metrics tagged with the task's type.</li>
+ * <li>If the execution took longer than the configured threshold, a warning with the task's origin
+ * is logged.</li>
+ * <li>A {@link TaskTrace} is recorded with the given {@link TaskFlightRecorder}.</li>
+ * </ul>
+ */
+public class TracingScheduledThreadPoolExecutor
+    extends
+      MeteredScheduledThreadPoolExecutor {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG
+      = LoggerFactory.getLogger(TracingScheduledThreadPoolExecutor.class);
+  /**
+   * The registry to register metrics with.
+   */
+  private final MetricsRegistry metricsRegistry;
+  /**
+   * The executor's name, as used in metric tags and log messages.
+   */
+  private final String executorName;
+  /**
+   * Records the traces of task executions.
+   */
+  private final TaskFlightRecorder flightRecorder;
+  /**
+   * The duration (in nanoseconds) above which task executions are considered slow.
+   */
+  private final long slowTaskThresholdNanos;
+  /**
+   * The metrics for the individual task types, mapped by task type.
+   */
+  private final Map<String, TaskTypeMetrics> metricsByTaskType = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param corePoolSize The number of threads to keep in the pool.
+   * @param threadFactory The factory to use when the executor creates a new thread.
+   * @param metricsRegistry The registry to register metrics with.
+   * @param executorName The executor's name, as used in metric tags and log messages.
+   * @param flightRecorder Records the traces of task executions.
+   * @param slowTaskThreshold The duration above which task executions are considered slow.
+   * @param unit The time unit of the given threshold.
+   * @throws IllegalArgumentException If {@code corePoolSize < 0} or the threshold is negative.
+   * @throws NullPointerException If {@code threadFactory} is null
+   */
+  public TracingScheduledThreadPoolExecutor(
+      int corePoolSize,
+      @Nonnull
+      ThreadFactory threadFactory,
+      @Nonnull
+      MetricsRegistry metricsRegistry,
+      @Nonnull
+      String executorName,
+      @Nonnull
+      TaskFlightRecorder flightRecorder,
+      long slowTaskThreshold,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    super(corePoolSize, threadFactory, metricsRegistry, executorName);
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
+    this.executorName = requireNonNull(executorName, "executorName");
+    this.flightRecorder = requireNonNull(flightRecorder, "flightRecorder");
+    this.slowTaskThresholdNanos = unit.toNanos(
+        checkInRange(slowTaskThreshold, 0, Long.MAX_VALUE, "slowTaskThreshold")
+    );
+  }
+
+  @Override
+  protected <V> RunnableScheduledFuture<V> decorateTask(
+      Runnable runnable,
+      RunnableScheduledFuture<V> task
+  ) {
+    return new TracedTask<>(task, taskTypeOf(runnable), Thread.currentThread().getName());
+  }
+
+  @Override
+  protected <V> RunnableScheduledFuture<V> decorateTask(
+      Callable<V> callable,
+      RunnableScheduledFuture<V> task
+  ) {
+    return new TracedTask<>(task, taskTypeOf(callable), Thread.currentThread().getName());
+  }
+
+  /**
+   * Returns the type of the given task, i.e. the name of the class implementing it (without the
+   * package name) or, for lambda expressions, of the class declaring them.
+   *
+   * @param task The task.
+   * @return The type of the given task.
+   */
+  static String taskTypeOf(Object task) {
+    String className = task.getClass().getName();
+    int lambdaIndex = className.indexOf("$$Lambda");
+    if (lambdaIndex >= 0) {
+      className = className.substring(0, lambdaIndex);
+    }
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+
+  private void taskExecuted(
+      TracedTask<?> task,
+      Instant startTime,
+      long delayNanos,
+      long durationNanos
+  ) {
+    TaskTypeMetrics taskTypeMetrics
+        = metricsByTaskType.computeIfAbsent(task.taskType, TaskTypeMetrics::new);
+    taskTypeMetrics.delayTimer.record(delayNanos, TimeUnit.NANOSECONDS);
+    taskTypeMetrics.durationTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+    boolean slow = durationNanos > slowTaskThresholdNanos;
+    if (slow) {
+      taskTypeMetrics.slowTaskCounter.increment();
+      LOG.warn(
+          "{}: Task {} submitted by thread '{}' took {} ms (started {} ms after it was due).",
+          executorName,
+          task.taskType,
+          task.submitterThread,
+          TimeUnit.NANOSECONDS.toMillis(durationNanos),
+          TimeUnit.NANOSECONDS.toMillis(Math.max(0, delayNanos))
+      );
+    }
+
+    flightRecorder.record(
+        new TaskTrace(
+            task.taskType,
+            task.submitterThread,
+            startTime,
+            Math.max(0, delayNanos),
+            durationNanos,
+            slow
+        )
+    );
+  }
+
+  /**
+   * The metrics for a single task type.
+   */
+  private class TaskTypeMetrics {
+
+    /**
+     * Records the time executions started after the tasks were due.
+     */
+    private final Timer delayTimer;
+    /**
+     * Records the duration of executions.
+     */
+    private final Timer durationTimer;
+    /**
+     * Counts slow executions.
+     */
+    private final Counter slowTaskCounter;
+
+    TaskTypeMetrics(String taskType) {
+      delayTimer = metricsRegistry.timer(
+          "opentcs_executor_task_type_delay_seconds",
+          "Time tasks of a specific type were started after they were due",
+          "executor",
+          executorName,
+          "task",
+          taskType
+      );
+      durationTimer = metricsRegistry.timer(
+          "opentcs_executor_task_type_duration_seconds",
+          "Time taken to execute tasks of a specific type",
+          "executor",
+          executorName,
+          "task",
+          taskType
+      );
+      slowTaskCounter = metricsRegistry.counter(
+          "opentcs_executor_slow_tasks_total",
+          "Number of task executions exceeding the threshold for slow tasks",
+          "executor",
+          executorName,
+          "task",
+          taskType
+      );
+    }
+  }
+
+  /**
+   * Wraps a task scheduled for execution, tracing its executions.
+   *
+   * @param <V> The task's result type.
+   */
+  private class TracedTask<V>
+      implements
+        RunnableScheduledFuture<V> {
+
+    /**
+     * The actual task.
+     */
+    private final RunnableScheduledFuture<V> delegate;
+    /**
+     * The type of the task.
+     */
+    private final String taskType;
+    /**
+     * The name of the thread that submitted the task.
+     */
+    private final String submitterThread;
+
+    TracedTask(RunnableScheduledFuture<V> delegate, String taskType, String submitterThread) {
+      this.delegate = delegate;
+      this.taskType = taskType;
+      this.submitterThread = submitterThread;
+    }
+
+    @Override
+    public void run() {
+      long delayNanos = -delegate.getDelay(TimeUnit.NANOSECONDS);
+      Instant startTime = Instant.now();
+      long start = System.nanoTime();
+      try {
+        delegate.run();
+      }
+      finally {
+        taskExecuted(this, startTime, delayNanos, System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return delegate.isPeriodic();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return delegate.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      // Compare the actual tasks so that tasks due at the same time keep their submission order.
+      if (other instanceof TracedTask<?> otherTask) {
+        return delegate.compareTo(otherTask.delegate);
+      }
+      return delegate.compareTo(other);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      return delegate.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return delegate.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return delegate.isDone();
+    }
+
+    @Override
+    public V get()
+        throws InterruptedException,
+          ExecutionException {
+      return delegate.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit)
+        throws InterruptedException,
+          ExecutionException,
+          TimeoutException {
+      return delegate.get(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+      return "TracedTask{"
+          + "taskType=" + taskType
+          + ", submitterThread=" + submitterThread
+          + ", delegate=" + delegate
+          + '}';
+    }
+  }
+}
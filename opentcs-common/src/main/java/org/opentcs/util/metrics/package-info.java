@@ -0,0 +1,6 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+/**
+ * Classes for collecting runtime metrics of the kernel and its components.
+ */
+package org.opentcs.util.metrics;
@@ -13,6 +13,9 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.util.persistence.v7.V7ModelParser;
 import org.opentcs.util.persistence.v7.V7PlantModelTO;
@@ -85,6 +88,23 @@ public class ModelParser {
     }
   }
 
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Reads the model version from the given file.
+   * <p>
+   * Only the document's root element is read, so the rest of the file is not parsed twice.
+   * </p>
+   *
+   * @param file The model file.
+   * @return The model version.
+   * @throws IOException If there was an error reading the model file or the model version.
+   */
   private String peekModelVersion(File file)
       throws IOException {
     try (Reader reader = new BufferedReader(
@@ -93,7 +113,21 @@ public class ModelParser {
             CHARSET
         )
     )) {
-      return ProbePlantModelTO.fromXml(reader).getVersion();
+      XMLStreamReader xmlReader = createXmlInputFactory().createXMLStreamReader(reader);
+      try {
+        xmlReader.nextTag();
+        String version = xmlReader.getAttributeValue(null, "version");
+        if (!"model".equals(xmlReader.getLocalName()) || version == null) {
+          throw new IOException("Not a model file: " + file.getAbsolutePath());
+        }
+        return version;
+      }
+      finally {
+        xmlReader.close();
+      }
+    }
+    catch (XMLStreamException exc) {
+      throw new IOException("Exception reading model version", exc);
     }
   }
 }
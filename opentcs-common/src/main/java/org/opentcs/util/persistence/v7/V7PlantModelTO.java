@@ -43,6 +43,14 @@ public class V7PlantModelTO
    * This plant model implementation's version string.
    */
   public static final String VERSION_STRING = "7.0.0";
+  /**
+   * The JAXB context for this class, created on first use.
+   */
+  private static JAXBContext context;
+  /**
+   * The schema for validating instances of this class, created on first use.
+   */
+  private static Schema schema;
 
   private String name = "";
   private List<PointTO> points = new ArrayList<>();
@@ -245,12 +253,33 @@ public class V7PlantModelTO
     return unmarshaller;
   }
 
-  private static JAXBContext createContext()
+  /**
+   * Returns the JAXB context for this class.
+   * <p>
+   * Creating a JAXB context and a schema is expensive, while both are thread-safe, so they are
+   * created only once and reused.
+   * </p>
+   *
+   * @return The JAXB context for this class.
+   * @throws JAXBException If the context could not be created.
+   */
+  private static synchronized JAXBContext createContext()
       throws JAXBException {
-    return JAXBContext.newInstance(V7PlantModelTO.class);
+    if (context == null) {
+      context = JAXBContext.newInstance(V7PlantModelTO.class);
+    }
+    return context;
+  }
+
+  private static synchronized Schema createSchema()
+      throws SAXException {
+    if (schema == null) {
+      schema = loadSchema();
+    }
+    return schema;
   }
 
-  private static Schema createSchema()
+  private static Schema loadSchema()
       throws SAXException {
     URL schemaUrl
         = V7PlantModelTO.class.getResource("/org/opentcs/util/persistence/model-7.0.0.xsd");
@@ -0,0 +1,127 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MetricsRegistry}.
+ */
+class MetricsRegistryTest {
+
+  private MetricsRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new MetricsRegistry();
+  }
+
+  @Test
+  void provideSameCounterForSameNameAndTags() {
+    Counter counter = registry.counter("test_total", "A counter", "phase", "a");
+
+    assertThat(
+        registry.counter("test_total", "A counter", "phase", "a"),
+        is(sameInstance(counter))
+    );
+    assertThat(
+        registry.counter("test_total", "A counter", "phase", "b"),
+        is(not(sameInstance(counter)))
+    );
+  }
+
+  @Test
+  void renderCounters() {
+    registry.counter("test_total", "A counter", "phase", "a").increment(3);
+
+    String content = registry.scrape();
+
+    assertThat(content, containsString("# HELP test_total A counter\n"));
+    assertThat(content, containsString("# TYPE test_total counter\n"));
+    assertThat(content, containsString("test_total{phase=\"a\"} 3\n"));
+  }
+
+  @Test
+  void renderTimersAsSummaries() {
+    Timer timer = registry.timer("test_seconds", "A timer");
+    timer.record(500, TimeUnit.MILLISECONDS);
+    timer.record(2, TimeUnit.SECONDS);
+
+    String content = registry.scrape();
+
+    assertThat(content, containsString("# TYPE test_seconds summary\n"));
+    assertThat(content, containsString("test_seconds_count 2\n"));
+    assertThat(content, containsString("test_seconds_sum 2.5\n"));
+    assertThat(content, containsString("# TYPE test_seconds_max gauge\n"));
+    assertThat(content, containsString("test_seconds_max 2.0\n"));
+  }
+
+  @Test
+  void sampleGaugesWhenScraping() {
+    int[] value = {1};
+    registry.gauge("test_gauge", "A gauge", () -> value[0], "executor", "x");
+    value[0] = 42;
+
+    assertThat(registry.scrape(), containsString("test_gauge{executor=\"x\"} 42\n"));
+  }
+
+  @Test
+  void renderGaugeSets() {
+    registry.gauges("test_backlog", "Gauges", "client", () -> Map.of("c1", 1, "c2", 2));
+
+    String content = registry.scrape();
+
+    assertThat(content, containsString("test_backlog{client=\"c1\"} 1\n"));
+    assertThat(content, containsString("test_backlog{client=\"c2\"} 2\n"));
+  }
+
+  @Test
+  void skipGaugesThatCannotBeSampled() {
+    registry.gauge("test_failing", "A gauge", () -> {
+      throw new IllegalStateException();
+    });
+    registry.counter("test_total", "A counter").increment();
+
+    String content = registry.scrape();
+
+    assertThat(content, not(containsString("\ntest_failing ")));
+    assertThat(content, containsString("test_total 1\n"));
+  }
+
+  @Test
+  void escapeTagValues() {
+    registry.counter("test_total", "A counter", "name", "a\"b\\c\nd").increment();
+
+    assertThat(registry.scrape(), containsString("test_total{name=\"a\\\"b\\\\c\\nd\"} 1\n"));
+  }
+
+  @Test
+  void rejectMetricsOfDifferentTypesWithSameName() {
+    registry.counter("test_metric", "A counter");
+
+    assertThrows(IllegalArgumentException.class, () -> registry.timer("test_metric", "A timer"));
+  }
+
+  @Test
+  void rejectInvalidNamesAndTags() {
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("test-total", "Invalid"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> registry.counter("test_total", "Odd tags", "phase")
+    );
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> registry.counter("test_total", "Invalid tag key", "a-b", "c")
+    );
+  }
+}
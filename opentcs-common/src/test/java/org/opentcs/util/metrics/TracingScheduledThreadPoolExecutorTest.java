@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TracingScheduledThreadPoolExecutor}.
+ */
+class TracingScheduledThreadPoolExecutorTest {
+
+  private MetricsRegistry metricsRegistry;
+  private TaskFlightRecorder flightRecorder;
+  private TracingScheduledThreadPoolExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    metricsRegistry = new MetricsRegistry();
+    flightRecorder = new TaskFlightRecorder(10);
+    executor = new TracingScheduledThreadPoolExecutor(
+        1,
+        runnable -> new Thread(runnable, "testExecutor"),
+        metricsRegistry,
+        "test",
+        flightRecorder,
+        50,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void recordTraceForEachExecution()
+      throws Exception {
+    executor.submit(new NoopTask()).get();
+    executor.submit(new NoopTask()).get();
+    awaitTraces(2);
+
+    List<TaskTrace> traces = flightRecorder.getTraces();
+    assertThat(traces, hasSize(2));
+    assertThat(
+        traces.get(0).getTaskType(),
+        is("TracingScheduledThreadPoolExecutorTest$NoopTask")
+    );
+    assertThat(traces.get(0).getSubmitterThread(), is(Thread.currentThread().getName()));
+    assertThat(traces.get(0).isSlow(), is(false));
+  }
+
+  @Test
+  void flagSlowExecutions()
+      throws Exception {
+    executor.submit(() -> sleep(100)).get();
+    awaitTraces(1);
+
+    assertThat(flightRecorder.getTraces().get(0).isSlow(), is(true));
+    assertThat(
+        metricsRegistry.scrape(),
+        containsString(
+            "opentcs_executor_slow_tasks_total{executor=\"test\","
+                + "task=\"TracingScheduledThreadPoolExecutorTest\"} 1\n"
+        )
+    );
+  }
+
+  @Test
+  void determineTaskTypeOfLambdaExpressions() {
+    Runnable task = () -> {
+    };
+
+    assertThat(
+        TracingScheduledThreadPoolExecutor.taskTypeOf(task),
+        is("TracingScheduledThreadPoolExecutorTest")
+    );
+    assertThat(
+        TracingScheduledThreadPoolExecutor.taskTypeOf(new NoopTask()),
+        is("TracingScheduledThreadPoolExecutorTest$NoopTask")
+    );
+  }
+
+  @Test
+  void keepOnlyMostRecentTraces() {
+    TaskFlightRecorder recorder = new TaskFlightRecorder(2);
+    TaskTrace trace1 = new TaskTrace("a", "t", Instant.EPOCH, 0, 0, false);
+    TaskTrace trace2 = new TaskTrace("b", "t", Instant.EPOCH, 0, 0, false);
+    TaskTrace trace3 = new TaskTrace("c", "t", Instant.EPOCH, 0, 0, false);
+
+    recorder.record(trace1);
+    recorder.record(trace2);
+    recorder.record(trace3);
+
+    assertThat(recorder.getTraces(), contains(trace2, trace3));
+  }
+
+  private void awaitTraces(int count)
+      throws InterruptedException {
+    // Traces are recorded after the task's future has been completed.
+    long deadline = System.currentTimeMillis() + 5000;
+    while (flightRecorder.getTraces().size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class NoopTask
+      implements
+        Runnable {
+
+    NoopTask() {
+    }
+
+    @Override
+    public void run() {
+    }
+  }
+}
@@ -0,0 +1,127 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.configuration.gestalt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opentcs.configuration.ConfigurationException;
+
+/**
+ * Caches the values returned by a configuration interface's methods.
+ * <p>
+ * A configuration interface's methods are delegated to the given source only once per method, and
+ * the values returned are cached until the snapshot is invalidated. This way, reading a
+ * configuration value amounts to a map lookup most of the time, instead of a lookup in the
+ * configuration tree and a decoding of the value.
+ * </p>
+ *
+ * @param <T> The type of the configuration interface.
+ */
+class ConfigurationSnapshot<T>
+    implements
+      InvocationHandler {
+
+  /**
+   * Represents {@code null} values in the cache.
+   */
+  private static final Object NULL_VALUE = new Object();
+  /**
+   * The configuration interface.
+   */
+  private final Class<T> type;
+  /**
+   * The instance providing the actual configuration values.
+   */
+  private final T source;
+  /**
+   * The proxy instance implementing the configuration interface.
+   */
+  private final T proxy;
+  /**
+   * The cached configuration values, mapped by the methods returning them.
+   */
+  private volatile Map<Method, Object> cachedValues = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param type The configuration interface.
+   * @param source The instance providing the actual configuration values.
+   */
+  ConfigurationSnapshot(Class<T> type, T source) {
+    this.type = requireNonNull(type, "type");
+    this.source = requireNonNull(source, "source");
+    this.proxy = type.cast(
+        Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, this)
+    );
+  }
+
+  /**
+   * Returns the proxy instance implementing the configuration interface.
+   *
+   * @return The proxy instance implementing the configuration interface.
+   */
+  T getProxy() {
+    return proxy;
+  }
+
+  /**
+   * Discards all cached configuration values, letting them be read from the source again.
+   */
+  void invalidate() {
+    cachedValues = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args)
+      throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      return invokeObjectMethod(proxy, method, args);
+    }
+    if (method.getParameterCount() != 0) {
+      return invokeSourceMethod(method, args);
+    }
+
+    // Keep a reference to the current cache, so a value read from the source before an
+    // invalidation does not end up in the cache created with the invalidation.
+    Map<Method, Object> values = cachedValues;
+    Object value = values.get(method);
+    if (value == null) {
+      value = invokeSourceMethod(method, args);
+      values.put(method, value == null ? NULL_VALUE : value);
+    }
+    return value == NULL_VALUE ? null : value;
+  }
+
+  private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return type.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+      default:
+        throw new IllegalArgumentException("Unhandled method: " + method);
+    }
+  }
+
+  private Object invokeSourceMethod(Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(source, args);
+    }
+    catch (InvocationTargetException exc) {
+      throw exc.getCause();
+    }
+    catch (IllegalAccessException exc) {
+      throw new ConfigurationException("Cannot read configuration value via " + method, exc);
+    }
+  }
+}
@@ -10,11 +10,13 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.github.gestalt.config.Gestalt;
 import org.github.gestalt.config.builder.GestaltBuilder;
 import org.github.gestalt.config.decoder.ProxyDecoderMode;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.reload.TimedConfigReloadStrategy;
 import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.source.ConfigSourcePackage;
@@ -28,6 +30,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A configuration binding provider implementation using gestalt.
+ * <p>
+ * Configuration interfaces are bound to instances caching the values read via gestalt. The cached
+ * values are discarded whenever gestalt reloads the configuration sources.
+ * </p>
  */
 public class GestaltConfigurationBindingProvider
     implements
@@ -58,6 +64,10 @@ public class GestaltConfigurationBindingProvider
    * The configuration entry point.
    */
   private final Gestalt gestalt;
+  /**
+   * The snapshots of all configuration interfaces bound so far.
+   */
+  private final List<ConfigurationSnapshot<?>> snapshots = new CopyOnWriteArrayList<>();
 
   /**
    * Creates a new instance.
@@ -65,17 +75,26 @@ public class GestaltConfigurationBindingProvider
    * @param defaultsPath Default configuration file name.
    * @param supplementaryPaths Supplementary configuration file names.
    */
+  @SuppressWarnings("this-escape")
   public GestaltConfigurationBindingProvider(Path defaultsPath, Path... supplementaryPaths) {
     this.defaultsPath = requireNonNull(defaultsPath, "defaultsPath");
     this.supplementaryPaths = requireNonNull(supplementaryPaths, "supplementaryPaths");
 
     this.gestalt = buildGestalt();
+    this.gestalt.registerListener(new SnapshotInvalidator());
   }
 
   @Override
   public <T> T get(String prefix, Class<T> type) {
     try {
-      return gestalt.getConfig(prefix, type);
+      T config = gestalt.getConfig(prefix, type);
+      if (!type.isInterface()) {
+        return config;
+      }
+
+      ConfigurationSnapshot<T> snapshot = new ConfigurationSnapshot<>(type, config);
+      snapshots.add(snapshot);
+      return snapshot.getProxy();
     }
     catch (GestaltException e) {
       throw new ConfigurationException(
@@ -193,4 +212,21 @@ public class GestaltConfigurationBindingProvider
       return Duration.ofMillis(DEFAULT_RELOAD_INTERVAL);
     }
   }
+
+  /**
+   * Invalidates the configuration snapshots whenever the configuration is reloaded.
+   */
+  private class SnapshotInvalidator
+      implements
+        CoreReloadListener {
+
+    SnapshotInvalidator() {
+    }
+
+    @Override
+    public void reload() {
+      LOG.debug("Configuration reloaded, invalidating {} snapshot(s)...", snapshots.size());
+      snapshots.forEach(ConfigurationSnapshot::invalidate);
+    }
+  }
 }
@@ -0,0 +1,108 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.configuration.gestalt;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConfigurationSnapshot}.
+ */
+class ConfigurationSnapshotTest {
+
+  private CountingConfig source;
+  private ConfigurationSnapshot<TestConfig> snapshot;
+
+  @BeforeEach
+  void setUp() {
+    source = new CountingConfig();
+    snapshot = new ConfigurationSnapshot<>(TestConfig.class, source);
+  }
+
+  @Test
+  void readValueFromSourceOnlyOnce() {
+    source.value = 1;
+
+    assertThat(snapshot.getProxy().value(), is(1));
+    assertThat(snapshot.getProxy().value(), is(1));
+    assertThat(source.valueReads, is(1));
+  }
+
+  @Test
+  void cacheNullValues() {
+    assertThat(snapshot.getProxy().nullableValue(), is(nullValue()));
+    assertThat(snapshot.getProxy().nullableValue(), is(nullValue()));
+    assertThat(source.nullableValueReads, is(1));
+  }
+
+  @Test
+  void readValueFromSourceAgainAfterInvalidation() {
+    source.value = 1;
+    assertThat(snapshot.getProxy().value(), is(1));
+
+    source.value = 2;
+    assertThat(snapshot.getProxy().value(), is(1));
+
+    snapshot.invalidate();
+    assertThat(snapshot.getProxy().value(), is(2));
+    assertThat(source.valueReads, is(2));
+  }
+
+  @Test
+  void propagateExceptionsFromSource() {
+    assertThrows(IllegalStateException.class, () -> snapshot.getProxy().failingValue());
+  }
+
+  @Test
+  void implementObjectMethodsBasedOnIdentity() {
+    TestConfig proxy = snapshot.getProxy();
+    TestConfig otherProxy = new ConfigurationSnapshot<>(TestConfig.class, source).getProxy();
+
+    assertThat(proxy.equals(proxy), is(true));
+    assertThat(proxy.equals(otherProxy), is(false));
+    assertThat(proxy.hashCode(), is(System.identityHashCode(proxy)));
+  }
+
+  public interface TestConfig {
+
+    int value();
+
+    String nullableValue();
+
+    String failingValue();
+  }
+
+  private static class CountingConfig
+      implements
+        TestConfig {
+
+    private int value;
+    private int valueReads;
+    private int nullableValueReads;
+
+    CountingConfig() {
+    }
+
+    @Override
+    public int value() {
+      valueReads++;
+      return value;
+    }
+
+    @Override
+    public String nullableValue() {
+      nullableValueReads++;
+      return null;
+    }
+
+    @Override
+    public String failingValue() {
+      throw new IllegalStateException("Missing value");
+    }
+  }
+}
@@ -11,6 +11,10 @@ public abstract class HttpConstants {
    * Name of the header that is expected to contain the API access keys.
    */
   public static final String HEADER_NAME_ACCESS_KEY = "X-Api-Access-Key";
+  /**
+   * Name of the header that contains the cursor for retrieving the next page of a paginated list.
+   */
+  public static final String HEADER_NAME_NEXT_CURSOR = "X-Next-Cursor";
   /**
    * Content type for plain text.
    */
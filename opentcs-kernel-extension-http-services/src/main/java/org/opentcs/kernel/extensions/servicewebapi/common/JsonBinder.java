@@ -2,11 +2,16 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi.common;
 
+import static java.util.Objects.requireNonNull;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Binds JSON strings to objects and vice versa.
@@ -68,6 +73,36 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Maps the given object to a JSON string, retaining only the given top-level fields.
+   * <p>
+   * If the given object is mapped to a JSON array, the fields are retained for each of the array's
+   * elements.
+   * </p>
+   *
+   * @param object The object to be mapped.
+   * @param fields The names of the fields to be retained. If empty, all fields are retained.
+   * @return The JSON string representation of the object.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public String toJson(Object object, Set<String> fields)
+      throws IllegalStateException {
+    requireNonNull(fields, "fields");
+    if (fields.isEmpty()) {
+      return toJson(object);
+    }
+
+    JsonNode tree = objectMapper.valueToTree(object);
+    if (tree.isArray()) {
+      tree.forEach(element -> retainFields(element, fields));
+    }
+    else {
+      retainFields(tree, fields);
+    }
+    return toJson(tree);
+  }
+
   /**
    * Maps the given throwable to a JSON string.
    *
@@ -89,4 +124,9 @@ public class JsonBinder {
     }
   }
 
+  private void retainFields(JsonNode node, Set<String> fields) {
+    if (node instanceof ObjectNode objectNode) {
+      objectNode.retain(fields);
+    }
+  }
 }
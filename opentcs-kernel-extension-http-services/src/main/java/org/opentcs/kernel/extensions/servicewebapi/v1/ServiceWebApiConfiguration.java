@@ -51,7 +51,7 @@ public interface ServiceWebApiConfiguration {
   @ConfigurationEntry(
       type = "Integer",
       description = "Maximum number of status events to be kept.",
-      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
       orderKey = "4"
   )
   int statusEventsCapacity();
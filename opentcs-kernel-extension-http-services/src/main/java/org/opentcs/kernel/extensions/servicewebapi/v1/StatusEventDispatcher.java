@@ -7,9 +7,14 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
 import java.time.Instant;
-import java.util.Collection;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
 import org.opentcs.components.Lifecycle;
@@ -62,13 +67,17 @@ public class StatusEventDispatcher
    */
   private final PeripheralJobConverter peripheralJobConverter;
   /**
-   * The events collected.
+   * The number of events recorded so far, increasing monotonically.
    */
-  private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  private final AtomicLong eventArrivals = new AtomicLong();
   /**
-   * The number of events collected so far.
+   * The threads of clients currently waiting for events to be recorded.
    */
-  private long eventCount;
+  private final Set<Thread> waitingThreads = ConcurrentHashMap.newKeySet();
+  /**
+   * The ring buffer the events are recorded in.
+   */
+  private volatile EventRing eventRing = new EventRing(1);
   /**
    * Whether this instance is initialized.
    */
@@ -76,7 +85,7 @@ public class StatusEventDispatcher
   /**
    * Whether we are collecting events.
    */
-  private boolean eventCollectingOn;
+  private volatile boolean eventCollectingOn;
 
   @Inject
   public StatusEventDispatcher(
@@ -141,6 +150,9 @@ public class StatusEventDispatcher
   /**
    * Provides a list of events within the given range, waiting at most <code>timeout</code>
    * milliseconds for new events if there currently aren't any.
+   * <p>
+   * Conversion of the recorded events to status messages happens lazily on the calling thread.
+   * </p>
    *
    * @param minSequenceNo The minimum sequence number for accepted events.
    * @param maxSequenceNo The maximum sequence number for accepted events.
@@ -154,93 +166,213 @@ public class StatusEventDispatcher
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
 
     GetEventsResponseTO result = new GetEventsResponseTO();
-    synchronized (events) {
-      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      if (messages.isEmpty()) {
-        try {
-          events.wait(timeout);
-        }
-        catch (InterruptedException exc) {
-          LOG.warn("Unexpectedly interrupted", exc);
-        }
+    // Remember the number of arrivals before looking at the ring to avoid missing a wake-up.
+    long knownArrivals = eventArrivals.get();
+    List<StatusMessage> messages = eventRing.toStatusMessages(minSequenceNo, maxSequenceNo);
+    if (messages.isEmpty() && timeout > 0) {
+      try {
+        awaitEventArrival(knownArrivals, timeout);
+      }
+      catch (InterruptedException exc) {
+        LOG.warn("Unexpectedly interrupted", exc);
+        Thread.currentThread().interrupt();
       }
-      messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      result.getStatusMessages().addAll(messages);
+      messages = eventRing.toStatusMessages(minSequenceNo, maxSequenceNo);
     }
+    result.getStatusMessages().addAll(messages);
     return result;
   }
 
   private void handleStateTransition(KernelStateTransitionEvent event) {
     boolean wasOn = eventCollectingOn;
-    eventCollectingOn
+    boolean isOn
         = event.getEnteredState() == Kernel.State.OPERATING && event.isTransitionFinished();
 
     // When switching collecting of events on, ensure we start clean.
-    if (!wasOn && eventCollectingOn) {
-      synchronized (events) {
-        eventCount = 0;
-        events.clear();
-      }
+    if (!wasOn && isOn) {
+      eventRing = new EventRing(
+          checkInRange(
+              configuration.statusEventsCapacity(),
+              1,
+              Integer.MAX_VALUE,
+              "statusEventsCapacity"
+          )
+      );
     }
+    eventCollectingOn = isOn;
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+    if (object instanceof TransportOrder
+        || object instanceof Vehicle
+        || object instanceof PeripheralJob) {
+      // Only record the object here - conversion happens when events are being fetched.
+      eventRing.record(object, Instant.now());
+      eventArrivals.incrementAndGet();
+      for (Thread waitingThread : waitingThreads) {
+        LockSupport.unpark(waitingThread);
       }
     }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+  }
+
+  /**
+   * Waits until more than the given number of events have been recorded or the given timeout
+   * has elapsed.
+   * <p>
+   * The calling thread registers itself as waiting before checking the number of recorded events,
+   * and recording an event increments that number before waking up the registered threads, so no
+   * wake-up is missed.
+   * </p>
+   *
+   * @param knownArrivals The number of events known to have been recorded.
+   * @param timeout The maximum time to wait (in ms).
+   * @throws InterruptedException If the calling thread was interrupted while waiting.
+   */
+  private void awaitEventArrival(long knownArrivals, long timeout)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    Thread currentThread = Thread.currentThread();
+    waitingThreads.add(currentThread);
+    try {
+      long remainingNanos = deadline - System.nanoTime();
+      while (eventArrivals.get() == knownArrivals && remainingNanos > 0) {
+        LockSupport.parkNanos(this, remainingNanos);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        remainingNanos = deadline - System.nanoTime();
       }
     }
-    else if (object instanceof PeripheralJob) {
-      synchronized (events) {
-        addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
+    finally {
+      waitingThreads.remove(currentThread);
     }
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        transportOrderConverter.toOrderStatusMessage(order, sequenceNumber, Instant.now())
-    );
+  private StatusMessage toStatusMessage(RecordedEvent event) {
+    if (event.object instanceof TransportOrder order) {
+      return transportOrderConverter.toOrderStatusMessage(
+          order,
+          event.sequenceNo,
+          event.timestamp
+      );
+    }
+    else if (event.object instanceof Vehicle vehicle) {
+      return vehicleConverter.toVehicleStatusMessage(vehicle, event.sequenceNo, event.timestamp);
+    }
+    else {
+      return peripheralJobConverter.toPeripheralJobStatusMessage(
+          (PeripheralJob) event.object,
+          event.sequenceNo,
+          event.timestamp
+      );
+    }
   }
 
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(
-        sequenceNumber, vehicleConverter.toVehicleStatusMessage(
-            vehicle,
-            sequenceNumber,
-            Instant.now()
-        )
-    );
-  }
+  /**
+   * A pre-sized ring buffer of recorded events, indexed by the events' sequence numbers.
+   * <p>
+   * Recording an event does not require any locking. Readers detect events that have been
+   * overwritten or not completely recorded, yet, by comparing sequence numbers.
+   * </p>
+   */
+  private class EventRing {
 
-  private void addPeripheralStatusMessage(PeripheralJob job, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        peripheralJobConverter.toPeripheralJobStatusMessage(job, sequenceNumber, Instant.now())
-    );
+    /**
+     * The recorded events.
+     */
+    private final AtomicReferenceArray<RecordedEvent> slots;
+    /**
+     * The sequence number to be assigned to the next recorded event.
+     */
+    private final AtomicLong nextSequenceNo = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity The maximum number of events to be kept.
+     */
+    EventRing(int capacity) {
+      this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Records an event for the given object.
+     *
+     * @param object The object.
+     * @param timestamp The point of time at which the event occurred.
+     */
+    void record(TCSObject<?> object, Instant timestamp) {
+      long sequenceNo = nextSequenceNo.getAndIncrement();
+      slots.set(slotIndex(sequenceNo), new RecordedEvent(sequenceNo, object, timestamp));
+    }
+
+    /**
+     * Returns status messages for the recorded events within the given range.
+     *
+     * @param minSequenceNo The minimum sequence number (inclusive).
+     * @param maxSequenceNo The maximum sequence number (exclusive).
+     * @return The status messages.
+     */
+    List<StatusMessage> toStatusMessages(long minSequenceNo, long maxSequenceNo) {
+      long limit = Math.min(maxSequenceNo, nextSequenceNo.get());
+      long first = Math.max(minSequenceNo, limit - slots.length());
+      List<StatusMessage> result = new ArrayList<>();
+      for (long sequenceNo = first; sequenceNo < limit; sequenceNo++) {
+        RecordedEvent event = slots.get(slotIndex(sequenceNo));
+        if (event == null || event.sequenceNo < sequenceNo) {
+          // The event is still being recorded. Deliver it with the next fetch.
+          break;
+        }
+        if (event.sequenceNo == sequenceNo) {
+          result.add(event.getStatusMessage());
+        }
+        // Otherwise, the event has already been overwritten by a newer one.
+      }
+      return result;
+    }
+
+    private int slotIndex(long sequenceNo) {
+      return (int) (sequenceNo % slots.length());
+    }
   }
 
-  private void cleanUpEvents() {
-    // XXX Sanitize maxEventCount
-    int maxEventCount = configuration.statusEventsCapacity();
-    while (events.size() > maxEventCount) {
-      events.remove(events.firstKey());
+  /**
+   * An event recorded for a single object, converted to a status message on demand.
+   */
+  private class RecordedEvent {
+
+    /**
+     * The event's sequence number.
+     */
+    private final long sequenceNo;
+    /**
+     * The object the event was recorded for.
+     */
+    private final TCSObject<?> object;
+    /**
+     * The point of time at which the event occurred.
+     */
+    private final Instant timestamp;
+    /**
+     * The status message, once converted.
+     */
+    private volatile StatusMessage statusMessage;
+
+    RecordedEvent(long sequenceNo, TCSObject<?> object, Instant timestamp) {
+      this.sequenceNo = sequenceNo;
+      this.object = object;
+      this.timestamp = timestamp;
+    }
+
+    StatusMessage getStatusMessage() {
+      // Concurrent readers may convert the same event more than once, which is harmless.
+      StatusMessage result = statusMessage;
+      if (result == null) {
+        result = toStatusMessage(this);
+        statusMessage = result;
+      }
+      return result;
     }
   }
 }
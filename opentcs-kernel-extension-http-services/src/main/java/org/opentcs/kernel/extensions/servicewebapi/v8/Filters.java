@@ -7,6 +7,7 @@ import jakarta.annotation.Nullable;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
@@ -63,6 +64,43 @@ public class Filters {
         : sequence -> Objects.equals(vehicleRef, sequence.getIntendedVehicle());
   }
 
+  /**
+   * Returns a predicate that is true only for transport orders that are in one of the given
+   * states.
+   * In case the given set of states is empty, all transport orders are accepted.
+   *
+   * @param states The states.
+   * @return A predicate that is true only for transport orders that are in one of the given states.
+   */
+  public static Predicate<TransportOrder> transportOrderInStates(
+      @Nonnull
+      Set<TransportOrder.State> states
+  ) {
+    return states.isEmpty()
+        ? order -> true
+        : order -> states.contains(order.getState());
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders that were created within the given
+   * time range.
+   *
+   * @param createdAfter If not {@code null}, only orders created after this point of time are
+   * accepted.
+   * @param createdBefore If not {@code null}, only orders created before this point of time are
+   * accepted.
+   * @return A predicate that is true only for transport orders that were created within the given
+   * time range.
+   */
+  public static Predicate<TransportOrder> transportOrderCreatedWithin(
+      @Nullable
+      Instant createdAfter,
+      @Nullable
+      Instant createdBefore
+  ) {
+    return order -> createdWithin(order.getCreationTime(), createdAfter, createdBefore);
+  }
+
   /**
    * Returns a predicate that is true only for peripheral jobs whose related vehicle is the given
    * one.
@@ -99,6 +137,42 @@ public class Filters {
         : job -> Objects.equals(orderRef, job.getRelatedTransportOrder());
   }
 
+  /**
+   * Returns a predicate that is true only for peripheral jobs that are in one of the given states.
+   * In case the given set of states is empty, all peripheral jobs are accepted.
+   *
+   * @param states The states.
+   * @return A predicate that is true only for peripheral jobs that are in one of the given states.
+   */
+  public static Predicate<PeripheralJob> peripheralJobInStates(
+      @Nonnull
+      Set<PeripheralJob.State> states
+  ) {
+    return states.isEmpty()
+        ? job -> true
+        : job -> states.contains(job.getState());
+  }
+
+  /**
+   * Returns a predicate that is true only for peripheral jobs that were created within the given
+   * time range.
+   *
+   * @param createdAfter If not {@code null}, only jobs created after this point of time are
+   * accepted.
+   * @param createdBefore If not {@code null}, only jobs created before this point of time are
+   * accepted.
+   * @return A predicate that is true only for peripheral jobs that were created within the given
+   * time range.
+   */
+  public static Predicate<PeripheralJob> peripheralJobCreatedWithin(
+      @Nullable
+      Instant createdAfter,
+      @Nullable
+      Instant createdBefore
+  ) {
+    return job -> createdWithin(job.getCreationTime(), createdAfter, createdBefore);
+  }
+
   /**
    * Returns a predicate that is true only for vehicles whose processing state is the given one.
    * In case the given procState is null, all vehicles are accepted.
@@ -147,4 +221,15 @@ public class Filters {
         ? tcsObject -> true
         : tcsObject -> names.contains(tcsObject.getName());
   }
+
+  private static boolean createdWithin(
+      Instant creationTime,
+      @Nullable
+      Instant createdAfter,
+      @Nullable
+      Instant createdBefore
+  ) {
+    return (createdAfter == null || creationTime.isAfter(createdAfter))
+        && (createdBefore == null || creationTime.isBefore(createdBefore));
+  }
 }
@@ -0,0 +1,54 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A part of a list of objects ordered by their names, as requested via a {@link PageRequest}.
+ *
+ * @param <T> The type of the objects.
+ * @param items The objects in this page.
+ * @param nextCursor If not {@code null}, there may be more objects to be retrieved, and this is the
+ * name to be passed as {@link PageRequest#after()} to retrieve them.
+ */
+public record Page<T>(
+    @Nonnull
+    List<T> items,
+    @Nullable
+    String nextCursor
+) {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param items The objects in this page.
+   * @param nextCursor If not {@code null}, there may be more objects to be retrieved, and this is
+   * the name to be passed as {@link PageRequest#after()} to retrieve them.
+   */
+  public Page {
+    items = List.copyOf(requireNonNull(items, "items"));
+  }
+
+  /**
+   * Returns a page with the same cursor and the objects in this page mapped with the given
+   * function.
+   *
+   * @param <R> The type of the mapped objects.
+   * @param mapper The function to apply to every object in this page.
+   * @return A page with the mapped objects.
+   */
+  public <R> Page<R> map(
+      @Nonnull
+      Function<? super T, ? extends R> mapper
+  ) {
+    requireNonNull(mapper, "mapper");
+
+    return new Page<>(items.stream().<R>map(mapper).toList(), nextCursor);
+  }
+}
@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Describes which part of a list of objects ordered by their names is requested.
+ *
+ * @param after If not {@code null}, only objects with names ordered strictly after this name are
+ * requested. Clients are expected to pass the name of the last object of the previous page here.
+ * @param limit The maximum number of objects requested.
+ * @param scanLimit The maximum number of objects to be examined when selecting filtered objects for
+ * a page.
+ */
+public record PageRequest(
+    @Nullable
+    String after,
+    int limit,
+    int scanLimit
+) {
+
+  /**
+   * The minimum number of objects examined for a page of filtered objects.
+   */
+  public static final int DEFAULT_SCAN_LIMIT = 10000;
+  /**
+   * A request for all objects.
+   */
+  public static final PageRequest ALL = new PageRequest(null, Integer.MAX_VALUE);
+
+  /**
+   * Creates a new instance.
+   *
+   * @param after If not {@code null}, only objects with names ordered strictly after this name are
+   * requested. Clients are expected to pass the name of the last object of the previous page here.
+   * @param limit The maximum number of objects requested. Must be at least 1.
+   * @param scanLimit The maximum number of objects to be examined when selecting filtered objects
+   * for a page. Must be at least 1.
+   */
+  public PageRequest {
+    checkInRange(limit, 1, Integer.MAX_VALUE, "limit");
+    checkInRange(scanLimit, 1, Integer.MAX_VALUE, "scanLimit");
+  }
+
+  /**
+   * Creates a new instance examining at most {@link #DEFAULT_SCAN_LIMIT} objects (or
+   * {@code limit} objects, if that is greater) for a page of filtered objects.
+   *
+   * @param after If not {@code null}, only objects with names ordered strictly after this name are
+   * requested. Clients are expected to pass the name of the last object of the previous page here.
+   * @param limit The maximum number of objects requested. Must be at least 1.
+   */
+  public PageRequest(
+      @Nullable
+      String after,
+      int limit
+  ) {
+    this(after, limit, limit == Integer.MAX_VALUE ? limit : Math.max(limit, DEFAULT_SCAN_LIMIT));
+  }
+
+  /**
+   * Checks whether the given number of returned objects exhausts this request's limit, i.e.
+   * whether there may be more objects to be requested subsequently.
+   *
+   * @param resultSize The number of objects returned for this request.
+   * @return {@code true} if, and only if, the given number of objects reaches this request's limit.
+   */
+  public boolean isExhaustedBy(int resultSize) {
+    return limit != Integer.MAX_VALUE && resultSize >= limit;
+  }
+
+  /**
+   * Selects the page of objects matching the given filter.
+   * <p>
+   * At most {@link #scanLimit()} objects are examined. If that many objects were examined without
+   * filling the page, the returned page contains the matching objects found so far and a cursor
+   * for continuing after the last examined object. This way, the work for a single page is bounded
+   * even if only few objects match the filter.
+   * </p>
+   *
+   * @param <T> The type of the objects.
+   * @param objects The objects ordered by their names, starting after {@link #after()}.
+   * @param filter The filter the selected objects have to match.
+   * @return The selected page.
+   */
+  public <T extends TCSObject<?>> Page<T> select(
+      @Nonnull
+      Stream<T> objects,
+      @Nonnull
+      Predicate<? super T> filter
+  ) {
+    requireNonNull(objects, "objects");
+    requireNonNull(filter, "filter");
+
+    List<T> items = new ArrayList<>();
+    int scanned = 0;
+    Iterator<T> iterator = objects.iterator();
+    while (iterator.hasNext()) {
+      T object = iterator.next();
+      scanned++;
+      if (filter.test(object)) {
+        items.add(object);
+        if (isExhaustedBy(items.size())) {
+          return new Page<>(items, object.getName());
+        }
+      }
+      if (scanned >= scanLimit && iterator.hasNext()) {
+        return new Page<>(items, object.getName());
+      }
+    }
+    return new Page<>(items, null);
+  }
+}
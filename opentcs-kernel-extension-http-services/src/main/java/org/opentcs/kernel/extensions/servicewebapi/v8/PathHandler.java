@@ -6,8 +6,8 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.PlantModelService;
@@ -60,25 +60,50 @@ public class PathHandler {
   public List<PathTO> getPaths(
       @Nonnull
       List<String> names
+  ) {
+    return getPaths(names, PageRequest.ALL);
+  }
+
+  /**
+   * Finds paths depending on the given parameters, ordered by their names.
+   *
+   * @param names The names of the paths to be retrieved. If a named path could not be found, it
+   * will simply be omitted from the result. Filtering for this parameter is disabled if the
+   * provided list is empty.
+   * @param pageRequest The part of the (filtered) paths to be retrieved.
+   * @return A list of paths that match the filter.
+   */
+  @Nonnull
+  public List<PathTO> getPaths(
+      @Nonnull
+      List<String> names,
+      @Nonnull
+      PageRequest pageRequest
   ) {
     requireNonNull(names, "names");
-    if (names.isEmpty()) {
-      // Optimization - With no filter, filtering is not necessary.
-      return executorWrapper.callAndWait(
-          () -> objectService.stream(Path.class)
-              .map(pathConverter::convert)
-              .sorted(Comparator.comparing(PathTO::getName))
-              .toList()
-      );
-    }
+    requireNonNull(pageRequest, "pageRequest");
 
-    return executorWrapper.callAndWait(
-        () -> objectService.stream(Path.class)
-            .filter(Filters.objectNameMatchesOneOf(names))
-            .map(pathConverter::convert)
-            .sorted(Comparator.comparing(PathTO::getName))
-            .collect(Collectors.toList())
-    );
+    List<Path> paths = executorWrapper.callAndWait(() -> {
+      if (names.isEmpty()) {
+        return objectService.streamSortedByName(Path.class, pageRequest.after())
+            .limit(pageRequest.limit())
+            .toList();
+      }
+
+      // Look up the named paths directly instead of filtering all of them.
+      return names.stream()
+          .distinct()
+          .filter(name -> pageRequest.after() == null || name.compareTo(pageRequest.after()) > 0)
+          .sorted()
+          .map(name -> objectService.fetch(Path.class, name))
+          .flatMap(Optional::stream)
+          .limit(pageRequest.limit())
+          .toList();
+    });
+
+    return paths.stream()
+        .map(pathConverter::convert)
+        .collect(Collectors.toList());
   }
 
   /**
@@ -7,10 +7,10 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import java.util.Comparator;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
@@ -124,7 +124,57 @@ public class PeripheralJobHandler {
       @Nullable
       String relatedTransportOrder
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return getPeripheralJobs(
+        relatedVehicle,
+        relatedTransportOrder,
+        Set.of(),
+        null,
+        null,
+        PageRequest.ALL
+    ).items();
+  }
+
+  /**
+   * Returns peripheral jobs, optionally filtered using the given parameters, ordered by their
+   * names.
+   * <p>
+   * Only the matching peripheral jobs are collected on the kernel executor, while their conversion
+   * to the web API representation happens on the calling thread. At most
+   * {@link PageRequest#scanLimit()} peripheral jobs are examined for a page, so the returned page
+   * may be incomplete even if there are more matching peripheral jobs.
+   * </p>
+   *
+   * @param relatedVehicle Which vehicle to filter peripheral jobs for. Not filtered if the value is
+   * null.
+   * @param relatedTransportOrder Which transport order to filter peripheral jobs for. Not filtered
+   * if the value is null.
+   * @param states The states of the peripheral jobs to be retrieved. Not filtered if the set is
+   * empty.
+   * @param createdAfter If not null, only peripheral jobs created after this point of time are
+   * retrieved.
+   * @param createdBefore If not null, only peripheral jobs created before this point of time are
+   * retrieved.
+   * @param pageRequest The part of the (filtered) peripheral jobs to be retrieved.
+   * @return A page of peripheral job states.
+   */
+  public Page<PeripheralJobTO> getPeripheralJobs(
+      @Nullable
+      String relatedVehicle,
+      @Nullable
+      String relatedTransportOrder,
+      @Nonnull
+      Set<PeripheralJob.State> states,
+      @Nullable
+      Instant createdAfter,
+      @Nullable
+      Instant createdBefore,
+      @Nonnull
+      PageRequest pageRequest
+  ) {
+    requireNonNull(states, "states");
+    requireNonNull(pageRequest, "pageRequest");
+
+    Page<PeripheralJob> jobs = executorWrapper.callAndWait(() -> {
       // If a related vehicle is set, make sure it exists.
       TCSObjectReference<Vehicle> relatedVehicleRef
           = Optional.ofNullable(relatedVehicle)
@@ -147,15 +197,16 @@ public class PeripheralJobHandler {
         throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
       }
 
-      return jobService.stream(PeripheralJob.class)
-          .filter(
-              Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-                  .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-          )
-          .map(peripheralJobConverter::convert)
-          .sorted(Comparator.comparing(PeripheralJobTO::getName))
-          .collect(Collectors.toList());
+      return pageRequest.select(
+          jobService.streamSortedByName(PeripheralJob.class, pageRequest.after()),
+          Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
+              .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
+              .and(Filters.peripheralJobInStates(states))
+              .and(Filters.peripheralJobCreatedWithin(createdAfter, createdBefore))
+      );
     });
+
+    return jobs.map(peripheralJobConverter::convert);
   }
 
   /**
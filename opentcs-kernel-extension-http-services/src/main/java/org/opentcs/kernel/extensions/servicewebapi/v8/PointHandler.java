@@ -6,8 +6,8 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.ObjectUnknownException;
@@ -55,25 +55,50 @@ public class PointHandler {
   public List<PointTO> getPoints(
       @Nonnull
       List<String> names
+  ) {
+    return getPoints(names, PageRequest.ALL);
+  }
+
+  /**
+   * Finds points depending on the given parameters, ordered by their names.
+   *
+   * @param names The names of the points to be retrieved. If a named point could not be found, it
+   * will simply be omitted from the result. Filtering for this parameter is disabled if the
+   * provided list is empty.
+   * @param pageRequest The part of the (filtered) points to be retrieved.
+   * @return A list of points that match the filter.
+   */
+  @Nonnull
+  public List<PointTO> getPoints(
+      @Nonnull
+      List<String> names,
+      @Nonnull
+      PageRequest pageRequest
   ) {
     requireNonNull(names, "names");
-    if (names.isEmpty()) {
-      // Optimization - With no filter, filtering is not necessary.
-      return executorWrapper.callAndWait(
-          () -> objectService.stream(Point.class)
-              .map(pointConverter::convert)
-              .sorted(Comparator.comparing(PointTO::getName))
-              .toList()
-      );
-    }
+    requireNonNull(pageRequest, "pageRequest");
 
-    return executorWrapper.callAndWait(
-        () -> objectService.stream(Point.class)
-            .filter(Filters.objectNameMatchesOneOf(names))
-            .map(pointConverter::convert)
-            .sorted(Comparator.comparing(PointTO::getName))
-            .collect(Collectors.toList())
-    );
+    List<Point> points = executorWrapper.callAndWait(() -> {
+      if (names.isEmpty()) {
+        return objectService.streamSortedByName(Point.class, pageRequest.after())
+            .limit(pageRequest.limit())
+            .toList();
+      }
+
+      // Look up the named points directly instead of filtering all of them.
+      return names.stream()
+          .distinct()
+          .filter(name -> pageRequest.after() == null || name.compareTo(pageRequest.after()) > 0)
+          .sorted()
+          .map(name -> objectService.fetch(Point.class, name))
+          .flatMap(Optional::stream)
+          .limit(pageRequest.limit())
+          .toList();
+    });
+
+    return points.stream()
+        .map(pointConverter::convert)
+        .collect(Collectors.toList());
   }
 
   /**
@@ -12,22 +12,31 @@ import static java.util.Objects.requireNonNull;
 import io.javalin.apibuilder.EndpointGroup;
 import io.javalin.http.Context;
 import io.javalin.http.HttpStatus;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.common.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.common.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.v8.auth.AccessControl;
@@ -38,6 +47,7 @@ import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostLoginR
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTopologyUpdateRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderBatchRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostVehicleCommAdapterMessageRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostVehicleRouteComputationQueryRequestTO;
@@ -48,13 +58,19 @@ import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PutVehicle
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PutVehicleEnergyLevelThresholdSetTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.GetVersionResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.LoginResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.PostTransportOrderBatchResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.EnvironmentalEntityConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.PeripheralAttachmentInformationConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.PeripheralJobConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.TaskTraceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.TransportOrderConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.UserNotificationConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.VehicleAttachmentInformationConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.data.PathTO;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.data.PointTO;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.opentcs.util.metrics.TaskFlightRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,6 +111,9 @@ public class RequestHandler
   private final LocalKernel kernel;
   private final ScheduledExecutorService kernelExecutor;
   private final AccessControl accessControl;
+  private final MetricsRegistry metricsRegistry;
+  private final TaskFlightRecorder kernelExecutorFlightRecorder;
+  private final TaskTraceConverter taskTraceConverter;
 
   private boolean initialized;
 
@@ -126,7 +145,10 @@ public class RequestHandler
       LocalKernel kernel,
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
-      AccessControl accessControl
+      AccessControl accessControl,
+      MetricsRegistry metricsRegistry,
+      TaskFlightRecorder kernelExecutorFlightRecorder,
+      TaskTraceConverter taskTraceConverter
   ) {
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.orderDispatcherHandler = requireNonNull(orderDispatcherHandler, "orderDispatcherHandler");
@@ -163,6 +185,10 @@ public class RequestHandler
     this.kernel = requireNonNull(kernel, "kernel");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.accessControl = requireNonNull(accessControl, "accessControl");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
+    this.kernelExecutorFlightRecorder
+        = requireNonNull(kernelExecutorFlightRecorder, "kernelExecutorFlightRecorder");
+    this.taskTraceConverter = requireNonNull(taskTraceConverter, "taskTraceConverter");
   }
 
   @Override
@@ -195,6 +221,12 @@ public class RequestHandler
           post("/logout", this::handlePostLogout);
           get("/session", this::handleGetSession);
           get("/kernel/version", this::handleGetVersion, UserPermission.READ_DATA);
+          get("/kernel/metrics", this::handleGetMetrics, UserPermission.READ_DATA);
+          get(
+              "/kernel/executorTaskTraces",
+              this::handleGetExecutorTaskTraces,
+              UserPermission.READ_DATA
+          );
           delete("/kernel", this::handleDeleteKernel, UserPermission.SHUTDOWN_KERNEL);
           post(
               "/vehicles/dispatcher/trigger",
@@ -283,6 +315,11 @@ public class RequestHandler
               this::handlePostTransportOrder,
               UserPermission.MODIFY_ORDER
           );
+          post(
+              "/transportOrders",
+              this::handlePostTransportOrderBatch,
+              UserPermission.MODIFY_ORDER
+          );
           put(
               "/transportOrders/{NAME}/intendedVehicle",
               this::handlePutTransportOrderIntendedVehicle,
@@ -461,6 +498,18 @@ public class RequestHandler
     ctx.result(jsonBinder.toJson(new GetVersionResponseTO()));
   }
 
+  private void handleGetMetrics(Context ctx) {
+    ctx.contentType(HttpConstants.CONTENT_TYPE_TEXT_PLAIN_UTF8);
+    ctx.result(metricsRegistry.scrape());
+  }
+
+  private void handleGetExecutorTaskTraces(Context ctx) {
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(
+        jsonBinder.toJson(taskTraceConverter.convert(kernelExecutorFlightRecorder.getTraces()))
+    );
+  }
+
   private void handleDeleteKernel(Context ctx) {
     LOG.info("Initiating kernel shutdown as requested from {}...", ctx.ip());
     kernelExecutor.schedule(() -> kernel.setState(Kernel.State.SHUTDOWN), 1, TimeUnit.SECONDS);
@@ -548,6 +597,39 @@ public class RequestHandler
     );
   }
 
+  private void handlePostTransportOrderBatch(Context ctx)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    List<TransportOrderCreationResult> results = transportOrderHandler.createOrders(
+        jsonBinder.fromJson(ctx.body(), PostTransportOrderBatchRequestTO.class)
+    );
+    // Trigger the dispatcher only once for the whole batch.
+    if (results.stream().anyMatch(TransportOrderCreationResult::isSuccessful)) {
+      orderDispatcherHandler.triggerDispatcher();
+    }
+
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(
+        jsonBinder.toJson(
+            new PostTransportOrderBatchResponseTO().setResults(
+                results.stream()
+                    .map(
+                        result -> new PostTransportOrderBatchResponseTO.Result()
+                            .setName(result.getRequestedName())
+                            .setSuccessful(result.isSuccessful())
+                            .setTransportOrder(
+                                result.isSuccessful()
+                                    ? transportOrderConverter.convert(result.getTransportOrder())
+                                    : null
+                            )
+                            .setError(result.getFailureReason())
+                    )
+                    .toList()
+            )
+        )
+    );
+  }
+
   private void handlePutTransportOrderIntendedVehicle(Context ctx)
       throws ObjectUnknownException {
     transportOrderHandler.updateTransportOrderIntendedVehicle(
@@ -576,14 +658,12 @@ public class RequestHandler
     );
   }
 
-  private void handleGetOrderSequences(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getOrderSequences(
-                ctx.queryParam("intendedVehicle")
-            )
-        )
+  private void handleGetOrderSequences(Context ctx)
+      throws IllegalArgumentException {
+    PageRequest pageRequest = pageRequest(ctx);
+    resultPage(
+        ctx,
+        transportOrderHandler.getOrderSequences(ctx.queryParam("intendedVehicle"), pageRequest)
     );
   }
 
@@ -639,13 +719,17 @@ public class RequestHandler
     ctx.result("");
   }
 
-  private void handleGetTransportOrders(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getTransportOrders(
-                ctx.queryParam("intendedVehicle")
-            )
+  private void handleGetTransportOrders(Context ctx)
+      throws IllegalArgumentException {
+    PageRequest pageRequest = pageRequest(ctx);
+    resultPage(
+        ctx,
+        transportOrderHandler.getTransportOrders(
+            ctx.queryParam("intendedVehicle"),
+            states(ctx, TransportOrder.State.class),
+            instant(ctx, "createdAfter"),
+            instant(ctx, "createdBefore"),
+            pageRequest
         )
     );
   }
@@ -678,9 +762,15 @@ public class RequestHandler
     ctx.result("");
   }
 
-  private void handleGetPoints(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(jsonBinder.toJson(pointHandler.getPoints(ctx.queryParams("names"))));
+  private void handleGetPoints(Context ctx)
+      throws IllegalArgumentException {
+    PageRequest pageRequest = pageRequest(ctx);
+    resultPage(
+        ctx,
+        pointHandler.getPoints(ctx.queryParams("names"), pageRequest),
+        pageRequest,
+        PointTO::getName
+    );
   }
 
   private void handleGetPointByName(Context ctx) {
@@ -690,9 +780,15 @@ public class RequestHandler
     );
   }
 
-  private void handleGetPaths(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(jsonBinder.toJson(pathHandler.getPaths(ctx.queryParams("names"))));
+  private void handleGetPaths(Context ctx)
+      throws IllegalArgumentException {
+    PageRequest pageRequest = pageRequest(ctx);
+    resultPage(
+        ctx,
+        pathHandler.getPaths(ctx.queryParams("names"), pageRequest),
+        pageRequest,
+        PathTO::getName
+    );
   }
 
   private void handleGetPathByName(Context ctx) {
@@ -874,14 +970,18 @@ public class RequestHandler
     );
   }
 
-  private void handleGetPeripheralJobs(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            peripheralJobHandler.getPeripheralJobs(
-                ctx.queryParam("relatedVehicle"),
-                ctx.queryParam("relatedTransportOrder")
-            )
+  private void handleGetPeripheralJobs(Context ctx)
+      throws IllegalArgumentException {
+    PageRequest pageRequest = pageRequest(ctx);
+    resultPage(
+        ctx,
+        peripheralJobHandler.getPeripheralJobs(
+            ctx.queryParam("relatedVehicle"),
+            ctx.queryParam("relatedTransportOrder"),
+            states(ctx, PeripheralJob.State.class),
+            instant(ctx, "createdAfter"),
+            instant(ctx, "createdBefore"),
+            pageRequest
         )
     );
   }
@@ -1028,6 +1128,84 @@ public class RequestHandler
     return Instant.EPOCH;
   }
 
+  private <T> void resultPage(
+      Context ctx,
+      List<T> page,
+      PageRequest pageRequest,
+      Function<T, String> nameFunction
+  )
+      throws IllegalArgumentException {
+    resultPage(
+        ctx,
+        new Page<>(
+            page,
+            !page.isEmpty() && pageRequest.isExhaustedBy(page.size())
+                ? nameFunction.apply(page.getLast())
+                : null
+        )
+    );
+  }
+
+  private void resultPage(Context ctx, Page<?> page)
+      throws IllegalArgumentException {
+    if (page.nextCursor() != null) {
+      ctx.header(HttpConstants.HEADER_NAME_NEXT_CURSOR, page.nextCursor());
+    }
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(jsonBinder.toJson(page.items(), fields(ctx)));
+  }
+
+  private PageRequest pageRequest(Context ctx)
+      throws IllegalArgumentException {
+    String param = ctx.queryParam("limit");
+    if (param == null) {
+      return new PageRequest(ctx.queryParam("after"), Integer.MAX_VALUE);
+    }
+    try {
+      return new PageRequest(ctx.queryParam("after"), Integer.parseInt(param));
+    }
+    catch (IllegalArgumentException exc) {
+      throw new IllegalArgumentException("Malformed limit: " + param);
+    }
+  }
+
+  private Set<String> fields(Context ctx) {
+    return ctx.queryParams("fields").stream()
+        .flatMap(param -> Arrays.stream(param.split(",")))
+        .map(String::trim)
+        .filter(field -> !field.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
+  private <E extends Enum<E>> Set<E> states(Context ctx, Class<E> stateClass)
+      throws IllegalArgumentException {
+    Set<E> result = EnumSet.noneOf(stateClass);
+    for (String param : ctx.queryParams("state")) {
+      try {
+        result.add(Enum.valueOf(stateClass, param));
+      }
+      catch (IllegalArgumentException exc) {
+        throw new IllegalArgumentException("Malformed state: " + param);
+      }
+    }
+    return result;
+  }
+
+  @Nullable
+  private Instant instant(Context ctx, String paramName)
+      throws IllegalArgumentException {
+    String param = ctx.queryParam(paramName);
+    if (param == null) {
+      return null;
+    }
+    try {
+      return Instant.parse(param);
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Malformed " + paramName + ": " + param);
+    }
+  }
+
   private int maxRoutePerDestinationPoint(Context ctx)
       throws IllegalArgumentException {
     String param = ctx.queryParamAsClass("maxRoutesPerDestinationPoint", String.class)
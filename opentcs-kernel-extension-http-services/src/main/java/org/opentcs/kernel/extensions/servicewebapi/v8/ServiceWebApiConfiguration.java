@@ -55,4 +55,28 @@ public interface ServiceWebApiConfiguration {
       orderKey = "6"
   )
   int maxRequestBodySize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events to be queued for a single SSE client.",
+          "Queued modification events for the same object are merged.",
+          "If the number of queued events exceeds this value, the connection to the client is "
+              + "closed."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7_sse_0"
+  )
+  int sseClientQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of most recent SSE events to be kept for clients resuming after a reconnect.",
+          "0 disables resuming."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7_sse_1"
+  )
+  int sseReplayWindowSize();
 }
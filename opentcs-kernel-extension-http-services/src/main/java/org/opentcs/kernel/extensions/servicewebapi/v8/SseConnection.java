@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import io.javalin.http.sse.SseClient;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a connection to a client.
+ * <p>
+ * Events are queued per connection and sent to the client asynchronously, so that a slow client
+ * does not delay other clients. Conflatable events that have not been sent, yet, are replaced by
+ * newer conflatable events for the same object. If the number of queued events exceeds the
+ * connection's capacity or an event cannot be sent, the connection is closed.
+ * </p>
+ */
+class SseConnection {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SseConnection.class);
+  /**
+   * The client this connection is associated with.
+   */
+  private final SseClient client;
+  /**
+   * The event types the associated client is interested in.
+   */
+  private final Set<String> eventTypes;
+  /**
+   * The maximum number of events to be queued for the client.
+   */
+  private final int capacity;
+  /**
+   * The executor used for sending events to the client.
+   */
+  private final Executor senderExecutor;
+  /**
+   * The events not yet sent to the client, mapped by their IDs.
+   */
+  private final SequencedMap<Long, SseEvent> pendingEvents = new LinkedHashMap<>();
+  /**
+   * The IDs of pending conflatable events, mapped by their object keys.
+   */
+  private final Map<String, Long> pendingConflatableEvents = new HashMap<>();
+  /**
+   * Whether a task sending pending events to the client is currently scheduled or running.
+   */
+  private boolean sending;
+  /**
+   * Whether this connection has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param client The client this connection is associated with.
+   * @param eventTypes The event types the associated client is interested in.
+   * @param capacity The maximum number of events to be queued for the client.
+   * @param senderExecutor The executor used for sending events to the client.
+   */
+  SseConnection(
+      SseClient client,
+      Set<String> eventTypes,
+      int capacity,
+      Executor senderExecutor
+  ) {
+    this.client = requireNonNull(client, "client");
+    this.eventTypes = requireNonNull(eventTypes, "eventTypes");
+    this.capacity = checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity");
+    this.senderExecutor = requireNonNull(senderExecutor, "senderExecutor");
+  }
+
+  /**
+   * Returns the client this connection is associated with.
+   *
+   * @return The client this connection is associated with.
+   */
+  SseClient client() {
+    return client;
+  }
+
+  /**
+   * Checks whether the associated client is interested in events of the given type.
+   *
+   * @param eventType The event type.
+   * @return {@code true} if, and only if, the client is interested in events of the given type.
+   */
+  boolean isInterestedIn(String eventType) {
+    return eventTypes.contains(eventType);
+  }
+
+  /**
+   * Queues the given event to be sent to the client.
+   *
+   * @param event The event.
+   */
+  void enqueue(SseEvent event) {
+    requireNonNull(event, "event");
+
+    synchronized (pendingEvents) {
+      if (closed) {
+        return;
+      }
+
+      if (event.conflatable()) {
+        Long supersededEventId = pendingConflatableEvents.put(event.objectKey(), event.id());
+        if (supersededEventId != null) {
+          pendingEvents.remove(supersededEventId);
+        }
+      }
+      else if (event.objectKey() != null) {
+        // Subsequent events must not supersede events queued before this one.
+        pendingConflatableEvents.remove(event.objectKey());
+      }
+      pendingEvents.put(event.id(), event);
+
+      if (pendingEvents.size() > capacity) {
+        LOG.warn(
+            "Too many events ({}) queued for client {}, closing connection.",
+            pendingEvents.size(),
+            client
+        );
+        close();
+        return;
+      }
+
+      if (!sending) {
+        sending = true;
+        senderExecutor.execute(this::sendPendingEvents);
+      }
+    }
+  }
+
+  /**
+   * Closes this connection, discarding all pending events.
+   */
+  void close() {
+    synchronized (pendingEvents) {
+      closed = true;
+      pendingEvents.clear();
+      pendingConflatableEvents.clear();
+    }
+    senderExecutor.execute(client::close);
+  }
+
+  /**
+   * Returns the number of events currently queued for the client.
+   *
+   * @return The number of events currently queued for the client.
+   */
+  int getPendingEventCount() {
+    synchronized (pendingEvents) {
+      return pendingEvents.size();
+    }
+  }
+
+  private void sendPendingEvents() {
+    while (true) {
+      SseEvent event;
+      synchronized (pendingEvents) {
+        Map.Entry<Long, SseEvent> entry = pendingEvents.pollFirstEntry();
+        if (entry == null) {
+          sending = false;
+          return;
+        }
+        event = entry.getValue();
+        if (event.conflatable()) {
+          pendingConflatableEvents.remove(event.objectKey(), event.id());
+        }
+      }
+
+      try {
+        client.sendEvent(event.type(), event.data(), String.valueOf(event.id()));
+      }
+      catch (Exception e) {
+        LOG.warn(
+            "Failed to send event to client {}, closing connection: {}",
+            client,
+            e.getMessage()
+        );
+        close();
+        return;
+      }
+    }
+  }
+}
@@ -41,6 +41,20 @@ public abstract class SseConstants {
    * The event type for events regarding user notifications.
    */
   public static final String EVENT_TYPE_USER_NOTIFICATIONS = "/events/userNotifications";
+  /**
+   * The event type for events requesting a client to resynchronize, i.e. to fetch the current
+   * states of the objects it is interested in, because it may have missed events.
+   * <p>
+   * Events of this type are always sent and cannot be selected by clients.
+   * </p>
+   */
+  public static final String EVENT_TYPE_RESYNCHRONIZATION_REQUIRED
+      = "/events/resynchronizationRequired";
+  /**
+   * The name of the header via which a reconnecting client provides the ID of the last event it
+   * received.
+   */
+  public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
   /**
    * A set of all event types supported by the SSE API.
    */
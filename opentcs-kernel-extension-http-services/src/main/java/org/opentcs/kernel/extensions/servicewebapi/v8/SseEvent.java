@@ -0,0 +1,46 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * An event that has already been serialized and may be sent to any number of clients.
+ *
+ * @param id The event's ID, which is unique and increases monotonically.
+ * @param type The event's type.
+ * @param objectKey A key identifying the object the event is about, or {@code null}, if the event
+ * is not about a specific object.
+ * @param conflatable Whether the event may be superseded by a subsequent conflatable event with
+ * the same object key that has not been sent to a client, yet.
+ * @param data The serialized event data.
+ */
+record SseEvent(
+    long id,
+    String type,
+    @Nullable
+    String objectKey,
+    boolean conflatable,
+    String data
+) {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param id The event's ID, which is unique and increases monotonically.
+   * @param type The event's type.
+   * @param objectKey A key identifying the object the event is about, or {@code null}, if the
+   * event is not about a specific object.
+   * @param conflatable Whether the event may be superseded by a subsequent conflatable event with
+   * the same object key that has not been sent to a client, yet.
+   * @param data The serialized event data.
+   */
+  SseEvent {
+    requireNonNull(type, "type");
+    requireNonNull(data, "data");
+    checkArgument(!conflatable || objectKey != null, "Conflatable events require an object key.");
+  }
+}
@@ -5,13 +5,19 @@ package org.opentcs.kernel.extensions.servicewebapi.v8;
 import static java.util.Objects.requireNonNull;
 
 import io.javalin.http.sse.SseClient;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.opentcs.access.NotificationPublicationEvent;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
@@ -31,6 +37,7 @@ import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
 import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.opentcs.util.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +60,13 @@ public class SseHandler
   private final EventSource eventSource;
   private final EventConverter eventConverter;
   private final JsonBinder jsonBinder;
+  private final ServiceWebApiConfiguration configuration;
+  private final MetricsRegistry metricsRegistry;
+  /**
+   * The most recent events, kept for clients resuming after a reconnect.
+   * Accessed by the executor's thread, only.
+   */
+  private final Deque<SseEvent> replayWindow = new ArrayDeque<>();
   /**
    * The executor service used for precessing kernel events.
    */
@@ -64,6 +78,15 @@ public class SseHandler
         return thread;
       }
   );
+  /**
+   * The executor used for sending events to clients.
+   */
+  private ExecutorService senderExecutor;
+  /**
+   * The ID to be assigned to the next event.
+   * Accessed by the executor's thread, only.
+   */
+  private long nextEventId;
   /**
    * Indicates whether this handler is initialized.
    */
@@ -75,17 +98,23 @@ public class SseHandler
    * @param eventSource Where we register for application events.
    * @param eventConverter Converts application events to events to be sent via SSE.
    * @param jsonBinder Converts objects to JSON.
+   * @param configuration The interface configuration.
+   * @param metricsRegistry The registry to register metrics with.
    */
   @Inject
   public SseHandler(
       @ApplicationEventBus
       EventSource eventSource,
       EventConverter eventConverter,
-      JsonBinder jsonBinder
+      JsonBinder jsonBinder,
+      ServiceWebApiConfiguration configuration,
+      MetricsRegistry metricsRegistry
   ) {
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.eventConverter = requireNonNull(eventConverter, "eventConverter");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
   }
 
   @Override
@@ -94,8 +123,22 @@ public class SseHandler
       return;
     }
 
+    senderExecutor = Executors.newCachedThreadPool(
+        runnable -> {
+          Thread thread = new Thread(runnable, "sseSender");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
     eventSource.subscribe(this);
 
+    metricsRegistry.gauges(
+        "opentcs_sse_client_event_backlog",
+        "Number of events waiting to be sent to SSE clients",
+        "client",
+        this::getPendingEventCounts
+    );
+
     initialized = true;
   }
 
@@ -113,9 +156,11 @@ public class SseHandler
     eventSource.unsubscribe(this);
 
     for (SseConnection connection : connections) {
-      connection.client().close();
+      connection.close();
     }
     connections.clear();
+    // Let the already submitted tasks close the connections to the clients.
+    senderExecutor.shutdown();
 
     initialized = false;
   }
@@ -134,93 +179,220 @@ public class SseHandler
 
   /**
    * Handles a new SSE connection.
+   * <p>
+   * If the client provides the ID of the last event it received via the {@code Last-Event-ID}
+   * header, the events it missed are sent to it first, provided they are still in the replay
+   * window. Otherwise, the client is requested to resynchronize.
+   * </p>
    *
    * @param client The client that connected.
    */
   public void handleSseConnection(SseClient client) {
     LOG.info("Client connected: {}", client);
 
-    // Add the client to the queue of connections.
     SseConnection sseConnection = new SseConnection(
         client,
-        queryParamsToEventTypes(client.ctx().queryParamMap())
+        queryParamsToEventTypes(client.ctx().queryParamMap()),
+        configuration.sseClientQueueCapacity(),
+        senderExecutor
     );
-    connections.add(sseConnection);
+    Long lastEventId = parseLastEventId(client.ctx().header(SseConstants.HEADER_LAST_EVENT_ID));
+    // Register the connection on the executor's thread so that no events are lost or sent twice
+    // between replaying events and regular processing of new ones.
+    executor.submit(() -> {
+      if (client.terminated()) {
+        // The client disconnected before it could be registered.
+        return;
+      }
+      if (lastEventId != null) {
+        replayEvents(sseConnection, lastEventId);
+      }
+      connections.add(sseConnection);
+    });
     // Keep the connection alive to be able to continuously broadcast events to connected clients.
     client.keepAlive();
-    // Forget the client when the connection is closed.
+    // Forget the client when the connection is closed. Do this on the executor's thread, too, so
+    // that the connection cannot be registered after it has been removed.
     client.onClose(() -> {
       LOG.info("Connection to client closed: {}", client);
-      connections.remove(sseConnection);
+      executor.submit(() -> connections.remove(sseConnection));
     });
   }
 
+  private void replayEvents(SseConnection connection, long lastEventId) {
+    if (lastEventId >= nextEventId) {
+      // The client cannot have received an event with this ID from us.
+      requestResynchronization(connection);
+      return;
+    }
+    if (replayWindow.isEmpty() || replayWindow.getFirst().id() > lastEventId + 1) {
+      if (lastEventId + 1 < nextEventId) {
+        // Some of the events the client missed are not in the replay window any more.
+        requestResynchronization(connection);
+      }
+      return;
+    }
+
+    for (SseEvent event : replayWindow) {
+      if (event.id() > lastEventId && connection.isInterestedIn(event.type())) {
+        connection.enqueue(event);
+      }
+    }
+  }
+
+  private void requestResynchronization(SseConnection connection) {
+    connection.enqueue(
+        new SseEvent(
+            nextEventId - 1,
+            SseConstants.EVENT_TYPE_RESYNCHRONIZATION_REQUIRED,
+            null,
+            false,
+            "{}"
+        )
+    );
+  }
+
+  @Nullable
+  private Long parseLastEventId(
+      @Nullable
+      String header
+  ) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(header.strip());
+    }
+    catch (NumberFormatException exc) {
+      LOG.debug("Ignoring malformed Last-Event-ID: {}", header);
+      return null;
+    }
+  }
+
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
     if (object instanceof Vehicle) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_VEHICLES,
-          jsonBinder.toJson(eventConverter.convertVehicleEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertVehicleEvent(event))
       );
     }
     else if (object instanceof TransportOrder) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_TRANSPORT_ORDERS,
-          jsonBinder.toJson(eventConverter.convertTransportOrderEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertTransportOrderEvent(event))
       );
     }
     else if (object instanceof OrderSequence) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_ORDER_SEQUENCES,
-          jsonBinder.toJson(eventConverter.convertOrderSequenceEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertOrderSequenceEvent(event))
       );
     }
     else if (object instanceof PeripheralJob) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_PERIPHERAL_JOBS,
-          jsonBinder.toJson(eventConverter.convertPeripheralJobEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertPeripheralJobEvent(event))
       );
     }
     else if (object instanceof Path) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_PATHS,
-          jsonBinder.toJson(eventConverter.convertPathEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertPathEvent(event))
       );
     }
     else if (object instanceof Location) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_LOCATIONS,
-          jsonBinder.toJson(eventConverter.convertLocationEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertLocationEvent(event))
       );
     }
     else if (object instanceof EnvironmentalEntity) {
-      sendEventToClients(
+      publishObjectEvent(
           SseConstants.EVENT_TYPE_ENVIRONMENTAL_ENTITIES,
-          jsonBinder.toJson(eventConverter.convertEnvironmentalEntityEvent(event))
+          event,
+          () -> jsonBinder.toJson(eventConverter.convertEnvironmentalEntityEvent(event))
       );
     }
   }
 
   private void handleNotificationEvent(NotificationPublicationEvent event) {
-    sendEventToClients(
+    publish(
         SseConstants.EVENT_TYPE_USER_NOTIFICATIONS,
-        jsonBinder.toJson(eventConverter.convertUserNotificationEvent(event))
+        null,
+        false,
+        () -> jsonBinder.toJson(eventConverter.convertUserNotificationEvent(event))
     );
   }
 
-  private void sendEventToClients(String eventType, String data) {
-    for (SseConnection connection : connections) {
-      try {
-        if (connection.eventTypes().contains(eventType)) {
-          connection.client().sendEvent(eventType, data);
-        }
+  private void publishObjectEvent(
+      String eventType,
+      TCSObjectEvent event,
+      Supplier<String> serializer
+  ) {
+    publish(
+        eventType,
+        event.getCurrentOrPreviousObjectState().getName(),
+        event.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED,
+        serializer
+    );
+  }
+
+  private void publish(
+      String eventType,
+      @Nullable
+      String objectKey,
+      boolean conflatable,
+      Supplier<String> serializer
+  ) {
+    // Serialize the event only once and only if it is to be sent or kept for replays at all.
+    int replayWindowSize = configuration.sseReplayWindowSize();
+    if (replayWindowSize <= 0
+        && connections.stream().noneMatch(connection -> connection.isInterestedIn(eventType))) {
+      return;
+    }
+
+    SseEvent sseEvent = new SseEvent(
+        nextEventId++,
+        eventType,
+        objectKey,
+        conflatable,
+        serializer.get()
+    );
+
+    if (replayWindowSize > 0) {
+      replayWindow.addLast(sseEvent);
+      while (replayWindow.size() > replayWindowSize) {
+        replayWindow.removeFirst();
       }
-      catch (Exception e) {
-        LOG.warn("Failed to send event to client {}: {}", connection.client(), e.getMessage());
+    }
+
+    for (SseConnection connection : connections) {
+      if (connection.isInterestedIn(eventType)) {
+        connection.enqueue(sseEvent);
       }
     }
   }
 
+  private Map<String, Integer> getPendingEventCounts() {
+    Map<String, Integer> result = new HashMap<>();
+    for (SseConnection connection : connections) {
+      result.merge(
+          connection.client().ctx().req().getRemoteAddr()
+              + ":" + connection.client().ctx().req().getRemotePort(),
+          connection.getPendingEventCount(),
+          Integer::sum
+      );
+    }
+    return result;
+  }
+
   private Set<String> queryParamsToEventTypes(Map<String, List<String>> queryParamMap) {
     if (queryParamMap == null) {
       return Set.of();
@@ -239,24 +411,4 @@ public class SseHandler
         .map(Map.Entry::getKey)
         .collect(Collectors.toSet());
   }
-
-  /**
-   * Represents a connection to a client.
-   *
-   * @param client The client this connection is associated with.
-   * @param eventTypes The event types the associated client is interested in.
-   */
-  private record SseConnection(SseClient client, Set<String> eventTypes) {
-
-    /**
-     * Creates a new instance.
-     *
-     * @param client The client this connection is associated with.
-     * @param eventTypes The event types the associated client is interested in.
-     */
-    private SseConnection(SseClient client, Set<String> eventTypes) {
-      this.client = requireNonNull(client, "client");
-      this.eventTypes = requireNonNull(eventTypes, "eventTypes");
-    }
-  }
 }
@@ -4,20 +4,22 @@ package org.opentcs.kernel.extensions.servicewebapi.v8;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.ObjectExistsException;
@@ -29,6 +31,7 @@ import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.common.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostOrderSequenceRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderBatchRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.TransportOrderConverter;
@@ -74,23 +77,65 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.isIncompleteName())
-            .withDispensable(order.isDispensable())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(dependencyNames(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withPeripheralReservationToken(order.getPeripheralReservationToken())
-            .withWrappingSequence(order.getWrappingSequence())
-            .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
-            .withProperties(order.getProperties() == null ? Map.of() : order.getProperties());
+    TransportOrderCreationTO to = toCreationTO(name, order);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createTransportOrder(to);
     });
   }
 
+  /**
+   * Creates a batch of transport orders in a single kernel executor task.
+   * <p>
+   * Transport orders that are incomplete (e.g. lacking a name or destinations) or cannot be
+   * converted to transfer objects are reported as failed, without affecting the creation of the
+   * other transport orders in the batch.
+   * </p>
+   *
+   * @param batch The transport orders to be created.
+   * @return One result for every transport order in the batch, in the same order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  public List<TransportOrderCreationResult> createOrders(PostTransportOrderBatchRequestTO batch)
+      throws KernelRuntimeException {
+    requireNonNull(batch, "batch");
+
+    List<PostTransportOrderBatchRequestTO.Entry> entries = batch.getTransportOrders();
+    List<TransportOrderCreationResult> results = new ArrayList<>(entries.size());
+    List<TransportOrderCreationTO> tos = new ArrayList<>(entries.size());
+    for (PostTransportOrderBatchRequestTO.Entry entry : entries) {
+      String entryName = entry == null ? "" : Objects.toString(entry.getName(), "");
+      Optional<String> invalidityReason = invalidityReason(entry);
+      if (invalidityReason.isPresent()) {
+        results.add(TransportOrderCreationResult.failure(entryName, invalidityReason.get()));
+        continue;
+      }
+
+      try {
+        tos.add(toCreationTO(entry.getName(), entry.getTransportOrder()));
+        results.add(null);
+      }
+      catch (IllegalArgumentException exc) {
+        results.add(
+            TransportOrderCreationResult.failure(
+                entryName,
+                Objects.toString(exc.getMessage(), exc.getClass().getName())
+            )
+        );
+      }
+    }
+
+    if (tos.isEmpty()) {
+      return results;
+    }
+
+    // Fill the gaps left for the converted transport orders with the kernel's results, in order.
+    Iterator<TransportOrderCreationResult> created
+        = executorWrapper.callAndWait(() -> orderService.createTransportOrders(tos)).iterator();
+    results.replaceAll(result -> result == null ? created.next() : result);
+    return results;
+  }
+
   public void updateTransportOrderIntendedVehicle(
       String orderName,
       @Nullable
@@ -127,7 +172,46 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return getTransportOrders(intendedVehicle, Set.of(), null, null, PageRequest.ALL).items();
+  }
+
+  /**
+   * Finds transport orders depending on the given parameters, ordered by their names.
+   * <p>
+   * Only the matching transport orders are collected on the kernel executor, while their
+   * conversion to the web API representation happens on the calling thread. At most
+   * {@link PageRequest#scanLimit()} transport orders are examined for a page, so the returned page
+   * may be incomplete even if there are more matching transport orders.
+   * </p>
+   *
+   * @param intendedVehicle The filter parameter for the name of the
+   * intended vehicle for the transport order. The filtering is disabled for this parameter if the
+   * value is null.
+   * @param states The states of the transport orders to be retrieved. The filtering is disabled for
+   * this parameter if the set is empty.
+   * @param createdAfter If not null, only transport orders created after this point of time are
+   * retrieved.
+   * @param createdBefore If not null, only transport orders created before this point of time are
+   * retrieved.
+   * @param pageRequest The part of the (filtered) transport orders to be retrieved.
+   * @return A page of transport orders that match the filter.
+   */
+  public Page<TransportOrderTO> getTransportOrders(
+      @Nullable
+      String intendedVehicle,
+      @Nonnull
+      Set<TransportOrder.State> states,
+      @Nullable
+      Instant createdAfter,
+      @Nullable
+      Instant createdBefore,
+      @Nonnull
+      PageRequest pageRequest
+  ) {
+    requireNonNull(states, "states");
+    requireNonNull(pageRequest, "pageRequest");
+
+    Page<TransportOrder> orders = executorWrapper.callAndWait(() -> {
       TCSObjectReference<Vehicle> intendedVehicleRef
           = Optional.ofNullable(intendedVehicle)
               .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
@@ -138,12 +222,15 @@ public class TransportOrderHandler {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
 
-      return orderService.stream(TransportOrder.class)
-          .filter(Filters.transportOrderWithIntendedVehicle(intendedVehicleRef))
-          .map(transportOrderConverter::convert)
-          .sorted(Comparator.comparing(TransportOrderTO::getName))
-          .collect(Collectors.toList());
+      return pageRequest.select(
+          orderService.streamSortedByName(TransportOrder.class, pageRequest.after()),
+          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
+              .and(Filters.transportOrderInStates(states))
+              .and(Filters.transportOrderCreatedWithin(createdAfter, createdBefore))
+      );
     });
+
+    return orders.map(transportOrderConverter::convert);
   }
 
   /**
@@ -200,7 +287,31 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return getOrderSequences(intendedVehicle, PageRequest.ALL).items();
+  }
+
+  /**
+   * Finds order sequences depending on the given parameters, ordered by their names.
+   * <p>
+   * At most {@link PageRequest#scanLimit()} order sequences are examined for a page, so the
+   * returned page may be incomplete even if there are more matching order sequences.
+   * </p>
+   *
+   * @param intendedVehicle The filter parameter for the name of the
+   * intended vehicle for the order sequence. The filtering is disabled for this parameter if the
+   * value is null.
+   * @param pageRequest The part of the (filtered) order sequences to be retrieved.
+   * @return A page of order sequences that match the filter.
+   */
+  public Page<OrderSequenceTO> getOrderSequences(
+      @Nullable
+      String intendedVehicle,
+      @Nonnull
+      PageRequest pageRequest
+  ) {
+    requireNonNull(pageRequest, "pageRequest");
+
+    Page<OrderSequence> sequences = executorWrapper.callAndWait(() -> {
       TCSObjectReference<Vehicle> intendedVehicleRef
           = Optional.ofNullable(intendedVehicle)
               .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
@@ -211,12 +322,13 @@ public class TransportOrderHandler {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
 
-      return orderService.stream(OrderSequence.class)
-          .filter(Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef))
-          .map(orderSequenceConverter::convert)
-          .sorted(Comparator.comparing(OrderSequenceTO::getName))
-          .collect(Collectors.toList());
+      return pageRequest.select(
+          orderService.streamSortedByName(OrderSequence.class, pageRequest.after()),
+          Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)
+      );
     });
+
+    return sequences.map(orderSequenceConverter::convert);
   }
 
   public OrderSequenceTO getOrderSequenceByName(String name)
@@ -230,6 +342,76 @@ public class TransportOrderHandler {
     });
   }
 
+  /**
+   * Checks whether the given batch entry is complete, i.e. whether it can be converted to a
+   * transfer object.
+   *
+   * @param entry The batch entry.
+   * @return The reason why the entry is invalid, or an empty optional, if it is valid.
+   */
+  private Optional<String> invalidityReason(
+      @Nullable
+      PostTransportOrderBatchRequestTO.Entry entry
+  ) {
+    if (entry == null) {
+      return Optional.of("Transport order entry is null.");
+    }
+    if (entry.getName() == null) {
+      return Optional.of("Transport order name is missing.");
+    }
+    PostTransportOrderRequestTO order = entry.getTransportOrder();
+    if (order == null) {
+      return Optional.of("Transport order is missing.");
+    }
+    if (order.getDestinations() == null) {
+      return Optional.of("Transport order destinations are missing.");
+    }
+    for (PostTransportOrderRequestTO.Destination dest : order.getDestinations()) {
+      if (dest == null) {
+        return Optional.of("Transport order destination is null.");
+      }
+      if (dest.getLocationName() == null) {
+        return Optional.of("Destination location name is missing.");
+      }
+      if (dest.getOperation() == null) {
+        return Optional.of("Destination operation is missing.");
+      }
+      if (containsNull(dest.getProperties())) {
+        return Optional.of("Destination properties contain null keys or values.");
+      }
+    }
+    if (order.getDependencies() != null
+        && order.getDependencies().stream().anyMatch(Objects::isNull)) {
+      return Optional.of("Transport order dependencies contain null.");
+    }
+    if (containsNull(order.getProperties())) {
+      return Optional.of("Transport order properties contain null keys or values.");
+    }
+    return Optional.empty();
+  }
+
+  private boolean containsNull(
+      @Nullable
+      Map<String, String> properties
+  ) {
+    return properties != null
+        && properties.entrySet().stream()
+            .anyMatch(entry -> entry.getKey() == null || entry.getValue() == null);
+  }
+
+  private TransportOrderCreationTO toCreationTO(String name, PostTransportOrderRequestTO order) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.isIncompleteName())
+        .withDispensable(order.isDispensable())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(dependencyNames(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(order.getWrappingSequence())
+        .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
+        .withProperties(order.getProperties() == null ? Map.of() : order.getProperties());
+  }
+
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
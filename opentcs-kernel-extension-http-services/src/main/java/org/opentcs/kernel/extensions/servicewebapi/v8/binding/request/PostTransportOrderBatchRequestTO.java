@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8.binding.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+// CHECKSTYLE:OFF
+@RequiredArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Accessors(chain = true)
+@JsonPropertyOrder(alphabetic = true)
+public class PostTransportOrderBatchRequestTO {
+
+  @Nonnull
+  @JsonProperty(value = "transportOrders", required = true)
+  private final List<Entry> transportOrders;
+
+  @RequiredArgsConstructor
+  @Getter
+  @Setter
+  @EqualsAndHashCode
+  @ToString
+  @Accessors(chain = true)
+  @JsonPropertyOrder(alphabetic = true)
+  public static class Entry {
+
+    @Nonnull
+    @JsonProperty(value = "name", required = true)
+    private final String name;
+    @Nonnull
+    @JsonProperty(value = "transportOrder", required = true)
+    private final PostTransportOrderRequestTO transportOrder;
+  }
+}
+// CHECKSTYLE:ON
@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8.binding.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.data.TransportOrderTO;
+
+// CHECKSTYLE:OFF
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Accessors(chain = true)
+@JsonPropertyOrder(alphabetic = true)
+public class PostTransportOrderBatchResponseTO {
+
+  @Nonnull
+  private List<Result> results = List.of();
+
+  @NoArgsConstructor
+  @Getter
+  @Setter
+  @EqualsAndHashCode
+  @ToString
+  @Accessors(chain = true)
+  @JsonPropertyOrder(alphabetic = true)
+  public static class Result {
+
+    @Nonnull
+    private String name = "";
+    private boolean successful;
+    @Nullable
+    private TransportOrderTO transportOrder;
+    @Nullable
+    private String error;
+  }
+}
+// CHECKSTYLE:ON
@@ -0,0 +1,37 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.data.TaskTraceTO;
+import org.opentcs.util.metrics.TaskTrace;
+
+/**
+ * Provides methods for converting traces of the kernel executor's task executions.
+ */
+public class TaskTraceConverter {
+
+  public TaskTraceConverter() {
+  }
+
+  /**
+   * Converts the given task traces to their web API representation.
+   *
+   * @param traces The task traces to convert.
+   * @return The converted task traces.
+   */
+  public List<TaskTraceTO> convert(List<TaskTrace> traces) {
+    return traces.stream()
+        .map(
+            trace -> new TaskTraceTO()
+                .setTaskType(trace.getTaskType())
+                .setSubmitterThread(trace.getSubmitterThread())
+                .setStartTime(trace.getStartTime())
+                .setDelayMicros(TimeUnit.NANOSECONDS.toMicros(trace.getDelayNanos()))
+                .setDurationMicros(TimeUnit.NANOSECONDS.toMicros(trace.getDurationNanos()))
+                .setSlow(trace.isSlow())
+        )
+        .toList();
+  }
+}
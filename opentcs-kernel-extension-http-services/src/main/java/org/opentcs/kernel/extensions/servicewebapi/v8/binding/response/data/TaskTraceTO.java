@@ -0,0 +1,34 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.data;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+// CHECKSTYLE:OFF
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Accessors(chain = true)
+@JsonPropertyOrder(alphabetic = true)
+public class TaskTraceTO {
+  @Nonnull
+  private String taskType;
+  @Nonnull
+  private String submitterThread;
+  @Nonnull
+  private Instant startTime;
+  private long delayMicros;
+  private long durationMicros;
+  private boolean slow;
+}
+// CHECKSTYLE:ON
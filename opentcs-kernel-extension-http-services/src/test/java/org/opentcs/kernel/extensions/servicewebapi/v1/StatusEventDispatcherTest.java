@@ -7,6 +7,9 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -177,4 +180,82 @@ class StatusEventDispatcherTest {
         .isInstanceOf(PeripheralJobStatusMessage.class)
         .matches(msg -> msg.getSequenceNumber() == 2);
   }
+
+  @Test
+  void wakeUpWaitingClientWhenEventArrives()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    CompletableFuture<GetEventsResponseTO> futureResult = CompletableFuture.supplyAsync(
+        () -> statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 10000)
+    );
+
+    // Act
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    GetEventsResponseTO result = futureResult.get(5, TimeUnit.SECONDS);
+    assertThat(result.getStatusMessages()).hasSize(1);
+  }
+
+  @Test
+  void wakeUpAllWaitingClientsWhenEventArrives()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    List<CompletableFuture<GetEventsResponseTO>> futureResults = IntStream.range(0, 3)
+        .mapToObj(
+            i -> CompletableFuture.supplyAsync(
+                () -> statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 10000)
+            )
+        )
+        .toList();
+
+    // Act
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    for (CompletableFuture<GetEventsResponseTO> futureResult : futureResults) {
+      assertThat(futureResult.get(5, TimeUnit.SECONDS).getStatusMessages()).hasSize(1);
+    }
+  }
+
+  @Test
+  void recordEventsArrivingConcurrently()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", List.of());
+
+    // Act
+    List<CompletableFuture<Void>> futures = IntStream.range(0, 4)
+        .mapToObj(
+            i -> CompletableFuture.runAsync(() -> {
+              for (int j = 0; j < 1000; j++) {
+                statusEventDispatcher.onEvent(
+                    new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+                );
+              }
+            })
+        )
+        .toList();
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+    // Assert
+    GetEventsResponseTO result = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+    assertThat(result.getStatusMessages()).hasSize(10);
+    assertThat(result.getStatusMessages().get(9).getSequenceNumber()).isEqualTo(3999);
+  }
 }
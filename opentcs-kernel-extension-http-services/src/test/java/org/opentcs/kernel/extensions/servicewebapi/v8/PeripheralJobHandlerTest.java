@@ -20,7 +20,6 @@ import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
 import org.opentcs.components.kernel.services.PeripheralDispatcherService;
@@ -140,7 +139,7 @@ class PeripheralJobHandlerTest {
             true
         )
     );
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.streamSortedByName(PeripheralJob.class, null))
         .willReturn(Stream.of(job1, job2));
 
     // Act
@@ -148,7 +147,7 @@ class PeripheralJobHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(ArgumentMatchers.<Class<PeripheralJob>>any());
+    then(jobService).should().streamSortedByName(PeripheralJob.class, null);
   }
 
   @Test
@@ -183,14 +182,14 @@ class PeripheralJobHandlerTest {
 
     given(jobService.fetch(Vehicle.class, "some-vehicle"))
         .willReturn(Optional.of(vehicle));
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.streamSortedByName(PeripheralJob.class, null))
         .willReturn(Stream.of(job1, job2));
 
     // Act & Assert: happy path
     List<PeripheralJobTO> result = handler.getPeripheralJobs("some-vehicle", null);
 
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(PeripheralJob.class);
+    then(jobService).should().streamSortedByName(PeripheralJob.class, null);
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -229,14 +228,14 @@ class PeripheralJobHandlerTest {
 
     given(jobService.fetch(TransportOrder.class, "some-order"))
         .willReturn(Optional.of(transportOrder));
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.streamSortedByName(PeripheralJob.class, null))
         .willReturn(Stream.of(job1, job2));
 
     // Act & Assert: happy path
     List<PeripheralJobTO> result = handler.getPeripheralJobs(null, "some-order");
 
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(PeripheralJob.class);
+    then(jobService).should().streamSortedByName(PeripheralJob.class, null);
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import io.javalin.http.sse.SseClient;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link SseConnection}.
+ */
+class SseConnectionTest {
+
+  private SseClient client;
+  private Queue<Runnable> senderTasks;
+  private SseConnection connection;
+
+  @BeforeEach
+  void setUp() {
+    client = mock();
+    senderTasks = new ArrayDeque<>();
+    connection = new SseConnection(
+        client,
+        Set.of(SseConstants.EVENT_TYPE_VEHICLES),
+        3,
+        senderTasks::add
+    );
+  }
+
+  @Test
+  void sendEventsInOrder() {
+    connection.enqueue(vehicleEvent(0, "vehicle-1", true));
+    connection.enqueue(vehicleEvent(1, "vehicle-2", true));
+    runSenderTasks();
+
+    InOrder inOrder = Mockito.inOrder(client);
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-0", "0");
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-1", "1");
+  }
+
+  @Test
+  void conflatePendingEventsForSameObject() {
+    connection.enqueue(vehicleEvent(0, "vehicle-1", true));
+    connection.enqueue(vehicleEvent(1, "vehicle-2", true));
+    connection.enqueue(vehicleEvent(2, "vehicle-1", true));
+    assertThat(connection.getPendingEventCount()).isEqualTo(2);
+    runSenderTasks();
+
+    then(client).should(never()).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-0", "0");
+    InOrder inOrder = Mockito.inOrder(client);
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-1", "1");
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-2", "2");
+  }
+
+  @Test
+  void doNotConflateAcrossNonConflatableEvents() {
+    connection.enqueue(vehicleEvent(0, "vehicle-1", true));
+    connection.enqueue(vehicleEvent(1, "vehicle-1", false));
+    connection.enqueue(vehicleEvent(2, "vehicle-1", true));
+    assertThat(connection.getPendingEventCount()).isEqualTo(3);
+  }
+
+  @Test
+  void closeConnectionWhenCapacityExceeded() {
+    for (int i = 0; i < 4; i++) {
+      connection.enqueue(vehicleEvent(i, "vehicle-" + i, true));
+    }
+    runSenderTasks();
+
+    then(client).should().close();
+    then(client).should(never()).sendEvent(anyString(), anyString(), anyString());
+    assertThat(connection.getPendingEventCount()).isZero();
+  }
+
+  private void runSenderTasks() {
+    while (!senderTasks.isEmpty()) {
+      senderTasks.poll().run();
+    }
+  }
+
+  private SseEvent vehicleEvent(long id, String vehicleName, boolean conflatable) {
+    return new SseEvent(
+        id,
+        SseConstants.EVENT_TYPE_VEHICLES,
+        vehicleName,
+        conflatable,
+        "data-" + id
+    );
+  }
+}
@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.opentcs.kernel.extensions.servicewebapi.v8.SseConstants.EVENT_TYPE_RESYNCHRONIZATION_REQUIRED;
+import static org.opentcs.kernel.extensions.servicewebapi.v8.SseConstants.EVENT_TYPE_VEHICLES;
+
+import io.javalin.http.Context;
+import io.javalin.http.sse.SseClient;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.extensions.servicewebapi.common.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.EventConverter;
+import org.opentcs.util.event.EventSource;
+import org.opentcs.util.metrics.MetricsRegistry;
+
+/**
+ * Tests for {@link SseHandler}.
+ */
+class SseHandlerTest {
+
+  private static final long SEND_TIMEOUT = 5000;
+  private static final int REPLAY_WINDOW_SIZE = 3;
+
+  private SseHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    JsonBinder jsonBinder = mock();
+    given(jsonBinder.toJson((Object) any())).willReturn("some-data");
+    ServiceWebApiConfiguration configuration = mock();
+    given(configuration.sseClientQueueCapacity()).willReturn(100);
+    given(configuration.sseReplayWindowSize()).willReturn(REPLAY_WINDOW_SIZE);
+
+    handler = new SseHandler(
+        mock(EventSource.class),
+        mock(EventConverter.class),
+        jsonBinder,
+        configuration,
+        mock(MetricsRegistry.class)
+    );
+    handler.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    handler.terminate();
+  }
+
+  @Test
+  void replayMissedEventsWithinReplayWindow() {
+    // Events 2, 3 and 4 remain in the replay window.
+    publishVehicleEvents(0, 5);
+
+    SseClient client = connectClient("2");
+    publishVehicleEvents(5, 6);
+
+    then(client).should(timeout(SEND_TIMEOUT))
+        .sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("5"));
+    then(client).should().sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("3"));
+    then(client).should().sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("4"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("2"));
+    then(client).should(never())
+        .sendEvent(eq(EVENT_TYPE_RESYNCHRONIZATION_REQUIRED), anyString(), anyString());
+  }
+
+  @Test
+  void requestResynchronizationForMissedEventsBeyondReplayWindow() {
+    // Event 1 has already been dropped from the replay window.
+    publishVehicleEvents(0, 5);
+
+    SseClient client = connectClient("0");
+    publishVehicleEvents(5, 6);
+
+    then(client).should(timeout(SEND_TIMEOUT))
+        .sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("5"));
+    then(client).should().sendEvent(eq(EVENT_TYPE_RESYNCHRONIZATION_REQUIRED), eq("{}"), eq("4"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("2"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("3"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("4"));
+  }
+
+  @Test
+  void requestResynchronizationForLastEventIdNotYetAssigned() {
+    publishVehicleEvents(0, 5);
+
+    SseClient client = connectClient("10");
+    publishVehicleEvents(5, 6);
+
+    then(client).should(timeout(SEND_TIMEOUT))
+        .sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("5"));
+    then(client).should().sendEvent(eq(EVENT_TYPE_RESYNCHRONIZATION_REQUIRED), eq("{}"), eq("4"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("3"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("4"));
+  }
+
+  @Test
+  void sendOnlyNewEventsToClientThatMissedNothing() {
+    publishVehicleEvents(0, 5);
+
+    SseClient client = connectClient("4");
+    publishVehicleEvents(5, 6);
+
+    then(client).should(timeout(SEND_TIMEOUT))
+        .sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("5"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("4"));
+    then(client).should(never())
+        .sendEvent(eq(EVENT_TYPE_RESYNCHRONIZATION_REQUIRED), anyString(), anyString());
+  }
+
+  @Test
+  void doNotRegisterClientDisconnectedBeforeRegistration() {
+    SseClient disconnectedClient = createClient(null);
+    given(disconnectedClient.terminated()).willReturn(true);
+    handler.handleSseConnection(disconnectedClient);
+
+    SseClient client = connectClient(null);
+    publishVehicleEvents(0, 1);
+
+    then(client).should(timeout(SEND_TIMEOUT))
+        .sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("0"));
+    then(disconnectedClient).should(after(500).never())
+        .sendEvent(anyString(), any(), anyString());
+  }
+
+  @Test
+  void stopSendingEventsToClosedClient() {
+    SseClient client = connectClient(null);
+    ArgumentCaptor<Runnable> onClose = ArgumentCaptor.forClass(Runnable.class);
+    then(client).should().onClose(onClose.capture());
+
+    onClose.getValue().run();
+    publishVehicleEvents(0, 1);
+
+    then(client).should(after(500).never()).sendEvent(anyString(), any(), anyString());
+  }
+
+  @Test
+  void closeConnectionIfSendingEventFails() {
+    SseClient client = connectClient(null);
+    willThrow(new IllegalStateException("some-message"))
+        .given(client).sendEvent(anyString(), any(), anyString());
+
+    publishVehicleEvents(0, 2);
+
+    then(client).should(timeout(SEND_TIMEOUT)).close();
+    then(client).should().sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("0"));
+    then(client).should(never()).sendEvent(eq(EVENT_TYPE_VEHICLES), anyString(), eq("1"));
+  }
+
+  private SseClient connectClient(String lastEventId) {
+    SseClient client = createClient(lastEventId);
+
+    handler.handleSseConnection(client);
+    return client;
+  }
+
+  private SseClient createClient(String lastEventId) {
+    Context context = mock();
+    given(context.queryParamMap())
+        .willReturn(Map.of(EVENT_TYPE_VEHICLES, List.of("true")));
+    given(context.header(SseConstants.HEADER_LAST_EVENT_ID)).willReturn(lastEventId);
+    SseClient client = mock();
+    given(client.ctx()).willReturn(context);
+    return client;
+  }
+
+  /**
+   * Publishes events for different vehicles, so that none of them are conflated.
+   */
+  private void publishVehicleEvents(int fromId, int toId) {
+    for (int i = fromId; i < toId; i++) {
+      Vehicle vehicle = new Vehicle("vehicle-" + i);
+      handler.onEvent(new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED));
+    }
+  }
+}
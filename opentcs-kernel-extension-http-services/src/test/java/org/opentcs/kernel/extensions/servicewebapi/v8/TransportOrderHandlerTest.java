@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.time.Instant;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.ObjectUnknownException;
@@ -35,6 +37,7 @@ import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.common.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostOrderSequenceRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderBatchRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.request.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v8.binding.response.converter.TransportOrderConverter;
@@ -109,6 +112,136 @@ class TransportOrderHandlerTest {
         );
   }
 
+  @Test
+  void createTransportOrderBatch() {
+    // Arrange
+    TransportOrder transportOrder = new TransportOrder("some-order", List.of());
+    given(orderService.createTransportOrders(any()))
+        .willReturn(
+            List.of(
+                TransportOrderCreationResult.success("some-order", transportOrder),
+                TransportOrderCreationResult.failure("some-other-order", "some-reason")
+            )
+        );
+
+    // Act
+    List<TransportOrderCreationResult> result = handler.createOrders(
+        new PostTransportOrderBatchRequestTO(
+            List.of(
+                new PostTransportOrderBatchRequestTO.Entry(
+                    "some-order",
+                    new PostTransportOrderRequestTO(
+                        List.of(
+                            new PostTransportOrderRequestTO.Destination(
+                                "some-location",
+                                "some-operation"
+                            )
+                        )
+                    )
+                ),
+                new PostTransportOrderBatchRequestTO.Entry(
+                    "some-other-order",
+                    new PostTransportOrderRequestTO(
+                        List.of(
+                            new PostTransportOrderRequestTO.Destination(
+                                "some-other-location",
+                                "some-operation"
+                            )
+                        )
+                    ).setDependencies(List.of("some-order"))
+                )
+            )
+        )
+    );
+
+    // Assert
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0).getTransportOrder(), is(theInstance(transportOrder)));
+    assertThat(result.get(1).getFailureReason()).isEqualTo("some-reason");
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransportOrderCreationTO>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderService).should().createTransportOrders(captor.capture());
+    assertThat(captor.getValue()).hasSize(2);
+    assertThat(captor.getValue().get(0))
+        .returns("some-order", from(TransportOrderCreationTO::getName))
+        .returns(Set.of(), from(TransportOrderCreationTO::getDependencyNames));
+    assertThat(captor.getValue().get(1))
+        .returns("some-other-order", from(TransportOrderCreationTO::getName))
+        .returns(Set.of("some-order"), from(TransportOrderCreationTO::getDependencyNames));
+  }
+
+  @Test
+  void reportTransportOrderWithoutDestinationsInBatchAsFailed() {
+    // Arrange
+    TransportOrder transportOrder = new TransportOrder("some-order", List.of());
+    given(orderService.createTransportOrders(any()))
+        .willReturn(List.of(TransportOrderCreationResult.success("some-order", transportOrder)));
+    PostTransportOrderRequestTO invalidOrder = mock();
+    given(invalidOrder.getDestinations()).willReturn(null);
+
+    // Act
+    List<TransportOrderCreationResult> result = handler.createOrders(
+        new PostTransportOrderBatchRequestTO(
+            List.of(
+                new PostTransportOrderBatchRequestTO.Entry("some-invalid-order", invalidOrder),
+                new PostTransportOrderBatchRequestTO.Entry(
+                    "some-order",
+                    new PostTransportOrderRequestTO(
+                        List.of(
+                            new PostTransportOrderRequestTO.Destination(
+                                "some-location",
+                                "some-operation"
+                            )
+                        )
+                    )
+                )
+            )
+        )
+    );
+
+    // Assert
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0).isSuccessful()).isFalse();
+    assertThat(result.get(0).getRequestedName()).isEqualTo("some-invalid-order");
+    assertThat(result.get(0).getFailureReason())
+        .isEqualTo("Transport order destinations are missing.");
+    assertThat(result.get(1).getTransportOrder(), is(theInstance(transportOrder)));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransportOrderCreationTO>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderService).should().createTransportOrders(captor.capture());
+    assertThat(captor.getValue()).hasSize(1);
+    assertThat(captor.getValue().get(0).getName()).isEqualTo("some-order");
+  }
+
+  @Test
+  void reportTransportOrderWithIncompleteDestinationInBatchAsFailed() {
+    // Arrange
+    PostTransportOrderRequestTO.Destination invalidDestination = mock();
+    given(invalidDestination.getLocationName()).willReturn("some-location");
+    given(invalidDestination.getOperation()).willReturn(null);
+
+    // Act
+    List<TransportOrderCreationResult> result = handler.createOrders(
+        new PostTransportOrderBatchRequestTO(
+            List.of(
+                new PostTransportOrderBatchRequestTO.Entry(
+                    "some-invalid-order",
+                    new PostTransportOrderRequestTO(List.of(invalidDestination))
+                )
+            )
+        )
+    );
+
+    // Assert
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0).isSuccessful()).isFalse();
+    assertThat(result.get(0).getRequestedName()).isEqualTo("some-invalid-order");
+    assertThat(result.get(0).getFailureReason()).isEqualTo("Destination operation is missing.");
+    then(orderService).should(never()).createTransportOrders(any());
+  }
+
   @Test
   void setTransportOrderIntendedVehicle() {
     // Arrange
@@ -151,7 +284,7 @@ class TransportOrderHandlerTest {
     TransportOrder transportOrder1 = new TransportOrder("some-order", List.of());
     TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
-    given(orderService.stream(TransportOrder.class))
+    given(orderService.streamSortedByName(TransportOrder.class, null))
         .willReturn(Set.of(transportOrder1, transportOrder2).stream());
 
     // Act
@@ -159,7 +292,7 @@ class TransportOrderHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(TransportOrder.class);
+    then(orderService).should().streamSortedByName(TransportOrder.class, null);
   }
 
   @Test
@@ -173,19 +306,123 @@ class TransportOrderHandlerTest {
 
     given(orderService.fetch(Vehicle.class, "some-vehicle"))
         .willReturn(Optional.of(vehicle));
-    given(orderService.stream(TransportOrder.class))
+    given(orderService.streamSortedByName(TransportOrder.class, null))
         .willReturn(Stream.of(transportOrder1, transportOrder2));
 
     // Act & Assert: happy path
     List<TransportOrderTO> result = handler.getTransportOrders("some-vehicle");
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(TransportOrder.class);
+    then(orderService).should().streamSortedByName(TransportOrder.class, null);
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
         .isThrownBy(() -> handler.getTransportOrders("some-other-vehicle"));
   }
 
+  @Test
+  void retrieveTransportOrdersPageFilteredByStateAndCreationTime() {
+    // Arrange
+    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withCreationTime(Instant.ofEpochSecond(20));
+    TransportOrder transportOrder3 = new TransportOrder("some-order-3", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withCreationTime(Instant.ofEpochSecond(5));
+    TransportOrder transportOrder4 = new TransportOrder("some-order-4", List.of())
+        .withState(TransportOrder.State.FAILED)
+        .withCreationTime(Instant.ofEpochSecond(20));
+    TransportOrder transportOrder5 = new TransportOrder("some-order-5", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withCreationTime(Instant.ofEpochSecond(30));
+    TransportOrder transportOrder6 = new TransportOrder("some-order-6", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withCreationTime(Instant.ofEpochSecond(40));
+
+    given(orderService.streamSortedByName(TransportOrder.class, "some-order-1"))
+        .willReturn(
+            Stream.of(
+                transportOrder2,
+                transportOrder3,
+                transportOrder4,
+                transportOrder5,
+                transportOrder6
+            )
+        );
+
+    // Act
+    Page<TransportOrderTO> result = handler.getTransportOrders(
+        null,
+        Set.of(TransportOrder.State.FINISHED),
+        Instant.ofEpochSecond(10),
+        null,
+        new PageRequest("some-order-1", 2)
+    );
+
+    // Assert
+    assertThat(result.items(), hasSize(2));
+    assertThat(result.items().get(0).getName()).isEqualTo("some-order-2");
+    assertThat(result.items().get(1).getName()).isEqualTo("some-order-5");
+    assertThat(result.nextCursor()).isEqualTo("some-order-5");
+    then(orderService).should().streamSortedByName(TransportOrder.class, "some-order-1");
+  }
+
+  @Test
+  void stopExaminingTransportOrdersAtScanLimit() {
+    // Arrange
+    TransportOrder transportOrder1 = new TransportOrder("some-order-1", List.of())
+        .withState(TransportOrder.State.FINISHED);
+    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of())
+        .withState(TransportOrder.State.FAILED);
+    TransportOrder transportOrder3 = new TransportOrder("some-order-3", List.of())
+        .withState(TransportOrder.State.FAILED);
+    TransportOrder transportOrder4 = new TransportOrder("some-order-4", List.of())
+        .withState(TransportOrder.State.FINISHED);
+
+    given(orderService.streamSortedByName(TransportOrder.class, null))
+        .willReturn(Stream.of(transportOrder1, transportOrder2, transportOrder3, transportOrder4));
+
+    // Act
+    Page<TransportOrderTO> result = handler.getTransportOrders(
+        null,
+        Set.of(TransportOrder.State.FINISHED),
+        null,
+        null,
+        new PageRequest(null, 2, 3)
+    );
+
+    // Assert
+    assertThat(result.items(), hasSize(1));
+    assertThat(result.items().get(0).getName()).isEqualTo("some-order-1");
+    assertThat(result.nextCursor()).isEqualTo("some-order-3");
+  }
+
+  @Test
+  void omitCursorWhenAllTransportOrdersExamined() {
+    // Arrange
+    TransportOrder transportOrder1 = new TransportOrder("some-order-1", List.of())
+        .withState(TransportOrder.State.FINISHED);
+    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of())
+        .withState(TransportOrder.State.FAILED);
+    TransportOrder transportOrder3 = new TransportOrder("some-order-3", List.of())
+        .withState(TransportOrder.State.FAILED);
+
+    given(orderService.streamSortedByName(TransportOrder.class, null))
+        .willReturn(Stream.of(transportOrder1, transportOrder2, transportOrder3));
+
+    // Act
+    Page<TransportOrderTO> result = handler.getTransportOrders(
+        null,
+        Set.of(TransportOrder.State.FINISHED),
+        null,
+        null,
+        new PageRequest(null, 2, 3)
+    );
+
+    // Assert
+    assertThat(result.items(), hasSize(1));
+    assertThat(result.nextCursor()).isNull();
+  }
+
   @Test
   void retrieveTransportOrderByName() {
     // Arrange
@@ -262,7 +499,7 @@ class TransportOrderHandlerTest {
     OrderSequence sequence1 = new OrderSequence("some-sequence");
     OrderSequence sequence2 = new OrderSequence("some-sequence-2");
 
-    given(orderService.stream(OrderSequence.class))
+    given(orderService.streamSortedByName(OrderSequence.class, null))
         .willReturn(Stream.of(sequence1, sequence2));
 
     // Act
@@ -270,7 +507,7 @@ class TransportOrderHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(OrderSequence.class);
+    then(orderService).should().streamSortedByName(OrderSequence.class, null);
   }
 
   @Test
@@ -284,13 +521,13 @@ class TransportOrderHandlerTest {
 
     given(orderService.fetch(Vehicle.class, "some-vehicle"))
         .willReturn(Optional.of(vehicle));
-    given(orderService.stream(OrderSequence.class))
+    given(orderService.streamSortedByName(OrderSequence.class, null))
         .willReturn(Stream.of(sequence1, sequence2));
 
     // Act & Assert: happy path
     List<OrderSequenceTO> result = handler.getOrderSequences("some-vehicle");
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(OrderSequence.class);
+    then(orderService).should().streamSortedByName(OrderSequence.class, null);
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v8.binding.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.common.JsonBinder;
+
+/**
+ * Unit tests for {@link PostTransportOrderBatchRequestTO}.
+ */
+class PostTransportOrderBatchRequestTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder();
+  }
+
+  @Test
+  void jsonSample() {
+    PostTransportOrderBatchRequestTO to = new PostTransportOrderBatchRequestTO(
+        List.of(
+            new PostTransportOrderBatchRequestTO.Entry(
+                "some-order",
+                new PostTransportOrderRequestTO(
+                    List.of(
+                        new PostTransportOrderRequestTO.Destination(
+                            "some-location",
+                            "some-operation"
+                        )
+                    )
+                )
+            ),
+            new PostTransportOrderBatchRequestTO.Entry(
+                "some-other-order",
+                new PostTransportOrderRequestTO(
+                    List.of(
+                        new PostTransportOrderRequestTO.Destination(
+                            "some-other-location",
+                            "some-other-operation"
+                        )
+                    )
+                )
+                    .setIntendedVehicle("some-vehicle")
+                    .setDependencies(List.of("some-order"))
+            )
+        )
+    );
+
+    String json = jsonBinder.toJson(to);
+    Approvals.verify(json);
+
+    PostTransportOrderBatchRequestTO deserializationResult = jsonBinder.fromJson(
+        json, PostTransportOrderBatchRequestTO.class
+    );
+    assertThat(deserializationResult).isEqualTo(to);
+  }
+}
@@ -4,47 +4,101 @@ package org.opentcs.kernel.extensions.rmi;
 
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.SequencedMap;
 import java.util.function.Predicate;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * Events of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED} are conflated per object: If a
+ * modification event for an object is already pending, it is replaced by a single event carrying
+ * the previous state of the pending event and the current state of the new one. The conflated
+ * event is moved to the end of the buffer, so the buffered events remain ordered by the time of
+ * the latest modification of the respective object.
+ * </p>
+ * <p>
+ * If the number of buffered events exceeds the buffer's capacity, all buffered events are
+ * discarded and replaced by a single {@link EventBufferOverflowEvent}, telling the client to
+ * resynchronize.
+ * </p>
  */
 public class EventBuffer
     implements
       EventHandler {
 
   /**
-   * The buffered events.
+   * This class's logger.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private static final Logger LOG = LoggerFactory.getLogger(EventBuffer.class);
+  /**
+   * The buffered events, mapped by the sequence number they were added with.
+   */
+  private final SequencedMap<Long, Object> events = new LinkedHashMap<>();
+  /**
+   * The sequence numbers of pending modification events, mapped by the modified objects'
+   * references.
+   */
+  private final Map<TCSObjectReference<?>, Long> pendingModifications = new HashMap<>();
+  /**
+   * The maximum number of events to be kept in this buffer.
+   */
+  private final int capacity;
   /**
    * This buffer's event filter.
    */
   private Predicate<Object> eventFilter;
+  /**
+   * The sequence number to be assigned to the next event added to this buffer.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The number of events discarded since the client last fetched events.
+   */
+  private int discardedEventCount;
   /**
    * A flag indicating whether this event buffer's client is currently waiting for an event.
    */
   private boolean waitingClient;
 
   /**
-   * Creates a new instance
+   * Creates a new instance with a practically unlimited capacity.
    *
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(eventFilter, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of events to be kept in this buffer. Must be at least 1.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      int capacity
   ) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.capacity = checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity");
   }
 
   // Methods declared in interface EventListener start here
@@ -53,8 +107,15 @@ public class EventBuffer
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
+        if (discardedEventCount > 0) {
+          // The buffer overflowed before and the client will have to resynchronize, anyway.
+          discardedEventCount++;
+        }
+        else {
+          addEvent(event);
+          if (events.size() > capacity) {
+            handleOverflow();
+          }
         }
 
         // If the client is waiting for an event, wake it up, since there is one now.
@@ -82,7 +143,7 @@ public class EventBuffer
       throws IllegalArgumentException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
     synchronized (events) {
-      if (timeout > 0 && events.isEmpty()) {
+      if (timeout > 0 && isEmpty()) {
         waitingClient = true;
         try {
           events.wait(timeout);
@@ -94,8 +155,16 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
+
+      if (discardedEventCount > 0) {
+        List<Object> result = List.of(new EventBufferOverflowEvent(discardedEventCount));
+        discardedEventCount = 0;
+        return result;
+      }
+
+      List<Object> result = new ArrayList<>(events.values());
       events.clear();
+      pendingModifications.clear();
       return result;
     }
   }
@@ -128,38 +197,70 @@ public class EventBuffer
   }
 
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * Returns the number of events currently stored in this buffer.
    *
-   * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @return The number of events currently stored in this buffer.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
-      return false;
+  public int getPendingEventCount() {
+    synchronized (events) {
+      return events.size();
     }
+  }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
-      return false;
+  /**
+   * Returns this buffer's capacity.
+   *
+   * @return This buffer's capacity.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  private boolean isEmpty() {
+    return events.isEmpty() && discardedEventCount == 0;
+  }
+
+  private void addEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      events.put(nextSequenceNumber++, event);
+      return;
     }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
-      return false;
+    TCSObjectReference<?> ref = referenceOf(objectEvent);
+    if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      // Creation and removal events are never merged, and subsequent modification events must not
+      // be merged with modification events that were buffered before them.
+      pendingModifications.remove(ref);
+      events.put(nextSequenceNumber++, event);
+      return;
     }
 
-    events.removeLast();
-    events.add(
-        new TCSObjectEvent(
-            currentEvent.getCurrentObjectState(),
-            previousEvent.getPreviousObjectState(),
-            TCSObjectEvent.Type.OBJECT_MODIFIED
-        )
+    Long pendingSequenceNumber = pendingModifications.get(ref);
+    if (pendingSequenceNumber != null) {
+      TCSObjectEvent pendingEvent = (TCSObjectEvent) events.remove(pendingSequenceNumber);
+      objectEvent = new TCSObjectEvent(
+          objectEvent.getCurrentObjectState(),
+          pendingEvent.getPreviousObjectState(),
+          TCSObjectEvent.Type.OBJECT_MODIFIED
+      );
+    }
+
+    pendingModifications.put(ref, nextSequenceNumber);
+    events.put(nextSequenceNumber++, objectEvent);
+  }
+
+  private void handleOverflow() {
+    LOG.warn(
+        "Event buffer capacity ({}) exceeded, discarding buffered events and requesting client to"
+            + " resynchronize.",
+        capacity
     );
+    discardedEventCount = events.size();
+    events.clear();
+    pendingModifications.clear();
+  }
 
-    return true;
+  private static TCSObjectReference<?> referenceOf(TCSObjectEvent event) {
+    return event.getCurrentOrPreviousObjectState().getReference();
   }
 }
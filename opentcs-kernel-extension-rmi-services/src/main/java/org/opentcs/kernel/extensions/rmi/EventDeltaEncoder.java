@@ -0,0 +1,168 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.rmi.services.TCSObjectDeltaEvent;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Replaces modification events to be sent to a single client with {@link TCSObjectDeltaEvent}s.
+ * <p>
+ * Delta events are only sent to a client after it {@link #setEnabled(boolean) enabled} them, as
+ * only clients aware of delta events can restore the events they represent. A modification event
+ * is replaced only if the client has received the modified object's previous state with the last
+ * event sent to it for that object. Additionally, after the given number of delta events for an
+ * object, the next modification event for it is sent as it is, so the client receives a full
+ * snapshot of the object's state periodically.
+ * </p>
+ * <p>
+ * The delta events themselves are shared between the encoders for all clients, so each delta event
+ * is created only once, regardless of the number of clients receiving it.
+ * </p>
+ */
+public class EventDeltaEncoder {
+
+  /**
+   * The delta events created so far, mapped by the events they represent.
+   */
+  private final Map<TCSObjectEvent, Optional<TCSObjectDeltaEvent>> deltaEvents;
+  /**
+   * The maximum number of consecutive delta events to be sent for an object.
+   */
+  private final int snapshotInterval;
+  /**
+   * The objects' states the client last received, mapped by the objects' references.
+   */
+  private final Map<TCSObjectReference<?>, SentState> sentStates = new HashMap<>();
+  /**
+   * Whether the client enabled delta events.
+   */
+  private boolean enabled;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param deltaEvents The delta events created so far (or an empty optional for events that cannot
+   * be represented by delta events), mapped by the events they represent. Shared between the
+   * encoders for all clients, and expected to be thread-safe and not to prevent the events from
+   * being garbage-collected.
+   * @param snapshotInterval The maximum number of consecutive delta events to be sent for an
+   * object. If 0, no delta events are sent at all.
+   */
+  public EventDeltaEncoder(
+      @Nonnull
+      Map<TCSObjectEvent, Optional<TCSObjectDeltaEvent>> deltaEvents,
+      int snapshotInterval
+  ) {
+    this.deltaEvents = requireNonNull(deltaEvents, "deltaEvents");
+    this.snapshotInterval = checkInRange(
+        snapshotInterval,
+        0,
+        Integer.MAX_VALUE,
+        "snapshotInterval"
+    );
+  }
+
+  /**
+   * Sets whether the client enabled delta events.
+   *
+   * @param enabled Whether the client enabled delta events.
+   */
+  public synchronized void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    sentStates.clear();
+  }
+
+  /**
+   * Replaces modification events in the given list with delta events, where possible.
+   *
+   * @param events The events to be sent to the client.
+   * @return The events to be sent to the client, with modification events replaced.
+   */
+  public synchronized List<Object> encode(List<Object> events) {
+    requireNonNull(events, "events");
+
+    if (!enabled || snapshotInterval == 0) {
+      return events;
+    }
+
+    List<Object> result = new ArrayList<>(events.size());
+    for (Object event : events) {
+      if (event instanceof TCSObjectEvent objectEvent) {
+        result.add(encode(objectEvent));
+      }
+      else {
+        if (event instanceof EventBufferOverflowEvent) {
+          // The client will resynchronize without receiving the discarded events.
+          sentStates.clear();
+        }
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  private Object encode(TCSObjectEvent event) {
+    TCSObject<?> object = event.getCurrentOrPreviousObjectState();
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      sentStates.remove(object.getReference());
+      return event;
+    }
+
+    SentState sentState = sentStates.get(object.getReference());
+    if (event.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
+        || sentState == null
+        || sentState.objectState != event.getPreviousObjectState()
+        || sentState.deltaCount >= snapshotInterval) {
+      sentStates.put(object.getReference(), new SentState(event.getCurrentObjectState(), 0));
+      return event;
+    }
+
+    Optional<TCSObjectDeltaEvent> deltaEvent = deltaEvents.computeIfAbsent(
+        event,
+        objectEvent -> Optional.ofNullable(TCSObjectDeltaEvent.fromObjectEvent(objectEvent))
+    );
+    if (deltaEvent.isEmpty()) {
+      sentStates.put(object.getReference(), new SentState(event.getCurrentObjectState(), 0));
+      return event;
+    }
+
+    sentStates.put(
+        object.getReference(),
+        new SentState(event.getCurrentObjectState(), sentState.deltaCount + 1)
+    );
+    return deltaEvent.get();
+  }
+
+  /**
+   * An object's state last sent to the client.
+   */
+  private static class SentState {
+
+    /**
+     * The object's state.
+     */
+    private final TCSObject<?> objectState;
+    /**
+     * The number of consecutive delta events sent for the object.
+     */
+    private final int deltaCount;
+
+    SentState(TCSObject<?> objectState, int deltaCount) {
+      this.objectState = objectState;
+      this.deltaCount = deltaCount;
+    }
+  }
+}
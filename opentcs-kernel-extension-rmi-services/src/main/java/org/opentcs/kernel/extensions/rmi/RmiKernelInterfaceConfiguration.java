@@ -130,6 +130,33 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events to be buffered for a single client.",
+          "Modification events for the same object are merged while they are buffered.",
+          "If the number of buffered events exceeds this value, the buffered events are discarded"
+              + " and the client is requested to resynchronize."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_sweeping_1"
+  )
+  int clientEventBufferCapacity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of consecutive modification events for the same object to be sent to"
+              + " a client as deltas, i.e. containing only the modified attributes' values.",
+          "Deltas are only sent to clients that requested them.",
+          "After this number of delta events, the object's full state is sent again.",
+          "If 0, modification events are always sent with the object's full state."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_sweeping_2"
+  )
+  int clientEventSnapshotInterval();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
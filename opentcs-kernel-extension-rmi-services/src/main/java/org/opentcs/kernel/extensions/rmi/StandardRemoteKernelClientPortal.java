@@ -191,7 +191,12 @@ public class StandardRemoteKernelClientPortal
     // Generate a new ID for the client.
     ClientID clientId = new ClientID(userName);
     // Add an entry for the newly connected client.
-    ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+    ClientEntry clientEntry = new ClientEntry(
+        userName,
+        account.getPermissions(),
+        configuration.clientEventBufferCapacity(),
+        userManager.createEventDeltaEncoder()
+    );
     clientEntry.getEventBuffer().setEventFilter(eventFilter);
     userManager.registerClient(clientId, clientEntry);
     LOG.debug("New client named {} logged in", clientId.getClientName());
@@ -215,6 +220,13 @@ public class StandardRemoteKernelClientPortal
     return kernel.getState();
   }
 
+  @Override
+  public void enableDeltaEvents(ClientID clientId) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    userManager.enableDeltaEvents(clientId);
+  }
+
   @Override
   public List<Object> fetchEvents(ClientID clientId, long timeout)
       throws RemoteException {
@@ -15,18 +15,23 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.services.TCSObjectDeltaEvent;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +63,10 @@ public class UserManager
    * Provides user account data.
    */
   private final UserAccountProvider userAccountProvider;
+  /**
+   * The registry to register metrics with.
+   */
+  private final MetricsRegistry metricsRegistry;
   /**
    * The directory of users allowed to connect/operate with the kernel.
    */
@@ -66,6 +75,11 @@ public class UserManager
    * The directory of authenticated clients (a mapping of ClientIDs to user names).
    */
   private final Map<ClientID, ClientEntry> knownClients = new HashMap<>();
+  /**
+   * The delta events created for modification events, shared between all clients.
+   */
+  private final Map<TCSObjectEvent, Optional<TCSObjectDeltaEvent>> deltaEvents
+      = Collections.synchronizedMap(new WeakHashMap<>());
   /**
    * A handle for the task that periodically cleans up known clients and event buffers.
    */
@@ -84,6 +98,7 @@ public class UserManager
    * @param kernelExecutor The kernel's executor.
    * @param configuration This class' configuration.
    * @param userAccountProvider Provides user account data.
+   * @param metricsRegistry The registry to register metrics with.
    */
   @Inject
   public UserManager(
@@ -94,13 +109,15 @@ public class UserManager
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       RmiKernelInterfaceConfiguration configuration,
-      UserAccountProvider userAccountProvider
+      UserAccountProvider userAccountProvider,
+      MetricsRegistry metricsRegistry
   ) {
     requireNonNull(homeDirectory, "homeDirectory");
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.configuration = requireNonNull(configuration, "configuration");
     this.userAccountProvider = requireNonNull(userAccountProvider, "userAccountProvider");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
   }
 
   @Override
@@ -119,6 +136,13 @@ public class UserManager
       knownUsers.put(curAccount.getUserName(), curAccount);
     }
 
+    metricsRegistry.gauges(
+        "opentcs_rmi_client_event_backlog",
+        "Number of events waiting to be polled by RMI clients",
+        "client",
+        this::getPendingEventCounts
+    );
+
     // Start the thread that periodically cleans up the list of known clients and event buffers.
     LOG.debug("Starting cleaner task...");
     cleanerTaskFuture = kernelExecutor.scheduleWithFixedDelay(
@@ -245,6 +269,31 @@ public class UserManager
     }
   }
 
+  /**
+   * Creates an encoder for the events to be sent to a single client.
+   *
+   * @return An encoder for the events to be sent to a single client.
+   */
+  public EventDeltaEncoder createEventDeltaEncoder() {
+    return new EventDeltaEncoder(deltaEvents, configuration.clientEventSnapshotInterval());
+  }
+
+  /**
+   * Enables transferring modification events to the given client as delta events.
+   *
+   * @param clientID The client's ID.
+   */
+  public void enableDeltaEvents(ClientID clientID) {
+    requireNonNull(clientID, "clientID");
+
+    ClientEntry clientEntry;
+    synchronized (knownClients) {
+      clientEntry = getClient(clientID);
+      checkArgument(clientEntry != null, "Unknown client ID: %s", clientID);
+    }
+    clientEntry.getEventDeltaEncoder().setEnabled(true);
+  }
+
   public List<Object> pollEvents(ClientID clientID, long timeout) {
     requireNonNull(clientID, "clientID");
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
@@ -262,7 +311,7 @@ public class UserManager
     synchronized (knownClients) {
       clientEntry.setAlive(true);
     }
-    return events;
+    return clientEntry.getEventDeltaEncoder().encode(events);
   }
 
   /**
@@ -316,6 +365,20 @@ public class UserManager
     }
   }
 
+  private Map<String, Integer> getPendingEventCounts() {
+    Map<String, Integer> result = new HashMap<>();
+    synchronized (knownClients) {
+      for (Map.Entry<ClientID, ClientEntry> entry : knownClients.entrySet()) {
+        result.merge(
+            entry.getKey().getClientName(),
+            entry.getValue().getEventBuffer().getPendingEventCount(),
+            Integer::sum
+        );
+      }
+    }
+    return result;
+  }
+
   private boolean isClientRegistered(
       @Nonnull
       ClientID clientID
@@ -339,7 +402,11 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
+    /**
+     * The encoder for events to be sent to the client.
+     */
+    private final EventDeltaEncoder eventDeltaEncoder;
     /**
      * The client's alive flag.
      */
@@ -352,8 +419,38 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBufferCapacity The capacity of the client's event buffer.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, int eventBufferCapacity) {
+      this(name, perms, eventBufferCapacity, new EventDeltaEncoder(new HashMap<>(), 0));
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBufferCapacity The capacity of the client's event buffer.
+     * @param eventDeltaEncoder The encoder for events to be sent to the client.
+     */
+    public ClientEntry(
+        String name,
+        Set<UserPermission> perms,
+        int eventBufferCapacity,
+        EventDeltaEncoder eventDeltaEncoder
+    ) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      eventBuffer = new EventBuffer(event -> false, eventBufferCapacity);
+      this.eventDeltaEncoder = requireNonNull(eventDeltaEncoder, "eventDeltaEncoder");
     }
 
     /**
@@ -385,6 +482,10 @@ public class UserManager
     public Set<UserPermission> getPermissions() {
       return permissions;
     }
+
+    public EventDeltaEncoder getEventDeltaEncoder() {
+      return eventDeltaEncoder;
+    }
   }
 
   /**
@@ -0,0 +1,150 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.theInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.rmi.services.TCSObjectDeltaEvent;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link EventDeltaEncoder}.
+ */
+class EventDeltaEncoderTest {
+
+  private Map<TCSObjectEvent, Optional<TCSObjectDeltaEvent>> deltaEvents;
+  private EventDeltaEncoder encoder;
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  @BeforeEach
+  void setUp() {
+    deltaEvents = new HashMap<>();
+    encoder = new EventDeltaEncoder(deltaEvents, 2);
+    encoder.setEnabled(true);
+    pointA = new Point("point");
+    pointB = pointA.withType(Point.Type.PARK_POSITION);
+    pointC = pointB.withProperty("some-key", "some-value");
+  }
+
+  @Test
+  void passModificationEventForUnknownObject() {
+    TCSObjectEvent event = modification(pointA, pointB);
+
+    assertThat(encoder.encode(List.of(event)), contains(theInstance(event)));
+  }
+
+  @Test
+  void encodeModificationEventForKnownPreviousState() {
+    TCSObjectEvent event1 = creation(pointA);
+    TCSObjectEvent event2 = modification(pointA, pointB);
+
+    List<Object> result = encoder.encode(List.of(event1, event2));
+
+    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result.get(1), is(instanceOf(TCSObjectDeltaEvent.class)));
+    assertThat(result.get(1), is(theInstance(deltaEvents.get(event2).orElseThrow())));
+  }
+
+  @Test
+  void passModificationEventForUnknownPreviousState() {
+    TCSObjectEvent event1 = creation(pointA);
+    TCSObjectEvent event2 = modification(pointB, pointC);
+
+    assertThat(encoder.encode(List.of(event1, event2)), contains(event1, event2));
+  }
+
+  @Test
+  void passModificationEventAfterSnapshotInterval() {
+    Point pointD = pointC.withProperty("some-other-key", "some-other-value");
+    TCSObjectEvent event4 = modification(pointC, pointD);
+
+    List<Object> result = encoder.encode(
+        List.of(
+            creation(pointA),
+            modification(pointA, pointB),
+            modification(pointB, pointC),
+            event4
+        )
+    );
+
+    assertThat(result.get(1), is(instanceOf(TCSObjectDeltaEvent.class)));
+    assertThat(result.get(2), is(instanceOf(TCSObjectDeltaEvent.class)));
+    assertThat(result.get(3), is(theInstance(event4)));
+  }
+
+  @Test
+  void forgetObjectStatesOnBufferOverflow() {
+    EventBufferOverflowEvent overflowEvent = new EventBufferOverflowEvent(1);
+    TCSObjectEvent event = modification(pointA, pointB);
+
+    assertThat(
+        encoder.encode(List.of(creation(pointA), overflowEvent, event)).subList(1, 3),
+        contains(overflowEvent, event)
+    );
+  }
+
+  @Test
+  void reuseDeltaEventsAcrossEncoders() {
+    EventDeltaEncoder otherEncoder = new EventDeltaEncoder(deltaEvents, 2);
+    otherEncoder.setEnabled(true);
+    TCSObjectEvent event1 = creation(pointA);
+    TCSObjectEvent event2 = modification(pointA, pointB);
+
+    Object delta = encoder.encode(List.of(event1, event2)).get(1);
+
+    assertThat(otherEncoder.encode(List.of(event1, event2)).get(1), is(theInstance(delta)));
+  }
+
+  @Test
+  void passAllEventsIfDisabled() {
+    EventDeltaEncoder disabledEncoder = new EventDeltaEncoder(deltaEvents, 0);
+    disabledEncoder.setEnabled(true);
+    TCSObjectEvent event1 = creation(pointA);
+    TCSObjectEvent event2 = modification(pointA, pointB);
+
+    assertThat(disabledEncoder.encode(List.of(event1, event2)), contains(event1, event2));
+  }
+
+  @Test
+  void passAllEventsIfNotEnabledByClient() {
+    EventDeltaEncoder otherEncoder = new EventDeltaEncoder(deltaEvents, 2);
+    TCSObjectEvent event1 = creation(pointA);
+    TCSObjectEvent event2 = modification(pointA, pointB);
+
+    assertThat(otherEncoder.encode(List.of(event1, event2)), contains(event1, event2));
+  }
+
+  @Test
+  void passModificationEventThatCannotBeEncoded() {
+    Vehicle vehicleA = new Vehicle("vehicle");
+    Vehicle vehicleB = vehicleA.withState(Vehicle.State.EXECUTING);
+    TCSObjectEvent event1 = new TCSObjectEvent(vehicleA, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent event2
+        = new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED);
+
+    assertThat(encoder.encode(List.of(event1, event2)), contains(event1, event2));
+  }
+
+  private static TCSObjectEvent creation(Point point) {
+    return new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  }
+
+  private static TCSObjectEvent modification(Point previous, Point current) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
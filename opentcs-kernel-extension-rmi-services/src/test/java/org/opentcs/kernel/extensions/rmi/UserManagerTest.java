@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.metrics.MetricsRegistry;
 
 /**
  * Unit tests for {@link UserManager}.
@@ -71,7 +72,8 @@ class UserManagerTest {
         eventSource,
         kernelExecutor,
         configuration,
-        userAccountProvider
+        userAccountProvider,
+        new MetricsRegistry()
     );
     manager.initialize();
   }
@@ -9,10 +9,11 @@ import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
-import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.EnvironmentalEntityService;
@@ -51,6 +52,7 @@ import org.opentcs.kernel.peripherals.PeripheralCommAdapterRegistry;
 import org.opentcs.kernel.peripherals.PeripheralControllerFactory;
 import org.opentcs.kernel.peripherals.PeripheralEntryPool;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.OrderJournal;
 import org.opentcs.kernel.persistence.XMLFileModelPersister;
 import org.opentcs.kernel.services.StandardDispatcherService;
 import org.opentcs.kernel.services.StandardEnvironmentalEntityService;
@@ -86,6 +88,11 @@ import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
 import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.opentcs.util.metrics.MeteredEventBus;
+import org.opentcs.util.metrics.MeteredScheduledThreadPoolExecutor;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.opentcs.util.metrics.TaskFlightRecorder;
+import org.opentcs.util.metrics.TracingScheduledThreadPoolExecutor;
 
 /**
  * A Guice module for the openTCS kernel application.
@@ -94,6 +101,11 @@ public class DefaultKernelInjectionModule
     extends
       KernelInjectionModule {
 
+  /**
+   * The registry for the kernel's runtime metrics.
+   */
+  private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
   /**
    * Creates a new instance.
    */
@@ -103,6 +115,7 @@ public class DefaultKernelInjectionModule
   @Override
   @SuppressWarnings("deprecation")
   protected void configure() {
+    bind(MetricsRegistry.class).toInstance(metricsRegistry);
     configureEventHub();
     configureKernelExecutor();
 
@@ -256,10 +269,23 @@ public class DefaultKernelInjectionModule
 
   private void configurePersistence() {
     bind(ModelPersister.class).to(XMLFileModelPersister.class);
+
+    bind(OrderJournalConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                OrderJournalConfiguration.PREFIX,
+                OrderJournalConfiguration.class
+            )
+        );
+    bind(OrderJournal.class).in(Singleton.class);
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    EventBus newEventBus = new MeteredEventBus(
+        new SimpleEventBus(),
+        metricsRegistry,
+        "application"
+    );
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -322,15 +348,42 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureKernelExecutor() {
-    ScheduledExecutorService executor
-        = new LoggingScheduledThreadPoolExecutor(
-            1,
-            runnable -> {
-              Thread thread = new Thread(runnable, "kernelExecutor");
-              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-              return thread;
-            }
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(
+            KernelApplicationConfiguration.PREFIX,
+            KernelApplicationConfiguration.class
         );
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "kernelExecutor");
+      thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      return thread;
+    };
+
+    ScheduledExecutorService executor;
+    TaskFlightRecorder flightRecorder;
+    if (configuration.kernelExecutorTracingEnabled()) {
+      flightRecorder
+          = new TaskFlightRecorder(configuration.kernelExecutorFlightRecorderCapacity());
+      executor = new TracingScheduledThreadPoolExecutor(
+          1,
+          threadFactory,
+          metricsRegistry,
+          "kernelExecutor",
+          flightRecorder,
+          configuration.kernelExecutorSlowTaskThreshold(),
+          TimeUnit.MILLISECONDS
+      );
+    }
+    else {
+      flightRecorder = new TaskFlightRecorder(0);
+      executor = new MeteredScheduledThreadPoolExecutor(
+          1,
+          threadFactory,
+          metricsRegistry,
+          "kernelExecutor"
+      );
+    }
+    bind(TaskFlightRecorder.class).toInstance(flightRecorder);
     bind(ScheduledExecutorService.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
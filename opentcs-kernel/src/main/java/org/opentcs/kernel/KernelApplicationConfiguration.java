@@ -56,9 +56,27 @@ public interface KernelApplicationConfiguration {
   )
   boolean updateRoutingTopologyOnPathLockChange();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The time (in ms) to wait for further path lock changes before updating the router's "
+              + "topology, if it is to be updated implicitly.",
+          "All path lock changes occurring within this time are applied with a single update of "
+              + "the router's topology."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "3_topologyUpdate_1"
+  )
+  long pathLockChangeBatchDelay();
+
   @ConfigurationEntry(
       type = "Boolean",
-      description = "Whether vehicles should be rerouted immediately on topology changes.",
+      description = {
+          "Whether vehicles should be rerouted immediately on topology changes.",
+          "When the topology is updated implicitly due to path lock changes, only vehicles whose "
+              + "remaining routes contain a locked path or could become cheaper due to an unlocked "
+              + "path are rerouted."
+      },
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
       orderKey = "4_reroute_1"
   )
@@ -104,6 +122,65 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of times per second a vehicle's pose (i.e. its precise position and "
+              + "orientation) reported by its driver is updated in the kernel model.",
+          "Poses reported more frequently are conflated, i.e. only the most recent one is applied "
+              + "once the minimum interval has passed. Changes of a vehicle's logical position or "
+              + "state are always applied right away.",
+          "Set to 0 to apply every reported pose right away."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "6_pose_update_rate"
+  )
+  int maxVehiclePoseUpdateRate();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of history entries kept for each object in the kernel model.",
+          "If an object's history reaches this number of entries, its oldest entry is dropped "
+              + "whenever a new one is appended.",
+          "Set to 0 to keep all history entries."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_max_object_history_entry_count"
+  )
+  int maxObjectHistoryEntryCount();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to trace the execution of individual tasks by the kernel executor.",
+          "If enabled, the time tasks wait for and take for their execution is recorded per task "
+              + "type, slow tasks are logged along with their origin and the most recent task "
+              + "executions are kept in a flight recorder that can be retrieved via the web API."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "8_kernel_executor_tracing_0"
+  )
+  boolean kernelExecutorTracingEnabled();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The time (in ms) above which the execution of a task by the kernel executor "
+          + "is considered slow and logged, if tracing is enabled.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "8_kernel_executor_tracing_1"
+  )
+  long kernelExecutorSlowTaskThreshold();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of most recent task executions kept in the kernel executor's "
+          + "flight recorder, if tracing is enabled.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "8_kernel_executor_tracing_2"
+  )
+  int kernelExecutorFlightRecorderCapacity();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
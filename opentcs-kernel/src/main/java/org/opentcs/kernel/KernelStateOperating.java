@@ -25,6 +25,7 @@ import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.peripherals.LocalPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.OrderJournal;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
 import org.opentcs.kernel.workingset.PlantModelManager;
@@ -52,6 +53,10 @@ public class KernelStateOperating
    * The job pool manager.
    */
   private final PeripheralJobPoolManager jobPoolManager;
+  /**
+   * Journals transport orders, order sequences and peripheral jobs.
+   */
+  private final OrderJournal orderJournal;
   /**
    * This kernel's router.
    */
@@ -125,6 +130,7 @@ public class KernelStateOperating
    * @param orderPoolManager The order pool manager to be used.
    * @param jobPoolManager The job pool manager to be used.
    * @param modelPersister The model persister to be used.
+   * @param orderJournal Journals transport orders, order sequences and peripheral jobs.
    * @param configuration This class's configuration.
    * @param router The router to be used.
    * @param scheduler The scheduler to be used.
@@ -150,6 +156,7 @@ public class KernelStateOperating
       TransportOrderPoolManager orderPoolManager,
       PeripheralJobPoolManager jobPoolManager,
       ModelPersister modelPersister,
+      OrderJournal orderJournal,
       KernelApplicationConfiguration configuration,
       Router router,
       Scheduler scheduler,
@@ -176,6 +183,7 @@ public class KernelStateOperating
     );
     this.orderPoolManager = requireNonNull(orderPoolManager, "orderPoolManager");
     this.jobPoolManager = requireNonNull(jobPoolManager, "jobPoolManager");
+    this.orderJournal = requireNonNull(orderJournal, "orderJournal");
     this.router = requireNonNull(router, "router");
     this.scheduler = requireNonNull(scheduler, "scheduler");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
@@ -222,6 +230,10 @@ public class KernelStateOperating
       vehicleService.updateVehicleOrderSequence(curVehicle.getReference(), null);
     }
 
+    // Restore journaled orders before any component starts processing them.
+    LOG.debug("Initializing order journal '{}'...", orderJournal);
+    orderJournal.initialize();
+
     LOG.debug("Initializing scheduler '{}'...", scheduler);
     scheduler.initialize();
     LOG.debug("Initializing router '{}'...", router);
@@ -323,6 +335,11 @@ public class KernelStateOperating
       vehicleService.updateVehicleOrderSequence(curVehicle.getReference(), null);
     }
 
+    // Stop journaling before the pools are cleared, so the journaled orders survive a shutdown.
+    // (When switching to modelling mode, the order journal discards the journaled orders itself.)
+    LOG.debug("Terminating order journal '{}'...", orderJournal);
+    orderJournal.terminate();
+
     // Remove all orders and order sequences from the pool.
     orderPoolManager.clear();
     // Remove all peripheral jobs from the pool.
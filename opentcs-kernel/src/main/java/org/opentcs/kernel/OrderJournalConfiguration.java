@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.kernel.persistence.OrderJournal;
+
+/**
+ * Provides methods to configure the {@link OrderJournal}.
+ */
+@ConfigurationPrefix(OrderJournalConfiguration.PREFIX)
+public interface OrderJournalConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "orderjournal";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to journal the states of transport orders, order sequences and peripheral jobs "
+              + "and restore them when the kernel is started.",
+          "Transport orders and peripheral jobs that were being processed when the kernel was "
+              + "stopped are restored as failed."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_enable"
+  )
+  boolean enable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of journal entries after which the journal is compacted into a "
+          + "snapshot.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_snapshot_interval"
+  )
+  int snapshotInterval();
+}
@@ -5,19 +5,43 @@ package org.opentcs.kernel;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.ReroutingType;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Listens to path lock events and updates the routing topology.
+ * <p>
+ * Path lock changes occurring within a short period of time are processed as a batch, i.e. with a
+ * single update of the routing topology. If configured, only vehicles that may be affected by the
+ * changes are rerouted afterwards, i.e. vehicles whose remaining routes contain a path that has
+ * been locked, or whose remaining routes could become cheaper due to a path that has been
+ * unlocked.
+ * </p>
  */
 public class PathLockEventListener
     implements
@@ -40,6 +64,22 @@ public class PathLockEventListener
    * The dispatcher.
    */
   private final DispatcherService dispatcher;
+  /**
+   * The object service.
+   */
+  private final InternalTCSObjectService objectService;
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The paths whose lock state changed since the routing topology was last updated.
+   */
+  private final Set<TCSObjectReference<Path>> changedPaths = new HashSet<>();
+  /**
+   * The task processing the changed paths.
+   */
+  private ScheduledFuture<?> pendingUpdate;
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -52,6 +92,8 @@ public class PathLockEventListener
    * @param routerService The router service.
    * @param eventBus The event bus.
    * @param dispatcher The dispatcher.
+   * @param objectService The object service.
+   * @param kernelExecutor The kernel executor.
    */
   @Inject
   public PathLockEventListener(
@@ -59,12 +101,17 @@ public class PathLockEventListener
       RouterService routerService,
       @ApplicationEventBus
       EventBus eventBus,
-      DispatcherService dispatcher
+      DispatcherService dispatcher,
+      InternalTCSObjectService objectService,
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
   ) {
     this.configuration = requireNonNull(configuration, "configuration");
     this.routerService = requireNonNull(routerService, "routerService");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
   }
 
   @Override
@@ -88,6 +135,11 @@ public class PathLockEventListener
     }
     initialized = false;
     eventBus.unsubscribe(this);
+    if (pendingUpdate != null) {
+      pendingUpdate.cancel(false);
+      pendingUpdate = null;
+    }
+    changedPaths.clear();
   }
 
   @Override
@@ -102,12 +154,14 @@ public class PathLockEventListener
 
     TCSObjectEvent event = (TCSObjectEvent) eventObject;
     if (hasPathLockChanged(event)) {
-      routerService.updateRoutingTopology(
-          Set.of(((Path) event.getCurrentObjectState()).getReference())
-      );
+      changedPaths.add(((Path) event.getCurrentObjectState()).getReference());
 
-      if (configuration.rerouteOnRoutingTopologyUpdate()) {
-        dispatcher.rerouteAll(ReroutingType.REGULAR);
+      if (pendingUpdate == null) {
+        pendingUpdate = kernelExecutor.schedule(
+            this::processChangedPaths,
+            configuration.pathLockChangeBatchDelay(),
+            TimeUnit.MILLISECONDS
+        );
       }
     }
   }
@@ -118,4 +172,133 @@ public class PathLockEventListener
         && ((Path) event.getCurrentObjectState()).isLocked() != ((Path) event
             .getPreviousObjectState()).isLocked();
   }
+
+  private void processChangedPaths() {
+    pendingUpdate = null;
+    if (changedPaths.isEmpty()) {
+      return;
+    }
+
+    Set<TCSObjectReference<Path>> pathRefs = Set.copyOf(changedPaths);
+    changedPaths.clear();
+
+    routerService.updateRoutingTopology(pathRefs);
+
+    if (!configuration.rerouteOnRoutingTopologyUpdate()) {
+      return;
+    }
+
+    Map<Boolean, Set<TCSObjectReference<Path>>> pathRefsByLockState = pathRefs.stream()
+        .map(pathRef -> objectService.fetch(Path.class, pathRef))
+        .flatMap(Optional::stream)
+        .collect(
+            Collectors.partitioningBy(
+                Path::isLocked,
+                Collectors.mapping(Path::getReference, Collectors.toSet())
+            )
+        );
+    Set<TCSObjectReference<Path>> lockedPathRefs = pathRefsByLockState.get(true);
+    Set<TCSObjectReference<Path>> unlockedPathRefs = pathRefsByLockState.get(false);
+
+    List<Vehicle> affectedVehicles = objectService.stream(Vehicle.class)
+        .filter(vehicle -> vehicle.getTransportOrder() != null)
+        .filter(vehicle -> isAffected(vehicle, lockedPathRefs, unlockedPathRefs))
+        .toList();
+
+    for (Vehicle vehicle : affectedVehicles) {
+      dispatcher.reroute(vehicle.getReference(), ReroutingType.REGULAR);
+    }
+  }
+
+  private boolean isAffected(
+      Vehicle vehicle,
+      Set<TCSObjectReference<Path>> lockedPathRefs,
+      Set<TCSObjectReference<Path>> unlockedPathRefs
+  ) {
+    TransportOrder order
+        = objectService.fetch(TransportOrder.class, vehicle.getTransportOrder()).orElse(null);
+    if (order == null || order.getCurrentDriveOrder() == null) {
+      return false;
+    }
+
+    return (!lockedPathRefs.isEmpty() && traversesAnyOf(order, lockedPathRefs))
+        || (!unlockedPathRefs.isEmpty() && couldBenefitFromChangedTopology(vehicle, order));
+  }
+
+  private boolean traversesAnyOf(TransportOrder order, Set<TCSObjectReference<Path>> pathRefs) {
+    return remainingSteps(order)
+        .map(Route.Step::getPath)
+        .anyMatch(path -> path != null && pathRefs.contains(path.getReference()));
+  }
+
+  private Stream<Route.Step> remainingSteps(TransportOrder order) {
+    Route currentRoute = order.getCurrentDriveOrder().getRoute();
+    Stream<Route.Step> currentSteps = currentRoute == null
+        ? Stream.empty()
+        : currentRoute.getSteps().stream()
+            .skip(Math.max(order.getCurrentRouteStepIndex() + 1, 0));
+    Stream<Route.Step> futureSteps = order.getFutureDriveOrders().stream()
+        .map(DriveOrder::getRoute)
+        .filter(route -> route != null)
+        .flatMap(route -> route.getSteps().stream());
+    return Stream.concat(currentSteps, futureSteps);
+  }
+
+  private boolean couldBenefitFromChangedTopology(Vehicle vehicle, TransportOrder order) {
+    if (vehicle.getCurrentPosition() == null) {
+      return false;
+    }
+
+    Route currentRoute = order.getCurrentDriveOrder().getRoute();
+    if (currentRoute != null) {
+      long remainingCosts = currentRoute.getSteps().stream()
+          .skip(Math.max(order.getCurrentRouteStepIndex() + 1, 0))
+          .mapToLong(Route.Step::getCosts)
+          .sum();
+      if (hasCheaperRoute(
+          vehicle,
+          vehicle.getCurrentPosition(),
+          currentRoute.getFinalDestinationPoint().getReference(),
+          remainingCosts
+      )) {
+        return true;
+      }
+    }
+
+    Route previousRoute = currentRoute;
+    for (DriveOrder driveOrder : order.getFutureDriveOrders()) {
+      Route route = driveOrder.getRoute();
+      if (route != null && previousRoute != null
+          && hasCheaperRoute(
+              vehicle,
+              previousRoute.getFinalDestinationPoint().getReference(),
+              route.getFinalDestinationPoint().getReference(),
+              route.getCosts()
+          )) {
+        return true;
+      }
+      previousRoute = route;
+    }
+
+    return false;
+  }
+
+  private boolean hasCheaperRoute(
+      Vehicle vehicle,
+      TCSObjectReference<Point> sourcePointRef,
+      TCSObjectReference<Point> destinationPointRef,
+      long currentCosts
+  ) {
+    return routerService
+        .computeRoutes(
+            vehicle.getReference(),
+            sourcePointRef,
+            Set.of(destinationPointRef),
+            Set.of(),
+            1
+        )
+        .getOrDefault(destinationPointRef, Set.of())
+        .stream()
+        .anyMatch(route -> route.getCosts() < currentCosts);
+  }
 }
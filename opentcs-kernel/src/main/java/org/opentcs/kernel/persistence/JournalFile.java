@@ -0,0 +1,239 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only file of {@link JournalRecord}s.
+ * <p>
+ * Records are appended in batches, with every batch being forced to the storage device as a whole
+ * before {@link #append(List)} returns. Every record is stored along with its length and a
+ * checksum, so a record that was only partially written (e.g. due to a crash of the kernel) is
+ * detected when reading the file, and reading stops there.
+ * </p>
+ */
+class JournalFile
+    implements
+      Closeable {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(JournalFile.class);
+  /**
+   * The magic number at the start of every journal file.
+   */
+  private static final int MAGIC_NUMBER = 0x4F54434A;
+  /**
+   * The version of the journal file format.
+   */
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * The size of the journal file's header (in bytes).
+   */
+  private static final int HEADER_SIZE = 8;
+  /**
+   * The size of every record's header, i.e. its length and checksum (in bytes).
+   */
+  private static final int RECORD_HEADER_SIZE = 8;
+  /**
+   * The classes that may be deserialized from a journal file.
+   */
+  private static final ObjectInputFilter DESERIALIZATION_FILTER
+      = ObjectInputFilter.Config.createFilter("org.opentcs.**;java.**;!*");
+  /**
+   * The journal file.
+   */
+  private final File file;
+  /**
+   * The channel for writing to the journal file.
+   */
+  private FileChannel channel;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param file The journal file.
+   */
+  JournalFile(
+      @Nonnull
+      File file
+  ) {
+    this.file = requireNonNull(file, "file");
+  }
+
+  /**
+   * Reads all records from the journal file, up to the first record that is incomplete or cannot
+   * be read.
+   *
+   * @return The records read from the journal file, in the order they were appended.
+   * @throws IOException If the journal file could not be read.
+   */
+  @Nonnull
+  List<JournalRecord> read()
+      throws IOException {
+    List<JournalRecord> records = new ArrayList<>();
+    if (!file.isFile()) {
+      return records;
+    }
+
+    try {
+      // The journal is truncated regularly, so it can be read into memory as a whole.
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+      if (buffer.remaining() < HEADER_SIZE
+          || buffer.getInt() != MAGIC_NUMBER
+          || buffer.getInt() != FORMAT_VERSION) {
+        LOG.warn("Ignoring journal file with unsupported format: {}", file);
+        return records;
+      }
+
+      while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+          break;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(payload);
+        if (checksum != checksumOf(payload)) {
+          break;
+        }
+        records.add(deserialize(payload));
+      }
+
+      if (buffer.hasRemaining()) {
+        LOG.warn(
+            "Ignoring incomplete or corrupt data at the end of journal file {} ({} bytes).",
+            file,
+            buffer.remaining()
+        );
+      }
+    }
+    catch (ClassNotFoundException | ClassCastException exc) {
+      throw new IOException("Could not read journal file " + file, exc);
+    }
+    return records;
+  }
+
+  /**
+   * Opens the journal file for appending records.
+   * <p>
+   * The journal file's current content is kept until {@link #truncate()} is called.
+   * </p>
+   *
+   * @throws IOException If the journal file could not be opened.
+   */
+  void open()
+      throws IOException {
+    channel = FileChannel.open(
+        file.toPath(),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE
+    );
+  }
+
+  /**
+   * Appends the given records to the journal file and forces them to the storage device.
+   *
+   * @param records The records to be appended.
+   * @throws IOException If the records could not be written.
+   */
+  void append(
+      @Nonnull
+      List<JournalRecord> records
+  )
+      throws IOException {
+    requireNonNull(records, "records");
+
+    List<byte[]> payloads = new ArrayList<>(records.size());
+    int size = 0;
+    for (JournalRecord record : records) {
+      byte[] payload = serialize(record);
+      payloads.add(payload);
+      size += RECORD_HEADER_SIZE + payload.length;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    for (byte[] payload : payloads) {
+      buffer.putInt(payload.length);
+      buffer.putInt(checksumOf(payload));
+      buffer.put(payload);
+    }
+    buffer.flip();
+    write(buffer);
+    channel.force(false);
+  }
+
+  /**
+   * Discards all records appended to the journal file so far.
+   *
+   * @throws IOException If the journal file could not be truncated.
+   */
+  void truncate()
+      throws IOException {
+    channel.truncate(0);
+    channel.position(0);
+    write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).flip());
+    channel.force(false);
+  }
+
+  @Override
+  public void close()
+      throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  private void write(ByteBuffer buffer)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static byte[] serialize(JournalRecord record)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(record);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static JournalRecord deserialize(byte[] payload)
+      throws IOException,
+        ClassNotFoundException {
+    try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+      input.setObjectInputFilter(DESERIALIZATION_FILTER);
+      return (JournalRecord) input.readObject();
+    }
+  }
+
+  private static int checksumOf(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+}
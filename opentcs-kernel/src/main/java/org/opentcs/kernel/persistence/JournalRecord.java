@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A single entry in the {@link OrderJournal}, recording either an object's new state or its
+ * removal.
+ * <p>
+ * Every record contains the complete state of the object, so replaying the same records more than
+ * once leads to the same result.
+ * </p>
+ */
+class JournalRecord
+    implements
+      Serializable {
+
+  /**
+   * The name of the object.
+   */
+  private final String objectName;
+  /**
+   * The object's new state, or {@code null}, if the object was removed.
+   */
+  private final TCSObject<?> objectState;
+
+  private JournalRecord(String objectName, TCSObject<?> objectState) {
+    this.objectName = requireNonNull(objectName, "objectName");
+    this.objectState = objectState;
+  }
+
+  /**
+   * Creates a record for the given new state of an object.
+   *
+   * @param objectState The object's new state.
+   * @return The record.
+   */
+  @Nonnull
+  static JournalRecord updated(
+      @Nonnull
+      TCSObject<?> objectState
+  ) {
+    requireNonNull(objectState, "objectState");
+    return new JournalRecord(objectState.getName(), objectState);
+  }
+
+  /**
+   * Creates a record for the removal of an object.
+   *
+   * @param objectName The name of the removed object.
+   * @return The record.
+   */
+  @Nonnull
+  static JournalRecord removed(
+      @Nonnull
+      String objectName
+  ) {
+    return new JournalRecord(objectName, null);
+  }
+
+  /**
+   * Returns the name of the object.
+   *
+   * @return The name of the object.
+   */
+  @Nonnull
+  String getObjectName() {
+    return objectName;
+  }
+
+  /**
+   * Returns the object's new state.
+   *
+   * @return The object's new state, or {@code null}, if the object was removed.
+   */
+  @Nullable
+  TCSObject<?> getObjectState() {
+    return objectState;
+  }
+
+  @Override
+  public String toString() {
+    return "JournalRecord{"
+        + "objectName=" + objectName
+        + ", removed=" + (objectState == null)
+        + '}';
+  }
+}
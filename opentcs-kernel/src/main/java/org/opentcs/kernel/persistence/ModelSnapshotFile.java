@@ -0,0 +1,195 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.util.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary snapshot of a model read from or written to a model file.
+ * <p>
+ * The snapshot contains the serialized model, along with a digest of the model file's content it
+ * was created for. It is used only as long as this digest matches the model file's content and the
+ * snapshot was written by the same openTCS version - the model file remains authoritative.
+ * </p>
+ */
+class ModelSnapshotFile {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ModelSnapshotFile.class);
+  /**
+   * The magic number at the start of every snapshot file.
+   */
+  private static final int MAGIC_NUMBER = 0x4F54434D;
+  /**
+   * The version of the snapshot file format.
+   */
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * The algorithm used for computing model files' digests.
+   */
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  /**
+   * The classes that may be deserialized from a snapshot file.
+   */
+  private static final ObjectInputFilter DESERIALIZATION_FILTER
+      = ObjectInputFilter.Config.createFilter("org.opentcs.**;java.**;!*");
+  /**
+   * The snapshot file.
+   */
+  private final File snapshotFile;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param snapshotFile The snapshot file.
+   */
+  ModelSnapshotFile(
+      @Nonnull
+      File snapshotFile
+  ) {
+    this.snapshotFile = requireNonNull(snapshotFile, "snapshotFile");
+  }
+
+  /**
+   * Reads the model from the snapshot file, provided the snapshot was created for the current
+   * content of the given model file.
+   *
+   * @param modelFile The model file.
+   * @return The model, or an empty optional, if there is no snapshot file or it is outdated or
+   * cannot be read.
+   */
+  @Nonnull
+  Optional<PlantModelCreationTO> read(
+      @Nonnull
+      File modelFile
+  ) {
+    requireNonNull(modelFile, "modelFile");
+
+    if (!snapshotFile.isFile()) {
+      return Optional.empty();
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(snapshotFile.toPath()))
+    )) {
+      if (input.readInt() != MAGIC_NUMBER
+          || input.readInt() != FORMAT_VERSION
+          || !Environment.getBaselineVersion().equals(input.readUTF())) {
+        LOG.debug("Ignoring snapshot file with unsupported format: {}", snapshotFile);
+        return Optional.empty();
+      }
+
+      byte[] digest = new byte[input.readUnsignedShort()];
+      input.readFully(digest);
+      if (!Arrays.equals(digest, computeDigest(modelFile))) {
+        LOG.debug("Ignoring outdated snapshot file: {}", snapshotFile);
+        return Optional.empty();
+      }
+
+      ObjectInputStream objectInput = new ObjectInputStream(input);
+      objectInput.setObjectInputFilter(DESERIALIZATION_FILTER);
+      return Optional.of((PlantModelCreationTO) objectInput.readObject());
+    }
+    catch (IOException | ClassNotFoundException | ClassCastException exc) {
+      LOG.warn("Could not read snapshot file {}, ignoring it.", snapshotFile, exc);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes the given model to the snapshot file, replacing any existing snapshot.
+   *
+   * @param model The model.
+   * @param modelFile The model file the model was read from or written to.
+   * @throws IOException If the snapshot file could not be written.
+   */
+  void write(
+      @Nonnull
+      PlantModelCreationTO model,
+      @Nonnull
+      File modelFile
+  )
+      throws IOException {
+    requireNonNull(model, "model");
+    requireNonNull(modelFile, "modelFile");
+
+    byte[] digest = computeDigest(modelFile);
+    File tempFile = new File(snapshotFile.getPath() + ".tmp");
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))
+    )) {
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(FORMAT_VERSION);
+      output.writeUTF(Environment.getBaselineVersion());
+      output.writeShort(digest.length);
+      output.write(digest);
+
+      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+      objectOutput.writeObject(model);
+      objectOutput.flush();
+    }
+
+    try {
+      Files.move(
+          tempFile.toPath(),
+          snapshotFile.toPath(),
+          StandardCopyOption.REPLACE_EXISTING
+      );
+    }
+    finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+
+  /**
+   * Deletes the snapshot file, if it exists.
+   *
+   * @throws IOException If the snapshot file could not be deleted.
+   */
+  void delete()
+      throws IOException {
+    Files.deleteIfExists(snapshotFile.toPath());
+  }
+
+  private static byte[] computeDigest(File file)
+      throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException exc) {
+      throw new IllegalStateException("Digest algorithm not available: " + DIGEST_ALGORITHM, exc);
+    }
+
+    try (InputStream input = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    }
+    return digest.digest();
+  }
+}
@@ -0,0 +1,376 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.OrderJournalConfiguration;
+import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journals the states of transport orders, order sequences and peripheral jobs, and restores them
+ * after a restart of the kernel.
+ * <p>
+ * Every change of such an object is recorded by appending the object's new state to a journal
+ * file. Recording a change merely queues it, while the actual writing is done by a separate thread.
+ * This thread appends all changes queued in the meantime as a single batch, which is forced to the
+ * storage device as a whole (group commit), so the kernel's threads never wait for the journal to
+ * be written. After the configured number of journal entries, the journal is compacted into a
+ * snapshot of all objects' states, and the journal file is truncated.
+ * </p>
+ * <p>
+ * When the kernel enters operating mode for the first time after being started, the objects'
+ * states are read from the snapshot and the journal file and restored (see
+ * {@link WorkingSetRecovery}). When it enters operating mode again later, e.g. after a new plant
+ * model has been loaded, nothing is restored, as the pool of transport orders has been cleared
+ * deliberately. For the same reason, the journal is discarded when the kernel leaves operating mode
+ * for modelling mode, so the cleared objects are not restored after a later restart, either.
+ * </p>
+ */
+public class OrderJournal
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderJournal.class);
+  /**
+   * The name of the journal file in the data directory.
+   */
+  private static final String JOURNAL_FILE_NAME = "orders.journal";
+  /**
+   * The name of the snapshot file in the data directory.
+   */
+  private static final String SNAPSHOT_FILE_NAME = "orders.snapshot";
+  /**
+   * A marker telling the writer thread to stop.
+   */
+  private static final JournalRecord STOP_MARKER = JournalRecord.removed("");
+  /**
+   * This class's configuration.
+   */
+  private final OrderJournalConfiguration configuration;
+  /**
+   * The event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The transport order pool manager.
+   */
+  private final TransportOrderPoolManager orderPoolManager;
+  /**
+   * The peripheral job pool manager.
+   */
+  private final PeripheralJobPoolManager jobPoolManager;
+  /**
+   * The directory containing the journal and snapshot files.
+   */
+  private final File dataDirectory;
+  /**
+   * The journal file.
+   */
+  private final JournalFile journalFile;
+  /**
+   * The snapshot file.
+   */
+  private final WorkingSetSnapshotFile snapshotFile;
+  /**
+   * The records queued for being appended to the journal.
+   */
+  private final BlockingQueue<JournalRecord> pendingRecords = new LinkedBlockingQueue<>();
+  /**
+   * The journaled objects' current states, mapped by their names.
+   * Accessed only by the writer thread while it is running.
+   */
+  private final Map<String, TCSObject<?>> journaledObjects = new LinkedHashMap<>();
+  /**
+   * The number of records appended to the journal since the last snapshot was written.
+   */
+  private int recordsSinceSnapshot;
+  /**
+   * Whether the journal is to be discarded when this instance is terminated, as the kernel is
+   * switching to modelling mode.
+   */
+  private boolean discardOnTerminate;
+  /**
+   * Whether the journaled objects have been restored already.
+   */
+  private boolean restored;
+  /**
+   * The thread appending queued records to the journal.
+   */
+  private Thread writerThread;
+  /**
+   * This instance's <em>initialized</em> flag.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration This class's configuration.
+   * @param homeDirectory The application's home directory.
+   * @param eventBus The event bus.
+   * @param orderPoolManager The transport order pool manager.
+   * @param jobPoolManager The peripheral job pool manager.
+   */
+  @Inject
+  public OrderJournal(
+      OrderJournalConfiguration configuration,
+      @ApplicationHome
+      File homeDirectory,
+      @ApplicationEventBus
+      EventBus eventBus,
+      TransportOrderPoolManager orderPoolManager,
+      PeripheralJobPoolManager jobPoolManager
+  ) {
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.orderPoolManager = requireNonNull(orderPoolManager, "orderPoolManager");
+    this.jobPoolManager = requireNonNull(jobPoolManager, "jobPoolManager");
+    this.dataDirectory = new File(requireNonNull(homeDirectory, "homeDirectory"), "data");
+    this.journalFile = new JournalFile(new File(dataDirectory, JOURNAL_FILE_NAME));
+    this.snapshotFile = new WorkingSetSnapshotFile(new File(dataDirectory, SNAPSHOT_FILE_NAME));
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+    if (!configuration.enable()) {
+      LOG.debug("Order journal disabled.");
+      initialized = true;
+      return;
+    }
+
+    if (!restored) {
+      restore();
+      restored = true;
+    }
+
+    journaledObjects.clear();
+    orderPoolManager.getObjectRepo().getObjects(OrderSequence.class)
+        .forEach(sequence -> journaledObjects.put(sequence.getName(), sequence));
+    orderPoolManager.getObjectRepo().getObjects(TransportOrder.class)
+        .forEach(order -> journaledObjects.put(order.getName(), order));
+    jobPoolManager.getObjectRepo().getObjects(PeripheralJob.class)
+        .forEach(job -> journaledObjects.put(job.getName(), job));
+
+    try {
+      if (!dataDirectory.isDirectory() && !dataDirectory.mkdirs()) {
+        throw new IOException("Could not create directory " + dataDirectory);
+      }
+      journalFile.open();
+      writeSnapshot();
+    }
+    catch (IOException exc) {
+      LOG.error("Could not initialize the order journal, not journaling.", exc);
+      closeJournalFile();
+      initialized = true;
+      return;
+    }
+
+    discardOnTerminate = false;
+    eventBus.subscribe(this);
+    writerThread = new Thread(this::writeRecords, "orderJournalWriter");
+    writerThread.setDaemon(true);
+    writerThread.start();
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+    initialized = false;
+    if (writerThread == null) {
+      return;
+    }
+
+    eventBus.unsubscribe(this);
+    pendingRecords.add(STOP_MARKER);
+    try {
+      writerThread.join();
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while waiting for the order journal to be written.", exc);
+      // The writer thread is still running, so leave the journal to it.
+      return;
+    }
+    writerThread = null;
+
+    if (discardOnTerminate) {
+      LOG.debug("Leaving operating mode, discarding journaled objects.");
+      journaledObjects.clear();
+      discardOnTerminate = false;
+    }
+
+    try {
+      writeSnapshot();
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not write snapshot, keeping journal.", exc);
+    }
+    closeJournalFile();
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (event instanceof KernelStateTransitionEvent transitionEvent
+        && !transitionEvent.isTransitionFinished()) {
+      // The pools are cleared when switching to modelling mode, but not when shutting down.
+      discardOnTerminate = transitionEvent.getEnteredState() == Kernel.State.MODELLING;
+      return;
+    }
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !isJournaled(objectEvent.getCurrentOrPreviousObjectState())) {
+      return;
+    }
+
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      pendingRecords.add(JournalRecord.removed(objectEvent.getPreviousObjectState().getName()));
+    }
+    else {
+      pendingRecords.add(JournalRecord.updated(objectEvent.getCurrentObjectState()));
+    }
+  }
+
+  private boolean isJournaled(TCSObject<?> object) {
+    return object instanceof TransportOrder
+        || object instanceof OrderSequence
+        || object instanceof PeripheralJob;
+  }
+
+  private void restore() {
+    Map<String, TCSObject<?>> objects = new LinkedHashMap<>();
+    try {
+      snapshotFile.read().forEach(object -> objects.put(object.getName(), object));
+      List<JournalRecord> records = journalFile.read();
+      records.forEach(record -> apply(objects, record));
+      LOG.debug("Read {} journal records after snapshot.", records.size());
+    }
+    catch (IOException exc) {
+      LOG.error("Could not read the order journal, not restoring any objects.", exc);
+      return;
+    }
+
+    if (objects.isEmpty()) {
+      return;
+    }
+
+    LOG.info("Restoring {} journaled objects...", objects.size());
+    WorkingSetRecovery recovery
+        = new WorkingSetRecovery(orderPoolManager.getObjectRepo(), objects.values());
+    recovery.getOrderSequences().forEach(orderPoolManager::restoreOrderSequence);
+    recovery.getTransportOrders().forEach(orderPoolManager::restoreTransportOrder);
+    recovery.getPeripheralJobs().forEach(jobPoolManager::restorePeripheralJob);
+  }
+
+  private void writeRecords() {
+    List<JournalRecord> batch = new ArrayList<>();
+    boolean stopped = false;
+    while (!stopped) {
+      try {
+        batch.add(pendingRecords.take());
+      }
+      catch (InterruptedException exc) {
+        LOG.warn("Interrupted while waiting for records, stopping.", exc);
+        return;
+      }
+      pendingRecords.drainTo(batch);
+
+      if (batch.get(batch.size() - 1) == STOP_MARKER) {
+        batch.remove(batch.size() - 1);
+        stopped = true;
+      }
+      commit(batch);
+      batch.clear();
+    }
+  }
+
+  private void commit(List<JournalRecord> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    batch.forEach(record -> apply(journaledObjects, record));
+    try {
+      journalFile.append(batch);
+      recordsSinceSnapshot += batch.size();
+      if (recordsSinceSnapshot >= configuration.snapshotInterval()) {
+        writeSnapshot();
+      }
+    }
+    catch (IOException exc) {
+      LOG.error("Could not write {} journal records, writing snapshot instead.", batch.size(), exc);
+      // The journal file may end with a partially written batch now, which would prevent any
+      // records appended later from being read. Replace the journal with a snapshot instead.
+      try {
+        writeSnapshot();
+      }
+      catch (IOException snapshotExc) {
+        LOG.error("Could not write snapshot.", snapshotExc);
+      }
+    }
+  }
+
+  private void writeSnapshot()
+      throws IOException {
+    snapshotFile.write(journaledObjects.values());
+    journalFile.truncate();
+    recordsSinceSnapshot = 0;
+  }
+
+  private void closeJournalFile() {
+    try {
+      journalFile.close();
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not close journal file.", exc);
+    }
+  }
+
+  private static void apply(Map<String, TCSObject<?>> objects, JournalRecord record) {
+    if (record.getObjectState() == null) {
+      objects.remove(record.getObjectName());
+    }
+    else {
+      objects.put(record.getObjectName(), record.getObjectState());
+    }
+  }
+}
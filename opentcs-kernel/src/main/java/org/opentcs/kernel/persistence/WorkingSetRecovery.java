@@ -0,0 +1,240 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares journaled transport orders, order sequences and peripheral jobs for being restored
+ * after a restart of the kernel.
+ * <p>
+ * Since vehicles and peripherals do not continue processing after a restart of the kernel,
+ * transport orders and peripheral jobs that were being processed are marked as failed, and the
+ * order sequences they belong to are updated accordingly. Objects referencing elements that do not
+ * exist in the current plant model are not restored at all, and neither are objects depending on
+ * them.
+ * </p>
+ */
+class WorkingSetRecovery {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(WorkingSetRecovery.class);
+  /**
+   * The object repository containing the current plant model.
+   */
+  private final TCSObjectRepository objectRepo;
+  /**
+   * The order sequences to be restored, mapped by their names.
+   */
+  private final Map<String, OrderSequence> sequences = new LinkedHashMap<>();
+  /**
+   * The transport orders to be restored, mapped by their names.
+   */
+  private final Map<String, TransportOrder> orders = new LinkedHashMap<>();
+  /**
+   * The peripheral jobs to be restored, mapped by their names.
+   */
+  private final Map<String, PeripheralJob> jobs = new LinkedHashMap<>();
+  /**
+   * The names of journaled objects that are not restored.
+   */
+  private final Set<String> discardedNames = new HashSet<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectRepo The object repository containing the current plant model.
+   * @param journaledObjects The journaled objects.
+   */
+  WorkingSetRecovery(
+      @Nonnull
+      TCSObjectRepository objectRepo,
+      @Nonnull
+      Collection<TCSObject<?>> journaledObjects
+  ) {
+    this.objectRepo = requireNonNull(objectRepo, "objectRepo");
+    requireNonNull(journaledObjects, "journaledObjects");
+
+    for (TCSObject<?> object : journaledObjects) {
+      if (object instanceof OrderSequence sequence) {
+        sequences.put(sequence.getName(), sequence);
+      }
+      else if (object instanceof TransportOrder order) {
+        orders.put(order.getName(), order);
+      }
+      else if (object instanceof PeripheralJob job) {
+        jobs.put(job.getName(), job);
+      }
+    }
+
+    discardInconsistentObjects();
+    failInterruptedOrders();
+    failInterruptedJobs();
+  }
+
+  /**
+   * Returns the order sequences to be restored.
+   *
+   * @return The order sequences to be restored.
+   */
+  @Nonnull
+  List<OrderSequence> getOrderSequences() {
+    return new ArrayList<>(sequences.values());
+  }
+
+  /**
+   * Returns the transport orders to be restored.
+   *
+   * @return The transport orders to be restored.
+   */
+  @Nonnull
+  List<TransportOrder> getTransportOrders() {
+    return new ArrayList<>(orders.values());
+  }
+
+  /**
+   * Returns the peripheral jobs to be restored.
+   *
+   * @return The peripheral jobs to be restored.
+   */
+  @Nonnull
+  List<PeripheralJob> getPeripheralJobs() {
+    return new ArrayList<>(jobs.values());
+  }
+
+  private void discardInconsistentObjects() {
+    boolean discarded;
+    do {
+      discarded = false;
+      for (TransportOrder order : List.copyOf(orders.values())) {
+        if (!isConsistent(order)) {
+          discard(orders, order);
+          discarded = true;
+        }
+      }
+      for (OrderSequence sequence : List.copyOf(sequences.values())) {
+        if (!isConsistent(sequence)) {
+          discard(sequences, sequence);
+          discarded = true;
+        }
+      }
+    }
+    while (discarded);
+
+    for (PeripheralJob job : List.copyOf(jobs.values())) {
+      if (!isConsistent(job)) {
+        discard(jobs, job);
+      }
+    }
+  }
+
+  private <T extends TCSObject<T>> void discard(Map<String, T> objects, T object) {
+    LOG.warn("Not restoring {}, as it references unknown or discarded objects.", object.getName());
+    objects.remove(object.getName());
+    discardedNames.add(object.getName());
+  }
+
+  private boolean isConsistent(TransportOrder order) {
+    return existsInModel(order.getIntendedVehicle())
+        && order.getAllDriveOrders().stream()
+            .map(DriveOrder::getDestination)
+            .allMatch(destination -> existsInModel(destination.getDestination()))
+        && (order.getWrappingSequence() == null
+            || sequences.containsKey(order.getWrappingSequence().getName()))
+        && order.getDependencies().stream()
+            .noneMatch(dependency -> discardedNames.contains(dependency.getName()));
+  }
+
+  private boolean isConsistent(OrderSequence sequence) {
+    return existsInModel(sequence.getIntendedVehicle())
+        && sequence.getOrders().stream()
+            .noneMatch(order -> discardedNames.contains(order.getName()));
+  }
+
+  private boolean isConsistent(PeripheralJob job) {
+    return existsInModel(job.getPeripheralOperation().getLocation())
+        && existsInModel(job.getRelatedVehicle())
+        && (job.getRelatedTransportOrder() == null
+            || !discardedNames.contains(job.getRelatedTransportOrder().getName()));
+  }
+
+  private boolean existsInModel(TCSObjectReference<?> ref) {
+    return ref == null || objectRepo.getObjectOrNull(ref) != null;
+  }
+
+  private void failInterruptedOrders() {
+    for (String orderName : List.copyOf(orders.keySet())) {
+      // Look up the current state, as it may have been changed along with its sequence already.
+      TransportOrder order = orders.get(orderName);
+      if (order.hasState(TransportOrder.State.BEING_PROCESSED)
+          || order.hasState(TransportOrder.State.WITHDRAWN)) {
+        LOG.info("Restoring interrupted transport order {} as failed.", order.getName());
+        orders.put(order.getName(), order.withState(TransportOrder.State.FAILED));
+        updateSequenceOfFailedOrder(order);
+      }
+    }
+
+    // Vehicles do not remember the sequences they were processing across restarts.
+    for (OrderSequence sequence : List.copyOf(sequences.values())) {
+      if (!sequence.isFinished() && sequence.getProcessingVehicle() != null) {
+        sequences.put(sequence.getName(), sequence.withProcessingVehicle(null));
+      }
+    }
+  }
+
+  private void updateSequenceOfFailedOrder(TransportOrder failedOrder) {
+    if (failedOrder.getWrappingSequence() == null) {
+      return;
+    }
+
+    OrderSequence sequence = sequences.get(failedOrder.getWrappingSequence().getName());
+    if (sequence.isFailureFatal() && !failedOrder.isDispensable()) {
+      sequence = sequence.withComplete(true);
+      for (TCSObjectReference<TransportOrder> orderRef : sequence.getOrders()) {
+        TransportOrder order = orders.get(orderRef.getName());
+        if (order != null && !order.getState().isFinalState()) {
+          orders.put(order.getName(), order.withState(TransportOrder.State.FAILED));
+        }
+      }
+      sequence = sequence.withFinishedIndex(sequence.getOrders().size() - 1);
+    }
+    else if (failedOrder.getReference().equals(sequence.getNextUnfinishedOrder())) {
+      sequence = sequence.withFinishedIndex(sequence.getFinishedIndex() + 1);
+    }
+
+    if (sequence.isComplete() && sequence.getNextUnfinishedOrder() == null) {
+      sequence = sequence.withFinished(true).withFinishedTime(Instant.now());
+    }
+    sequences.put(sequence.getName(), sequence);
+  }
+
+  private void failInterruptedJobs() {
+    for (PeripheralJob job : List.copyOf(jobs.values())) {
+      if (job.getState() == PeripheralJob.State.BEING_PROCESSED) {
+        LOG.info("Restoring interrupted peripheral job {} as failed.", job.getName());
+        jobs.put(job.getName(), job.withState(PeripheralJob.State.FAILED));
+      }
+    }
+  }
+}
@@ -0,0 +1,143 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.opentcs.data.TCSObject;
+import org.opentcs.util.Environment;
+
+/**
+ * A compacted snapshot of the objects journaled by the {@link OrderJournal}, i.e. the states of
+ * all objects at the time the snapshot was written.
+ * <p>
+ * The snapshot file is replaced atomically, so it always contains a complete snapshot.
+ * </p>
+ */
+class WorkingSetSnapshotFile {
+
+  /**
+   * The magic number at the start of every snapshot file.
+   */
+  private static final int MAGIC_NUMBER = 0x4F544353;
+  /**
+   * The version of the snapshot file format.
+   */
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * The classes that may be deserialized from a snapshot file.
+   */
+  private static final ObjectInputFilter DESERIALIZATION_FILTER
+      = ObjectInputFilter.Config.createFilter("org.opentcs.**;java.**;!*");
+  /**
+   * The snapshot file.
+   */
+  private final File file;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param file The snapshot file.
+   */
+  WorkingSetSnapshotFile(
+      @Nonnull
+      File file
+  ) {
+    this.file = requireNonNull(file, "file");
+  }
+
+  /**
+   * Reads the objects from the snapshot file.
+   *
+   * @return The objects, or an empty list, if there is no snapshot file.
+   * @throws IOException If the snapshot file could not be read or was written by a different
+   * openTCS version.
+   */
+  @Nonnull
+  List<TCSObject<?>> read()
+      throws IOException {
+    List<TCSObject<?>> objects = new ArrayList<>();
+    if (!file.isFile()) {
+      return objects;
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file.toPath()))
+    )) {
+      if (input.readInt() != MAGIC_NUMBER
+          || input.readInt() != FORMAT_VERSION
+          || !Environment.getBaselineVersion().equals(input.readUTF())) {
+        throw new IOException("Unsupported snapshot file format: " + file);
+      }
+
+      ObjectInputStream objectInput = new ObjectInputStream(input);
+      objectInput.setObjectInputFilter(DESERIALIZATION_FILTER);
+      int count = objectInput.readInt();
+      for (int i = 0; i < count; i++) {
+        objects.add((TCSObject<?>) objectInput.readObject());
+      }
+    }
+    catch (ClassNotFoundException | ClassCastException exc) {
+      throw new IOException("Could not read snapshot file " + file, exc);
+    }
+    return objects;
+  }
+
+  /**
+   * Writes the given objects to the snapshot file, replacing any existing snapshot.
+   *
+   * @param objects The objects.
+   * @throws IOException If the snapshot file could not be written.
+   */
+  void write(
+      @Nonnull
+      Collection<TCSObject<?>> objects
+  )
+      throws IOException {
+    requireNonNull(objects, "objects");
+
+    File tempFile = new File(file.getPath() + ".tmp");
+    try (FileOutputStream fileOutput = new FileOutputStream(tempFile)) {
+      DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileOutput));
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(FORMAT_VERSION);
+      output.writeUTF(Environment.getBaselineVersion());
+
+      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+      objectOutput.writeInt(objects.size());
+      for (TCSObject<?> object : objects) {
+        objectOutput.writeObject(object);
+      }
+      objectOutput.flush();
+      fileOutput.getFD().sync();
+    }
+
+    try {
+      Files.move(
+          tempFile.toPath(),
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE
+      );
+    }
+    finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+}
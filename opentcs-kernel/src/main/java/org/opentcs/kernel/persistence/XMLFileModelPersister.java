@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Optional;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.util.persistence.ModelParser;
@@ -19,6 +20,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ModelPersister} implementation using an XML file.
+ * <p>
+ * Additionally, a binary snapshot of the model is kept next to the XML file. As long as it is
+ * up to date with the XML file's content, the model is read from the snapshot instead of being
+ * parsed from the XML file.
+ * </p>
  */
 public class XMLFileModelPersister
     implements
@@ -32,6 +38,10 @@ public class XMLFileModelPersister
    * The name of the model file in the model directory.
    */
   private static final String MODEL_FILE_NAME = "model.xml";
+  /**
+   * The name of the model snapshot file in the model directory.
+   */
+  private static final String SNAPSHOT_FILE_NAME = "model.bin";
   /**
    * The directory path for the persisted model.
    */
@@ -40,6 +50,10 @@ public class XMLFileModelPersister
    * The model file.
    */
   private final File modelFile;
+  /**
+   * The binary snapshot of the model file.
+   */
+  private final ModelSnapshotFile snapshotFile;
   /**
    * Reads and writes models into xml files.
    */
@@ -61,6 +75,7 @@ public class XMLFileModelPersister
     this.dataDirectory = new File(requireNonNull(directory, "directory"), "data");
 
     this.modelFile = new File(dataDirectory, MODEL_FILE_NAME);
+    this.snapshotFile = new ModelSnapshotFile(new File(dataDirectory, SNAPSHOT_FILE_NAME));
   }
 
   @Override
@@ -86,11 +101,14 @@ public class XMLFileModelPersister
         createBackup();
       }
 
+      snapshotFile.delete();
       modelParser.writeModel(model, modelFile);
     }
     catch (IOException exc) {
       throw new IllegalStateException("Exception saving model", exc);
     }
+
+    writeSnapshot(model);
   }
 
   @Override
@@ -101,8 +119,16 @@ public class XMLFileModelPersister
       return new PlantModelCreationTO("empty model");
     }
 
+    Optional<PlantModelCreationTO> snapshotModel = snapshotFile.read(modelFile);
+    if (snapshotModel.isPresent()) {
+      LOG.debug("Read model from snapshot.");
+      return snapshotModel.get();
+    }
+
     // Read the model from the file.
-    return readXMLModel(modelFile);
+    PlantModelCreationTO model = readXMLModel(modelFile);
+    writeSnapshot(model);
+    return model;
   }
 
   @Override
@@ -149,6 +175,23 @@ public class XMLFileModelPersister
     );
   }
 
+  /**
+   * Writes a snapshot of the given model, which is expected to match the model file's content.
+   * <p>
+   * As the model file remains authoritative, failing to write the snapshot is not an error.
+   * </p>
+   *
+   * @param model The model.
+   */
+  private void writeSnapshot(PlantModelCreationTO model) {
+    try {
+      snapshotFile.write(model, modelFile);
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not write model snapshot.", exc);
+    }
+  }
+
   /**
    * Test if the data directory with a model file exist. If not, throw an
    * exception.
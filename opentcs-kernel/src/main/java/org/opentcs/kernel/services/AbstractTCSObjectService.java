@@ -48,6 +48,18 @@ public abstract class AbstractTCSObjectService
     return getObjectService().stream(clazz);
   }
 
+  @Override
+  public <T extends TCSObject<T>> Stream<T> streamSortedByName(
+      Class<T> clazz,
+      @Nullable
+      String afterName
+  )
+      throws KernelRuntimeException {
+    requireNonNull(clazz, "clazz");
+
+    return getObjectService().streamSortedByName(clazz, afterName);
+  }
+
   @Override
   public <T extends TCSObject<T>> Optional<T> fetch(Class<T> clazz, TCSObjectReference<T> ref)
       throws CredentialsException {
@@ -62,6 +62,18 @@ public class StandardTCSObjectService
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>> Stream<T> streamSortedByName(
+      Class<T> clazz,
+      @Nullable
+      String afterName
+  )
+      throws KernelRuntimeException {
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().streamObjectsSortedByName(clazz, afterName);
+    }
+  }
+
   @Override
   public <T extends TCSObject<T>> Optional<T> fetch(Class<T> clazz, TCSObjectReference<T> ref) {
     requireNonNull(clazz, "clazz");
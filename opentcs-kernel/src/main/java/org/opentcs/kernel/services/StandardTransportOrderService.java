@@ -5,8 +5,11 @@ package org.opentcs.kernel.services;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
@@ -210,6 +213,36 @@ public class StandardTransportOrderService
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos
+  ) {
+    requireNonNull(tos, "tos");
+
+    List<TransportOrderCreationResult> results = new ArrayList<>(tos.size());
+    synchronized (globalSyncObject) {
+      for (TransportOrderCreationTO to : tos) {
+        try {
+          results.add(
+              TransportOrderCreationResult.success(
+                  to.getName(),
+                  orderPoolManager.createTransportOrder(to)
+              )
+          );
+        }
+        catch (ObjectUnknownException | ObjectExistsException | IllegalArgumentException exc) {
+          results.add(
+              TransportOrderCreationResult.failure(
+                  to.getName(),
+                  Objects.toString(exc.getMessage(), exc.getClass().getName())
+              )
+          );
+        }
+      }
+    }
+    return results;
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
@@ -32,6 +33,7 @@ import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
@@ -155,6 +157,10 @@ public class DefaultVehicleController
    * Resolves the vehicle precise position to an openTCS point.
    */
   private final VehiclePositionResolver vehiclePositionResolver;
+  /**
+   * Limits the rate at which the vehicle's pose is updated.
+   */
+  private final PoseUpdateConflator poseUpdateConflator;
   /**
    * A map of transformed movement commands to their corresponding original ones.
    */
@@ -178,6 +184,7 @@ public class DefaultVehicleController
    * @param commandProcessingTracker Track processing of movement commands.
    * @param dataTransformerRegistry A registry for data transformer factories.
    * @param positionDeviationPolicyRegistry A registry for position deviation policies.
+   * @param kernelExecutor The kernel executor.
    */
   @Inject
   public DefaultVehicleController(
@@ -211,7 +218,10 @@ public class DefaultVehicleController
       @Nonnull
       VehicleDataTransformerRegistry dataTransformerRegistry,
       @Nonnull
-      PositionDeviationPolicyRegistry positionDeviationPolicyRegistry
+      PositionDeviationPolicyRegistry positionDeviationPolicyRegistry,
+      @Nonnull
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
   ) {
     this.vehicle = requireNonNull(vehicle, "vehicle").getReference();
     this.commAdapter = requireNonNull(adapter, "adapter");
@@ -241,6 +251,11 @@ public class DefaultVehicleController
     this.vehiclePositionResolver = componentsFactory.createVehiclePositionResolver(
         positionDeviationPolicyRegistry.getPolicyForVehicle(vehicle)
     );
+    this.poseUpdateConflator = new PoseUpdateConflator(
+        this::updateVehiclePoseUnlessIgnored,
+        kernelExecutor,
+        configuration.maxVehiclePoseUpdateRate()
+    );
   }
 
   @Override
@@ -291,6 +306,7 @@ public class DefaultVehicleController
     peripheralInteractor.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    poseUpdateConflator.discard();
     // Reset the vehicle's position.
     vehicleService.updateVehiclePosition(vehicle, null);
     updateVehiclePose(new Pose(null, Double.NaN));
@@ -830,18 +846,15 @@ public class DefaultVehicleController
     );
 
     if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.POSITION.name())) {
+      // Ensure the pose is up to date when the position changes.
+      poseUpdateConflator.flush();
       setVehiclePosition((String) evt.getNewValue());
     }
     else if (Objects.equals(
         evt.getPropertyName(),
         VehicleProcessModel.Attribute.POSE.name()
     )) {
-      if (vehicleService.fetch(Vehicle.class, vehicle)
-          .orElseThrow()
-          .getIntegrationLevel()
-          != Vehicle.IntegrationLevel.TO_BE_IGNORED) {
-        updateVehiclePose((Pose) evt.getNewValue());
-      }
+      poseUpdateConflator.submit((Pose) evt.getNewValue());
     }
     else if (Objects.equals(
         evt.getPropertyName(),
@@ -859,6 +872,8 @@ public class DefaultVehicleController
       );
     }
     else if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.STATE.name())) {
+      // Ensure the pose is up to date when the state changes.
+      poseUpdateConflator.flush();
       updateVehicleState((Vehicle.State) evt.getNewValue());
     }
     else if (Objects.equals(
@@ -958,6 +973,18 @@ public class DefaultVehicleController
     );
   }
 
+  private void updateVehiclePoseUnlessIgnored(
+      @Nonnull
+      Pose pose
+  ) {
+    if (vehicleService.fetch(Vehicle.class, vehicle)
+        .orElseThrow()
+        .getIntegrationLevel()
+        != Vehicle.IntegrationLevel.TO_BE_IGNORED) {
+      updateVehiclePose(pose);
+    }
+  }
+
   private void updateVehiclePose(
       @Nonnull
       Pose pose
@@ -0,0 +1,170 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.opentcs.data.model.Pose;
+
+/**
+ * Limits the rate at which a vehicle's pose is updated in the kernel model.
+ * <p>
+ * A pose submitted less than the minimum interval after the previously applied one is not applied
+ * right away. Instead, it is kept as pending and applied once the interval has passed, unless it is
+ * replaced by a more recent pose in the meantime. This way, the latest pose is always applied
+ * eventually, while intermediate poses are dropped.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe and are expected to be used on the kernel executor
+ * only.
+ * </p>
+ */
+class PoseUpdateConflator {
+
+  /**
+   * Applies poses to the kernel model.
+   */
+  private final Consumer<Pose> poseConsumer;
+  /**
+   * The executor used for applying pending poses.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The minimum interval between two applied poses, in nanoseconds.
+   */
+  private final long minIntervalNanos;
+  /**
+   * Provides the current time, in nanoseconds.
+   */
+  private final LongSupplier nanoClock;
+  /**
+   * The point of time at which a pose was last applied, in nanoseconds.
+   */
+  private long lastAppliedNanos;
+  /**
+   * Whether a pose has been applied, yet.
+   */
+  private boolean applied;
+  /**
+   * The pose not yet applied.
+   */
+  private Pose pendingPose;
+  /**
+   * The task applying the pending pose.
+   */
+  private ScheduledFuture<?> pendingTask;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param poseConsumer Applies poses to the kernel model.
+   * @param kernelExecutor The executor used for applying pending poses.
+   * @param maxUpdateRate The maximum number of poses to be applied per second. If 0, every pose is
+   * applied right away.
+   */
+  PoseUpdateConflator(
+      @Nonnull
+      Consumer<Pose> poseConsumer,
+      @Nonnull
+      ScheduledExecutorService kernelExecutor,
+      int maxUpdateRate
+  ) {
+    this(poseConsumer, kernelExecutor, maxUpdateRate, System::nanoTime);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param poseConsumer Applies poses to the kernel model.
+   * @param kernelExecutor The executor used for applying pending poses.
+   * @param maxUpdateRate The maximum number of poses to be applied per second. If 0, every pose is
+   * applied right away.
+   * @param nanoClock Provides the current time, in nanoseconds.
+   */
+  PoseUpdateConflator(
+      @Nonnull
+      Consumer<Pose> poseConsumer,
+      @Nonnull
+      ScheduledExecutorService kernelExecutor,
+      int maxUpdateRate,
+      @Nonnull
+      LongSupplier nanoClock
+  ) {
+    this.poseConsumer = requireNonNull(poseConsumer, "poseConsumer");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    checkInRange(maxUpdateRate, 0, Integer.MAX_VALUE, "maxUpdateRate");
+    this.minIntervalNanos = maxUpdateRate == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / maxUpdateRate;
+    this.nanoClock = requireNonNull(nanoClock, "nanoClock");
+  }
+
+  /**
+   * Submits the given pose to be applied.
+   *
+   * @param pose The pose.
+   */
+  void submit(
+      @Nonnull
+      Pose pose
+  ) {
+    requireNonNull(pose, "pose");
+
+    if (pendingTask != null) {
+      // A pending pose will be applied soon; just replace it.
+      pendingPose = pose;
+      return;
+    }
+
+    long now = nanoClock.getAsLong();
+    long elapsedNanos = now - lastAppliedNanos;
+    if (!applied || elapsedNanos >= minIntervalNanos) {
+      apply(pose, now);
+      return;
+    }
+
+    pendingPose = pose;
+    pendingTask = kernelExecutor.schedule(
+        this::flush,
+        minIntervalNanos - elapsedNanos,
+        TimeUnit.NANOSECONDS
+    );
+  }
+
+  /**
+   * Applies the pending pose, if any, right away.
+   */
+  void flush() {
+    if (pendingTask == null) {
+      return;
+    }
+
+    pendingTask.cancel(false);
+    pendingTask = null;
+    Pose pose = pendingPose;
+    pendingPose = null;
+    apply(pose, nanoClock.getAsLong());
+  }
+
+  /**
+   * Discards the pending pose, if any.
+   */
+  void discard() {
+    if (pendingTask != null) {
+      pendingTask.cancel(false);
+      pendingTask = null;
+    }
+    pendingPose = null;
+  }
+
+  private void apply(Pose pose, long now) {
+    lastAppliedNanos = now;
+    applied = true;
+    poseConsumer.accept(pose);
+  }
+}
@@ -119,6 +119,25 @@ public class PeripheralJobPoolManager
     return job;
   }
 
+  /**
+   * Adds a peripheral job that existed before, e.g. one recovered after a restart of the kernel, to
+   * the pool as it is.
+   *
+   * @param job The peripheral job.
+   * @throws ObjectExistsException If an object with the peripheral job's name already exists.
+   */
+  public void restorePeripheralJob(
+      @Nonnull
+      PeripheralJob job
+  )
+      throws ObjectExistsException {
+    requireNonNull(job, "job");
+
+    LOG.info("Peripheral job is being restored: {}", job.getName());
+    getObjectRepo().addObject(job);
+    emitObjectEvent(job, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  }
+
   /**
    * Sets a peripheral jobs's state.
    *
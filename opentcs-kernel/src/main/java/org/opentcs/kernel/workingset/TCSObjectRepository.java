@@ -7,9 +7,12 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -17,6 +20,7 @@ import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 
 /**
  * A container for <code>TCSObject</code>s belonging together.
@@ -30,15 +34,51 @@ public class TCSObjectRepository {
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
   private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * The names of the objects contained in this pool in their natural order, grouped by the
+   * objects' classes.
+   */
+  private final Map<Class<?>, NavigableSet<String>> sortedNames = new HashMap<>();
+  /**
+   * The maximum number of history entries kept for each object, or 0, if all entries are kept.
+   */
+  private final int maxHistoryEntryCount;
 
   /**
    * Creates a new instance.
    */
   public TCSObjectRepository() {
+    this(0);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The kernel application's configuration.
+   */
+  @Inject
+  public TCSObjectRepository(KernelApplicationConfiguration configuration) {
+    this(configuration.maxObjectHistoryEntryCount());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxHistoryEntryCount The maximum number of history entries kept for each object added to
+   * this repository, or 0, if all entries are to be kept.
+   */
+  public TCSObjectRepository(int maxHistoryEntryCount) {
+    checkArgument(maxHistoryEntryCount >= 0, "maxHistoryEntryCount must not be negative");
+
+    this.maxHistoryEntryCount = maxHistoryEntryCount;
   }
 
   /**
    * Adds a new object to the pool.
+   * <p>
+   * If the number of history entries kept for objects is limited, the limit is applied to the
+   * added object's history, so it also applies to all states of the object derived from it.
+   * </p>
    *
    * @param newObject The object to be added to the pool.
    * @throws ObjectExistsException If an object with the same ID or the same
@@ -60,7 +100,9 @@ public class TCSObjectRepository {
       objectsByName = new HashMap<>();
       objects.put(newObject.getClass(), objectsByName);
     }
-    objectsByName.put(newObject.getName(), newObject);
+    objectsByName.put(newObject.getName(), withHistoryLimit(newObject));
+    sortedNames.computeIfAbsent(newObject.getClass(), clazz -> new TreeSet<>())
+        .add(newObject.getName());
   }
 
   /**
@@ -92,7 +134,7 @@ public class TCSObjectRepository {
         oldObject.getClass().getName()
     );
 
-    objects.get(object.getClass()).put(object.getName(), object);
+    objects.get(object.getClass()).put(object.getName(), withHistoryLimit(object));
   }
 
   /**
@@ -296,6 +338,39 @@ public class TCSObjectRepository {
         .map(clazz::cast);
   }
 
+  /**
+   * Returns a stream of objects belonging to the given class, ordered by their names.
+   * <p>
+   * Since the objects' names are kept in an ordered index, resuming the stream after a given name
+   * does not require sorting or skipping any of the objects preceding it.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param afterName If not {@code null}, only objects with names ordered strictly after this name
+   * are included in the stream.
+   * @return A stream of objects belonging to the given class, ordered by their names.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamObjectsSortedByName(
+      @Nonnull
+      Class<T> clazz,
+      @Nullable
+      String afterName
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    NavigableSet<String> names = sortedNames.get(clazz);
+    if (names == null) {
+      return Stream.empty();
+    }
+
+    Map<String, TCSObject<?>> objectsByName = objects.get(clazz);
+    return (afterName == null ? names : names.tailSet(afterName, false)).stream()
+        .map(objectsByName::get)
+        .map(clazz::cast);
+  }
+
   /**
    * Returns an unmodifiable set of objects belonging to the given class.
    *
@@ -359,10 +434,19 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    sortedNames.get(ref.getReferentClass()).remove(ref.getName());
     return obj;
   }
 
   private boolean containsName(String name) {
     return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
   }
+
+  private TCSObject<?> withHistoryLimit(TCSObject<?> object) {
+    if (maxHistoryEntryCount == 0
+        || object.getHistory().getMaxEntryCount() == maxHistoryEntryCount) {
+      return object;
+    }
+    return object.withHistory(object.getHistory().withMaxEntryCount(maxHistoryEntryCount));
+  }
 }
@@ -168,6 +168,25 @@ public class TransportOrderPoolManager
     return newOrder;
   }
 
+  /**
+   * Adds a transport order that existed before, e.g. one recovered after a restart of the kernel,
+   * to the pool as it is.
+   *
+   * @param order The transport order.
+   * @throws ObjectExistsException If an object with the transport order's name already exists.
+   */
+  public void restoreTransportOrder(
+      @Nonnull
+      TransportOrder order
+  )
+      throws ObjectExistsException {
+    requireNonNull(order, "order");
+
+    LOG.info("Transport order is being restored: {}", order.getName());
+    getObjectRepo().addObject(order);
+    emitObjectEvent(order, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  }
+
   /**
    * Sets a transport order's state.
    *
@@ -556,6 +575,25 @@ public class TransportOrderPoolManager
     return newSequence;
   }
 
+  /**
+   * Adds an order sequence that existed before, e.g. one recovered after a restart of the kernel,
+   * to the pool as it is.
+   *
+   * @param sequence The order sequence.
+   * @throws ObjectExistsException If an object with the order sequence's name already exists.
+   */
+  public void restoreOrderSequence(
+      @Nonnull
+      OrderSequence sequence
+  )
+      throws ObjectExistsException {
+    requireNonNull(sequence, "sequence");
+
+    LOG.info("Order sequence is being restored: {}", sequence.getName());
+    getObjectRepo().addObject(sequence);
+    emitObjectEvent(sequence, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  }
+
   /**
    * Sets an order sequence's finished index.
    *
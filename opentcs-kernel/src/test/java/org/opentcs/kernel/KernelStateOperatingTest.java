@@ -29,6 +29,7 @@ import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.peripherals.LocalPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.OrderJournal;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
 import org.opentcs.kernel.workingset.PlantModelManager;
@@ -176,6 +177,7 @@ class KernelStateOperatingTest {
                 new PrefixedUlidObjectNameProvider()
             ),
             mock(ModelPersister.class),
+            mock(OrderJournal.class),
             configuration,
             router,
             scheduler,
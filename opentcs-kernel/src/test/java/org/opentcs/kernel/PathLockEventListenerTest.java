@@ -0,0 +1,215 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.RouterService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.ReroutingType;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Tests for {@link PathLockEventListener}.
+ */
+class PathLockEventListenerTest {
+
+  private KernelApplicationConfiguration configuration;
+  private RouterService routerService;
+  private DispatcherService dispatcher;
+  private InternalTCSObjectService objectService;
+  private ScheduledExecutorService kernelExecutor;
+  private PathLockEventListener listener;
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathBC;
+  private Path pathAC;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock();
+    routerService = mock();
+    dispatcher = mock();
+    objectService = mock();
+    kernelExecutor = mock();
+    listener = new PathLockEventListener(
+        configuration,
+        routerService,
+        mock(EventBus.class),
+        dispatcher,
+        objectService,
+        kernelExecutor
+    );
+
+    given(configuration.updateRoutingTopologyOnPathLockChange()).willReturn(true);
+    given(configuration.rerouteOnRoutingTopologyUpdate()).willReturn(true);
+    given(configuration.pathLockChangeBatchDelay()).willReturn(200L);
+    given(kernelExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .willAnswer(invocation -> mock(ScheduledFuture.class));
+
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A--B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B--C", pointB.getReference(), pointC.getReference());
+    pathAC = new Path("A--C", pointA.getReference(), pointC.getReference());
+  }
+
+  @Test
+  void updateRoutingTopologyOnceForMultiplePathLockChanges() {
+    listener.onEvent(lockChangedEvent(pathAB, true));
+    listener.onEvent(lockChangedEvent(pathBC, true));
+
+    then(routerService).should(never()).updateRoutingTopology(any());
+    Runnable task = captureScheduledTask();
+    task.run();
+
+    then(routerService).should(times(1))
+        .updateRoutingTopology(Set.of(pathAB.getReference(), pathBC.getReference()));
+  }
+
+  @Test
+  void ignorePathLockChangesIfTopologyUpdatesDisabled() {
+    given(configuration.updateRoutingTopologyOnPathLockChange()).willReturn(false);
+
+    listener.onEvent(lockChangedEvent(pathAB, true));
+
+    then(kernelExecutor).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void rerouteOnlyVehiclesTraversingLockedPaths() {
+    Path lockedPathBC = pathBC.withLocked(true);
+    given(objectService.fetch(Path.class, pathBC.getReference()))
+        .willReturn(Optional.of(lockedPathBC));
+    Vehicle affectedVehicle = vehicleWithRoute("affected", route(step(pathAB), step(pathBC)));
+    Vehicle unaffectedVehicle = vehicleWithRoute("unaffected", route(step(pathAC)));
+    given(objectService.stream(Vehicle.class))
+        .willReturn(Stream.of(affectedVehicle, unaffectedVehicle));
+
+    listener.onEvent(lockChangedEvent(pathBC, true));
+    captureScheduledTask().run();
+
+    then(dispatcher).should().reroute(affectedVehicle.getReference(), ReroutingType.REGULAR);
+    then(dispatcher).should(never())
+        .reroute(unaffectedVehicle.getReference(), ReroutingType.REGULAR);
+  }
+
+  @Test
+  void rerouteVehiclesBenefitingFromUnlockedPaths() {
+    given(objectService.fetch(Path.class, pathAC.getReference())).willReturn(Optional.of(pathAC));
+    Vehicle vehicle = vehicleWithRoute("vehicle", route(step(pathAB), step(pathBC)));
+    given(objectService.stream(Vehicle.class)).willReturn(Stream.of(vehicle));
+    given(
+        routerService.computeRoutes(
+            vehicle.getReference(),
+            pointA.getReference(),
+            Set.of(pointC.getReference()),
+            Set.of(),
+            1
+        )
+    )
+        .willReturn(Map.of(pointC.getReference(), Set.of(route(step(pathAC)))));
+
+    listener.onEvent(lockChangedEvent(pathAC, false));
+    captureScheduledTask().run();
+
+    then(dispatcher).should().reroute(vehicle.getReference(), ReroutingType.REGULAR);
+  }
+
+  @Test
+  void doNotRerouteVehiclesNotBenefitingFromUnlockedPaths() {
+    given(objectService.fetch(Path.class, pathAC.getReference())).willReturn(Optional.of(pathAC));
+    Vehicle vehicle = vehicleWithRoute("vehicle", route(step(pathAC)));
+    given(objectService.stream(Vehicle.class)).willReturn(Stream.of(vehicle));
+    given(
+        routerService.computeRoutes(
+            vehicle.getReference(),
+            pointA.getReference(),
+            Set.of(pointC.getReference()),
+            Set.of(),
+            1
+        )
+    )
+        .willReturn(Map.of(pointC.getReference(), Set.of(route(step(pathAC)))));
+
+    listener.onEvent(lockChangedEvent(pathAC, false));
+    captureScheduledTask().run();
+
+    then(dispatcher).should(never()).reroute(any(), any());
+  }
+
+  private Runnable captureScheduledTask() {
+    ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    then(kernelExecutor).should(times(1))
+        .schedule(taskCaptor.capture(), anyLong(), any(TimeUnit.class));
+    return taskCaptor.getValue();
+  }
+
+  private TCSObjectEvent lockChangedEvent(Path path, boolean locked) {
+    return new TCSObjectEvent(
+        path.withLocked(locked),
+        path.withLocked(!locked),
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+
+  private Vehicle vehicleWithRoute(String name, Route route) {
+    TransportOrder order = new TransportOrder(
+        "order-" + name,
+        List.of(
+            new DriveOrder("drive-order", new DriveOrder.Destination(pointC.getReference()))
+                .withRoute(route)
+        )
+    )
+        .withCurrentDriveOrderIndex(0);
+    given(objectService.fetch(TransportOrder.class, order.getReference()))
+        .willReturn(Optional.of(order));
+    return new Vehicle(name)
+        .withTransportOrder(order.getReference())
+        .withCurrentPosition(pointA.getReference());
+  }
+
+  private Route route(Route.Step... steps) {
+    return new Route(List.of(steps));
+  }
+
+  private Route.Step step(Path path) {
+    return new Route.Step(
+        path,
+        path.getSourcePoint().equals(pointA.getReference()) ? pointA : pointB,
+        path.getDestinationPoint().equals(pointC.getReference()) ? pointC : pointB,
+        Vehicle.Orientation.FORWARD,
+        0,
+        10
+    );
+  }
+}
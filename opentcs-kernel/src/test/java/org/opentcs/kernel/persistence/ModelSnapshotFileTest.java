@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+
+/**
+ * Unit tests for {@link ModelSnapshotFile}.
+ */
+class ModelSnapshotFileTest {
+
+  @TempDir
+  private File directory;
+  private File modelFile;
+  private ModelSnapshotFile snapshotFile;
+
+  @BeforeEach
+  void setUp()
+      throws IOException {
+    modelFile = new File(directory, "model.xml");
+    Files.writeString(modelFile.toPath(), "<model/>", StandardCharsets.UTF_8);
+    snapshotFile = new ModelSnapshotFile(new File(directory, "model.bin"));
+  }
+
+  @Test
+  void readWrittenModel()
+      throws IOException {
+    snapshotFile.write(createTestModel(), modelFile);
+
+    Optional<PlantModelCreationTO> model = snapshotFile.read(modelFile);
+
+    assertThat(model.isPresent(), is(true));
+    assertThat(model.get().getName(), is("Testmodel"));
+    assertThat(
+        model.get().getPoints().stream().map(PointCreationTO::getName).toList(),
+        contains("testPointName")
+    );
+    assertThat(
+        model.get().getVehicles().stream().map(VehicleCreationTO::getName).toList(),
+        contains("testVehicleName")
+    );
+  }
+
+  @Test
+  void ignoreMissingSnapshot() {
+    assertThat(snapshotFile.read(modelFile).isPresent(), is(false));
+  }
+
+  @Test
+  void ignoreSnapshotOfModifiedModelFile()
+      throws IOException {
+    snapshotFile.write(createTestModel(), modelFile);
+    Files.writeString(modelFile.toPath(), "<model name=\"other\"/>", StandardCharsets.UTF_8);
+
+    assertThat(snapshotFile.read(modelFile).isPresent(), is(false));
+  }
+
+  @Test
+  void ignoreCorruptSnapshot()
+      throws IOException {
+    Files.writeString(new File(directory, "model.bin").toPath(), "garbage");
+
+    assertThat(snapshotFile.read(modelFile).isPresent(), is(false));
+  }
+
+  @Test
+  void ignoreDeletedSnapshot()
+      throws IOException {
+    snapshotFile.write(createTestModel(), modelFile);
+    snapshotFile.delete();
+
+    assertThat(snapshotFile.read(modelFile).isPresent(), is(false));
+  }
+
+  private PlantModelCreationTO createTestModel() {
+    return new PlantModelCreationTO("Testmodel")
+        .withPoint(new PointCreationTO("testPointName"))
+        .withVehicle(new VehicleCreationTO("testVehicleName"));
+  }
+}
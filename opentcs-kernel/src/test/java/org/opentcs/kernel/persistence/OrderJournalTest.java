@@ -0,0 +1,290 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.TripleCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.OrderJournalConfiguration;
+import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link OrderJournal}.
+ */
+class OrderJournalTest {
+
+  @TempDir
+  private File homeDirectory;
+  private OrderJournalConfiguration configuration;
+  private TCSObjectRepository objectRepo;
+  private TransportOrderPoolManager orderPoolManager;
+  private OrderJournal journal;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock(OrderJournalConfiguration.class);
+    when(configuration.enable()).thenReturn(true);
+    when(configuration.snapshotInterval()).thenReturn(10000);
+
+    journal = createJournal("some-location");
+  }
+
+  @Test
+  void restoreJournaledTransportOrders() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    createTransportOrder("order-2", "some-location");
+    journal.terminate();
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(
+        objectRepo.getObjects(TransportOrder.class).stream().map(TCSObject::getName).toList(),
+        containsInAnyOrder("order-1", "order-2")
+    );
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void doNotRestoreRemovedTransportOrders() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    TransportOrder order = createTransportOrder("order-2", "some-location");
+    orderPoolManager.setTransportOrderState(order.getReference(), TransportOrder.State.FINISHED);
+    orderPoolManager.removeTransportOrder(order.getReference());
+    journal.terminate();
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(
+        objectRepo.getObjects(TransportOrder.class).stream().map(TCSObject::getName).toList(),
+        contains("order-1")
+    );
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void restoreInterruptedTransportOrdersAsFailed() {
+    journal.initialize();
+    TransportOrder order = createTransportOrder("order-1", "some-location");
+    orderPoolManager.setTransportOrderState(
+        order.getReference(),
+        TransportOrder.State.BEING_PROCESSED
+    );
+    journal.terminate();
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(
+        objectRepo.getObject(TransportOrder.class, "order-1").getState(),
+        is(TransportOrder.State.FAILED)
+    );
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void doNotRestoreTransportOrdersReferencingUnknownElements() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    journal.terminate();
+
+    OrderJournal restartedJournal = createJournal("other-location");
+    restartedJournal.initialize();
+
+    assertThat(objectRepo.getObjects(TransportOrder.class), is(empty()));
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void restoreOnlyOnFirstInitialization() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    journal.terminate();
+    orderPoolManager.clear();
+
+    journal.initialize();
+
+    assertThat(objectRepo.getObjects(TransportOrder.class), is(empty()));
+    journal.terminate();
+  }
+
+  @Test
+  void restoreSnapshotAndJournalAfterCrash()
+      throws Exception {
+    TransportOrder order = createTransportOrder("order-1", "some-location");
+    // Initialization writes a snapshot containing the first transport order.
+    journal.initialize();
+    createTransportOrder("order-2", "some-location");
+    orderPoolManager.setTransportOrderState(
+        order.getReference(),
+        TransportOrder.State.BEING_PROCESSED
+    );
+    awaitJournaled("order-1", TransportOrder.State.BEING_PROCESSED);
+    // Simulate a crash while a record was being written, without terminating the journal.
+    Files.write(
+        new File(homeDirectory, "data/orders.journal").toPath(),
+        new byte[]{0, 0, 1, 0, 1, 2, 3},
+        StandardOpenOption.APPEND
+    );
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(
+        objectRepo.getObjects(TransportOrder.class).stream().map(TCSObject::getName).toList(),
+        containsInAnyOrder("order-1", "order-2")
+    );
+    assertThat(
+        objectRepo.getObject(TransportOrder.class, "order-1").getState(),
+        is(TransportOrder.State.FAILED)
+    );
+    restartedJournal.terminate();
+    journal.terminate();
+  }
+
+  @Test
+  void doNotRestoreTransportOrdersClearedWhenSwitchingToModelling() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    journal.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.OPERATING, Kernel.State.MODELLING, false)
+    );
+    journal.terminate();
+    orderPoolManager.clear();
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(objectRepo.getObjects(TransportOrder.class), is(empty()));
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void restoreTransportOrdersWhenShuttingDown() {
+    journal.initialize();
+    createTransportOrder("order-1", "some-location");
+    journal.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.OPERATING, Kernel.State.SHUTDOWN, false)
+    );
+    journal.terminate();
+    orderPoolManager.clear();
+
+    OrderJournal restartedJournal = createJournal("some-location");
+    restartedJournal.initialize();
+
+    assertThat(
+        objectRepo.getObjects(TransportOrder.class).stream().map(TCSObject::getName).toList(),
+        contains("order-1")
+    );
+    restartedJournal.terminate();
+  }
+
+  @Test
+  void ignoreIncompleteRecordAtEndOfJournal()
+      throws IOException {
+    File file = new File(homeDirectory, "test.journal");
+    JournalFile journalFile = new JournalFile(file);
+    journalFile.open();
+    journalFile.truncate();
+    journalFile.append(
+        List.of(
+            JournalRecord.updated(new TransportOrder("order-1", List.of())),
+            JournalRecord.removed("order-2")
+        )
+    );
+    journalFile.close();
+    // Simulate a record that was only partially written.
+    Files.write(file.toPath(), new byte[]{0, 0, 1, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    assertThat(
+        journalFile.read().stream().map(JournalRecord::getObjectName).toList(),
+        contains("order-1", "order-2")
+    );
+  }
+
+  private OrderJournal createJournal(String locationName) {
+    objectRepo = new TCSObjectRepository();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    new PlantModelManager(objectRepo, eventBus, new PrefixedUlidObjectNameProvider())
+        .createPlantModelObjects(
+            new PlantModelCreationTO("some-plant-model")
+                .withLocationType(new LocationTypeCreationTO("some-location-type"))
+                .withLocation(
+                    new LocationCreationTO(
+                        locationName,
+                        "some-location-type",
+                        new TripleCreationTO(1, 2, 3)
+                    )
+                        .withLink("some-point", new HashSet<>())
+                )
+                .withPoint(new PointCreationTO("some-point"))
+        );
+    orderPoolManager = new TransportOrderPoolManager(
+        objectRepo,
+        eventBus,
+        new PrefixedUlidObjectNameProvider()
+    );
+    return new OrderJournal(
+        configuration,
+        homeDirectory,
+        eventBus,
+        orderPoolManager,
+        new PeripheralJobPoolManager(objectRepo, eventBus, new PrefixedUlidObjectNameProvider())
+    );
+  }
+
+  private void awaitJournaled(String orderName, TransportOrder.State state)
+      throws IOException, InterruptedException {
+    JournalFile journalFile = new JournalFile(new File(homeDirectory, "data/orders.journal"));
+    long deadline = System.currentTimeMillis() + 5000;
+    while (journalFile.read().stream()
+        .noneMatch(
+            record -> record.getObjectState() instanceof TransportOrder order
+                && order.getName().equals(orderName)
+                && order.hasState(state)
+        )) {
+      assertThat("Journal not written in time", System.currentTimeMillis() < deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private TransportOrder createTransportOrder(String name, String locationName) {
+    return orderPoolManager.createTransportOrder(
+        new TransportOrderCreationTO(name, List.of(new DestinationCreationTO(locationName, "NOP")))
+            .withIncompleteName(false)
+    );
+  }
+}
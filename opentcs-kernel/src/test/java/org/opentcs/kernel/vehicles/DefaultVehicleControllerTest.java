@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -187,7 +188,8 @@ class DefaultVehicleControllerTest {
         mock(KernelApplicationConfiguration.class),
         new CommandProcessingTracker(),
         dataTransformerRegistry,
-        positionDeviationPolicyRegistry
+        positionDeviationPolicyRegistry,
+        mock(ScheduledExecutorService.class)
     );
     stdVehicleController.initialize();
   }
@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Tests for {@link PoseUpdateConflator}.
+ */
+class PoseUpdateConflatorTest {
+
+  private List<Pose> appliedPoses;
+  private ScheduledExecutorService kernelExecutor;
+  private long currentNanos;
+  private PoseUpdateConflator conflator;
+
+  @BeforeEach
+  void setUp() {
+    appliedPoses = new ArrayList<>();
+    kernelExecutor = mock();
+    given(kernelExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .willAnswer(invocation -> mock(ScheduledFuture.class));
+    currentNanos = 0;
+    // 10 updates per second, i.e. at most one update every 100 ms.
+    conflator = new PoseUpdateConflator(appliedPoses::add, kernelExecutor, 10, () -> currentNanos);
+  }
+
+  @Test
+  void applyFirstPoseImmediately() {
+    conflator.submit(pose(1));
+
+    assertThat(appliedPoses).containsExactly(pose(1));
+    then(kernelExecutor).should(never()).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  void applyOnlyLatestOfPosesSubmittedWithinInterval() {
+    conflator.submit(pose(1));
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(30);
+    conflator.submit(pose(2));
+    conflator.submit(pose(3));
+
+    assertThat(appliedPoses).containsExactly(pose(1));
+
+    ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    then(kernelExecutor).should()
+        .schedule(
+            taskCaptor.capture(),
+            eq(TimeUnit.MILLISECONDS.toNanos(70)),
+            eq(TimeUnit.NANOSECONDS)
+        );
+
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    taskCaptor.getValue().run();
+
+    assertThat(appliedPoses).containsExactly(pose(1), pose(3));
+  }
+
+  @Test
+  void applyPoseImmediatelyAfterInterval() {
+    conflator.submit(pose(1));
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    conflator.submit(pose(2));
+
+    assertThat(appliedPoses).containsExactly(pose(1), pose(2));
+  }
+
+  @Test
+  void applyPendingPoseOnFlush() {
+    conflator.submit(pose(1));
+    conflator.submit(pose(2));
+    conflator.flush();
+    conflator.flush();
+
+    assertThat(appliedPoses).containsExactly(pose(1), pose(2));
+  }
+
+  @Test
+  void dropPendingPoseOnDiscard() {
+    conflator.submit(pose(1));
+    conflator.submit(pose(2));
+    conflator.discard();
+    conflator.flush();
+
+    assertThat(appliedPoses).containsExactly(pose(1));
+  }
+
+  @Test
+  void applyEveryPoseWithoutRateLimit() {
+    conflator = new PoseUpdateConflator(appliedPoses::add, kernelExecutor, 0, () -> currentNanos);
+
+    conflator.submit(pose(1));
+    conflator.submit(pose(2));
+
+    assertThat(appliedPoses).containsExactly(pose(1), pose(2));
+  }
+
+  private Pose pose(long x) {
+    return new Pose(new Triple(x, 0, 0), 0.0);
+  }
+}
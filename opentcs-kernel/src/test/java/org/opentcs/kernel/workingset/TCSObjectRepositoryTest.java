@@ -6,6 +6,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -14,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
@@ -45,6 +47,25 @@ class TCSObjectRepositoryTest {
     assertThat(pool.getObject(Point.class, "Point-00002"), is(point2));
   }
 
+  @Test
+  void limitHistoryOfAddedObjects() {
+    pool = new TCSObjectRepository(2);
+    pool.addObject(
+        new Point("Point-00001")
+            .withHistoryEntry(new ObjectHistory.Entry("event-1"))
+            .withHistoryEntry(new ObjectHistory.Entry("event-2"))
+            .withHistoryEntry(new ObjectHistory.Entry("event-3"))
+    );
+
+    Point point = pool.getObject(Point.class, "Point-00001");
+    assertThat(point.getHistory().getEntries(), hasSize(2));
+    assertThat(point.getHistory().getEntries().get(0).getEventCode(), is("event-2"));
+
+    point = point.withHistoryEntry(new ObjectHistory.Entry("event-4"));
+    assertThat(point.getHistory().getEntries(), hasSize(2));
+    assertThat(point.getHistory().getEntries().get(1).getEventCode(), is("event-4"));
+  }
+
   @Test
   void returnNullForNonexistentObjectByClassAndName() {
     assertThat(pool.getObjectOrNull(Point.class, "some-name"), is(nullValue()));
@@ -174,6 +195,45 @@ class TCSObjectRepositoryTest {
     assertThat(paths, is(empty()));
   }
 
+  @Test
+  void streamObjectsSortedByName() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    Point point3 = new Point("Point-00003");
+
+    pool.addObject(point3);
+    pool.addObject(point1);
+    pool.addObject(point2);
+
+    assertThat(
+        pool.streamObjectsSortedByName(Point.class, null).toList(),
+        contains(point1, point2, point3)
+    );
+    assertThat(
+        pool.streamObjectsSortedByName(Point.class, "Point-00001").toList(),
+        contains(point2, point3)
+    );
+    assertThat(
+        pool.streamObjectsSortedByName(Point.class, "Point-00003").toList(),
+        is(empty())
+    );
+    assertThat(pool.streamObjectsSortedByName(Path.class, null).toList(), is(empty()));
+  }
+
+  @Test
+  void keepNameOrderWhenReplacingAndRemovingObjects() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    Point point2V2 = point2.withType(Point.Type.PARK_POSITION);
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.replaceObject(point2V2);
+    pool.removeObject(point1.getReference());
+
+    assertThat(pool.streamObjectsSortedByName(Point.class, null).toList(), contains(point2V2));
+  }
+
   @Test
   void replaceObjectWithSameName() {
     Point pointV1 = new Point("some-point").withType(Point.Type.HALT_POSITION);
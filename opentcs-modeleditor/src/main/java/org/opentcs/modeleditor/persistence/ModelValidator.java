@@ -354,9 +354,8 @@ public class ModelValidator {
     //Validate the location type
     LocationTypeProperty locTypeProperty
         = (LocationTypeProperty) location.getProperty(LocationModel.TYPE);
-    boolean locTypeExists = model.getLocationTypeModels().stream()
-        .map(type -> type.getName())
-        .anyMatch(typeName -> typeName.equals(locTypeProperty.getValue()));
+    boolean locTypeExists = locTypeProperty.getValue() instanceof String typeName
+        && model.getLocationTypeModel(typeName) != null;
     if (!locTypeExists) {
       errorOccurred(
           location, "modelValidator.error_locationTypeInvalid.text",
@@ -13,6 +13,7 @@ import org.opentcs.guing.common.components.drawing.figures.ToolTipTextGenerator;
 import org.opentcs.guing.common.util.CourseObjectFactory;
 import org.opentcs.operationsdesk.components.drawing.figures.ToolTipTextGeneratorOperationsDesk;
 import org.opentcs.operationsdesk.components.drawing.figures.VehicleFigureFactory;
+import org.opentcs.operationsdesk.components.drawing.figures.VehicleFigureRepaintPacer;
 import org.opentcs.operationsdesk.util.VehicleCourseObjectFactory;
 import org.opentcs.thirdparty.operationsdesk.components.drawing.OpenTCSDrawingViewOperating;
 
@@ -33,6 +34,7 @@ public class DrawingInjectionModule
   protected void configure() {
     install(new FactoryModuleBuilder().build(VehicleFigureFactory.class));
     bind(CourseObjectFactory.class).to(VehicleCourseObjectFactory.class);
+    bind(VehicleFigureRepaintPacer.class).in(Singleton.class);
 
     bind(OpenTCSDrawingEditorOperating.class).in(Singleton.class);
     bind(OpenTCSDrawingEditor.class).to(OpenTCSDrawingEditorOperating.class);
@@ -36,7 +36,8 @@ public class NamedVehicleFigure
       VehicleModel model,
       ToolTipTextGenerator textGenerator,
       ModelManager modelManager,
-      ApplicationState applicationState
+      ApplicationState applicationState,
+      VehicleFigureRepaintPacer repaintPacer
   ) {
     super(
         vehicleTheme,
@@ -45,7 +46,8 @@ public class NamedVehicleFigure
         model,
         textGenerator,
         modelManager,
-        applicationState
+        applicationState,
+        repaintPacer
     );
   }
 
@@ -93,6 +93,10 @@ public class VehicleFigure
    * The application's current state.
    */
   private final ApplicationState applicationState;
+  /**
+   * Paces the change notifications of vehicle figures.
+   */
+  private final VehicleFigureRepaintPacer repaintPacer;
   /**
    * The angle at which the image is to be drawn.
    */
@@ -124,6 +128,7 @@ public class VehicleFigure
    * @param textGenerator The tool tip text generator.
    * @param modelManager The model manager.
    * @param applicationState The application's current state.
+   * @param repaintPacer Paces the change notifications of vehicle figures.
    */
   @Inject
   @SuppressWarnings("this-escape")
@@ -135,7 +140,8 @@ public class VehicleFigure
       VehicleModel model,
       ToolTipTextGenerator textGenerator,
       ModelManager modelManager,
-      ApplicationState applicationState
+      ApplicationState applicationState,
+      VehicleFigureRepaintPacer repaintPacer
   ) {
     super(model);
     this.vehicleTheme = requireNonNull(vehicleTheme, "vehicleTheme");
@@ -143,6 +149,7 @@ public class VehicleFigure
     this.textGenerator = requireNonNull(textGenerator, "textGenerator");
     this.modelManager = requireNonNull(modelManager, "modelManager");
     this.applicationState = requireNonNull(applicationState, "applicationState");
+    this.repaintPacer = requireNonNull(repaintPacer, "repaintPacer");
 
     fDisplayBox = new Rectangle((int) LENGTH, (int) WIDTH);
     fZoomPoint = new ZoomPoint(0.5 * LENGTH, 0.5 * WIDTH);
@@ -461,17 +468,27 @@ public class VehicleFigure
     updateFigureDetails((VehicleModel) e.getModel());
 
     if (isFigureDetailsChanged()) {
-      SwingUtilities.invokeLater(() -> {
-        // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
-        if (isVisible()) {
-          fireFigureChanged();
-        }
-      });
+      if (SwingUtilities.isEventDispatchThread()) {
+        repaintPacer.figureChanged(this);
+      }
+      else {
+        SwingUtilities.invokeLater(() -> repaintPacer.figureChanged(this));
+      }
 
       setFigureDetailsChanged(false);
     }
   }
 
+  /**
+   * Notifies this figure's listeners about a change, as paced by the repaint pacer.
+   */
+  void firePacedFigureChanged() {
+    // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
+    if (isVisible()) {
+      fireFigureChanged();
+    }
+  }
+
   /**
    * Updates the figure details based on the given vehicle model.
    * <p>
@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.components.drawing.figures;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.swing.Timer;
+import org.opentcs.operationsdesk.util.OperationsDeskConfiguration;
+
+/**
+ * Paces the change notifications of vehicle figures to a fixed frame rate.
+ * <p>
+ * Vehicle figures changing within the same frame are collected and notify their listeners all at
+ * once when the frame ends, so the regions of the drawing to be repainted for them are united into
+ * a single repaint. A vehicle figure changing multiple times within the same frame notifies its
+ * listeners only once.
+ * </p>
+ * <p>
+ * Instances of this class are meant to be used on the event dispatcher thread, only.
+ * </p>
+ */
+public class VehicleFigureRepaintPacer {
+
+  /**
+   * The figures that changed within the current frame.
+   */
+  private final Set<VehicleFigure> changedFigures = new LinkedHashSet<>();
+  /**
+   * Ends the current frame.
+   */
+  private final Timer frameTimer;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param appConfig The application's configuration.
+   */
+  @Inject
+  public VehicleFigureRepaintPacer(OperationsDeskConfiguration appConfig) {
+    int repaintRate = checkInRange(
+        appConfig.vehicleFigureRepaintRate(),
+        1,
+        1000,
+        "vehicleFigureRepaintRate"
+    );
+    frameTimer = new Timer(1000 / repaintRate, event -> endFrame());
+    frameTimer.setRepeats(false);
+  }
+
+  /**
+   * Marks the given figure as changed, letting it notify its listeners at the end of the current
+   * frame.
+   *
+   * @param figure The figure.
+   */
+  public void figureChanged(
+      @Nonnull
+      VehicleFigure figure
+  ) {
+    requireNonNull(figure, "figure");
+
+    changedFigures.add(figure);
+    if (!frameTimer.isRunning()) {
+      frameTimer.start();
+    }
+  }
+
+  private void endFrame() {
+    List<VehicleFigure> figures = new ArrayList<>(changedFigures);
+    changedFigures.clear();
+    figures.forEach(VehicleFigure::firePacedFigureChanged);
+  }
+}
@@ -0,0 +1,84 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.exchange;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Conflates the modification events in a batch of events fetched from the kernel.
+ * <p>
+ * Consecutive modification events for the same object are merged into a single event carrying the
+ * object's state before the first and after the last of these modifications. The merged event takes
+ * the position of the last modification in the batch, so the order of events relative to each other
+ * is preserved for events not being merged. A creation or removal event for an object ends the
+ * sequence of modification events that can be merged for it.
+ * </p>
+ */
+public class EventConflator {
+
+  /**
+   * Creates a new instance.
+   */
+  public EventConflator() {
+  }
+
+  /**
+   * Conflates the modification events in the given batch of events.
+   *
+   * @param events The events.
+   * @return The conflated events.
+   */
+  @Nonnull
+  public List<Object> conflate(
+      @Nonnull
+      List<Object> events
+  ) {
+    requireNonNull(events, "events");
+
+    List<Object> result = new ArrayList<>(events.size());
+    Map<TCSObjectReference<?>, Integer> mergeableEventIndices = new HashMap<>();
+
+    for (Object event : events) {
+      if (!(event instanceof TCSObjectEvent objectEvent)) {
+        result.add(event);
+        continue;
+      }
+
+      TCSObjectReference<?> ref = objectEvent.getCurrentOrPreviousObjectState().getReference();
+      if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        mergeableEventIndices.remove(ref);
+        result.add(objectEvent);
+        continue;
+      }
+
+      Integer mergeableEventIndex = mergeableEventIndices.get(ref);
+      if (mergeableEventIndex == null) {
+        mergeableEventIndices.put(ref, result.size());
+        result.add(objectEvent);
+        continue;
+      }
+
+      TCSObjectEvent mergeableEvent = (TCSObjectEvent) result.set(mergeableEventIndex, null);
+      mergeableEventIndices.put(ref, result.size());
+      result.add(
+          new TCSObjectEvent(
+              objectEvent.getCurrentObjectState(),
+              mergeableEvent.getPreviousObjectState(),
+              TCSObjectEvent.Type.OBJECT_MODIFIED
+          )
+      );
+    }
+
+    result.removeIf(Objects::isNull);
+    return result;
+  }
+}
@@ -57,6 +57,10 @@ public class KernelEventFetcher
    * The kernel client application.
    */
   private final KernelClientApplication kernelClientApplication;
+  /**
+   * Conflates the modification events in fetched batches of events.
+   */
+  private final EventConflator eventConflator = new EventConflator();
   /**
    * The shared portal
    */
@@ -195,11 +199,6 @@ public class KernelEventFetcher
         List<Object> events = servicePortal.fetchEvents(timeout);
         for (Object event : events) {
           LOG.debug("Processing fetched event: {}", event);
-          // Forward received events to all registered listeners, but do that on the event
-          // dispatcher thread. This ensures that GUI-/drawing-related code is executed on the
-          // correct thread.
-          SwingUtilities.invokeLater(() -> eventBus.onEvent(event));
-
           // Check if the kernel notifies us about a state change.
           if (event instanceof KernelStateTransitionEvent) {
             KernelStateTransitionEvent stateEvent = (KernelStateTransitionEvent) event;
@@ -207,6 +206,15 @@ public class KernelEventFetcher
             shutDown = stateEvent.getEnteredState() == Kernel.State.SHUTDOWN;
           }
         }
+
+        List<Object> conflatedEvents = eventConflator.conflate(events);
+        if (!conflatedEvents.isEmpty()) {
+          // Forward received events to all registered listeners, but do that on the event
+          // dispatcher thread. This ensures that GUI-/drawing-related code is executed on the
+          // correct thread. All events of a batch are forwarded with a single task to avoid
+          // flooding the event dispatcher thread's queue.
+          SwingUtilities.invokeLater(() -> conflatedEvents.forEach(eventBus::onEvent));
+        }
       }
       catch (KernelRuntimeException exc) {
         LOG.error("Exception fetching events, logging out", exc);
@@ -6,15 +6,21 @@ import static java.util.Objects.requireNonNull;
 import static org.opentcs.data.TCSObjectEvent.Type.OBJECT_MODIFIED;
 
 import jakarta.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
 import org.opentcs.common.ClientConnectionMode;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.PlantModelService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.guing.base.model.ModelComponent;
@@ -137,6 +143,9 @@ public class OpenTCSEventDispatcher
     if (event instanceof TCSObjectEvent tcsObjectEvent) {
       processObjectEvent(tcsObjectEvent);
     }
+    else if (event instanceof EventBufferOverflowEvent overflowEvent) {
+      processEventBufferOverflow(overflowEvent);
+    }
     else if (event instanceof KernelStateTransitionEvent kernelStateTransitionEvent) {
       // React instantly on SHUTDOWN of the kernel, otherwise wait for
       // the transition to finish
@@ -203,6 +212,20 @@ public class OpenTCSEventDispatcher
     }
   }
 
+  private void processEventBufferOverflow(EventBufferOverflowEvent event) {
+    LOG.warn("Kernel discarded {} events, resynchronizing model.", event.getDiscardedEventCount());
+
+    if (sharedPortal == null) {
+      return;
+    }
+
+    PlantModelService plantModelService = sharedPortal.getPortal().getPlantModelService();
+    plantModelService.fetch(Point.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetch(Path.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetch(Location.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetch(Vehicle.class).forEach(this::processObjectModifiedEvent);
+  }
+
   private void processObjectModifiedEvent(TCSObject<?> tcsObject) {
     if (tcsObject instanceof TransportOrder
         || tcsObject instanceof OrderSequence) {
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -124,6 +125,9 @@ public class PeripheralJobsContainer
     else if (event instanceof KernelStateChangeEvent) {
       initJobs();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initJobs();
+    }
   }
 
   public void addListener(PeripheralJobsContainerListener listener) {
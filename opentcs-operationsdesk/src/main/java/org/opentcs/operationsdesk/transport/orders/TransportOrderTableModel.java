@@ -177,7 +177,7 @@ public class TransportOrderTableModel
   public void containerInitialized(Collection<TransportOrder> orders) {
     requireNonNull(orders, "orders");
 
-    SwingUtilities.invokeLater(() -> {
+    runOnEventDispatchThread(() -> {
       // Notifications of any change listeners must happen at the same time/in the same thread the
       // data behind the model is updated. Otherwise, there is a risk that listeners work with/
       // refer to outdated data, which can lead to runtime exceptions.
@@ -191,7 +191,7 @@ public class TransportOrderTableModel
   public void transportOrderAdded(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
+    runOnEventDispatchThread(() -> {
       entries.add(order);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
     });
@@ -201,7 +201,7 @@ public class TransportOrderTableModel
   public void transportOrderUpdated(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
+    runOnEventDispatchThread(() -> {
       int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
       if (orderIndex == -1) {
         LOG.warn("Unknown transport order: {}. Ignoring order update.", order.getName());
@@ -216,7 +216,7 @@ public class TransportOrderTableModel
   public void transportOrderRemoved(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
+    runOnEventDispatchThread(() -> {
       int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
       if (orderIndex == -1) {
         LOG.warn("Unknown transport order: {}. Ignoring order removal.", order.getName());
@@ -225,7 +225,6 @@ public class TransportOrderTableModel
       entries.remove(orderIndex);
       fireTableRowsDeleted(orderIndex, orderIndex);
     });
-
   }
 
   /**
@@ -241,4 +240,15 @@ public class TransportOrderTableModel
 
     return entries.get(index);
   }
+
+  private void runOnEventDispatchThread(Runnable runnable) {
+    // Container updates originating from kernel events are already delivered on the event
+    // dispatcher thread, so they do not need to be deferred with another task.
+    if (SwingUtilities.isEventDispatchThread()) {
+      runnable.run();
+    }
+    else {
+      SwingUtilities.invokeLater(runnable);
+    }
+  }
 }
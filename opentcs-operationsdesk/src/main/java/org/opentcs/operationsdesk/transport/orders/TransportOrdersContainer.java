@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -126,6 +127,9 @@ public class TransportOrdersContainer
     else if (event instanceof KernelStateChangeEvent) {
       initOrders();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initOrders();
+    }
   }
 
   public void addListener(TransportOrderContainerListener listener) {
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -115,6 +116,9 @@ public class OrderSequencesContainer
     else if (event instanceof KernelStateChangeEvent) {
       initSequences();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initSequences();
+    }
   }
 
   private void initSequences() {
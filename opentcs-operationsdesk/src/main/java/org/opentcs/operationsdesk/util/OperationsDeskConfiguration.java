@@ -106,6 +106,14 @@ public interface OperationsDeskConfiguration
   )
   boolean ignoreVehicleOrientationAngle();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of times per second vehicle figures are repainted.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_behaviour_2"
+  )
+  int vehicleFigureRepaintRate();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The maximum number of most recent user notifications to be displayed.",
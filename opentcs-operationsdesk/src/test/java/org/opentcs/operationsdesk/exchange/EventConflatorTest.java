@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.exchange;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Tests for {@link EventConflator}.
+ */
+class EventConflatorTest {
+
+  private EventConflator conflator;
+
+  @BeforeEach
+  void setUp() {
+    conflator = new EventConflator();
+  }
+
+  @Test
+  void mergeConsecutiveModificationsOfSameObject() {
+    Vehicle state1 = new Vehicle("vehicle1");
+    Vehicle state2 = state1.withEnergyLevel(50);
+    Vehicle state3 = state2.withEnergyLevel(40);
+
+    List<Object> result = conflator.conflate(
+        List.of(modified(state2, state1), modified(state3, state2))
+    );
+
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0), is(instanceOf(TCSObjectEvent.class)));
+    TCSObjectEvent event = (TCSObjectEvent) result.get(0);
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(event.getPreviousObjectState(), is(sameInstance(state1)));
+    assertThat(event.getCurrentObjectState(), is(sameInstance(state3)));
+  }
+
+  @Test
+  void placeMergedEventAtPositionOfLastModification() {
+    Vehicle vehicle1State1 = new Vehicle("vehicle1");
+    Vehicle vehicle1State2 = vehicle1State1.withEnergyLevel(50);
+    Vehicle vehicle1State3 = vehicle1State2.withEnergyLevel(40);
+    Vehicle vehicle2State1 = new Vehicle("vehicle2");
+    Vehicle vehicle2State2 = vehicle2State1.withEnergyLevel(50);
+    TCSObjectEvent vehicle2Event = modified(vehicle2State2, vehicle2State1);
+    Object otherEvent = new Object();
+
+    List<Object> result = conflator.conflate(
+        List.of(
+            modified(vehicle1State2, vehicle1State1),
+            vehicle2Event,
+            otherEvent,
+            modified(vehicle1State3, vehicle1State2)
+        )
+    );
+
+    assertThat(result, hasSize(3));
+    assertThat(result.get(0), is(sameInstance(vehicle2Event)));
+    assertThat(result.get(1), is(sameInstance(otherEvent)));
+    TCSObjectEvent event = (TCSObjectEvent) result.get(2);
+    assertThat(event.getPreviousObjectState(), is(sameInstance(vehicle1State1)));
+    assertThat(event.getCurrentObjectState(), is(sameInstance(vehicle1State3)));
+  }
+
+  @Test
+  void doNotMergeModificationsAcrossRemovalAndCreation() {
+    Vehicle state1 = new Vehicle("vehicle1");
+    Vehicle state2 = state1.withEnergyLevel(50);
+    Vehicle state3 = new Vehicle("vehicle1");
+    Vehicle state4 = state3.withEnergyLevel(40);
+    TCSObjectEvent modification1 = modified(state2, state1);
+    TCSObjectEvent removal = new TCSObjectEvent(null, state2, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent creation = new TCSObjectEvent(state3, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modification2 = modified(state4, state3);
+
+    List<Object> result = conflator.conflate(
+        List.of(modification1, removal, creation, modification2)
+    );
+
+    assertThat(result, contains(modification1, removal, creation, modification2));
+  }
+
+  private TCSObjectEvent modified(Vehicle currentState, Vehicle previousState) {
+    return new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
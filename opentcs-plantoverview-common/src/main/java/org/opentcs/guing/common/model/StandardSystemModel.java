@@ -8,6 +8,7 @@ import static org.opentcs.guing.base.model.ModelComponent.NAME;
 
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,7 @@ import org.opentcs.data.model.ModelConstants;
 import org.opentcs.data.model.visualization.Layer;
 import org.opentcs.data.model.visualization.LayerGroup;
 import org.opentcs.guing.base.components.layer.LayerWrapper;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.components.properties.type.KeyValueSetProperty;
 import org.opentcs.guing.base.components.properties.type.StringProperty;
 import org.opentcs.guing.base.model.CompositeModelComponent;
@@ -43,6 +45,13 @@ import org.opentcs.thirdparty.guing.common.jhotdraw.util.ResourceBundleUtil;
  * Base implementation for a SystemModel.
  * Holds the vehicles and the layout of the model. The SystemModel has a map of base components
  * for each component type (e.g. points, locations, vehicles, ...).
+ * <p>
+ * The components in the main folders are indexed by their names, so looking them up by name does
+ * not require traversing the folders. The indexes are updated when components are added to or
+ * removed from the main folders, and when their properties are reported to have changed. As
+ * components may also be renamed without their properties being reported as changed, a name that
+ * is not found in the indexes is still searched for in the folders.
+ * </p>
  */
 public class StandardSystemModel
     extends
@@ -72,6 +81,28 @@ public class StandardSystemModel
    * The used drawing method.
    */
   private final DrawingMethod fDrawingMethod = new CoordinateBasedDrawingMethod();
+  /**
+   * Maps the names of the (non-composite) components in the main folders to the components.
+   */
+  private final Map<String, ModelComponent> componentsByName = new HashMap<>();
+  /**
+   * Maps main folder keys to the components in the respective folders, mapped by their names.
+   */
+  private final Map<FolderKey, Map<String, ModelComponent>> folderComponentsByName
+      = new EnumMap<>(FolderKey.class);
+  /**
+   * Maps indexed components to the keys of the main folders they are contained in.
+   */
+  private final Map<ModelComponent, FolderKey> indexedFolderKeys = new HashMap<>();
+  /**
+   * Maps indexed components to the names they are indexed with.
+   */
+  private final Map<ModelComponent, String> indexedNames = new HashMap<>();
+  /**
+   * Updates the indexes when an indexed component's name has changed.
+   */
+  private final AttributesChangeListener nameChangeListener
+      = event -> updateIndexedName(event.getModel());
 
   private final ModelComponentFactory modelComponentFactory;
 
@@ -171,14 +202,22 @@ public class StandardSystemModel
 
   @Override
   public ModelComponent getModelComponent(String name) {
-    for (ModelComponent folder : fMainFolders.values()) {
-      ModelComponent component = getModelComponent(name, folder);
-      if (component != null) {
-        return component;
-      }
+    if (!allComponentFoldersIndexed()) {
+      return findModelComponent(name);
     }
 
-    return null;
+    ModelComponent indexedComponent = componentsByName.get(name);
+    if (indexedComponent != null && Objects.equals(name, indexedComponent.getName())) {
+      return indexedComponent;
+    }
+
+    // Components may have been renamed without their properties being reported as changed, so
+    // fall back to searching the folders and rebuild the indexes if they turn out to be outdated.
+    ModelComponent component = findModelComponent(name);
+    if (indexedComponent != null || component != null) {
+      rebuildIndexes();
+    }
+    return component;
   }
 
   @Override // SystemModel
@@ -188,13 +227,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public VehicleModel getVehicleModel(String name) {
-    for (VehicleModel vehicle : getVehicleModels()) {
-      if (vehicle.getName().equals(name)) {
-        return vehicle;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.VEHICLES, name, VehicleModel.class);
   }
 
   @Override // SystemModel
@@ -209,13 +242,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public PointModel getPointModel(String name) {
-    for (PointModel point : getPointModels()) {
-      if (point.getName().equals(name)) {
-        return point;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.POINTS, name, PointModel.class);
   }
 
   @Override // SystemModel
@@ -237,13 +264,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public LocationModel getLocationModel(String name) {
-    for (LocationModel location : getLocationModels()) {
-      if (location.getName().equals(name)) {
-        return location;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.LOCATIONS, name, LocationModel.class);
   }
 
   @Override // SystemModel
@@ -253,13 +274,7 @@ public class StandardSystemModel
 
   @Override
   public PathModel getPathModel(String name) {
-    for (PathModel path : getPathModels()) {
-      if (path.getName().equals(name)) {
-        return path;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.PATHS, name, PathModel.class);
   }
 
   @Override // SystemModel
@@ -286,24 +301,12 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public LocationTypeModel getLocationTypeModel(String name) {
-    for (LocationTypeModel t : getLocationTypeModels()) {
-      if (t.getName().equals(name)) {
-        return t;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.LOCATION_TYPES, name, LocationTypeModel.class);
   }
 
   @Override
   public BlockModel getBlockModel(String name) {
-    for (BlockModel block : getBlockModels()) {
-      if (block.getName().equals(name)) {
-        return block;
-      }
-    }
-
-    return null;
+    return getIndexedComponent(FolderKey.BLOCKS, name, BlockModel.class);
   }
 
   @Override // SystemModel
@@ -335,10 +338,67 @@ public class StandardSystemModel
     return result;
   }
 
-  private ModelComponent getModelComponent(String name, ModelComponent root) {
+  /**
+   * Returns the component with the given name and type from the given main folder.
+   *
+   * @param key The main folder's key.
+   * @param name The component's name.
+   * @param type The component's type.
+   * @return The component, or {@code null}, if the folder does not contain such a component.
+   */
+  private <T> T getIndexedComponent(FolderKey key, String name, Class<T> type) {
+    if (!(getMainFolder(key) instanceof IndexedFolder)) {
+      return findChildComponent(key, name, type);
+    }
+
+    ModelComponent indexedComponent
+        = folderComponentsByName.getOrDefault(key, Map.of()).get(name);
+    if (indexedComponent != null && Objects.equals(name, indexedComponent.getName())) {
+      return type.isInstance(indexedComponent) ? type.cast(indexedComponent) : null;
+    }
+
+    // Components may have been renamed without their properties being reported as changed, so
+    // fall back to searching the folder and rebuild the indexes if they turn out to be outdated.
+    T component = findChildComponent(key, name, type);
+    if (indexedComponent != null || component != null) {
+      rebuildIndexes();
+    }
+    return component;
+  }
+
+  private <T> T findChildComponent(FolderKey key, String name, Class<T> type) {
+    for (ModelComponent component : getMainFolder(key).getChildComponents()) {
+      if (type.isInstance(component) && component.getName().equals(name)) {
+        return type.cast(component);
+      }
+    }
+    return null;
+  }
+
+  private boolean allComponentFoldersIndexed() {
+    for (Map.Entry<FolderKey, ModelComponent> entry : fMainFolders.entrySet()) {
+      if (entry.getKey() != FolderKey.LAYOUT && !(entry.getValue() instanceof IndexedFolder)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ModelComponent findModelComponent(String name) {
+    for (ModelComponent folder : fMainFolders.values()) {
+      ModelComponent component = findModelComponent(name, folder);
+      if (component != null) {
+        return component;
+      }
+    }
+
+    return null;
+  }
+
+  private ModelComponent findModelComponent(String name, ModelComponent root) {
     if (root instanceof CompositeModelComponent) {
       for (ModelComponent subComponent : root.getChildComponents()) {
-        ModelComponent result = getModelComponent(name, subComponent);
+        ModelComponent result = findModelComponent(name, subComponent);
         if (result != null) {
           return result;
         }
@@ -350,6 +410,50 @@ public class StandardSystemModel
     return null;
   }
 
+  private void addToIndexes(FolderKey key, ModelComponent component) {
+    String name = component.getName();
+    indexedFolderKeys.put(component, key);
+    indexedNames.put(component, name);
+    folderComponentsByName.computeIfAbsent(key, folderKey -> new HashMap<>()).put(name, component);
+    if (!(component instanceof CompositeModelComponent)) {
+      componentsByName.put(name, component);
+    }
+    component.addAttributesChangeListener(nameChangeListener);
+  }
+
+  private void removeFromIndexes(FolderKey key, ModelComponent component) {
+    component.removeAttributesChangeListener(nameChangeListener);
+    indexedFolderKeys.remove(component);
+    String name = indexedNames.remove(component);
+    if (name == null) {
+      return;
+    }
+    folderComponentsByName.get(key).remove(name, component);
+    componentsByName.remove(name, component);
+  }
+
+  private void updateIndexedName(ModelComponent component) {
+    FolderKey key = indexedFolderKeys.get(component);
+    if (key == null || Objects.equals(indexedNames.get(component), component.getName())) {
+      return;
+    }
+    removeFromIndexes(key, component);
+    addToIndexes(key, component);
+  }
+
+  private void rebuildIndexes() {
+    for (ModelComponent component : List.copyOf(indexedFolderKeys.keySet())) {
+      removeFromIndexes(indexedFolderKeys.get(component), component);
+    }
+    for (Map.Entry<FolderKey, ModelComponent> entry : fMainFolders.entrySet()) {
+      if (entry.getValue() instanceof IndexedFolder) {
+        for (ModelComponent component : entry.getValue().getChildComponents()) {
+          addToIndexes(entry.getKey(), component);
+        }
+      }
+    }
+  }
+
   /**
    * Creates the main folder in the system model.
    */
@@ -358,7 +462,8 @@ public class StandardSystemModel
     createMainFolder(
         this,
         FolderKey.VEHICLES,
-        new SimpleFolder(
+        new IndexedFolder(
+            FolderKey.VEHICLES,
             bundle.getString("standardSystemModel.folder_vehicles.name")
         )
     );
@@ -368,41 +473,56 @@ public class StandardSystemModel
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.POINTS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_points.name"))
+        new IndexedFolder(
+            FolderKey.POINTS,
+            bundle.getString("standardSystemModel.folder_points.name")
+        )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.PATHS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_paths.name"))
+        new IndexedFolder(
+            FolderKey.PATHS,
+            bundle.getString("standardSystemModel.folder_paths.name")
+        )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LOCATIONS,
-        new SimpleFolder(
+        new IndexedFolder(
+            FolderKey.LOCATIONS,
             bundle.getString("standardSystemModel.folder_locations.name")
         )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LOCATION_TYPES,
-        new SimpleFolder(
+        new IndexedFolder(
+            FolderKey.LOCATION_TYPES,
             bundle.getString("standardSystemModel.folder_locationTypes.name")
         )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LINKS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_links.name"))
+        new IndexedFolder(
+            FolderKey.LINKS,
+            bundle.getString("standardSystemModel.folder_links.name")
+        )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.BLOCKS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_blocks.name"))
+        new IndexedFolder(
+            FolderKey.BLOCKS,
+            bundle.getString("standardSystemModel.folder_blocks.name")
+        )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.OTHER_GRAPHICAL_ELEMENTS,
-        new SimpleFolder(
+        new IndexedFolder(
+            FolderKey.OTHER_GRAPHICAL_ELEMENTS,
             bundle.getString("standardSystemModel.folder_otherGraphicalElements.name")
         )
     );
@@ -473,4 +593,37 @@ public class StandardSystemModel
         getMainFolder(FolderKey.OTHER_GRAPHICAL_ELEMENTS)
     );
   }
+
+  /**
+   * A main folder that keeps the system model's indexes up to date when components are added to or
+   * removed from it.
+   */
+  private class IndexedFolder
+      extends
+        SimpleFolder {
+
+    /**
+     * The folder's key.
+     */
+    private final FolderKey key;
+
+    IndexedFolder(FolderKey key, String name) {
+      super(name);
+      this.key = requireNonNull(key, "key");
+    }
+
+    @Override
+    public void add(ModelComponent component) {
+      super.add(component);
+      addToIndexes(key, component);
+    }
+
+    @Override
+    public void remove(ModelComponent component) {
+      super.remove(component);
+      if (!contains(component)) {
+        removeFromIndexes(key, component);
+      }
+    }
+  }
 }
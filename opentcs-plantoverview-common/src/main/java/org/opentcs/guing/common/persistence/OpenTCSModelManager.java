@@ -927,12 +927,7 @@ public class OpenTCSModelManager
    * @return The PointModel that matches the given name.
    */
   private PointModel getPointComponent(SystemModel systemModel, String name) {
-    for (PointModel modelComponent : systemModel.getPointModels()) {
-      if (modelComponent.getName().equals(name)) {
-        return modelComponent;
-      }
-    }
-    return null;
+    return systemModel.getPointModel(name);
   }
 
   /**
@@ -943,12 +938,7 @@ public class OpenTCSModelManager
    * @return The LocationModel that matches the given name.
    */
   private LocationTypeModel getLocationTypeComponent(SystemModel systemModel, String name) {
-    for (LocationTypeModel modelComponent : systemModel.getLocationTypeModels()) {
-      if (modelComponent.getName().equals(name)) {
-        return modelComponent;
-      }
-    }
-    return null;
+    return systemModel.getLocationTypeModel(name);
   }
 
   /**
@@ -959,22 +949,15 @@ public class OpenTCSModelManager
    * @return The ModelComponent.
    */
   private ModelComponent getBlockMember(SystemModel systemModel, String name) {
-    for (PointModel pModel : systemModel.getPointModels()) {
-      if (name.equals(pModel.getName())) {
-        return pModel;
-      }
-    }
-    for (PathModel pModel : systemModel.getPathModels()) {
-      if (name.equals(pModel.getName())) {
-        return pModel;
-      }
+    PointModel pointModel = systemModel.getPointModel(name);
+    if (pointModel != null) {
+      return pointModel;
     }
-    for (LocationModel lModel : systemModel.getLocationModels()) {
-      if (name.equals(lModel.getName())) {
-        return lModel;
-      }
+    PathModel pathModel = systemModel.getPathModel(name);
+    if (pathModel != null) {
+      return pathModel;
     }
-    return null;
+    return systemModel.getLocationModel(name);
   }
 
   /**
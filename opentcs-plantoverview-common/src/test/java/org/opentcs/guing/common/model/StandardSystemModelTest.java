@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.theInstance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.guing.base.components.properties.event.NullAttributesChangeListener;
+import org.opentcs.guing.base.model.elements.BlockModel;
+import org.opentcs.guing.base.model.elements.PointModel;
+import org.opentcs.guing.base.model.elements.VehicleModel;
+import org.opentcs.guing.common.util.ModelComponentFactory;
+
+/**
+ * Unit tests for {@link StandardSystemModel}.
+ */
+class StandardSystemModelTest {
+
+  private StandardSystemModel systemModel;
+  private PointModel point;
+
+  @BeforeEach
+  void setUp() {
+    systemModel = new StandardSystemModel(new ModelComponentFactory());
+    point = new PointModel();
+    point.setName("point-1");
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+  }
+
+  @Test
+  void findAddedComponentsByName() {
+    VehicleModel vehicle = new VehicleModel();
+    vehicle.setName("vehicle-1");
+    systemModel.getMainFolder(SystemModel.FolderKey.VEHICLES).add(vehicle);
+
+    assertThat(systemModel.getModelComponent("point-1"), is(theInstance(point)));
+    assertThat(systemModel.getPointModel("point-1"), is(theInstance(point)));
+    assertThat(systemModel.getModelComponent("vehicle-1"), is(theInstance(vehicle)));
+    assertThat(systemModel.getVehicleModel("vehicle-1"), is(theInstance(vehicle)));
+    assertThat(systemModel.getVehicleModel("point-1"), is(nullValue()));
+    assertThat(systemModel.getModelComponent("unknown"), is(nullValue()));
+  }
+
+  @Test
+  void findBlocksOnlyViaTypeSpecificLookup() {
+    BlockModel block = new BlockModel();
+    block.setName("block-1");
+    systemModel.getMainFolder(SystemModel.FolderKey.BLOCKS).add(block);
+
+    assertThat(systemModel.getBlockModel("block-1"), is(theInstance(block)));
+    assertThat(systemModel.getModelComponent("block-1"), is(nullValue()));
+  }
+
+  @Test
+  void forgetRemovedComponents() {
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).remove(point);
+
+    assertThat(systemModel.getModelComponent("point-1"), is(nullValue()));
+    assertThat(systemModel.getPointModel("point-1"), is(nullValue()));
+  }
+
+  @Test
+  void findComponentsRenamedWithPropertiesChangedNotification() {
+    point.setName("point-2");
+    point.propertiesChanged(new NullAttributesChangeListener());
+
+    assertThat(systemModel.getModelComponent("point-1"), is(nullValue()));
+    assertThat(systemModel.getModelComponent("point-2"), is(theInstance(point)));
+    assertThat(systemModel.getPointModel("point-2"), is(theInstance(point)));
+  }
+
+  @Test
+  void doNotReturnComponentsRenamedWithoutNotification() {
+    point.setName("point-2");
+
+    assertThat(systemModel.getModelComponent("point-1"), is(nullValue()));
+    assertThat(systemModel.getPointModel("point-2"), is(theInstance(point)));
+  }
+
+  @Test
+  void findComponentsRenamedWithoutNotificationByNewNameOnly() {
+    point.setName("point-2");
+
+    assertThat(systemModel.getPointModel("point-2"), is(theInstance(point)));
+    assertThat(systemModel.getModelComponent("point-1"), is(nullValue()));
+  }
+
+  @Test
+  void findModelComponentsRenamedWithoutNotificationByNewNameOnly() {
+    point.setName("point-2");
+
+    assertThat(systemModel.getModelComponent("point-2"), is(theInstance(point)));
+    assertThat(systemModel.getPointModel("point-1"), is(nullValue()));
+  }
+}
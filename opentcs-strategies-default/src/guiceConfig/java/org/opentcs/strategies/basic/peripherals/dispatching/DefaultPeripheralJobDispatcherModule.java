@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.peripherals.dispatching;
 
+import jakarta.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.peripherals.PeripheralJobCallback;
 
@@ -33,6 +34,7 @@ public class DefaultPeripheralJobDispatcherModule
             )
         );
 
+    bind(PeripheralJobQueues.class).in(Singleton.class);
     bind(PeripheralJobCallback.class).to(DefaultPeripheralJobDispatcher.class);
     bind(PeripheralReleaseStrategy.class).to(DefaultPeripheralReleaseStrategy.class);
     bind(JobSelectionStrategy.class).to(DefaultJobSelectionStrategy.class);
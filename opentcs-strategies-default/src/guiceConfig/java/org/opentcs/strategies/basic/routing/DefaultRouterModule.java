@@ -18,6 +18,7 @@ import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
 import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.RoutingTableCache;
 import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +68,8 @@ public class DefaultRouterModule
 
     bind(GraphProvider.class)
         .in(Singleton.class);
+    bind(RoutingTableCache.class)
+        .in(Singleton.class);
 
     switch (spConfiguration.algorithm()) {
       case DIJKSTRA:
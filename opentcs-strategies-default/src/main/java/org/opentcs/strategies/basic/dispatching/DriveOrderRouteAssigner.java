@@ -4,10 +4,13 @@ package org.opentcs.strategies.basic.dispatching;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.opentcs.components.kernel.RouteComputation;
 import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.data.model.Point;
@@ -60,15 +63,118 @@ public class DriveOrderRouteAssigner {
       Vehicle vehicle,
       Point startPosition
   ) {
-    return routeSelector.selectSequence(
+    return assignRoutes(
+        order,
         router.getRoutes(vehicle, startPosition, order, configuration.maxRoutesToConsider())
-    )
-        .map(routes -> {
+    );
+  }
+
+  /**
+   * Prepares the assignment of {@link Route}s to the {@link DriveOrder}s in the given
+   * {@link TransportOrder}.
+   * <p>
+   * This allows the (potentially expensive) computation of the routes to be done separately, e.g.
+   * for multiple vehicles in parallel, as far as the router supports it.
+   * </p>
+   *
+   * @see Router#prepareRouteComputation(Vehicle, Point, TransportOrder, int)
+   *
+   * @param order The transport order whose drive orders are to be assigned routes.
+   * @param vehicle The vehicle that is intended to process the transport order (i.e, the vehicle
+   * for which to calculate the routes).
+   * @param startPosition The position at which the vehicle would start processing the transport
+   * order.
+   * @return The prepared route assignment.
+   */
+  @Nonnull
+  public PreparedRouteAssignment prepareRouteAssignment(
+      TransportOrder order,
+      Vehicle vehicle,
+      Point startPosition
+  ) {
+    return new PreparedRouteAssignment(
+        order,
+        vehicle,
+        startPosition,
+        router.prepareRouteComputation(
+            vehicle,
+            startPosition,
+            order,
+            configuration.maxRoutesToConsider()
+        )
+    );
+  }
+
+  private Optional<List<DriveOrder>> assignRoutes(TransportOrder order, Set<List<Route>> routes) {
+    return routeSelector.selectSequence(routes)
+        .map(routeSequence -> {
           List<DriveOrder> driveOrderList = new ArrayList<>();
-          for (int i = 0; i < routes.size(); i++) {
-            driveOrderList.add(order.getFutureDriveOrders().get(i).withRoute(routes.get(i)));
+          for (int i = 0; i < routeSequence.size(); i++) {
+            driveOrderList.add(
+                order.getFutureDriveOrders().get(i).withRoute(routeSequence.get(i))
+            );
           }
           return driveOrderList;
         });
   }
+
+  /**
+   * A prepared assignment of {@link Route}s to the {@link DriveOrder}s of a transport order.
+   * <p>
+   * The routes may be computed on any thread via {@link #computeRoutes()}. The assigned drive
+   * orders are expected to be retrieved on the kernel executor, though.
+   * </p>
+   */
+  public class PreparedRouteAssignment {
+
+    private final TransportOrder order;
+    private final Vehicle vehicle;
+    private final Point startPosition;
+    private final RouteComputation routeComputation;
+
+    private PreparedRouteAssignment(
+        TransportOrder order,
+        Vehicle vehicle,
+        Point startPosition,
+        RouteComputation routeComputation
+    ) {
+      this.order = requireNonNull(order, "order");
+      this.vehicle = requireNonNull(vehicle, "vehicle");
+      this.startPosition = requireNonNull(startPosition, "startPosition");
+      this.routeComputation = requireNonNull(routeComputation, "routeComputation");
+    }
+
+    /**
+     * Computes the routes to be assigned.
+     * <p>
+     * This method may be called from any thread.
+     * </p>
+     */
+    public void computeRoutes() {
+      routeComputation.compute();
+    }
+
+    /**
+     * Returns the drive orders with the assigned routes.
+     * <p>
+     * If the routes have not been computed before (or their computation had to be discarded), they
+     * are computed by this method.
+     * </p>
+     *
+     * @return An optional containing a list of drive orders with assigned routes, or an empty
+     * optional, if no routes could be assigned.
+     */
+    public Optional<List<DriveOrder>> getAssignedDriveOrders() {
+      Set<List<Route>> routes = routeComputation.getResult()
+          .orElseGet(
+              () -> router.getRoutes(
+                  vehicle,
+                  startPosition,
+                  order,
+                  configuration.maxRoutesToConsider()
+              )
+          );
+      return assignRoutes(order, routes);
+    }
+  }
 }
@@ -5,6 +5,9 @@ package org.opentcs.strategies.basic.dispatching;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
@@ -16,6 +19,8 @@ import org.opentcs.strategies.basic.dispatching.phase.parking.ParkIdleVehiclesPh
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedParkingPhase;
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedReparkPhase;
 import org.opentcs.strategies.basic.dispatching.phase.recharging.RechargeIdleVehiclesPhase;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.opentcs.util.metrics.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,18 @@ public class FullDispatchTask
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  /**
+   * The registry for the dispatch runs' metrics.
+   */
+  private final MetricsRegistry metricsRegistry;
+  /**
+   * Records the duration of full dispatch runs.
+   */
+  private final Timer runTimer;
+  /**
+   * Records the durations of the individual phases, mapped to the phases' names.
+   */
+  private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
   /**
    * Indicates whether this component is enabled.
    */
@@ -58,7 +75,8 @@ public class FullDispatchTask
       RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
       PrioritizedReparkPhase prioritizedReparkPhase,
       PrioritizedParkingPhase prioritizedParkingPhase,
-      ParkIdleVehiclesPhase parkIdleVehiclesPhase
+      ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+      MetricsRegistry metricsRegistry
   ) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
@@ -85,6 +103,25 @@ public class FullDispatchTask
         "prioritizedParkingPhase"
     );
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
+    this.runTimer = metricsRegistry.timer(
+        "opentcs_dispatcher_run_duration_seconds",
+        "Time taken by full dispatch runs"
+    );
+    for (String phaseName : List.of(
+        "checkNewOrders",
+        "finishWithdrawals",
+        "assignNextDriveOrders",
+        "assignSequenceSuccessors",
+        "assignReservedOrders",
+        "assignFreeOrders",
+        "rechargeIdleVehicles",
+        "prioritizedRepark",
+        "prioritizedParking",
+        "parkIdleVehicles"
+    )) {
+      phaseTimers.put(phaseName, phaseTimer(metricsRegistry, phaseName));
+    }
   }
 
   @Override
@@ -136,19 +173,45 @@ public class FullDispatchTask
   public final void run() {
     LOG.debug("Starting full dispatch run...");
 
-    checkNewOrdersPhase.run();
-    // Check what vehicles involved in a process should do.
-    finishWithdrawalsPhase.run();
-    assignNextDriveOrdersPhase.run();
-    assignSequenceSuccessorsPhase.run();
-    // Check what vehicles not already in a process should do.
-    assignOrders();
-    rechargeVehicles();
-    parkVehicles();
+    runTimer.record(() -> {
+      runPhase("checkNewOrders", checkNewOrdersPhase);
+      // Check what vehicles involved in a process should do.
+      runPhase("finishWithdrawals", finishWithdrawalsPhase);
+      runPhase("assignNextDriveOrders", assignNextDriveOrdersPhase);
+      runPhase("assignSequenceSuccessors", assignSequenceSuccessorsPhase);
+      // Check what vehicles not already in a process should do.
+      assignOrders();
+      rechargeVehicles();
+      parkVehicles();
+    });
 
     LOG.debug("Finished full dispatch run.");
   }
 
+  /**
+   * Runs the given phase and records its duration.
+   * <p>
+   * The timers for the default phases are created up front. A timer for any other phase name (e.g.
+   * one used by a subclass) is created on the first run of that phase.
+   * </p>
+   *
+   * @param phaseName The name of the phase, as used in metric tags.
+   * @param phase The phase.
+   */
+  protected void runPhase(String phaseName, Runnable phase) {
+    phaseTimers.computeIfAbsent(phaseName, name -> phaseTimer(metricsRegistry, name))
+        .record(phase);
+  }
+
+  private static Timer phaseTimer(MetricsRegistry metricsRegistry, String phase) {
+    return metricsRegistry.timer(
+        "opentcs_dispatcher_phase_duration_seconds",
+        "Time taken by the individual phases of full dispatch runs",
+        "phase",
+        phase
+    );
+  }
+
   /**
    * Assignment of orders to vehicles.
    * <p>
@@ -156,8 +219,8 @@ public class FullDispatchTask
    * </p>
    */
   protected void assignOrders() {
-    assignReservedOrdersPhase.run();
-    assignFreeOrdersPhase.run();
+    runPhase("assignReservedOrders", assignReservedOrdersPhase);
+    runPhase("assignFreeOrders", assignFreeOrdersPhase);
   }
 
   /**
@@ -167,7 +230,7 @@ public class FullDispatchTask
    * </p>
    */
   protected void rechargeVehicles() {
-    rechargeIdleVehiclesPhase.run();
+    runPhase("rechargeIdleVehicles", rechargeIdleVehiclesPhase);
   }
 
   /**
@@ -177,8 +240,8 @@ public class FullDispatchTask
    * </p>
    */
   protected void parkVehicles() {
-    prioritizedReparkPhase.run();
-    prioritizedParkingPhase.run();
-    parkIdleVehiclesPhase.run();
+    runPhase("prioritizedRepark", prioritizedReparkPhase);
+    runPhase("prioritizedParking", prioritizedParkingPhase);
+    runPhase("parkIdleVehicles", parkIdleVehiclesPhase);
   }
 }
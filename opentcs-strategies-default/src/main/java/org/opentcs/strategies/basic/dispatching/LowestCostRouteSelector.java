@@ -38,4 +38,9 @@ public class LowestCostRouteSelector
             )
         );
   }
+
+  @Override
+  public boolean selectsLowestCost() {
+    return true;
+  }
 }
@@ -27,6 +27,7 @@ import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.ReroutingImpossibleStrategy;
+import org.opentcs.strategies.basic.dispatching.rerouting.PreparedRerouting;
 import org.opentcs.strategies.basic.dispatching.rerouting.ReroutingStrategy;
 import org.opentcs.strategies.basic.dispatching.rerouting.VehiclePositionResolver;
 import org.slf4j.Logger;
@@ -90,19 +91,63 @@ public class RerouteUtil {
     );
   }
 
+  /**
+   * Reroutes the given vehicles.
+   * <p>
+   * Rerouting is done in three phases: First, the rerouting of every vehicle is prepared, which
+   * includes retrieving all data required for it. Then, the new routes are computed for all
+   * vehicles in parallel. As preparing and computing the new routes do not modify any data, the
+   * routes are computed against the same state of the routing topology for all vehicles. Finally,
+   * the transport orders and vehicle controllers are updated one vehicle after another.
+   * </p>
+   *
+   * @param vehicles The vehicles to reroute.
+   * @param reroutingType The type of the rerouting.
+   */
   public void reroute(Collection<Vehicle> vehicles, ReroutingType reroutingType) {
-    for (Vehicle vehicle : vehicles) {
-      reroute(vehicle, reroutingType);
+    requireNonNull(vehicles, "vehicles");
+    requireNonNull(reroutingType, "reroutingType");
+
+    List<ReroutePlan> plans = vehicles.stream()
+        .map(vehicle -> prepareReroute(vehicle, reroutingType))
+        .flatMap(Optional::stream)
+        .toList();
+
+    long timeBefore = System.currentTimeMillis();
+    plans.parallelStream().forEach(plan -> plan.rerouting.computeRoutes());
+    LOG.debug(
+        "Computed routes for rerouting {} vehicles in {} milliseconds.",
+        plans.size(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    for (ReroutePlan plan : plans) {
+      applyReroute(plan);
     }
   }
 
+  /**
+   * Reroutes the given vehicle.
+   *
+   * @param vehicle The vehicle to reroute.
+   * @param reroutingType The type of the rerouting.
+   */
   public void reroute(Vehicle vehicle, ReroutingType reroutingType) {
     requireNonNull(vehicle, "vehicle");
+    requireNonNull(reroutingType, "reroutingType");
+
+    prepareReroute(vehicle, reroutingType).ifPresent(plan -> {
+      plan.rerouting.computeRoutes();
+      applyReroute(plan);
+    });
+  }
+
+  private Optional<ReroutePlan> prepareReroute(Vehicle vehicle, ReroutingType reroutingType) {
     LOG.debug("Trying to reroute vehicle '{}'...", vehicle.getName());
 
     if (!vehicle.isProcessingOrder()) {
       LOG.debug("{} can't be rerouted without processing a transport order.", vehicle.getName());
-      return;
+      return Optional.empty();
     }
 
     TransportOrder originalOrder = transportOrderService.fetch(
@@ -113,7 +158,7 @@ public class RerouteUtil {
 
     if (originalOrder.hasState(TransportOrder.State.WITHDRAWN)) {
       LOG.warn("{} can't be rerouted when its transport order was withdrawn.", vehicle.getName());
-      return;
+      return Optional.empty();
     }
 
     if (reroutingType == ReroutingType.FORCED
@@ -123,12 +168,12 @@ public class RerouteUtil {
               + "related to the current transport order.",
           vehicle.getName()
       );
-      return;
+      return Optional.empty();
     }
 
-    Optional<List<DriveOrder>> optOrders;
+    PreparedRerouting rerouting;
     if (reroutingStrategies.containsKey(reroutingType)) {
-      optOrders = reroutingStrategies.get(reroutingType).reroute(vehicle);
+      rerouting = reroutingStrategies.get(reroutingType).prepareReroute(vehicle);
     }
     else {
       LOG.warn(
@@ -136,10 +181,18 @@ public class RerouteUtil {
           vehicle.getName(),
           reroutingType.name()
       );
-      optOrders = Optional.empty();
+      rerouting = PreparedRerouting.completed(Optional.empty());
     }
 
-    if (reroutingType == ReroutingType.FORCED && vehicle.getState() != Vehicle.State.IDLE) {
+    return Optional.of(new ReroutePlan(vehicle, reroutingType, originalOrder, rerouting));
+  }
+
+  private void applyReroute(ReroutePlan plan) {
+    Vehicle vehicle = plan.vehicle;
+    TransportOrder originalOrder = plan.originalOrder;
+    Optional<List<DriveOrder>> optOrders = plan.rerouting.getDriveOrders();
+
+    if (plan.reroutingType == ReroutingType.FORCED && vehicle.getState() != Vehicle.State.IDLE) {
       LOG.warn(
           "Forcefully rerouting {} although its state is not 'IDLE' but '{}'.",
           vehicle.getName(),
@@ -297,6 +350,29 @@ public class RerouteUtil {
         );
   }
 
+  /**
+   * The prepared rerouting of a single vehicle.
+   */
+  private static class ReroutePlan {
+
+    private final Vehicle vehicle;
+    private final ReroutingType reroutingType;
+    private final TransportOrder originalOrder;
+    private final PreparedRerouting rerouting;
+
+    ReroutePlan(
+        Vehicle vehicle,
+        ReroutingType reroutingType,
+        TransportOrder originalOrder,
+        PreparedRerouting rerouting
+    ) {
+      this.vehicle = requireNonNull(vehicle, "vehicle");
+      this.reroutingType = requireNonNull(reroutingType, "reroutingType");
+      this.originalOrder = requireNonNull(originalOrder, "originalOrder");
+      this.rerouting = requireNonNull(rerouting, "rerouting");
+    }
+  }
+
   private class ExecutionTest
       implements
         Predicate<Step> {
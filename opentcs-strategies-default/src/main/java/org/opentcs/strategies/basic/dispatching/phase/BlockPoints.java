@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.InternalPlantModelService;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Point;
+
+/**
+ * A snapshot of the points that are members of the same blocks, for expanding points to all points
+ * from all blocks they are a member of.
+ * <p>
+ * In contrast to expanding every single point via
+ * {@link InternalPlantModelService#expandResources(Set)}, the blocks and points are retrieved from
+ * the plant model only once, which matters when checking many points (e.g. parking or recharge
+ * positions) at once.
+ * </p>
+ */
+public class BlockPoints {
+
+  /**
+   * The points from all blocks a point is a member of, mapped to the point's name.
+   */
+  private final Map<String, Set<Point>> blockPointsByPointName;
+
+  private BlockPoints(Map<String, Set<Point>> blockPointsByPointName) {
+    this.blockPointsByPointName = requireNonNull(
+        blockPointsByPointName,
+        "blockPointsByPointName"
+    );
+  }
+
+  /**
+   * Creates a snapshot of the points that are members of the same blocks in the current plant
+   * model.
+   *
+   * @param plantModelService The plant model service.
+   * @return The snapshot.
+   */
+  @Nonnull
+  public static BlockPoints of(
+      @Nonnull
+      InternalPlantModelService plantModelService
+  ) {
+    requireNonNull(plantModelService, "plantModelService");
+
+    Set<Block> blocks = plantModelService.fetch(Block.class);
+    if (blocks.isEmpty()) {
+      return new BlockPoints(Map.of());
+    }
+
+    Map<String, Point> points = plantModelService.fetch(Point.class).stream()
+        .collect(Collectors.toMap(Point::getName, Function.identity()));
+    Map<String, Set<Point>> blockPointsByPointName = new HashMap<>();
+    for (Block block : blocks) {
+      Set<Point> blockPoints = block.getMembers().stream()
+          .filter(member -> Point.class.equals(member.getReferentClass()))
+          .map(member -> points.get(member.getName()))
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet());
+      for (Point point : blockPoints) {
+        blockPointsByPointName.computeIfAbsent(point.getName(), name -> new HashSet<>())
+            .addAll(blockPoints);
+      }
+    }
+
+    return new BlockPoints(blockPointsByPointName);
+  }
+
+  /**
+   * Gathers a set of all points from all blocks that the given point is a member of.
+   *
+   * @param point The point to check.
+   * @return A set of all points from all blocks that the given point is a member of, including the
+   * given point itself.
+   */
+  @Nonnull
+  public Set<Point> expand(
+      @Nonnull
+      Point point
+  ) {
+    requireNonNull(point, "point");
+
+    Set<Point> result
+        = new HashSet<>(blockPointsByPointName.getOrDefault(point.getName(), Set.of()));
+    // Prefer the given instance of the point over the one from the snapshot.
+    result.remove(point);
+    result.add(point);
+    return result;
+  }
+}
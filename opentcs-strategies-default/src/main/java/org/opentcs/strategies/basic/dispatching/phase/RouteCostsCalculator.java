@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+import org.opentcs.components.kernel.RouteSelector;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+
+/**
+ * Determines the costs for vehicles to travel from one point to another, based on the route the
+ * route selector would select.
+ */
+public class RouteCostsCalculator {
+
+  /**
+   * The router.
+   */
+  private final Router router;
+  /**
+   * Selects a route from a set of routes.
+   */
+  private final RouteSelector routeSelector;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param router The router.
+   * @param routeSelector Selects a route from a set of routes.
+   * @param configuration The dispatcher configuration.
+   */
+  public RouteCostsCalculator(
+      @Nonnull
+      Router router,
+      @Nonnull
+      RouteSelector routeSelector,
+      @Nonnull
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.router = requireNonNull(router, "router");
+    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Returns the costs of the route the route selector would select for the given vehicle to travel
+   * from one point to another.
+   *
+   * @param vehicle The vehicle.
+   * @param sourcePoint The starting point of the route.
+   * @param destinationPoint The end point of the route.
+   * @return The costs of the selected route, or {@link Long#MAX_VALUE}, if no route was selected.
+   */
+  public long getCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Point destinationPoint
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoint, "destinationPoint");
+
+    if (routeSelector.selectsLowestCost()) {
+      // The router may look up the costs of the cheapest route without computing a complete route.
+      return router.getCosts(vehicle, sourcePoint, destinationPoint);
+    }
+
+    return routeSelector
+        .select(
+            router.getRoutes(
+                vehicle,
+                sourcePoint,
+                destinationPoint,
+                Set.of(),
+                configuration.maxRoutesToConsider()
+            )
+        )
+        .map(Route::getCosts)
+        .orElse(Long.MAX_VALUE);
+  }
+}
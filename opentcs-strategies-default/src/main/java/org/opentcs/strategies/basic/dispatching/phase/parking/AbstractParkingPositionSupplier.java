@@ -16,6 +16,8 @@ import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.phase.BlockPoints;
+import org.opentcs.strategies.basic.dispatching.phase.RouteCostsCalculator;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -38,13 +40,9 @@ public abstract class AbstractParkingPositionSupplier
    */
   private final TargetedPointsSupplier targetedPointsSupplier;
   /**
-   * The dispatcher configuration.
+   * Determines the costs for vehicles to reach candidate positions.
    */
-  private final DefaultDispatcherConfiguration configuration;
-  /**
-   * Selects a route from a set of routes.
-   */
-  private final RouteSelector routeSelector;
+  private final RouteCostsCalculator routeCostsCalculator;
   /**
    * Indicates whether this component is initialized.
    */
@@ -69,8 +67,7 @@ public abstract class AbstractParkingPositionSupplier
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.router = requireNonNull(router, "router");
     this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
-    this.configuration = requireNonNull(configuration, "configuration");
-    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.routeCostsCalculator = new RouteCostsCalculator(router, routeSelector, configuration);
   }
 
   @Override
@@ -122,12 +119,10 @@ public abstract class AbstractParkingPositionSupplier
    * @return The set of usable parking positions.
    */
   protected Set<Point> findUsableParkingPositions(Vehicle vehicle) {
+    Set<Point> targetedPoints = targetedPointsSupplier.getTargetedPoints();
+    BlockPoints blockPoints = BlockPoints.of(plantModelService);
     return fetchAllParkingPositions().stream()
-        .filter(
-            point -> isPointUnoccupiedFor(
-                point, vehicle, targetedPointsSupplier.getTargetedPoints()
-            )
-        )
+        .filter(point -> isPointUnoccupiedFor(point, vehicle, targetedPoints, blockPoints))
         .collect(Collectors.toSet());
   }
 
@@ -183,15 +178,17 @@ public abstract class AbstractParkingPositionSupplier
    * @param accessPoint The point to be checked.
    * @param vehicle The vehicle to be checked for.
    * @param targetedPoints All currently known targeted points.
+   * @param blockPoints The points that are members of the same blocks.
    * @return <code>true</code> if, and only if, ALL points within the same block as the given access
    * point are NOT occupied or targeted by any other vehicle than the given one.
    */
   private boolean isPointUnoccupiedFor(
       Point accessPoint,
       Vehicle vehicle,
-      Set<Point> targetedPoints
+      Set<Point> targetedPoints,
+      BlockPoints blockPoints
   ) {
-    return expandPoints(accessPoint).stream()
+    return blockPoints.expand(accessPoint).stream()
         .allMatch(
             point -> !pointOccupiedOrTargetedByOtherVehicle(
                 point,
@@ -223,18 +220,7 @@ public abstract class AbstractParkingPositionSupplier
   ) {
     return new PointCandidate(
         destPosition,
-        routeSelector
-            .select(
-                router.getRoutes(
-                    vehicle,
-                    srcPosition,
-                    destPosition,
-                    Set.of(),
-                    configuration.maxRoutesToConsider()
-                )
-            )
-            .map(route -> route.getCosts())
-            .orElse(Long.MAX_VALUE)
+        routeCostsCalculator.getCosts(vehicle, srcPosition, destPosition)
     );
   }
 
@@ -23,6 +23,8 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.phase.BlockPoints;
+import org.opentcs.strategies.basic.dispatching.phase.RouteCostsCalculator;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -45,13 +47,9 @@ public class DefaultRechargePositionSupplier
    */
   private final TargetedPointsSupplier targetedPointsSupplier;
   /**
-   * The dispatcher configuration.
+   * Determines the costs for vehicles to reach candidate positions.
    */
-  private final DefaultDispatcherConfiguration configuration;
-  /**
-   * Selects a route from a set of routes.
-   */
-  private final RouteSelector routeSelector;
+  private final RouteCostsCalculator routeCostsCalculator;
   /**
    * Indicates whether this component is enabled.
    */
@@ -77,8 +75,7 @@ public class DefaultRechargePositionSupplier
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.router = requireNonNull(router, "router");
     this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
-    this.configuration = requireNonNull(configuration, "configuration");
-    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.routeCostsCalculator = new RouteCostsCalculator(router, routeSelector, configuration);
   }
 
   @Override
@@ -116,7 +113,8 @@ public class DefaultRechargePositionSupplier
         = findLocationsForOperation(
             vehicle.getRechargeOperation(),
             vehicle,
-            targetedPointsSupplier.getTargetedPoints()
+            targetedPointsSupplier.getTargetedPoints(),
+            BlockPoints.of(plantModelService)
         );
 
     String assignedRechargeLocationName = vehicle.getProperty(PROPKEY_ASSIGNED_RECHARGE_LOCATION);
@@ -173,13 +171,15 @@ public class DefaultRechargePositionSupplier
    * @param operation The operation.
    * @param vehicle The vehicle.
    * @param targetedPoints The points that are currently targeted by vehicles.
+   * @param blockPoints The points that are members of the same blocks.
    * @return The locations allowing the given operation, and the points they would be accessible
    * from.
    */
   private Map<Location, Set<Point>> findLocationsForOperation(
       String operation,
       Vehicle vehicle,
-      Set<Point> targetedPoints
+      Set<Point> targetedPoints,
+      BlockPoints blockPoints
   ) {
     return plantModelService.stream(Location.class)
         .filter(curLoc -> !curLoc.isLocked())
@@ -195,7 +195,8 @@ public class DefaultRechargePositionSupplier
                     curLoc,
                     operation,
                     vehicle,
-                    targetedPoints
+                    targetedPoints,
+                    blockPoints
                 )
             )
         )
@@ -207,12 +208,15 @@ public class DefaultRechargePositionSupplier
       Location location,
       String rechargeOp,
       Vehicle vehicle,
-      Set<Point> targetedPoints
+      Set<Point> targetedPoints,
+      BlockPoints blockPoints
   ) {
     return location.getAttachedLinks().stream()
         .filter(link -> allowsOperation(link, rechargeOp))
         .map(link -> plantModelService.fetch(Point.class, link.getPoint()).orElseThrow())
-        .filter(accessPoint -> isPointUnoccupiedFor(accessPoint, vehicle, targetedPoints))
+        .filter(
+            accessPoint -> isPointUnoccupiedFor(accessPoint, vehicle, targetedPoints, blockPoints)
+        )
         .collect(Collectors.toSet());
   }
 
@@ -243,18 +247,7 @@ public class DefaultRechargePositionSupplier
         .map(
             point -> new LocationCandidate(
                 location,
-                routeSelector
-                    .select(
-                        router.getRoutes(
-                            vehicle,
-                            srcPosition,
-                            point,
-                            Set.of(),
-                            configuration.maxRoutesToConsider()
-                        )
-                    )
-                    .map(route -> route.getCosts())
-                    .orElse(Long.MAX_VALUE)
+                routeCostsCalculator.getCosts(vehicle, srcPosition, point)
             )
         )
         .min(Comparator.comparingLong(candidate -> candidate.costs));
@@ -267,15 +260,17 @@ public class DefaultRechargePositionSupplier
    * @param accessPoint The point to be checked.
    * @param vehicle The vehicle to be checked for.
    * @param targetedPoints All currently known targeted points.
+   * @param blockPoints The points that are members of the same blocks.
    * @return <code>true</code> if, and only if, ALL points within the same block as the given access
    * point are NOT occupied or targeted by any other vehicle than the given one.
    */
   private boolean isPointUnoccupiedFor(
       Point accessPoint,
       Vehicle vehicle,
-      Set<Point> targetedPoints
+      Set<Point> targetedPoints,
+      BlockPoints blockPoints
   ) {
-    return expandPoints(accessPoint).stream()
+    return blockPoints.expand(accessPoint).stream()
         .noneMatch(
             point -> pointOccupiedOrTargetedByOtherVehicle(
                 point,
@@ -300,19 +295,6 @@ public class DefaultRechargePositionSupplier
     return false;
   }
 
-  /**
-   * Gathers a set of all points from all blocks that the given point is a member of.
-   *
-   * @param point The point to check.
-   * @return A set of all points from all blocks that the given point is a member of.
-   */
-  private Set<Point> expandPoints(Point point) {
-    return plantModelService.expandResources(Set.of(point.getReference())).stream()
-        .filter(resource -> Point.class.equals(resource.getReference().getReferentClass()))
-        .map(resource -> (Point) resource)
-        .collect(Collectors.toSet());
-  }
-
   private static class LocationCandidate {
 
     private final Location location;
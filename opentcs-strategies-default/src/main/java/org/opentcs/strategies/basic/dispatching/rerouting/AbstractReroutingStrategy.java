@@ -14,6 +14,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
+import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner.PreparedRouteAssignment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +52,13 @@ public abstract class AbstractReroutingStrategy
 
   @Override
   public Optional<List<DriveOrder>> reroute(Vehicle vehicle) {
+    PreparedRerouting rerouting = prepareReroute(vehicle);
+    rerouting.computeRoutes();
+    return rerouting.getDriveOrders();
+  }
+
+  @Override
+  public PreparedRerouting prepareReroute(Vehicle vehicle) {
     TransportOrder currentTransportOrder = objectService.fetch(
         TransportOrder.class,
         vehicle.getTransportOrder()
@@ -63,30 +71,48 @@ public abstract class AbstractReroutingStrategy
           "{}: Could not determine the reroute source. Not trying to reroute.",
           vehicle.getName()
       );
-      return Optional.empty();
+      return PreparedRerouting.completed(Optional.empty());
     }
     Point rerouteSource = optRerouteSource.get();
 
     // Get all unfinished drive order of the transport order the vehicle is processing.
     List<DriveOrder> unfinishedOrders = getUnfinishedDriveOrders(currentTransportOrder);
 
-    // Try to get a new route for the unfinished drive orders from the reroute source.
-    Optional<List<DriveOrder>> optOrders = tryReroute(vehicle, unfinishedOrders, rerouteSource);
-
-    if (optOrders.isEmpty()) {
-      return Optional.empty();
-    }
-
-    List<DriveOrder> newDriveOrders = optOrders.get();
-    LOG.debug(
-        "Found a new route for {} from point {}: {}",
-        vehicle.getName(),
-        rerouteSource.getName(),
-        newDriveOrders
-    );
-    restoreCurrentDriveOrderHistory(newDriveOrders, vehicle, currentTransportOrder, rerouteSource);
-
-    return Optional.of(newDriveOrders);
+    // Prepare getting a new route for the unfinished drive orders from the reroute source.
+    PreparedRouteAssignment routeAssignment
+        = prepareRouteAssignment(vehicle, unfinishedOrders, rerouteSource);
+
+    return new PreparedRerouting() {
+      @Override
+      public void computeRoutes() {
+        routeAssignment.computeRoutes();
+      }
+
+      @Override
+      public Optional<List<DriveOrder>> getDriveOrders() {
+        Optional<List<DriveOrder>> optOrders = routeAssignment.getAssignedDriveOrders();
+
+        if (optOrders.isEmpty()) {
+          return Optional.empty();
+        }
+
+        List<DriveOrder> newDriveOrders = optOrders.get();
+        LOG.debug(
+            "Found a new route for {} from point {}: {}",
+            vehicle.getName(),
+            rerouteSource.getName(),
+            newDriveOrders
+        );
+        restoreCurrentDriveOrderHistory(
+            newDriveOrders,
+            vehicle,
+            currentTransportOrder,
+            rerouteSource
+        );
+
+        return Optional.of(newDriveOrders);
+      }
+    };
   }
 
   protected TCSObjectService getObjectService() {
@@ -116,15 +142,14 @@ public abstract class AbstractReroutingStrategy
   }
 
   /**
-   * Tries to reroute the given vehicle for the given drive orders.
+   * Prepares rerouting the given vehicle for the given drive orders.
    *
    * @param vehicle The vehicle to reroute.
    * @param driveOrders The drive orders for which to get a new route.
    * @param sourcePoint The source point to reroute from.
-   * @return If rerouting is possible, an {@link Optional} containing the rerouted list of drive
-   * orders, otherwise {@link Optional#empty()}.
+   * @return The prepared assignment of new routes to the given drive orders.
    */
-  private Optional<List<DriveOrder>> tryReroute(
+  private PreparedRouteAssignment prepareRouteAssignment(
       Vehicle vehicle,
       List<DriveOrder> driveOrders,
       Point sourcePoint
@@ -140,7 +165,7 @@ public abstract class AbstractReroutingStrategy
         vehicle.getTransportOrder()
     ).orElseThrow();
 
-    return driveOrderRouteAssigner.tryAssignRoutes(
+    return driveOrderRouteAssigner.prepareRouteAssignment(
         new TransportOrder("reroute-dummy", driveOrders)
             .withProperties(vehicleOrder.getProperties()),
         vehicle,
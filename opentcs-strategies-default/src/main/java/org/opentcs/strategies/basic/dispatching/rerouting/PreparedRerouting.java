@@ -0,0 +1,61 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.rerouting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import org.opentcs.data.order.DriveOrder;
+
+/**
+ * A prepared rerouting of a vehicle.
+ * <p>
+ * The new routes may be computed on any thread via {@link #computeRoutes()}. The resulting drive
+ * orders are expected to be retrieved on the kernel executor, though.
+ * </p>
+ *
+ * @see ReroutingStrategy#prepareReroute(org.opentcs.data.model.Vehicle)
+ */
+public interface PreparedRerouting {
+
+  /**
+   * Computes the new routes.
+   * <p>
+   * This method may be called from any thread.
+   * </p>
+   */
+  void computeRoutes();
+
+  /**
+   * Returns the new drive orders.
+   * <p>
+   * If the new routes have not been computed before, they are computed by this method.
+   * </p>
+   *
+   * @return An {@link Optional} containing the new drive orders or {@link Optional#EMPTY}, if
+   * no new route could be calculated.
+   */
+  Optional<List<DriveOrder>> getDriveOrders();
+
+  /**
+   * Returns a prepared rerouting whose result is already known.
+   *
+   * @param driveOrders The new drive orders.
+   * @return A prepared rerouting whose result is already known.
+   */
+  static PreparedRerouting completed(Optional<List<DriveOrder>> driveOrders) {
+    requireNonNull(driveOrders, "driveOrders");
+
+    return new PreparedRerouting() {
+      @Override
+      public void computeRoutes() {
+      }
+
+      @Override
+      public Optional<List<DriveOrder>> getDriveOrders() {
+        return driveOrders;
+      }
+    };
+  }
+}
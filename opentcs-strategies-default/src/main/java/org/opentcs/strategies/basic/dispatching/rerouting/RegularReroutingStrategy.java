@@ -5,7 +5,6 @@ package org.opentcs.strategies.basic.dispatching.rerouting;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -50,16 +49,16 @@ public class RegularReroutingStrategy
   }
 
   @Override
-  public Optional<List<DriveOrder>> reroute(Vehicle vehicle) {
+  public PreparedRerouting prepareReroute(Vehicle vehicle) {
     if (!isVehicleAtExpectedPosition(vehicle)) {
       LOG.warn(
           "Can't perform regular rerouting for {} located at unexpected position.",
           vehicle.getName()
       );
-      return Optional.empty();
+      return PreparedRerouting.completed(Optional.empty());
     }
 
-    return super.reroute(vehicle);
+    return super.prepareReroute(vehicle);
   }
 
   @Override
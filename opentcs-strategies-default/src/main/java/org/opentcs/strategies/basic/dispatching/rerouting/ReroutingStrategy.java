@@ -26,4 +26,21 @@ public interface ReroutingStrategy {
    * order).
    */
   Optional<List<DriveOrder>> reroute(Vehicle vehicle);
+
+  /**
+   * Prepares calculating a new route for the given {@link Vehicle} and the {@link TransportOrder}
+   * it's currently processing.
+   * <p>
+   * Preparing a rerouting retrieves all data required for it, so that the (potentially expensive)
+   * computation of the new routes can be done separately, e.g. for multiple vehicles in parallel.
+   * The default implementation calculates the new route right away.
+   * </p>
+   *
+   * @param vehicle The vehicle to calculate a new route for.
+   * @return The prepared rerouting.
+   * @see #reroute(Vehicle)
+   */
+  default PreparedRerouting prepareReroute(Vehicle vehicle) {
+    return PreparedRerouting.completed(reroute(vehicle));
+  }
 }
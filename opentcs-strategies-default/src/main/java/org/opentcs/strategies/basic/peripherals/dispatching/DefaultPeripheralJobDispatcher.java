@@ -9,14 +9,16 @@ import static org.opentcs.util.Assertions.checkArgument;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.PeripheralJobDispatcher;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
 import org.opentcs.components.kernel.services.InternalPeripheralService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
@@ -25,11 +27,17 @@ import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.drivers.peripherals.PeripheralJobCallback;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Dispatches peripheral jobs and peripheral devices represented by locations.
+ * <p>
+ * Dispatch runs are performed on an executor of their own, so they do not delay any other tasks
+ * on the kernel executor. Updates of the kernel's state resulting from dispatch runs are applied
+ * on the kernel executor, though (see {@link KernelStateUpdater}).
+ * </p>
  */
 public class DefaultPeripheralJobDispatcher
     implements
@@ -57,9 +65,9 @@ public class DefaultPeripheralJobDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The kernel's executor.
+   * The queues of peripheral jobs to be processed.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final PeripheralJobQueues jobQueues;
   /**
    * Performs a full dispatch run.
    */
@@ -76,6 +84,14 @@ public class DefaultPeripheralJobDispatcher
    * The peripheral job dispatcher's configuration.
    */
   private final DefaultPeripheralJobDispatcherConfiguration configuration;
+  /**
+   * Indicates whether a dispatch run is scheduled but has not yet started.
+   */
+  private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+  /**
+   * Executes dispatch runs.
+   */
+  private volatile ScheduledExecutorService dispatcherExecutor;
   /**
    * The future for the periodic dispatch task.
    */
@@ -96,7 +112,7 @@ public class DefaultPeripheralJobDispatcher
    * @param peripheralJobService The peripheral job service to use.
    * @param controllerPool The controller pool.
    * @param eventSource Where this instance registers for application events.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param jobQueues The queues of peripheral jobs to be processed.
    * @param fullDispatchTask Performs a full dispatch run.
    * @param periodicDispatchTaskProvider A task to periodically trigger the job dispatcher.
    * @param implicitDispatchTriggerProvider A provider for an event handler to trigger the job
@@ -110,8 +126,7 @@ public class DefaultPeripheralJobDispatcher
       PeripheralControllerPool controllerPool,
       @ApplicationEventBus
       EventSource eventSource,
-      @KernelExecutor
-      ScheduledExecutorService kernelExecutor,
+      PeripheralJobQueues jobQueues,
       FullDispatchTask fullDispatchTask,
       Provider<PeriodicPeripheralRedispatchingTask> periodicDispatchTaskProvider,
       Provider<ImplicitDispatchTrigger> implicitDispatchTriggerProvider,
@@ -121,7 +136,7 @@ public class DefaultPeripheralJobDispatcher
     this.peripheralJobService = requireNonNull(peripheralJobService, "peripheralJobService");
     this.controllerPool = requireNonNull(controllerPool, "controllerPool");
     this.eventSource = requireNonNull(eventSource, "eventSource");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(
         periodicDispatchTaskProvider,
@@ -141,6 +156,15 @@ public class DefaultPeripheralJobDispatcher
     }
 
     LOG.debug("Initializing...");
+    dispatcherExecutor = new LoggingScheduledThreadPoolExecutor(
+        1,
+        runnable -> {
+          Thread thread = new Thread(runnable, "peripheralJobDispatcherExecutor");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
+    jobQueues.initialize();
     fullDispatchTask.initialize();
 
     implicitDispatchTrigger = implicitDispatchTriggerProvider.get();
@@ -150,7 +174,7 @@ public class DefaultPeripheralJobDispatcher
         "Scheduling periodic peripheral job dispatch task with interval of {} ms...",
         configuration.idlePeripheralRedispatchingInterval()
     );
-    periodicDispatchTaskFuture = kernelExecutor.scheduleAtFixedRate(
+    periodicDispatchTaskFuture = dispatcherExecutor.scheduleAtFixedRate(
         periodicDispatchTaskProvider.get(),
         configuration.idlePeripheralRedispatchingInterval(),
         configuration.idlePeripheralRedispatchingInterval(),
@@ -174,7 +198,14 @@ public class DefaultPeripheralJobDispatcher
     eventSource.unsubscribe(implicitDispatchTrigger);
     implicitDispatchTrigger = null;
 
+    // Do not wait for a dispatch run in progress here, as it may be waiting for a state update to
+    // be applied on the kernel executor, which this method is usually called on.
+    dispatcherExecutor.shutdownNow();
+    dispatcherExecutor = null;
+    dispatchScheduled.set(false);
+
     fullDispatchTask.terminate();
+    jobQueues.terminate();
 
     initialized = false;
   }
@@ -186,8 +217,28 @@ public class DefaultPeripheralJobDispatcher
 
   @Override
   public void dispatch() {
+    ScheduledExecutorService executor = dispatcherExecutor;
+    if (executor == null) {
+      LOG.debug("Not initialized, ignoring dispatch request.");
+      return;
+    }
+    // Dispatch requests arriving before a scheduled dispatch run has started are covered by that
+    // run, so they do not need a run of their own.
+    if (!dispatchScheduled.compareAndSet(false, true)) {
+      LOG.debug("Dispatch task already scheduled.");
+      return;
+    }
+
     LOG.debug("Scheduling dispatch task...");
-    fullDispatchTask.run();
+    try {
+      executor.execute(() -> {
+        dispatchScheduled.set(false);
+        fullDispatchTask.run();
+      });
+    }
+    catch (RejectedExecutionException exc) {
+      LOG.debug("Dispatcher executor already shut down, ignoring dispatch request.");
+    }
   }
 
   @Override
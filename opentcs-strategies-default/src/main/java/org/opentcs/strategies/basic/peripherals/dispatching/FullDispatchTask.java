@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.peripherals.dispatching;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.concurrent.CancellationException;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.strategies.basic.peripherals.dispatching.phase.AssignFreePeripheralsPhase;
 import org.opentcs.strategies.basic.peripherals.dispatching.phase.AssignReservedPeripheralsPhase;
@@ -94,10 +95,17 @@ public class FullDispatchTask
   public void run() {
     LOG.debug("Starting full dispatch run...");
 
-    finishWithdrawalsPhase.run();
-    assignReservedPeripheralsPhase.run();
-    releasePeripheralsPhase.run();
-    assignFreePeripheralsPhase.run();
+    try {
+      finishWithdrawalsPhase.run();
+      assignReservedPeripheralsPhase.run();
+      releasePeripheralsPhase.run();
+      assignFreePeripheralsPhase.run();
+    }
+    catch (CancellationException exc) {
+      // The dispatcher's executor is being shut down, so no further updates are to be applied.
+      LOG.debug("Dispatch run cancelled.", exc);
+      return;
+    }
 
     LOG.debug("Finished full dispatch run.");
   }
@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies updates of the kernel's state on the kernel executor.
+ * <p>
+ * The peripheral job dispatcher's phases run on the dispatcher's own executor. While they may
+ * read the kernel's state directly, all updates of it (including interactions with peripheral
+ * controllers) are marshalled onto the kernel executor via this class, which waits for them to be
+ * applied. This way, they are serialized with all other updates of the kernel's state.
+ * </p>
+ * <p>
+ * This class must not be used on the kernel executor itself.
+ * </p>
+ */
+public class KernelStateUpdater {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(KernelStateUpdater.class);
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel's executor.
+   */
+  @Inject
+  public KernelStateUpdater(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+  }
+
+  /**
+   * Applies the given update on the kernel executor and waits for it to be applied.
+   * <p>
+   * If the update could not be applied because the kernel executor does not accept any more tasks,
+   * the update is skipped.
+   * If the current thread is interrupted, the update is skipped, too, and a
+   * {@link CancellationException} is thrown, so that callers stop applying any further updates.
+   * </p>
+   *
+   * @param update The update.
+   * @throws CancellationException If the current thread was interrupted before or while waiting for
+   * the update to be applied. The thread's interrupted status is retained.
+   * @throws RuntimeException If the update itself throws an exception.
+   */
+  public void apply(
+      @Nonnull
+      Runnable update
+  )
+      throws CancellationException {
+    requireNonNull(update, "update");
+
+    if (Thread.currentThread().isInterrupted()) {
+      throw new CancellationException("Interrupted, not applying state update.");
+    }
+
+    Future<?> future;
+    try {
+      future = kernelExecutor.submit(update);
+    }
+    catch (RejectedExecutionException exc) {
+      LOG.warn("Kernel executor rejected state update, skipping it.", exc);
+      return;
+    }
+
+    try {
+      future.get();
+    }
+    catch (InterruptedException exc) {
+      // Do not apply the update if the kernel executor has not started applying it, yet.
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for state update to be applied.");
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (exc.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Exception applying state update", exc.getCause());
+    }
+  }
+}
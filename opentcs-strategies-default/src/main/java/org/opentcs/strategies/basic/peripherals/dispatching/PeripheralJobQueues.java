@@ -0,0 +1,177 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps track of the peripheral jobs to be processed, grouped by the locations they are to be
+ * processed at.
+ * <p>
+ * The queues are kept up to date via the events emitted for peripheral jobs, so dispatching
+ * peripheral jobs does not require fetching all locations and peripheral jobs with every run.
+ * Instances of this class may be used from multiple threads.
+ * </p>
+ */
+public class PeripheralJobQueues
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The references to the jobs to be processed, mapped by the locations they are to be processed
+   * at.
+   */
+  private final Map<TCSResourceReference<Location>, Set<TCSObjectReference<PeripheralJob>>> queues
+      = new ConcurrentHashMap<>();
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param eventSource Where this instance registers for application events.
+   */
+  @Inject
+  public PeripheralJobQueues(
+      TCSObjectService objectService,
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventSource.subscribe(this);
+    objectService.fetch(PeripheralJob.class, this::toBeProcessed).forEach(this::enqueue);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    queues.clear();
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !(objectEvent.getCurrentOrPreviousObjectState() instanceof PeripheralJob)) {
+      return;
+    }
+
+    if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_REMOVED
+        && toBeProcessed((PeripheralJob) objectEvent.getCurrentObjectState())) {
+      enqueue((PeripheralJob) objectEvent.getCurrentObjectState());
+    }
+    else {
+      dequeue((PeripheralJob) objectEvent.getCurrentOrPreviousObjectState());
+    }
+  }
+
+  /**
+   * Returns references to all locations with peripheral jobs to be processed.
+   *
+   * @return References to all locations with peripheral jobs to be processed.
+   */
+  @Nonnull
+  public Set<TCSResourceReference<Location>> getLocationsWithJobs() {
+    return queues.entrySet().stream()
+        .filter(entry -> !entry.getValue().isEmpty())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the peripheral jobs to be processed at the given location.
+   *
+   * @param location The location.
+   * @return The peripheral jobs to be processed at the given location, in their current states.
+   */
+  @Nonnull
+  public Set<PeripheralJob> getJobsToBeProcessed(
+      @Nonnull
+      TCSResourceReference<Location> location
+  ) {
+    requireNonNull(location, "location");
+
+    return queues.getOrDefault(location, Set.of()).stream()
+        .map(jobRef -> objectService.fetch(PeripheralJob.class, jobRef).orElse(null))
+        .filter(Objects::nonNull)
+        .filter(this::toBeProcessed)
+        .collect(Collectors.toSet());
+  }
+
+  private boolean toBeProcessed(PeripheralJob job) {
+    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
+  }
+
+  private void enqueue(PeripheralJob job) {
+    queues.compute(
+        job.getPeripheralOperation().getLocation(),
+        (location, jobRefs) -> {
+          Set<TCSObjectReference<PeripheralJob>> result
+              = jobRefs == null ? ConcurrentHashMap.newKeySet() : jobRefs;
+          result.add(job.getReference());
+          return result;
+        }
+    );
+  }
+
+  private void dequeue(PeripheralJob job) {
+    queues.computeIfPresent(
+        job.getPeripheralOperation().getLocation(),
+        (location, jobRefs) -> {
+          jobRefs.remove(job.getReference());
+          return jobRefs.isEmpty() ? null : jobRefs;
+        }
+    );
+  }
+}
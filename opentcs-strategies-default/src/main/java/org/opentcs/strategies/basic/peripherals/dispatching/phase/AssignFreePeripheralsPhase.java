@@ -5,17 +5,21 @@ package org.opentcs.strategies.basic.peripherals.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.strategies.basic.peripherals.dispatching.JobSelectionStrategy;
+import org.opentcs.strategies.basic.peripherals.dispatching.KernelStateUpdater;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobQueues;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
 import org.opentcs.util.ExplainedBoolean;
 import org.slf4j.Logger;
@@ -49,6 +53,14 @@ public class AssignFreePeripheralsPhase
    * Provides service functions for working with peripheral jobs and their states.
    */
   private final PeripheralJobUtil peripheralJobUtil;
+  /**
+   * The queues of peripheral jobs to be processed.
+   */
+  private final PeripheralJobQueues jobQueues;
+  /**
+   * Applies updates of the kernel's state.
+   */
+  private final KernelStateUpdater stateUpdater;
   /**
    * Indicates whether this component is initialized.
    */
@@ -59,7 +71,9 @@ public class AssignFreePeripheralsPhase
       TCSObjectService objectService,
       JobSelectionStrategy jobSelectionStrategy,
       PeripheralControllerPool peripheralControllerPool,
-      PeripheralJobUtil peripheralJobUtil
+      PeripheralJobUtil peripheralJobUtil,
+      PeripheralJobQueues jobQueues,
+      KernelStateUpdater stateUpdater
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.jobSelectionStrategy = requireNonNull(jobSelectionStrategy, "jobSelectionStrategy");
@@ -68,6 +82,8 @@ public class AssignFreePeripheralsPhase
         "peripheralControllerPool"
     );
     this.peripheralJobUtil = requireNonNull(peripheralJobUtil, "peripheralJobUtil");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
+    this.stateUpdater = requireNonNull(stateUpdater, "stateUpdater");
   }
 
   @Override
@@ -93,26 +109,20 @@ public class AssignFreePeripheralsPhase
 
   @Override
   public void run() {
-    Set<Location> availablePeripherals = objectService.fetch(
-        Location.class,
-        this::availableForAnyJob
-    );
-    if (availablePeripherals.isEmpty()) {
-      LOG.debug("No peripherals available, skipping potentially expensive fetching of jobs.");
-      return;
+    // Only peripherals with jobs waiting for them are relevant here.
+    List<Location> availablePeripherals = new ArrayList<>();
+    for (TCSResourceReference<Location> locationRef : jobQueues.getLocationsWithJobs()) {
+      objectService.fetch(Location.class, locationRef)
+          .filter(this::availableForAnyJob)
+          .ifPresent(availablePeripherals::add);
     }
-    Set<PeripheralJob> jobsToBeProcessed = objectService.fetch(
-        PeripheralJob.class,
-        this::toBeProcessed
-    );
     LOG.debug(
-        "Available for dispatching: {} peripheral jobs and {} peripheral devices.",
-        jobsToBeProcessed.size(),
+        "Available for dispatching: {} peripheral devices with jobs.",
         availablePeripherals.size()
     );
 
     for (Location location : availablePeripherals) {
-      tryAssignJob(location, jobsToBeProcessed);
+      tryAssignJob(location, jobQueues.getJobsToBeProcessed(location.getReference()));
     }
   }
 
@@ -134,7 +144,7 @@ public class AssignFreePeripheralsPhase
     return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
   }
 
-  private void tryAssignJob(Location location, Collection<PeripheralJob> availableJobs) {
+  private void tryAssignJob(Location location, Set<PeripheralJob> availableJobs) {
     LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
     jobSelectionStrategy
         .select(
@@ -170,7 +180,27 @@ public class AssignFreePeripheralsPhase
   }
 
   private void assignJob(PeripheralJob job, Location location) {
-    LOG.debug("Assigning job '{}' to peripheral '{}'...", job.getName(), location.getName());
-    peripheralJobUtil.assignPeripheralJob(location, job);
+    stateUpdater.apply(() -> {
+      // The states of the job and the peripheral may have changed since the job was selected.
+      PeripheralJob currentJob = objectService.fetch(PeripheralJob.class, job.getReference())
+          .orElse(null);
+      Location currentLocation = objectService.fetch(Location.class, location.getReference())
+          .orElse(null);
+      if (currentJob == null
+          || currentLocation == null
+          || !toBeProcessed(currentJob)
+          || !availableForAnyJob(currentLocation)
+          || !canProcess(currentLocation, currentJob)) {
+        LOG.debug(
+            "Job '{}' cannot be assigned to peripheral '{}' any more, skipping.",
+            job.getName(),
+            location.getName()
+        );
+        return;
+      }
+
+      LOG.debug("Assigning job '{}' to peripheral '{}'...", job.getName(), location.getName());
+      peripheralJobUtil.assignPeripheralJob(currentLocation, currentJob);
+    });
   }
 }
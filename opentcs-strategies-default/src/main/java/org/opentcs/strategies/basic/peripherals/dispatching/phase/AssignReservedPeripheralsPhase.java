@@ -5,14 +5,18 @@ package org.opentcs.strategies.basic.peripherals.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
+import org.opentcs.strategies.basic.peripherals.dispatching.KernelStateUpdater;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobQueues;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
 import org.opentcs.util.Comparators;
 import org.opentcs.util.ExplainedBoolean;
@@ -44,6 +48,14 @@ public class AssignReservedPeripheralsPhase
    * Provides service functions for working with peripheral jobs and their states.
    */
   private final PeripheralJobUtil peripheralJobUtil;
+  /**
+   * The queues of peripheral jobs to be processed.
+   */
+  private final PeripheralJobQueues jobQueues;
+  /**
+   * Applies updates of the kernel's state.
+   */
+  private final KernelStateUpdater stateUpdater;
   /**
    * Indicates whether this component is initialized.
    */
@@ -53,7 +65,9 @@ public class AssignReservedPeripheralsPhase
   public AssignReservedPeripheralsPhase(
       InternalTCSObjectService objectService,
       PeripheralControllerPool peripheralControllerPool,
-      PeripheralJobUtil peripheralJobUtil
+      PeripheralJobUtil peripheralJobUtil,
+      PeripheralJobQueues jobQueues,
+      KernelStateUpdater stateUpdater
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.peripheralControllerPool = requireNonNull(
@@ -61,6 +75,8 @@ public class AssignReservedPeripheralsPhase
         "peripheralControllerPool"
     );
     this.peripheralJobUtil = requireNonNull(peripheralJobUtil, "peripheralJobUtil");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
+    this.stateUpdater = requireNonNull(stateUpdater, "stateUpdater");
   }
 
   @Override
@@ -86,10 +102,13 @@ public class AssignReservedPeripheralsPhase
 
   @Override
   public void run() {
-    Set<Location> availablePeripherals = objectService.fetch(
-        Location.class,
-        this::reservedAndAvailable
-    );
+    // Only peripherals with jobs waiting for them are relevant here.
+    List<Location> availablePeripherals = new ArrayList<>();
+    for (TCSResourceReference<Location> locationRef : jobQueues.getLocationsWithJobs()) {
+      objectService.fetch(Location.class, locationRef)
+          .filter(this::reservedAndAvailable)
+          .ifPresent(availablePeripherals::add);
+    }
     LOG.debug("Available for dispatching: {} peripheral devices.", availablePeripherals.size());
     for (Location location : availablePeripherals) {
       checkForReservedJobs(location);
@@ -112,8 +131,7 @@ public class AssignReservedPeripheralsPhase
 
   private void checkForReservedJobs(Location location) {
     LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
-    objectService.stream(PeripheralJob.class)
-        .filter(this::toBeProcessed)
+    jobQueues.getJobsToBeProcessed(location.getReference()).stream()
         .filter(job -> matchesReservationToken(job, location))
         .filter(job -> matchesLocation(job, location))
         .filter(job -> canProcess(location, job))
@@ -122,10 +140,6 @@ public class AssignReservedPeripheralsPhase
         .ifPresent(job -> assignJob(job, location));
   }
 
-  private boolean toBeProcessed(PeripheralJob job) {
-    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
-  }
-
   private boolean matchesReservationToken(PeripheralJob job, Location location) {
     return Objects.equals(
         job.getReservationToken(),
@@ -157,7 +171,28 @@ public class AssignReservedPeripheralsPhase
   }
 
   private void assignJob(PeripheralJob job, Location location) {
-    LOG.debug("Assigning job '{}' to peripheral '{}'...", job.getName(), location.getName());
-    peripheralJobUtil.assignPeripheralJob(location, job);
+    stateUpdater.apply(() -> {
+      // The states of the job and the peripheral may have changed since the job was selected.
+      PeripheralJob currentJob = objectService.fetch(PeripheralJob.class, job.getReference())
+          .orElse(null);
+      Location currentLocation = objectService.fetch(Location.class, location.getReference())
+          .orElse(null);
+      if (currentJob == null
+          || currentLocation == null
+          || currentJob.getState() != PeripheralJob.State.TO_BE_PROCESSED
+          || !processesNoJob(currentLocation)
+          || !matchesReservationToken(currentJob, currentLocation)
+          || !canProcess(currentLocation, currentJob)) {
+        LOG.debug(
+            "Job '{}' cannot be assigned to peripheral '{}' any more, skipping.",
+            job.getName(),
+            location.getName()
+        );
+        return;
+      }
+
+      LOG.debug("Assigning job '{}' to peripheral '{}'...", job.getName(), location.getName());
+      peripheralJobUtil.assignPeripheralJob(currentLocation, currentJob);
+    });
   }
 }
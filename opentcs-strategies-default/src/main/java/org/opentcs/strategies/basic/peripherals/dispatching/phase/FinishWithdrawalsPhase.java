@@ -16,6 +16,7 @@ import org.opentcs.data.model.PeripheralInformation;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
+import org.opentcs.strategies.basic.peripherals.dispatching.KernelStateUpdater;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
 
 /**
@@ -37,6 +38,10 @@ public class FinishWithdrawalsPhase
    * The controller pool.
    */
   private final PeripheralControllerPool controllerPool;
+  /**
+   * Applies updates of the kernel's state.
+   */
+  private final KernelStateUpdater stateUpdater;
   /**
    * Indicates whether this component is initialized.
    */
@@ -51,12 +56,15 @@ public class FinishWithdrawalsPhase
       @Nonnull
       InternalPeripheralJobService peripheralJobService,
       @Nonnull
-      PeripheralControllerPool controllerPool
+      PeripheralControllerPool controllerPool,
+      @Nonnull
+      KernelStateUpdater stateUpdater
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.peripheralService = requireNonNull(peripheralService, "peripheralService");
     this.peripheralJobService = requireNonNull(peripheralJobService, "peripheralJobService");
     this.controllerPool = requireNonNull(controllerPool, "controllerPool");
+    this.stateUpdater = requireNonNull(stateUpdater, "stateUpdater");
   }
 
   @Override
@@ -101,14 +109,20 @@ public class FinishWithdrawalsPhase
 
     jobs.stream()
         .filter(job -> failedOrderRefs.contains(job.getRelatedTransportOrder()))
-        .forEach(job -> abortJob(job));
+        .forEach(job -> stateUpdater.apply(() -> abortJob(job.getReference())));
   }
 
   private boolean isRelatedToTransportOrderAndNotInFinalState(PeripheralJob job) {
     return job.getRelatedTransportOrder() != null && !job.getState().isFinalState();
   }
 
-  private void abortJob(PeripheralJob job) {
+  private void abortJob(TCSObjectReference<PeripheralJob> jobRef) {
+    // The job's state may have changed since it was selected for being aborted.
+    PeripheralJob job = objectService.fetch(PeripheralJob.class, jobRef).orElse(null);
+    if (job == null || job.getState().isFinalState()) {
+      return;
+    }
+
     if (job.getState() == PeripheralJob.State.BEING_PROCESSED) {
       controllerPool.getPeripheralController(job.getPeripheralOperation().getLocation()).abortJob();
       peripheralService.updatePeripheralProcState(
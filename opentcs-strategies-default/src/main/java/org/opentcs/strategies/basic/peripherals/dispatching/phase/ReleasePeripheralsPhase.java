@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import java.util.Collection;
 import org.opentcs.components.kernel.services.InternalPeripheralService;
 import org.opentcs.data.model.Location;
+import org.opentcs.strategies.basic.peripherals.dispatching.KernelStateUpdater;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralReleaseStrategy;
 import org.slf4j.Logger;
@@ -32,6 +33,10 @@ public class ReleasePeripheralsPhase
    * The release strategy to use.
    */
   private final PeripheralReleaseStrategy releaseStrategy;
+  /**
+   * Applies updates of the kernel's state.
+   */
+  private final KernelStateUpdater stateUpdater;
   /**
    * Indicates whether this component is initialized.
    */
@@ -40,10 +45,12 @@ public class ReleasePeripheralsPhase
   @Inject
   public ReleasePeripheralsPhase(
       InternalPeripheralService peripheralService,
-      PeripheralReleaseStrategy releaseStrategy
+      PeripheralReleaseStrategy releaseStrategy,
+      KernelStateUpdater stateUpdater
   ) {
     this.peripheralService = requireNonNull(peripheralService, "peripheralService");
     this.releaseStrategy = requireNonNull(releaseStrategy, "releaseStrategy");
+    this.stateUpdater = requireNonNull(stateUpdater, "stateUpdater");
   }
 
   @Override
@@ -74,7 +81,7 @@ public class ReleasePeripheralsPhase
             peripheralService.fetch(Location.class)
         );
     for (Location location : peripheralsToRelease) {
-      releasePeripheral(location);
+      stateUpdater.apply(() -> releasePeripheral(location));
     }
   }
 
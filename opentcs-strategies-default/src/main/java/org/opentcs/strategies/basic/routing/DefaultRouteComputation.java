@@ -0,0 +1,232 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import org.opentcs.components.kernel.RouteComputation;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the cheapest route for a vehicle along the drive orders of a transport order.
+ * <p>
+ * All model data required for the computation is retrieved when the computation is created. If the
+ * routing topology is updated while a computation is being executed, its result is discarded.
+ * </p>
+ *
+ * @see DefaultRouter#prepareRouteComputation(Vehicle, Point, TransportOrder, int)
+ */
+public class DefaultRouteComputation
+    implements
+      RouteComputation {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultRouteComputation.class);
+  /**
+   * The point which the route is supposed to start at.
+   */
+  private final Point sourcePoint;
+  /**
+   * The acceptable destination points for each of the drive orders, in the order they are to be
+   * processed.
+   */
+  private final List<Set<Point>> destinationPoints;
+  /**
+   * The point router for the vehicle.
+   */
+  private final PointRouter pointRouter;
+  /**
+   * Whether to route a vehicle to its current position if that is an acceptable destination.
+   */
+  private final boolean routeToCurrentPosition;
+  /**
+   * Provides the current version of the routing topology.
+   */
+  private final LongSupplier topologyVersion;
+  /**
+   * The version of the routing topology the point router reflects.
+   */
+  private final long initialTopologyVersion;
+  /**
+   * The computed routes, or {@code null}, if they haven't been computed (successfully), yet.
+   */
+  private volatile Set<List<Route>> result;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param sourcePoint The point which the route is supposed to start at.
+   * @param destinationPoints The acceptable destination points for each of the drive orders, in
+   * the order they are to be processed.
+   * @param pointRouter The point router for the vehicle.
+   * @param routeToCurrentPosition Whether to route a vehicle to its current position if that is an
+   * acceptable destination.
+   * @param topologyVersion Provides the current version of the routing topology.
+   */
+  DefaultRouteComputation(
+      Point sourcePoint,
+      List<Set<Point>> destinationPoints,
+      PointRouter pointRouter,
+      boolean routeToCurrentPosition,
+      LongSupplier topologyVersion
+  ) {
+    this.sourcePoint = requireNonNull(sourcePoint, "sourcePoint");
+    this.destinationPoints = requireNonNull(destinationPoints, "destinationPoints");
+    this.pointRouter = requireNonNull(pointRouter, "pointRouter");
+    this.routeToCurrentPosition = routeToCurrentPosition;
+    this.topologyVersion = requireNonNull(topologyVersion, "topologyVersion");
+    this.initialTopologyVersion = topologyVersion.getAsLong();
+  }
+
+  @Override
+  public void compute() {
+    try {
+      Set<List<Route>> routes = computeRoutes();
+      if (topologyVersion.getAsLong() == initialTopologyVersion) {
+        result = routes;
+      }
+      else {
+        LOG.debug("Routing topology was updated during route computation, discarding result.");
+      }
+    }
+    catch (RuntimeException e) {
+      if (topologyVersion.getAsLong() == initialTopologyVersion) {
+        throw e;
+      }
+      LOG.debug("Route computation failed due to a routing topology update.", e);
+    }
+  }
+
+  @Override
+  public Optional<Set<List<Route>>> getResult() {
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * Computes the routes without considering updates of the routing topology.
+   *
+   * @return The computed routes.
+   */
+  Set<List<Route>> computeRoutes() {
+    OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(destinationPoints.size());
+    computeCheapestOrderRoute(sourcePoint, 0, resultStruct);
+    return (resultStruct.bestCosts == Long.MAX_VALUE)
+        ? Set.of()
+        : Set.of(List.of(resultStruct.bestRoute));
+  }
+
+  /**
+   * Compute the cheapest route along a list of drive orders/checkpoints.
+   *
+   * @param startPoint The current checkpoint which to start at.
+   * @param hopIndex The current index in the list of drive orders/checkpoints.
+   * @param result A struct for keeping the (partial) result in.
+   */
+  private void computeCheapestOrderRoute(
+      Point startPoint,
+      int hopIndex,
+      OrderRouteResultStruct result
+  ) {
+    assert startPoint != null;
+    assert result != null;
+    // If we haven't reached the final drive order in the list, yet...
+    if (hopIndex < destinationPoints.size()) {
+      // ...try every possible destination point of the current drive order as
+      // the next checkpoint and recursively route from there.
+      final long currentRouteCosts = result.currentCosts;
+      Set<Point> destPoints = destinationPoints.get(hopIndex);
+      // If the set of destination points contains the starting point, keep only
+      // that one. This is just a shortcut - it is the cheapest way to go.
+      if (!routeToCurrentPosition && destPoints.contains(startPoint)) {
+        LOG.debug("Shortcutting route to {}", startPoint);
+        destPoints = Set.of(startPoint);
+      }
+      boolean routable = false;
+      for (Point curDestPoint : destPoints) {
+        final double hopCosts = pointRouter.getCosts(startPoint, curDestPoint);
+        if (Double.isNaN(hopCosts)) {
+          continue;
+        }
+        // Get the list of steps for the route of the current drive order.
+        List<Route.Step> steps = pointRouter.getRouteSteps(startPoint, curDestPoint);
+        if (steps.isEmpty()) {
+          // If the list of steps returned is empty, we're already at the
+          // destination point of the drive order - create a single step
+          // without a path.
+          steps = new ArrayList<>(1);
+          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+        }
+        // Create a route from the list of steps gathered.
+        Route hopRoute = new Route(steps);
+        // Place the computed route in the result struct.
+        result.currentRoute[hopIndex] = hopRoute;
+        // Calculate the costs for the route so far, too.
+        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
+        computeCheapestOrderRoute(curDestPoint, hopIndex + 1, result);
+        // Remember that we did find at least one route that works.
+        routable = true;
+      }
+      if (!routable) {
+        // Setting currentCosts is not strictly necessary for this algorithm,
+        // but might help with debugging.
+        result.currentCosts = Long.MAX_VALUE;
+      }
+    }
+    // If we have reached the final drive order, ...
+    else // If the route computed is cheaper than the best route found so far,
+      // replace the latter.
+      if (result.currentCosts < result.bestCosts) {
+        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
+        result.bestCosts = result.currentCosts;
+      }
+  }
+
+  /**
+   * A struct supporting cheapest route calculation.
+   */
+  private static final class OrderRouteResultStruct {
+
+    /**
+     * The (possibly partial) route currently being examined.
+     */
+    private Route[] currentRoute;
+    /**
+     * The costs of the route currently being examined.
+     */
+    private long currentCosts;
+    /**
+     * The best route found so far.
+     */
+    private Route[] bestRoute;
+    /**
+     * The costs of the best route found so far.
+     */
+    private long bestCosts;
+
+    /**
+     * Creates a new OrderRouteResultStruct.
+     *
+     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
+     * <code>TransportOrder</code> for which this struct is to store the
+     * routing result.
+     */
+    OrderRouteResultStruct(int driveOrderCount) {
+      currentRoute = new Route[driveOrderCount];
+      currentCosts = 0;
+      bestRoute = new Route[driveOrderCount];
+      bestCosts = Long.MAX_VALUE;
+    }
+  }
+}
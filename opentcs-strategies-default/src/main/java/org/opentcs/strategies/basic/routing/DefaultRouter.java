@@ -6,14 +6,15 @@ import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.inject.Inject;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.RouteComputation;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
@@ -28,8 +29,8 @@ import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.opentcs.util.metrics.Timer;
 
 /**
  * A basic {@link Router} implementation.
@@ -38,10 +39,6 @@ public class DefaultRouter
     implements
       Router {
 
-  /**
-   * This class's Logger.
-   */
-  private static final Logger LOG = LoggerFactory.getLogger(DefaultRouter.class);
   /**
    * This class's configuration.
    */
@@ -58,6 +55,34 @@ public class DefaultRouter
    * Used to map vehicles to their routing groups.
    */
   private final GroupMapper routingGroupMapper;
+  /**
+   * The version of the routing topology, incremented whenever the topology is updated.
+   */
+  private final AtomicLong topologyVersion = new AtomicLong();
+  /**
+   * Records the latency of routability checks.
+   */
+  private final Timer checkRoutabilityTimer;
+  /**
+   * Records the latency of general routability checks.
+   */
+  private final Timer checkGeneralRoutabilityTimer;
+  /**
+   * Records the latency of route computations for transport orders.
+   */
+  private final Timer getRoutesForOrderTimer;
+  /**
+   * Records the latency of preparations of route computations.
+   */
+  private final Timer prepareRouteComputationTimer;
+  /**
+   * Records the latency of route computations between two points.
+   */
+  private final Timer getRoutesBetweenPointsTimer;
+  /**
+   * Records the latency of cost lookups.
+   */
+  private final Timer getCostsTimer;
   /**
    * Indicates whether this component is enabled.
    */
@@ -70,18 +95,27 @@ public class DefaultRouter
    * @param pointRouterProvider Provides point routers for vehicles.
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param configuration This class's configuration.
+   * @param metricsRegistry The registry to register metrics with.
    */
   @Inject
   public DefaultRouter(
       InternalTCSObjectService objectService,
       PointRouterProvider pointRouterProvider,
       GroupMapper routingGroupMapper,
-      DefaultRouterConfiguration configuration
+      DefaultRouterConfiguration configuration,
+      MetricsRegistry metricsRegistry
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.pointRouterProvider = requireNonNull(pointRouterProvider, "pointRouterProvider");
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.configuration = requireNonNull(configuration, "configuration");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    this.checkRoutabilityTimer = queryTimer(metricsRegistry, "checkRoutability");
+    this.checkGeneralRoutabilityTimer = queryTimer(metricsRegistry, "checkGeneralRoutability");
+    this.getRoutesForOrderTimer = queryTimer(metricsRegistry, "getRoutesForOrder");
+    this.prepareRouteComputationTimer = queryTimer(metricsRegistry, "prepareRouteComputation");
+    this.getRoutesBetweenPointsTimer = queryTimer(metricsRegistry, "getRoutesBetweenPoints");
+    this.getCostsTimer = queryTimer(metricsRegistry, "getCosts");
   }
 
   @Override
@@ -91,6 +125,7 @@ public class DefaultRouter
     }
 
     synchronized (this) {
+      topologyVersion.incrementAndGet();
       pointRouterProvider.invalidate();
       initialized = true;
     }
@@ -108,6 +143,7 @@ public class DefaultRouter
     }
 
     synchronized (this) {
+      topologyVersion.incrementAndGet();
       pointRouterProvider.invalidate();
       initialized = false;
     }
@@ -118,6 +154,7 @@ public class DefaultRouter
     requireNonNull(paths, "paths");
 
     synchronized (this) {
+      topologyVersion.incrementAndGet();
       pointRouterProvider.updateRoutingTopology(paths);
     }
   }
@@ -126,46 +163,50 @@ public class DefaultRouter
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-
-      for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
-          .getPointRoutersByVehicleGroup().entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
+    return checkRoutabilityTimer.record(() -> {
+      synchronized (this) {
+        Set<Vehicle> result = new HashSet<>();
+        List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+        DriveOrder[] driveOrders
+            = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+
+        for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
+            .getPointRoutersByVehicleGroup().entrySet()) {
+          // Get all points at the first location at which a vehicle of the current
+          // type can execute the desired operation and check if an acceptable route
+          // originating in one of them exists.
+          for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+            if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+              result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
+              break;
+            }
           }
         }
+        return result;
       }
-      return result;
-    }
+    });
   }
 
   @Override
   public boolean checkGeneralRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    return checkGeneralRoutabilityTimer.record(() -> {
+      synchronized (this) {
+        List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+        DriveOrder[] driveOrders
+            = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
 
-      PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
+        PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
 
-      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-        if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
-          return false;
+        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+          if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
+            return false;
+          }
         }
+        return true;
       }
-      return true;
-    }
+    });
   }
 
   @Override
@@ -180,22 +221,43 @@ public class DefaultRouter
     requireNonNull(transportOrder, "transportOrder");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
-    synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
-          vehicle,
-          transportOrder
-      );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
-    }
+    return getRoutesForOrderTimer.record(() -> {
+      synchronized (this) {
+        // TODO: Once maxRouteCount is actually used, ensure to cap it at
+        //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
+        return createRouteComputation(vehicle, sourcePoint, transportOrder).computeRoutes();
+      }
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * All model data required for the computation is retrieved when preparing it. The routes are
+   * computed only when executing the returned computation, which allows routes for many vehicles to
+   * be computed in parallel e.g. while the caller holds a lock on the kernel's data. If the routing
+   * topology is updated in the meantime, the computation's result is discarded.
+   * </p>
+   *
+   * @see #getRoutes(Vehicle, Point, TransportOrder, int)
+   */
+  @Override
+  public RouteComputation prepareRouteComputation(
+      Vehicle vehicle,
+      Point sourcePoint,
+      TransportOrder transportOrder,
+      int maxRouteCount
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(transportOrder, "transportOrder");
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    return prepareRouteComputationTimer.record(() -> {
+      synchronized (this) {
+        return createRouteComputation(vehicle, sourcePoint, transportOrder);
+      }
+    });
   }
 
   @Override
@@ -212,29 +274,58 @@ public class DefaultRouter
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
-    synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      return Optional.ofNullable(
-          pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid)
-              .getRouteSteps(sourcePoint, destinationPoint)
-      )
-          .map(steps -> {
-            if (steps.isEmpty()) {
-              return List.of(
-                  // If the list of steps is empty, we're already at the destination point create a
-                  // single step without a path.
-                  new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
-              );
-            }
-            else {
-              return steps;
-            }
-          })
-          .map(Route::new)
-          .map(Set::of)
-          .orElse(Set.of());
-    }
+    return getRoutesBetweenPointsTimer.record(() -> {
+      synchronized (this) {
+        // TODO: Once maxRouteCount is actually used, ensure to cap it at
+        //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
+        return Optional.ofNullable(
+            pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid)
+                .getRouteSteps(sourcePoint, destinationPoint)
+        )
+            .map(steps -> {
+              if (steps.isEmpty()) {
+                return List.of(
+                    // If the list of steps is empty, we're already at the destination point create
+                    // a single step without a path.
+                    new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
+                );
+              }
+              else {
+                return steps;
+              }
+            })
+            .map(Route::new)
+            .map(Set::of)
+            .orElse(Set.of());
+      }
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * In contrast to {@link #getRoutes(Vehicle, Point, Point, Set, int)}, no route is computed. The
+   * costs are looked up in a table of costs for travelling to the destination point that is
+   * maintained for the vehicle's routing group and that is discarded whenever the routing topology
+   * is updated. This is meant for destination points that costs are frequently requested for, e.g.
+   * parking or recharge positions.
+   * </p>
+   *
+   * @see PointRouter#getTabulatedCosts(Point, Point)
+   */
+  @Override
+  public long getCosts(Vehicle vehicle, Point sourcePoint, Point destinationPoint) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoint, "destinationPoint");
+
+    return getCostsTimer.record(() -> {
+      synchronized (this) {
+        double costs = pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())
+            .getTabulatedCosts(sourcePoint, destinationPoint);
+        return Double.isNaN(costs) ? Long.MAX_VALUE : (long) costs;
+      }
+    });
   }
 
   /**
@@ -280,74 +371,20 @@ public class DefaultRouter
     }
   }
 
-  /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
-   *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
-   */
-  private void computeCheapestOrderRoute(
-      Point startPoint,
-      OrderRouteParameterStruct params,
-      int hopIndex,
-      OrderRouteResultStruct result
+  private DefaultRouteComputation createRouteComputation(
+      Vehicle vehicle,
+      Point sourcePoint,
+      TransportOrder transportOrder
   ) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final double hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (Double.isNaN(hopCosts)) {
-          continue;
-        }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
-        }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
-      }
-    }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
-      }
+    return new DefaultRouteComputation(
+        sourcePoint,
+        transportOrder.getFutureDriveOrders().stream()
+            .map(this::getDestinationPoints)
+            .toList(),
+        pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder),
+        configuration.routeToCurrentPosition(),
+        topologyVersion::get
+    );
   }
 
   /**
@@ -422,70 +459,12 @@ public class DefaultRouter
         .collect(Collectors.toSet());
   }
 
-  /**
-   * Contains parameters for a route to be computed.
-   */
-  private static final class OrderRouteParameterStruct {
-
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
-    /**
-     * The point router for the vehicle type.
-     */
-    private final PointRouter pointRouter;
-
-    /**
-     * Creates a new OrderRouteParameterStruct.
-     *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
-     * @param pointRouter The point router for the vehicle type.
-     */
-    OrderRouteParameterStruct(
-        DriveOrder[] driveOrders,
-        PointRouter pointRouter
-    ) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
-      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
-    }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
-
-    /**
-     * The (possibly partial) route currently being examined.
-     */
-    private Route[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private Route[] bestRoute;
-    /**
-     * The costs of the best route found so far.
-     */
-    private long bestCosts;
-
-    /**
-     * Creates a new OrderRouteResultStruct.
-     *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
-     */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new Route[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
-    }
+  private static Timer queryTimer(MetricsRegistry metricsRegistry, String query) {
+    return metricsRegistry.timer(
+        "opentcs_router_query_duration_seconds",
+        "Time taken to answer routing queries, including waiting for other queries",
+        "query",
+        query
+    );
   }
 }
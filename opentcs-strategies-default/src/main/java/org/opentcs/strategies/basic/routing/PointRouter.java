@@ -11,6 +11,10 @@ import org.opentcs.data.order.Route;
 
 /**
  * Computes routes between points.
+ * <p>
+ * As long as the routing topology is not updated, implementations are expected to be safe for use
+ * by multiple threads concurrently.
+ * </p>
  */
 public interface PointRouter {
 
@@ -56,4 +60,31 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the costs for travelling the shortest route from one point to another, looked up in a
+   * table of costs for travelling to the destination point.
+   * <p>
+   * Implementations may compute such a table once for every destination point requested and keep
+   * it for the lifetime of this point router. This is meant for destination points costs are
+   * frequently requested for from varying starting points (e.g. parking or recharge positions), as
+   * it reduces looking up the costs to a table lookup.
+   * The default implementation simply sums up the costs of the steps returned by
+   * {@link #getRouteSteps(Point, Point)}.
+   * </p>
+   *
+   * @param srcPoint The starting point.
+   * @param destPoint The destination point.
+   * @return The costs for travelling the shortest route from the starting point to the destination
+   * point, i.e. the sum of the costs of the route's steps.
+   * If no route exists, {@link Double#NaN} will be returned.
+   */
+  default double getTabulatedCosts(Point srcPoint, Point destPoint) {
+    List<Route.Step> steps = getRouteSteps(srcPoint, destPoint);
+    if (steps == null) {
+      return Double.NaN;
+    }
+
+    return steps.stream().mapToLong(Route.Step::getCosts).sum();
+  }
 }
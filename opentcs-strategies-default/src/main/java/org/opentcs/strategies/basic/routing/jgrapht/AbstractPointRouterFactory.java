@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -12,6 +13,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.graph.EdgeReversedGraph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -126,13 +128,40 @@ public abstract class AbstractPointRouterFactory
       Graph<Vertex, Edge> graph
   );
 
-  private PointRouter createPointRouter(GraphResult graphResult) {
+  /**
+   * Returns a shortest path algorithm implementation working on the reverse of the given graph.
+   * <p>
+   * The returned implementation is used for computing the shortest paths from all points to single
+   * destination points. By default, it is created via
+   * {@link #createShortestPathAlgorithm(org.jgrapht.Graph)}.
+   * </p>
+   *
+   * @param graph The graph.
+   * @return A shortest path algorithm implementation working on the reverse of the given graph,
+   * or {@code null}, if the shortest paths to single destination points are to be computed using
+   * the algorithm working on the given graph itself.
+   */
+  @Nullable
+  protected ShortestPathAlgorithm<Vertex, Edge> createReverseShortestPathAlgorithm(
+      Graph<Vertex, Edge> graph
+  ) {
+    return createShortestPathAlgorithm(new EdgeReversedGraph<>(graph));
+  }
+
+  /**
+   * Creates a point router for the given graph result.
+   *
+   * @param graphResult The graph result.
+   * @return The point router.
+   */
+  protected PointRouter createPointRouter(GraphResult graphResult) {
     Map<String, Point> points = graphResult.getPointBase().stream()
         .filter(point -> !graphResult.getExcludedPoints().contains(point))
         .collect(Collectors.toMap(Point::getName, Function.identity()));
 
     PointRouter router = new ShortestPathPointRouter(
         createShortestPathAlgorithm(graphResult.getGraph()),
+        createReverseShortestPathAlgorithm(graphResult.getGraph()),
         points,
         graphResult.getGraph().vertexSet()
     );
@@ -2,39 +2,126 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
 import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Creates {@link PointRouter} instances based on the Floyd-Warshall algorithm.
+ * <p>
+ * Point routers look up routes in {@link RoutingTable}s, which keep the shortest routes between
+ * all pairs of points outside of the Java heap. If persisting routing tables is enabled, routing
+ * tables for routing graphs without any excluded points or paths and without any locked paths are
+ * loaded from the {@link RoutingTableCache} if possible instead of being computed. Routing tables
+ * for routing graphs with locked paths are not persisted, so (un)locking paths during plant
+ * operation neither causes routing tables to be written nor pushes the routing tables for the
+ * unlocked plant model out of the cache. For routing graphs with more than
+ * {@link RoutingTable#MAX_VERTEX_COUNT} vertices, JGraphT's implementation of the Floyd-Warshall
+ * algorithm is used instead.
+ * </p>
  */
 public class FloydWarshallPointRouterFactory
     extends
       AbstractPointRouterFactory {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(FloydWarshallPointRouterFactory.class);
+  /**
+   * Persists routing tables.
+   */
+  private final RoutingTableCache routingTableCache;
+
   /**
    * Creates a new instance.
    *
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param routingTableCache Persists routing tables.
    */
   @Inject
   public FloydWarshallPointRouterFactory(
       @Nonnull
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      @Nonnull
+      RoutingTableCache routingTableCache
   ) {
     super(graphProvider);
+    this.routingTableCache = requireNonNull(routingTableCache, "routingTableCache");
   }
 
   @Override
   protected ShortestPathAlgorithm<Vertex, Edge> createShortestPathAlgorithm(
       Graph<Vertex, Edge> graph
   ) {
-    return new FloydWarshallShortestPaths<>(graph);
+    FloydWarshallShortestPaths<Vertex, Edge> algorithm = new FloydWarshallShortestPaths<>(graph);
+    // JGraphT's implementation computes its matrix lazily on first use, without any
+    // synchronization. As point routers may be used by multiple threads concurrently, compute the
+    // matrix right away, before the algorithm is shared.
+    if (!graph.vertexSet().isEmpty()) {
+      Vertex vertex = graph.vertexSet().iterator().next();
+      algorithm.getPathWeight(vertex, vertex);
+    }
+    return algorithm;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With the Floyd-Warshall algorithm, the shortest paths between all pairs of vertices are
+   * computed anyway, so looking up the shortest paths to single destination points does not
+   * require a separate algorithm working on the reversed graph.
+   * </p>
+   */
+  @Override
+  protected ShortestPathAlgorithm<Vertex, Edge> createReverseShortestPathAlgorithm(
+      Graph<Vertex, Edge> graph
+  ) {
+    return null;
+  }
+
+  @Override
+  protected PointRouter createPointRouter(GraphResult graphResult) {
+    if (graphResult.getGraph().vertexSet().size() > RoutingTable.MAX_VERTEX_COUNT) {
+      LOG.debug("Routing graph too large for a routing table, using JGraphT's implementation.");
+      return super.createPointRouter(graphResult);
+    }
+
+    RoutingTopology topology = RoutingTopology.of(graphResult.getGraph());
+    boolean persistable = routingTableCache.isEnabled()
+        && graphResult.getExcludedPoints().isEmpty()
+        && graphResult.getExcludedPaths().isEmpty()
+        && graphResult.getPathBase().stream().noneMatch(Path::isLocked);
+
+    RoutingTable routingTable = persistable ? routingTableCache.load(topology) : null;
+    if (routingTable == null) {
+      routingTable = RoutingTable.compute(topology);
+      if (persistable) {
+        routingTableCache.store(routingTable);
+      }
+    }
+    else {
+      LOG.debug("Loaded persisted routing table for {}.", topology);
+    }
+
+    return new RoutingTablePointRouter(
+        routingTable,
+        graphResult.getPointBase().stream()
+            .filter(point -> !graphResult.getExcludedPoints().contains(point))
+            .collect(Collectors.toMap(Point::getName, Function.identity()))
+    );
+  }
 }
@@ -8,6 +8,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -31,6 +32,10 @@ import org.slf4j.LoggerFactory;
  * Provides routing graphs for vehicles.
  * <p>
  * This provider caches computed routing graphs until it is {@link #invalidate() invalidated}.
+ * Routing groups whose routing graphs have the same fingerprint (see
+ * {@link RoutingTopology#getFingerprint()}) share a single routing graph instance, so the memory
+ * required for routing graphs scales with the number of distinct routing graphs rather than the
+ * number of routing groups.
  * </p>
  */
 public class GraphProvider {
@@ -45,6 +50,11 @@ public class GraphProvider {
    * Contains {@link GraphResult}s mapped to (vehicle) routing groups.
    */
   private final Map<String, GraphResult> graphResultsByRoutingGroup = new ConcurrentHashMap<>();
+  /**
+   * Contains the fingerprints of the routing graphs in {@link #graphResultsByRoutingGroup} mapped
+   * to (vehicle) routing groups.
+   */
+  private final Map<String, String> graphFingerprintsByRoutingGroup = new ConcurrentHashMap<>();
   /**
    * A cache for derived {@link GraphResult}s.
    */
@@ -106,6 +116,7 @@ public class GraphProvider {
     currentPointBase.clear();
     currentPathBase.clear();
     graphResultsByRoutingGroup.clear();
+    graphFingerprintsByRoutingGroup.clear();
     derivedGraphResults.clear();
     generalGraphResult = null;
   }
@@ -153,16 +164,19 @@ public class GraphProvider {
 
     timeStampBefore = System.currentTimeMillis();
 
-    graphResult = new GraphResult(
-        vehicle,
-        getCurrentPointBase().getResources(),
-        getCurrentPathBase().getResources(),
-        Set.of(),
-        Set.of(),
-        defaultModelGraphMapper.translateModel(
+    graphResult = shareIdenticalGraph(
+        routingGroup,
+        new GraphResult(
+            vehicle,
             getCurrentPointBase().getResources(),
             getCurrentPathBase().getResources(),
-            vehicle
+            Set.of(),
+            Set.of(),
+            defaultModelGraphMapper.translateModel(
+                getCurrentPointBase().getResources(),
+                getCurrentPathBase().getResources(),
+                vehicle
+            )
         )
     );
     graphResultsByRoutingGroup.put(routingGroup, graphResult);
@@ -176,6 +190,30 @@ public class GraphProvider {
     return graphResult;
   }
 
+  /**
+   * Returns the fingerprint of the routing graph for the given vehicle.
+   * <p>
+   * Vehicles whose routing graphs have the same fingerprint can be routed using the same routing
+   * graph.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @return The fingerprint of the routing graph for the given vehicle.
+   */
+  @Nonnull
+  public String getGraphFingerprint(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    GraphResult graphResult = getGraphResult(vehicle);
+    String fingerprint = graphFingerprintsByRoutingGroup.get(routingGroupMapper.apply(vehicle));
+    return fingerprint != null
+        ? fingerprint
+        : RoutingTopology.of(graphResult.getGraph()).getFingerprint();
+  }
+
   /**
    * Returns a {@link GraphResult} containing a general routing graph that is not affected by any
    * path properties or any configured edge evaluators.
@@ -299,14 +337,29 @@ public class GraphProvider {
         .map(routingGroupMapper)
         .collect(Collectors.toSet());
 
+    // Routing graphs shared by multiple routing groups are not updated in place, as the updated
+    // edge weights may differ for the respective routing groups' vehicles. Instead, every routing
+    // group updates its own copy, and identical routing graphs are shared again afterwards.
+    Set<Graph<Vertex, Edge>> graphs = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Graph<Vertex, Edge>> sharedGraphs = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (GraphResult graphResult : graphResultsByRoutingGroup.values()) {
+      if (!graphs.add(graphResult.getGraph())) {
+        sharedGraphs.add(graphResult.getGraph());
+      }
+    }
+    Map<String, GraphResult> updatedGraphResults = new ConcurrentHashMap<>();
+
     graphResultStream.forEach(
         entry -> {
+          Graph<Vertex, Edge> graph = sharedGraphs.contains(entry.getValue().getGraph())
+              ? graphMutator.deriveGraph(Set.of(), Set.of(), entry.getValue()).getGraph()
+              : entry.getValue().getGraph();
           if (routingGroups.contains(entry.getKey())) {
             // Get an up-to-date copy of the vehicle used to compute the graph (so that edge
             // evaluators work with the vehicle's current state).
             Vehicle vehicle = plantModel.getVehicle(entry.getValue().getVehicle().getName())
                 .orElseThrow();
-            graphResultsByRoutingGroup.put(
+            updatedGraphResults.put(
                 entry.getKey(),
                 new GraphResult(
                     vehicle,
@@ -314,11 +367,7 @@ public class GraphProvider {
                     getCurrentPathBase().getResources(),
                     Set.of(),
                     Set.of(),
-                    defaultModelGraphMapper.updateGraph(
-                        paths,
-                        vehicle,
-                        entry.getValue().getGraph()
-                    )
+                    defaultModelGraphMapper.updateGraph(paths, vehicle, graph)
                 )
             );
           }
@@ -328,7 +377,7 @@ public class GraphProvider {
             // Update the entry with the Vehicle instance that we used previously. This way, we
             // take into account changes in the topology but ignore changes in the vehicle state
             // (as these changes could lead to different/wrong edge weights.)
-            graphResultsByRoutingGroup.put(
+            updatedGraphResults.put(
                 entry.getKey(),
                 new GraphResult(
                     entry.getValue().getVehicle(),
@@ -339,13 +388,55 @@ public class GraphProvider {
                     defaultModelGraphMapper.updateGraph(
                         paths,
                         entry.getValue().getVehicle(),
-                        entry.getValue().getGraph()
+                        graph
                     )
                 )
             );
           }
         }
     );
+
+    // The fingerprints of routing graphs that were updated in place are outdated.
+    graphFingerprintsByRoutingGroup.clear();
+    updatedGraphResults.forEach(
+        (routingGroup, graphResult) -> graphResultsByRoutingGroup.put(
+            routingGroup,
+            shareIdenticalGraph(routingGroup, graphResult)
+        )
+    );
+  }
+
+  /**
+   * Registers the fingerprint of the given graph result's routing graph for the given routing
+   * group.
+   * If an identical routing graph is already used for another routing group, returns a graph result
+   * with that routing graph instead of the given one.
+   *
+   * @param routingGroup The routing group.
+   * @param graphResult The graph result computed for the routing group.
+   * @return The graph result to be used for the routing group.
+   */
+  private GraphResult shareIdenticalGraph(String routingGroup, GraphResult graphResult) {
+    String fingerprint = RoutingTopology.of(graphResult.getGraph()).getFingerprint();
+    graphFingerprintsByRoutingGroup.put(routingGroup, fingerprint);
+
+    return graphFingerprintsByRoutingGroup.entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(routingGroup))
+        .filter(entry -> entry.getValue().equals(fingerprint))
+        .map(entry -> graphResultsByRoutingGroup.get(entry.getKey()))
+        .filter(Objects::nonNull)
+        .findFirst()
+        .map(
+            identicalGraphResult -> new GraphResult(
+                graphResult.getVehicle(),
+                graphResult.getPointBase(),
+                graphResult.getPathBase(),
+                graphResult.getExcludedPoints(),
+                graphResult.getExcludedPaths(),
+                identicalGraphResult.getGraph()
+            )
+        )
+        .orElse(graphResult);
   }
 
   private String derivedGraphResultCacheKey(
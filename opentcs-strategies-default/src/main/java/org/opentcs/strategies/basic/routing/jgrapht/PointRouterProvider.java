@@ -22,11 +22,16 @@ import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.opentcs.util.metrics.Counter;
+import org.opentcs.util.metrics.MetricsRegistry;
 
 /**
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * Routing groups with identical routing graphs share a single point router (see
+ * {@link GraphProvider#getGraphFingerprint(Vehicle)}), so the effort for constructing point routers
+ * scales with the number of distinct routing graphs rather than the number of routing groups.
  * </p>
  */
 public class PointRouterProvider {
@@ -40,6 +45,28 @@ public class PointRouterProvider {
    * The point routers by vehicle routing group.
    */
   private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  /**
+   * The point routers by fingerprint of the routing graph they were constructed for.
+   */
+  private final Map<String, PointRouter> pointRoutersByGraphFingerprint
+      = new ConcurrentHashMap<>();
+  /**
+   * Counts requests for point routers that were served from the cache.
+   */
+  private final Counter cacheHits;
+  /**
+   * Counts requests for point routers that required a point router to be created and cached.
+   */
+  private final Counter cacheMisses;
+  /**
+   * Counts requests for point routers that were served with a point router constructed for another
+   * routing group with an identical routing graph.
+   */
+  private final Counter sharedRequests;
+  /**
+   * Counts requests for point routers that required an uncached point router to be created.
+   */
+  private final Counter uncachedRequests;
 
   /**
    * Creates a new instance.
@@ -49,6 +76,7 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param metricsRegistry The registry to register metrics with.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +84,8 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      MetricsRegistry metricsRegistry
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,6 +95,11 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    this.cacheHits = requestCounter(metricsRegistry, "hit");
+    this.cacheMisses = requestCounter(metricsRegistry, "miss");
+    this.sharedRequests = requestCounter(metricsRegistry, "shared");
+    this.uncachedRequests = requestCounter(metricsRegistry, "uncached");
   }
 
   /**
@@ -73,6 +107,7 @@ public class PointRouterProvider {
    */
   public void invalidate() {
     pointRoutersByVehicleGroup.clear();
+    pointRoutersByGraphFingerprint.clear();
     graphProvider.invalidate();
   }
 
@@ -89,6 +124,7 @@ public class PointRouterProvider {
     requireNonNull(paths, "paths");
 
     pointRoutersByVehicleGroup.clear();
+    pointRoutersByGraphFingerprint.clear();
 
     if (paths.isEmpty()) {
       graphProvider.updateGraphResults(objectService.fetch(Path.class));
@@ -190,6 +226,7 @@ public class PointRouterProvider {
 
   private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
     if (!resourcesToAvoid.isEmpty()) {
+      uncachedRequests.increment();
       return pointRouterFactory.createPointRouter(
           vehicle,
           resourcesToAvoid.getPoints(),
@@ -199,9 +236,36 @@ public class PointRouterProvider {
 
     // In all other cases, create a point router if it does not yet exist for the vehicle's routing
     // group.
-    return pointRoutersByVehicleGroup.computeIfAbsent(
-        routingGroupMapper.apply(vehicle),
-        routingGroup -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
+    String routingGroup = routingGroupMapper.apply(vehicle);
+    PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+    if (pointRouter != null) {
+      cacheHits.increment();
+      return pointRouter;
+    }
+
+    // Reuse the point router of another routing group with an identical routing graph, if any.
+    String graphFingerprint = graphProvider.getGraphFingerprint(vehicle);
+    pointRouter = pointRoutersByGraphFingerprint.get(graphFingerprint);
+    if (pointRouter != null) {
+      sharedRequests.increment();
+    }
+    else {
+      cacheMisses.increment();
+      pointRouter = pointRoutersByGraphFingerprint.computeIfAbsent(
+          graphFingerprint,
+          fingerprint -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
+      );
+    }
+    pointRoutersByVehicleGroup.put(routingGroup, pointRouter);
+    return pointRouter;
+  }
+
+  private static Counter requestCounter(MetricsRegistry metricsRegistry, String result) {
+    return metricsRegistry.counter(
+        "opentcs_router_point_router_requests_total",
+        "Number of requests for point routers, by how they were served",
+        "result",
+        result
     );
   }
 }
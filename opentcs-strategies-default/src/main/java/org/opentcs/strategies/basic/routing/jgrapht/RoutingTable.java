@@ -0,0 +1,293 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
+/**
+ * A table of the shortest routes between all pairs of vertices of a routing graph.
+ * <p>
+ * For every pair of vertices, the table contains the costs of the shortest route between them and
+ * the index of the first edge of that route. A complete route is looked up by following the first
+ * edges from the source vertex until the destination vertex is reached. The table's content is
+ * kept in directly allocated buffers outside of the Java heap, so even large tables do not burden
+ * the garbage collector.
+ * </p>
+ */
+public class RoutingTable {
+
+  /**
+   * The maximum number of vertices a routing table can be computed for.
+   */
+  public static final int MAX_VERTEX_COUNT = 16_383;
+  /**
+   * The edge index indicating that there is no (first) edge.
+   */
+  public static final int NO_EDGE = -1;
+  /**
+   * The number of vertices in a block, i.e. the edge length of the tiles the table is divided into
+   * for computing it.
+   */
+  private static final int BLOCK_SIZE = 64;
+  /**
+   * The topology of the routing graph this table was computed for.
+   */
+  private final RoutingTopology topology;
+  /**
+   * The costs of the shortest routes, indexed by source vertex index * vertex count + destination
+   * vertex index.
+   */
+  private final DoubleBuffer costs;
+  /**
+   * The indices of the first edges of the shortest routes, indexed like the costs.
+   */
+  private final IntBuffer firstEdges;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param topology The topology of the routing graph this table was computed for.
+   * @param costs The costs of the shortest routes.
+   * @param firstEdges The indices of the first edges of the shortest routes.
+   */
+  public RoutingTable(
+      @Nonnull
+      RoutingTopology topology,
+      @Nonnull
+      DoubleBuffer costs,
+      @Nonnull
+      IntBuffer firstEdges
+  ) {
+    this.topology = requireNonNull(topology, "topology");
+    this.costs = requireNonNull(costs, "costs");
+    this.firstEdges = requireNonNull(firstEdges, "firstEdges");
+    checkArgument(
+        topology.getVertexCount() <= MAX_VERTEX_COUNT,
+        "Too many vertices: %s",
+        topology.getVertexCount()
+    );
+    int cellCount = topology.getVertexCount() * topology.getVertexCount();
+    checkArgument(costs.capacity() == cellCount, "Invalid capacity of costs buffer");
+    checkArgument(firstEdges.capacity() == cellCount, "Invalid capacity of first edges buffer");
+  }
+
+  /**
+   * Computes a routing table for the given topology using the Floyd-Warshall algorithm.
+   * <p>
+   * The table is divided into square tiles, which are computed in three phases for every block of
+   * intermediate vertices: First the tile on the diagonal, then the other tiles in the same row
+   * and column and finally all remaining tiles. The tiles within the second and third phase do
+   * not depend on each other and are computed in parallel.
+   * </p>
+   *
+   * @param topology The topology.
+   * @return The computed routing table.
+   */
+  @Nonnull
+  public static RoutingTable compute(
+      @Nonnull
+      RoutingTopology topology
+  ) {
+    requireNonNull(topology, "topology");
+    checkArgument(
+        topology.getVertexCount() <= MAX_VERTEX_COUNT,
+        "Too many vertices: %s",
+        topology.getVertexCount()
+    );
+
+    int vertexCount = topology.getVertexCount();
+    int cellCount = vertexCount * vertexCount;
+    DoubleBuffer costs = ByteBuffer.allocateDirect(cellCount * Double.BYTES)
+        .order(ByteOrder.nativeOrder())
+        .asDoubleBuffer();
+    IntBuffer firstEdges = ByteBuffer.allocateDirect(cellCount * Integer.BYTES)
+        .order(ByteOrder.nativeOrder())
+        .asIntBuffer();
+    for (int cell = 0; cell < cellCount; cell++) {
+      costs.put(cell, Double.POSITIVE_INFINITY);
+      firstEdges.put(cell, NO_EDGE);
+    }
+    for (int i = 0; i < vertexCount; i++) {
+      costs.put(i * vertexCount + i, 0);
+    }
+    for (int edge = 0; edge < topology.getEdgeCount(); edge++) {
+      int cell = topology.getEdgeSource(edge) * vertexCount + topology.getEdgeTarget(edge);
+      // With multiple edges between the same vertices, only the cheapest one is relevant.
+      if (topology.getEdgeWeight(edge) < costs.get(cell)) {
+        costs.put(cell, topology.getEdgeWeight(edge));
+        firstEdges.put(cell, edge);
+      }
+    }
+
+    RoutingTable routingTable = new RoutingTable(topology, costs, firstEdges);
+    int blockCount = (vertexCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    for (int kBlock = 0; kBlock < blockCount; kBlock++) {
+      int currentBlock = kBlock;
+      routingTable.updateTile(currentBlock, currentBlock, currentBlock);
+      IntStream.range(0, blockCount)
+          .parallel()
+          .filter(block -> block != currentBlock)
+          .forEach(block -> {
+            routingTable.updateTile(currentBlock, block, currentBlock);
+            routingTable.updateTile(block, currentBlock, currentBlock);
+          });
+      IntStream.range(0, blockCount * blockCount)
+          .parallel()
+          .filter(tile -> tile / blockCount != currentBlock && tile % blockCount != currentBlock)
+          .forEach(
+              tile -> routingTable.updateTile(tile / blockCount, tile % blockCount, currentBlock)
+          );
+    }
+
+    return routingTable;
+  }
+
+  /**
+   * Returns the topology of the routing graph this table was computed for.
+   *
+   * @return The topology.
+   */
+  @Nonnull
+  public RoutingTopology getTopology() {
+    return topology;
+  }
+
+  /**
+   * Returns the costs of the shortest route between the given vertices.
+   *
+   * @param source The source vertex's index.
+   * @param destination The destination vertex's index.
+   * @return The costs of the shortest route, or {@link Double#POSITIVE_INFINITY}, if there is no
+   * route.
+   */
+  public double getCosts(int source, int destination) {
+    return costs.get(source * topology.getVertexCount() + destination);
+  }
+
+  /**
+   * Returns the index of the first edge of the shortest route between the given vertices.
+   *
+   * @param source The source vertex's index.
+   * @param destination The destination vertex's index.
+   * @return The index of the first edge, or {@link #NO_EDGE}, if there is no route or the vertices
+   * are identical.
+   */
+  public int getFirstEdge(int source, int destination) {
+    return firstEdges.get(source * topology.getVertexCount() + destination);
+  }
+
+  /**
+   * Updates the given tile with the shortest routes via the vertices in the given block.
+   * <p>
+   * The tile and the tiles it depends on are copied to arrays for the update, which can be
+   * accessed more efficiently than the buffers.
+   * </p>
+   *
+   * @param iBlock The block of source vertices (i.e. the tile's row).
+   * @param jBlock The block of destination vertices (i.e. the tile's column).
+   * @param kBlock The block of intermediate vertices.
+   */
+  private void updateTile(int iBlock, int jBlock, int kBlock) {
+    Tile tile = readTile(iBlock, jBlock);
+    // The tiles containing the routes to and from the intermediate vertices. If one of them is the
+    // tile to be updated itself, use that directly, so updates are seen in subsequent iterations.
+    Tile toK = jBlock == kBlock ? tile : readTile(iBlock, kBlock);
+    Tile fromK = iBlock == kBlock ? tile : readTile(kBlock, jBlock);
+
+    for (int k = 0; k < toK.columns; k++) {
+      int rowK = k * fromK.columns;
+      for (int i = 0; i < tile.rows; i++) {
+        double costsIK = toK.costs[i * toK.columns + k];
+        if (costsIK == Double.POSITIVE_INFINITY) {
+          continue;
+        }
+        int firstEdgeIK = toK.firstEdges[i * toK.columns + k];
+        int rowI = i * tile.columns;
+        for (int j = 0; j < tile.columns; j++) {
+          double costsViaK = costsIK + fromK.costs[rowK + j];
+          if (costsViaK < tile.costs[rowI + j]) {
+            tile.costs[rowI + j] = costsViaK;
+            tile.firstEdges[rowI + j] = firstEdgeIK;
+          }
+        }
+      }
+    }
+
+    writeTile(tile);
+  }
+
+  private Tile readTile(int iBlock, int jBlock) {
+    int vertexCount = topology.getVertexCount();
+    Tile tile = new Tile(
+        iBlock * BLOCK_SIZE,
+        jBlock * BLOCK_SIZE,
+        Math.min(BLOCK_SIZE, vertexCount - iBlock * BLOCK_SIZE),
+        Math.min(BLOCK_SIZE, vertexCount - jBlock * BLOCK_SIZE)
+    );
+    for (int i = 0; i < tile.rows; i++) {
+      int cell = (tile.firstRow + i) * vertexCount + tile.firstColumn;
+      costs.get(cell, tile.costs, i * tile.columns, tile.columns);
+      firstEdges.get(cell, tile.firstEdges, i * tile.columns, tile.columns);
+    }
+    return tile;
+  }
+
+  private void writeTile(Tile tile) {
+    int vertexCount = topology.getVertexCount();
+    for (int i = 0; i < tile.rows; i++) {
+      int cell = (tile.firstRow + i) * vertexCount + tile.firstColumn;
+      costs.put(cell, tile.costs, i * tile.columns, tile.columns);
+      firstEdges.put(cell, tile.firstEdges, i * tile.columns, tile.columns);
+    }
+  }
+
+  /**
+   * Returns the buffer containing the costs of the shortest routes.
+   *
+   * @return A read-only view of the buffer containing the costs.
+   */
+  @Nonnull
+  DoubleBuffer getCostsBuffer() {
+    return costs.asReadOnlyBuffer().clear();
+  }
+
+  /**
+   * Returns the buffer containing the indices of the first edges of the shortest routes.
+   *
+   * @return A read-only view of the buffer containing the indices of the first edges.
+   */
+  @Nonnull
+  IntBuffer getFirstEdgesBuffer() {
+    return firstEdges.asReadOnlyBuffer().clear();
+  }
+
+  /**
+   * A copy of a tile of a routing table.
+   */
+  private static class Tile {
+
+    private final int firstRow;
+    private final int firstColumn;
+    private final int rows;
+    private final int columns;
+    private final double[] costs;
+    private final int[] firstEdges;
+
+    Tile(int firstRow, int firstColumn, int rows, int columns) {
+      this.firstRow = firstRow;
+      this.firstColumn = firstColumn;
+      this.rows = rows;
+      this.columns = columns;
+      this.costs = new double[rows * columns];
+      this.firstEdges = new int[rows * columns];
+    }
+  }
+}
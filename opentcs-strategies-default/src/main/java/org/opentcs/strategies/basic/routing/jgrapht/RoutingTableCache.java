@@ -0,0 +1,280 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.opentcs.customizations.ApplicationHome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists {@link RoutingTable}s in the kernel's data directory, so they can be reused after a
+ * restart of the kernel instead of being recomputed.
+ * <p>
+ * Routing tables are stored in files named after the fingerprint of the topology they were
+ * computed for (see {@link RoutingTopology#getFingerprint()}). As the fingerprint covers the plant
+ * model, the edge weights resulting from the configured edge evaluators and the routing groups'
+ * vehicles, a persisted routing table is only reused for a routing graph it is actually valid for.
+ * When being loaded, a routing table's content is read into buffers outside of the Java heap. The
+ * files are not mapped into memory, as mapped files cannot be replaced or deleted on some
+ * platforms as long as the mapping exists. Only the configured number of most recently used
+ * routing tables are kept.
+ * </p>
+ */
+public class RoutingTableCache {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RoutingTableCache.class);
+  /**
+   * The magic number at the start of every routing table file.
+   */
+  private static final int MAGIC_NUMBER = 0x4F545254;
+  /**
+   * The version of the routing table file format.
+   */
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * The length of a topology fingerprint (in bytes).
+   */
+  private static final int FINGERPRINT_LENGTH = 64;
+  /**
+   * The size of a routing table file's header (in bytes).
+   */
+  private static final int HEADER_SIZE = 4 + 4 + FINGERPRINT_LENGTH + 4 + 4;
+  /**
+   * The suffix of routing table files.
+   */
+  private static final String FILE_SUFFIX = ".rtable";
+  /**
+   * The size of the buffer used for writing routing table files (in bytes).
+   */
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+  /**
+   * This class's configuration.
+   */
+  private final ShortestPathConfiguration configuration;
+  /**
+   * The directory containing the routing table files.
+   */
+  private final File cacheDirectory;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param homeDirectory The application's home directory.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public RoutingTableCache(
+      @ApplicationHome
+      File homeDirectory,
+      @Nonnull
+      ShortestPathConfiguration configuration
+  ) {
+    this.cacheDirectory = new File(
+        new File(requireNonNull(homeDirectory, "homeDirectory"), "data"),
+        "routingtables"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Indicates whether persisting routing tables is enabled.
+   *
+   * @return {@code true}, if persisting routing tables is enabled.
+   */
+  public boolean isEnabled() {
+    return configuration.routingTableCacheEnabled();
+  }
+
+  /**
+   * Loads the persisted routing table for the given topology.
+   *
+   * @param topology The topology.
+   * @return The routing table, or {@code null}, if there is no (valid) routing table persisted for
+   * the given topology.
+   */
+  @Nullable
+  public synchronized RoutingTable load(
+      @Nonnull
+      RoutingTopology topology
+  ) {
+    requireNonNull(topology, "topology");
+
+    File file = fileFor(topology);
+    if (!file.isFile()) {
+      return null;
+    }
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long cellCount = (long) topology.getVertexCount() * topology.getVertexCount();
+      if (channel.size() != HEADER_SIZE + cellCount * (Double.BYTES + Integer.BYTES)) {
+        LOG.warn("Ignoring routing table file with unexpected size: {}", file);
+        return null;
+      }
+
+      ByteBuffer header = read(channel, HEADER_SIZE);
+      int magicNumber = header.getInt();
+      int formatVersion = header.getInt();
+      byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+      header.get(fingerprint);
+      if (magicNumber != MAGIC_NUMBER
+          || formatVersion != FORMAT_VERSION
+          || !topology.getFingerprint().equals(new String(fingerprint, StandardCharsets.US_ASCII))
+          || header.getInt() != topology.getVertexCount()
+          || header.getInt() != topology.getEdgeCount()) {
+        LOG.warn("Ignoring routing table file with unsupported format: {}", file);
+        return null;
+      }
+
+      DoubleBuffer costs = read(channel, (int) cellCount * Double.BYTES).asDoubleBuffer();
+      IntBuffer firstEdges = read(channel, (int) cellCount * Integer.BYTES).asIntBuffer();
+
+      // Mark the file as recently used.
+      Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis()));
+
+      return new RoutingTable(topology, costs, firstEdges);
+    }
+    catch (IOException | RuntimeException exc) {
+      LOG.warn("Could not load routing table file {}", file, exc);
+      return null;
+    }
+  }
+
+  /**
+   * Persists the given routing table, replacing the least recently used persisted routing tables
+   * if necessary.
+   *
+   * @param routingTable The routing table.
+   */
+  public synchronized void store(
+      @Nonnull
+      RoutingTable routingTable
+  ) {
+    requireNonNull(routingTable, "routingTable");
+
+    File file = fileFor(routingTable.getTopology());
+    File tempFile = null;
+    try {
+      if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs()) {
+        throw new IOException("Could not create directory " + cacheDirectory);
+      }
+
+      tempFile = File.createTempFile("routingtable", ".tmp", cacheDirectory);
+      write(routingTable, tempFile);
+      Files.move(
+          tempFile.toPath(),
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE
+      );
+      LOG.debug("Persisted routing table for {}.", routingTable.getTopology());
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not persist routing table to {}", file, exc);
+    }
+    finally {
+      if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+        LOG.warn("Could not delete temporary file {}", tempFile);
+      }
+    }
+
+    removeLeastRecentlyUsedFiles(file);
+  }
+
+  private ByteBuffer read(FileChannel channel, int byteCount)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(byteCount);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("Unexpected end of routing table file");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private void write(RoutingTable routingTable, File file)
+      throws IOException {
+    RoutingTopology topology = routingTable.getTopology();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+      buffer.putInt(MAGIC_NUMBER)
+          .putInt(FORMAT_VERSION)
+          .put(topology.getFingerprint().getBytes(StandardCharsets.US_ASCII))
+          .putInt(topology.getVertexCount())
+          .putInt(topology.getEdgeCount());
+
+      DoubleBuffer costs = routingTable.getCostsBuffer();
+      while (costs.hasRemaining()) {
+        if (buffer.remaining() < Double.BYTES) {
+          flush(buffer, channel);
+        }
+        buffer.putDouble(costs.get());
+      }
+      IntBuffer firstEdges = routingTable.getFirstEdgesBuffer();
+      while (firstEdges.hasRemaining()) {
+        if (buffer.remaining() < Integer.BYTES) {
+          flush(buffer, channel);
+        }
+        buffer.putInt(firstEdges.get());
+      }
+      flush(buffer, channel);
+
+      channel.force(false);
+    }
+  }
+
+  private void flush(ByteBuffer buffer, FileChannel channel)
+      throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private void removeLeastRecentlyUsedFiles(File recentlyUsedFile) {
+    File[] files = cacheDirectory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+    if (files == null || files.length <= configuration.routingTableCacheSize()) {
+      return;
+    }
+
+    // Sort the files by the time they were last used, with the given file being the most recently
+    // used one regardless of the timestamps' resolution.
+    Arrays.sort(
+        files,
+        Comparator.comparing((File file) -> !file.equals(recentlyUsedFile))
+            .thenComparing(Comparator.comparingLong(File::lastModified).reversed())
+    );
+    for (int i = Math.max(configuration.routingTableCacheSize(), 0); i < files.length; i++) {
+      LOG.debug("Removing least recently used routing table file {}", files[i]);
+      if (!files[i].delete()) {
+        LOG.warn("Could not delete routing table file {}", files[i]);
+      }
+    }
+  }
+
+  private File fileFor(RoutingTopology topology) {
+    return new File(cacheDirectory, topology.getFingerprint() + FILE_SUFFIX);
+  }
+}
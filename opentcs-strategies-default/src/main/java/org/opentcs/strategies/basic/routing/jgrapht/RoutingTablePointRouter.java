@@ -0,0 +1,158 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points by looking them up in a {@link RoutingTable}.
+ */
+public class RoutingTablePointRouter
+    implements
+      PointRouter {
+
+  /**
+   * The routing table.
+   */
+  private final RoutingTable routingTable;
+  /**
+   * The points in the routing graph, mapped to their names.
+   */
+  private final Map<String, Point> points;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param routingTable The routing table.
+   * @param points The points in the routing graph, mapped to their names.
+   */
+  public RoutingTablePointRouter(
+      @Nonnull
+      RoutingTable routingTable,
+      @Nonnull
+      Map<String, Point> points
+  ) {
+    this.routingTable = requireNonNull(routingTable, "routingTable");
+    this.points = requireNonNull(points, "points");
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    RoutingTopology topology = routingTable.getTopology();
+    int srcVertex = topology.getVertexIndex(srcPoint.getName());
+    int destVertex = topology.getVertexIndex(destPoint.getName());
+    if (srcVertex < 0 || destVertex < 0
+        || routingTable.getFirstEdge(srcVertex, destVertex) == RoutingTable.NO_EDGE) {
+      return null;
+    }
+
+    List<Route.Step> result = new ArrayList<>();
+    int routeIndex = 0;
+    int vertex = srcVertex;
+    while (vertex != destVertex) {
+      int edgeIndex = routingTable.getFirstEdge(vertex, destVertex);
+      Edge edge = topology.getEdge(edgeIndex);
+      Point sourcePoint = points.get(edge.getSourceVertex());
+
+      result.add(
+          new Route.Step(
+              edge.getPath(),
+              sourcePoint,
+              points.get(edge.getTargetVertex()),
+              orientation(edge, sourcePoint),
+              routeIndex,
+              toRouteCosts(topology.getEdgeWeight(edgeIndex))
+          )
+      );
+      routeIndex++;
+      vertex = topology.getEdgeTarget(edgeIndex);
+    }
+
+    return result;
+  }
+
+  @Override
+  public double getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    RoutingTopology topology = routingTable.getTopology();
+    int srcVertex = topology.getVertexIndex(srcPointRef.getName());
+    int destVertex = topology.getVertexIndex(destPointRef.getName());
+    if (srcVertex < 0 || destVertex < 0) {
+      return Double.NaN;
+    }
+
+    double costs = routingTable.getCosts(srcVertex, destVertex);
+    if (Double.isInfinite(costs)) {
+      return Double.NaN;
+    }
+
+    return toRouteCosts(costs);
+  }
+
+  @Override
+  public double getTabulatedCosts(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return 0;
+    }
+
+    RoutingTopology topology = routingTable.getTopology();
+    int srcVertex = topology.getVertexIndex(srcPoint.getName());
+    int destVertex = topology.getVertexIndex(destPoint.getName());
+    if (srcVertex < 0 || destVertex < 0
+        || routingTable.getFirstEdge(srcVertex, destVertex) == RoutingTable.NO_EDGE) {
+      return Double.NaN;
+    }
+
+    // Sum up the costs of the route's steps, just like getRouteSteps() would.
+    long costs = 0;
+    int vertex = srcVertex;
+    while (vertex != destVertex) {
+      int edgeIndex = routingTable.getFirstEdge(vertex, destVertex);
+      costs += toRouteCosts(topology.getEdgeWeight(edgeIndex));
+      vertex = topology.getEdgeTarget(edgeIndex);
+    }
+
+    return costs;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+
+  private long toRouteCosts(double weight) {
+    return (long) (ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR * weight);
+  }
+}
@@ -0,0 +1,229 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * An indexed, immutable view of the vertices and weighted edges of a routing graph.
+ * <p>
+ * Vertices and edges are sorted by name, so the indices assigned to them only depend on the
+ * content of the routing graph, not on the order in which it was built. The topology's fingerprint
+ * is a hash over all vertices and edges, including the edges' weights. As the edge weights result
+ * from the plant model, the configured edge evaluators and the vehicle a routing graph was
+ * computed for, two routing graphs with the same fingerprint can be considered identical.
+ * </p>
+ */
+public class RoutingTopology {
+
+  /**
+   * The names of the points represented by the vertices, in index order.
+   */
+  private final String[] vertices;
+  /**
+   * The vertices' indices, mapped by the names of the points they represent.
+   */
+  private final Map<String, Integer> vertexIndices = new HashMap<>();
+  /**
+   * The edges, in index order.
+   */
+  private final Edge[] edges;
+  /**
+   * The indices of the edges' source vertices.
+   */
+  private final int[] edgeSources;
+  /**
+   * The indices of the edges' target vertices.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The edges' weights.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The fingerprint of this topology.
+   */
+  private final String fingerprint;
+
+  private RoutingTopology(Graph<Vertex, Edge> graph) {
+    vertices = graph.vertexSet().stream()
+        .map(vertex -> vertex.getPoint().getName())
+        .sorted()
+        .toArray(String[]::new);
+    for (int i = 0; i < vertices.length; i++) {
+      vertexIndices.put(vertices[i], i);
+    }
+
+    edges = graph.edgeSet().stream()
+        .sorted(
+            Comparator.comparing((Edge edge) -> edge.getPath().getName())
+                .thenComparing(Edge::isTravellingReverse)
+        )
+        .toArray(Edge[]::new);
+    edgeSources = new int[edges.length];
+    edgeTargets = new int[edges.length];
+    edgeWeights = new double[edges.length];
+    for (int i = 0; i < edges.length; i++) {
+      edgeSources[i] = vertexIndices.get(graph.getEdgeSource(edges[i]).getPoint().getName());
+      edgeTargets[i] = vertexIndices.get(graph.getEdgeTarget(edges[i]).getPoint().getName());
+      edgeWeights[i] = graph.getEdgeWeight(edges[i]);
+    }
+
+    fingerprint = computeFingerprint();
+  }
+
+  /**
+   * Creates a topology for the given routing graph.
+   *
+   * @param graph The routing graph.
+   * @return The topology.
+   */
+  @Nonnull
+  public static RoutingTopology of(
+      @Nonnull
+      Graph<Vertex, Edge> graph
+  ) {
+    requireNonNull(graph, "graph");
+
+    return new RoutingTopology(graph);
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return The number of vertices.
+   */
+  public int getVertexCount() {
+    return vertices.length;
+  }
+
+  /**
+   * Returns the index of the vertex representing the point with the given name.
+   *
+   * @param pointName The point's name.
+   * @return The vertex's index, or -1, if there is no vertex representing the given point.
+   */
+  public int getVertexIndex(String pointName) {
+    return vertexIndices.getOrDefault(pointName, -1);
+  }
+
+  /**
+   * Returns the number of edges.
+   *
+   * @return The number of edges.
+   */
+  public int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * Returns the edge with the given index.
+   *
+   * @param index The edge's index.
+   * @return The edge.
+   */
+  public Edge getEdge(int index) {
+    return edges[index];
+  }
+
+  /**
+   * Returns the index of the source vertex of the edge with the given index.
+   *
+   * @param index The edge's index.
+   * @return The index of the edge's source vertex.
+   */
+  public int getEdgeSource(int index) {
+    return edgeSources[index];
+  }
+
+  /**
+   * Returns the index of the target vertex of the edge with the given index.
+   *
+   * @param index The edge's index.
+   * @return The index of the edge's target vertex.
+   */
+  public int getEdgeTarget(int index) {
+    return edgeTargets[index];
+  }
+
+  /**
+   * Returns the weight of the edge with the given index.
+   *
+   * @param index The edge's index.
+   * @return The edge's weight.
+   */
+  public double getEdgeWeight(int index) {
+    return edgeWeights[index];
+  }
+
+  /**
+   * Returns the fingerprint of this topology, i.e. a (hexadecimal) SHA-256 hash over all vertices
+   * and edges, including the edges' weights.
+   *
+   * @return The fingerprint of this topology.
+   */
+  @Nonnull
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  @Override
+  public String toString() {
+    return "RoutingTopology{"
+        + "vertexCount=" + vertices.length + ", "
+        + "edgeCount=" + edges.length + ", "
+        + "fingerprint=" + fingerprint
+        + '}';
+  }
+
+  private String computeFingerprint() {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException exc) {
+      // Every implementation of the Java platform is required to support SHA-256.
+      throw new IllegalStateException("SHA-256 not supported", exc);
+    }
+
+    updateDigest(digest, vertices.length);
+    for (String vertex : vertices) {
+      updateDigest(digest, vertex);
+    }
+    updateDigest(digest, edges.length);
+    for (int i = 0; i < edges.length; i++) {
+      updateDigest(digest, edges[i].getPath().getName());
+      digest.update((byte) (edges[i].isTravellingReverse() ? 1 : 0));
+      updateDigest(digest, edgeSources[i]);
+      updateDigest(digest, edgeTargets[i]);
+      updateDigest(digest, Double.doubleToLongBits(edgeWeights[i]));
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void updateDigest(MessageDigest digest, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    // Include the length to keep the encoding of sequences of strings unambiguous.
+    updateDigest(digest, bytes.length);
+    digest.update(bytes);
+  }
+
+  private static void updateDigest(MessageDigest digest, long value) {
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      digest.update((byte) (value >>> shift));
+    }
+  }
+
+}
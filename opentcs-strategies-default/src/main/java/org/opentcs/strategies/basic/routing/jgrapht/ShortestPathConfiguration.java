@@ -46,6 +46,25 @@ public interface ShortestPathConfiguration {
   )
   List<String> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether routing tables computed with the Floyd-Warshall algorithm are to be persisted "
+              + "in the kernel's data directory.",
+          "Persisted routing tables are reused after a restart of the kernel instead of being "
+              + "recomputed, as long as the routing graphs they were computed for have not changed."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean routingTableCacheEnabled();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of (most recently used) routing tables to be persisted.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int routingTableCacheSize();
+
   /**
    * The available algorithms.
    */
@@ -4,14 +4,17 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
@@ -43,17 +46,50 @@ public class ShortestPathPointRouter
   private static final Logger LOG = LoggerFactory.getLogger(ShortestPathPointRouter.class);
 
   private final ShortestPathAlgorithm<Vertex, Edge> algo;
+  /**
+   * The shortest path algorithm working on the reversed graph, used for computing the shortest
+   * paths from all points to a single destination point. May be {@code null}.
+   */
+  @Nullable
+  private final ShortestPathAlgorithm<Vertex, Edge> reverseAlgo;
 
   private final Map<String, Point> points;
 
   private final Map<String, Vertex> pointVertexMap = new HashMap<>();
+  /**
+   * The shortest paths from all points to a destination point, mapped to the destination point's
+   * name.
+   */
+  private final Map<String, SingleSourcePaths<Vertex, Edge>> pathsToDestination
+      = new ConcurrentHashMap<>();
+
+  public ShortestPathPointRouter(
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      Map<String, Point> points,
+      Collection<Vertex> vertices
+  ) {
+    this(algo, null, points, vertices);
+  }
 
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The shortest path algorithm working on the routing graph.
+   * @param reverseAlgo The shortest path algorithm working on the reversed routing graph, used for
+   * {@link #getTabulatedCosts(Point, Point)}. If {@code null}, tabulated costs are computed using
+   * {@code algo}.
+   * @param points The points in the routing graph, mapped to their names.
+   * @param vertices The vertices of the routing graph.
+   */
   public ShortestPathPointRouter(
       ShortestPathAlgorithm<Vertex, Edge> algo,
+      @Nullable
+      ShortestPathAlgorithm<Vertex, Edge> reverseAlgo,
       Map<String, Point> points,
       Collection<Vertex> vertices
   ) {
     this.algo = requireNonNull(algo, "algo");
+    this.reverseAlgo = reverseAlgo;
     this.points = requireNonNull(points, "points");
     requireNonNull(vertices, "vertexSet");
 
@@ -109,6 +145,35 @@ public class ShortestPathPointRouter
     return toRouteCosts(graphPath.getWeight());
   }
 
+  @Override
+  public double getTabulatedCosts(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return 0;
+    }
+
+    Vertex srcVertex = pointVertexMap.get(srcPoint.getName());
+    Vertex destVertex = pointVertexMap.get(destPoint.getName());
+    if (srcVertex == null || destVertex == null) {
+      return Double.NaN;
+    }
+
+    // On the reversed graph, the shortest paths starting at the destination point correspond to
+    // the shortest paths from all other points to the destination point on the original graph.
+    GraphPath<Vertex, Edge> graphPath = reverseAlgo == null
+        ? getPath(srcPoint.getName(), destPoint.getName())
+        : pathsToDestination
+            .computeIfAbsent(destPoint.getName(), destName -> reverseAlgo.getPaths(destVertex))
+            .getPath(srcVertex);
+    if (graphPath == null) {
+      return Double.NaN;
+    }
+
+    return toStepCosts(graphPath);
+  }
+
   private GraphPath<Vertex, Edge> getPath(String srcName, String destName) {
     try {
       return algo.getPath(
@@ -149,6 +214,19 @@ public class ShortestPathPointRouter
     return result;
   }
 
+  /**
+   * Returns the sum of the costs of the route steps the given path translates to, i.e. the costs of
+   * a route computed for the path.
+   *
+   * @param graphPath The path.
+   * @return The sum of the costs of the route steps.
+   */
+  private long toStepCosts(GraphPath<Vertex, Edge> graphPath) {
+    return graphPath.getEdgeList().stream()
+        .mapToLong(edge -> toRouteCosts(graphPath.getGraph().getEdgeWeight(edge)))
+        .sum();
+  }
+
   private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
     return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
         ? Vehicle.Orientation.FORWARD
@@ -60,6 +60,15 @@ abstract class AllocatorCommand
     }
   }
 
+  /**
+   * Returns the point of time at which this command was created.
+   *
+   * @return The point of time at which this command was created (in ms since the epoch).
+   */
+  public long getCreationTime() {
+    return creationTime;
+  }
+
   /**
    * Returns the scheduler client this command is associated with.
    *
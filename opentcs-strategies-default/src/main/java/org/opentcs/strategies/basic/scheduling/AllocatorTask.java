@@ -8,10 +8,12 @@ import jakarta.annotation.Nonnull;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.TCSResource;
+import org.opentcs.util.metrics.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,10 @@ class AllocatorTask
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Records the time from requesting an allocation until it is granted.
+   */
+  private final Timer allocationWaitTimer;
   /**
    * Describes the actual task.
    */
@@ -67,6 +73,8 @@ class AllocatorTask
       @GlobalSyncObject
       Object globalSyncObject,
       @Nonnull
+      Timer allocationWaitTimer,
+      @Nonnull
       AllocatorCommand command
   ) {
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
@@ -74,6 +82,7 @@ class AllocatorTask
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.allocationWaitTimer = requireNonNull(allocationWaitTimer, "allocationWaitTimer");
     this.command = requireNonNull(command, "command");
   }
 
@@ -105,6 +114,10 @@ class AllocatorTask
       return;
     }
 
+    allocationWaitTimer.record(
+        System.currentTimeMillis() - command.getCreationTime(),
+        TimeUnit.MILLISECONDS
+    );
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
 
@@ -223,6 +236,7 @@ class AllocatorTask
               allocationAdvisor,
               kernelExecutor,
               globalSyncObject,
+              allocationWaitTimer,
               allocate
           )
       );
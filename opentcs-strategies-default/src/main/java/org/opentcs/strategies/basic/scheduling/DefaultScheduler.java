@@ -34,6 +34,8 @@ import org.opentcs.strategies.basic.scheduling.AllocatorCommand.CheckAllocations
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.RetryAllocates;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.metrics.MetricsRegistry;
+import org.opentcs.util.metrics.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +76,10 @@ public class DefaultScheduler
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Records the time from requesting an allocation until it is granted.
+   */
+  private final Timer allocationWaitTimer;
   /**
    * Allocations that are scheduled for execution on the kernel executor.
    */
@@ -91,6 +97,7 @@ public class DefaultScheduler
    * @param kernelExecutor Executes scheduling tasks.
    * @param eventBus The kernel's event bus.
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param metricsRegistry The registry to register metrics with.
    */
   @Inject
   public DefaultScheduler(
@@ -101,13 +108,24 @@ public class DefaultScheduler
       @ApplicationEventBus
       EventBus eventBus,
       @GlobalSyncObject
-      Object globalSyncObject
+      Object globalSyncObject,
+      MetricsRegistry metricsRegistry
   ) {
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    this.allocationWaitTimer = metricsRegistry.timer(
+        "opentcs_scheduler_allocation_wait_seconds",
+        "Time from requesting an allocation of resources until it is granted"
+    );
+    metricsRegistry.gauge(
+        "opentcs_scheduler_deferred_allocations",
+        "Number of allocations deferred because the resources are not available",
+        deferredAllocations::size
+    );
   }
 
   @Override
@@ -177,6 +195,7 @@ public class DefaultScheduler
               allocationAdvisor,
               kernelExecutor,
               globalSyncObject,
+              allocationWaitTimer,
               new Allocate(client, resources)
           )
       );
@@ -261,6 +280,7 @@ public class DefaultScheduler
           allocationAdvisor,
           kernelExecutor,
           globalSyncObject,
+          allocationWaitTimer,
           new AllocationsReleased(client, completelyFreeResources)
       ).run();
     }
@@ -271,6 +291,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
+            allocationWaitTimer,
             new RetryAllocates(client)
         )
     );
@@ -293,6 +314,7 @@ public class DefaultScheduler
           allocationAdvisor,
           kernelExecutor,
           globalSyncObject,
+          allocationWaitTimer,
           new AllocationsReleased(client, freedResources)
       ).run();
     }
@@ -303,6 +325,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
+            allocationWaitTimer,
             new RetryAllocates(client)
         )
     );
@@ -326,6 +349,7 @@ public class DefaultScheduler
         allocationAdvisor,
         kernelExecutor,
         globalSyncObject,
+        allocationWaitTimer,
         new RetryAllocates(new DummyClient())
     ).run();
   }
@@ -356,6 +380,7 @@ public class DefaultScheduler
         allocationAdvisor,
         kernelExecutor,
         globalSyncObject,
+        allocationWaitTimer,
         new CheckAllocationsPrepared(client, resources)
     ).run();
   }
@@ -4,13 +4,18 @@ package org.opentcs.strategies.basic.dispatching;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.RouteComputation;
 import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.data.model.Point;
@@ -24,14 +29,16 @@ import org.opentcs.data.order.TransportOrder;
  */
 class DriveOrderRouteAssignerTest {
 
+  private Router router;
   private RouteSelector routeSelector;
   private DriveOrderRouteAssigner assigner;
 
   @BeforeEach
   void setUp() {
-    Router router = mock();
+    router = mock();
     routeSelector = mock();
     DefaultDispatcherConfiguration configuration = mock();
+    when(configuration.maxRoutesToConsider()).thenReturn(1);
     assigner = new DriveOrderRouteAssigner(router, routeSelector, configuration);
   }
 
@@ -75,6 +82,60 @@ class DriveOrderRouteAssignerTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void assignRoutesFromPreparedRouteComputation() {
+    Point pointA = new Point("A");
+    DriveOrder driveOrderToA = new DriveOrder(
+        "order1", new DriveOrder.Destination(pointA.getReference())
+    );
+    TransportOrder order = new TransportOrder("order", List.of(driveOrderToA));
+    Vehicle vehicle = new Vehicle("vehicle");
+    RouteComputation routeComputation = mock();
+    when(router.prepareRouteComputation(vehicle, pointA, order, 1)).thenReturn(routeComputation);
+    when(routeComputation.getResult()).thenReturn(Optional.of(Set.of(List.of(routeTo(pointA)))));
+    when(routeSelector.selectSequence(Set.of(List.of(routeTo(pointA)))))
+        .thenReturn(Optional.of(List.of(routeTo(pointA))));
+
+    DriveOrderRouteAssigner.PreparedRouteAssignment routeAssignment
+        = assigner.prepareRouteAssignment(order, vehicle, pointA);
+    routeAssignment.computeRoutes();
+    Optional<List<DriveOrder>> result = routeAssignment.getAssignedDriveOrders();
+
+    assertThat(result).contains(
+        List.of(driveOrderToA.withTransportOrder(order.getReference()).withRoute(routeTo(pointA)))
+    );
+    verify(routeComputation).compute();
+    verify(router, never()).getRoutes(any(), any(), any(TransportOrder.class), anyInt());
+  }
+
+  @Test
+  void computeRoutesIfPreparedRouteComputationHasNoResult() {
+    Point pointA = new Point("A");
+    DriveOrder driveOrderToA = new DriveOrder(
+        "order1", new DriveOrder.Destination(pointA.getReference())
+    );
+    TransportOrder order = new TransportOrder("order", List.of(driveOrderToA));
+    Vehicle vehicle = new Vehicle("vehicle");
+    RouteComputation routeComputation = mock();
+    when(router.prepareRouteComputation(vehicle, pointA, order, 1)).thenReturn(routeComputation);
+    // E.g. because the computation's result was discarded due to a routing topology update.
+    when(routeComputation.getResult()).thenReturn(Optional.empty());
+    when(router.getRoutes(vehicle, pointA, order, 1))
+        .thenReturn(Set.of(List.of(routeTo(pointA))));
+    when(routeSelector.selectSequence(Set.of(List.of(routeTo(pointA)))))
+        .thenReturn(Optional.of(List.of(routeTo(pointA))));
+
+    DriveOrderRouteAssigner.PreparedRouteAssignment routeAssignment
+        = assigner.prepareRouteAssignment(order, vehicle, pointA);
+    routeAssignment.computeRoutes();
+    Optional<List<DriveOrder>> result = routeAssignment.getAssignedDriveOrders();
+
+    assertThat(result).contains(
+        List.of(driveOrderToA.withTransportOrder(order.getReference()).withRoute(routeTo(pointA)))
+    );
+    verify(router).getRoutes(vehicle, pointA, order, 1);
+  }
+
   private Route routeTo(Point point) {
     return new Route(
         List.of(
@@ -118,4 +118,9 @@ public class LowestCostRouteSelectorTest {
         is(Optional.of(List.of(routeAFE, routeEG, routeGCD)))
     );
   }
+
+  @Test
+  public void indicateSelectionOfLowestCostRoutes() {
+    assertThat(routeSelector.selectsLowestCost(), is(true));
+  }
 }
@@ -0,0 +1,176 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.ReroutingType;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.strategies.basic.dispatching.rerouting.PreparedRerouting;
+import org.opentcs.strategies.basic.dispatching.rerouting.ReroutingStrategy;
+import org.opentcs.strategies.basic.dispatching.rerouting.VehiclePositionResolver;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.RoutingTableCache;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
+
+/**
+ * Unit tests for {@link RerouteUtil}.
+ */
+class RerouteUtilTest {
+
+  private static final int POINT_COUNT = 50;
+  private static final int VEHICLE_COUNT = 8;
+
+  private InternalTransportOrderService transportOrderService;
+  private List<Point> points;
+  private PointRouter pointRouter;
+  private RerouteUtil rerouteUtil;
+
+  @BeforeEach
+  void setUp() {
+    transportOrderService = mock();
+    points = new ArrayList<>();
+    for (int i = 0; i < POINT_COUNT; i++) {
+      points.add(new Point("point-" + i));
+    }
+    pointRouter = createPointRouter();
+
+    rerouteUtil = new RerouteUtil(
+        mock(Router.class),
+        mock(VehicleControllerPool.class),
+        transportOrderService,
+        mock(DefaultDispatcherConfiguration.class),
+        Map.of(ReroutingType.REGULAR, new PointRouterReroutingStrategy()),
+        mock(VehiclePositionResolver.class)
+    );
+  }
+
+  @Test
+  void rerouteMultipleVehiclesWithSharedPointRouter() {
+    List<Vehicle> vehicles = new ArrayList<>();
+    List<TransportOrder> orders = new ArrayList<>();
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      TransportOrder order = new TransportOrder("order-" + i, List.of());
+      when(transportOrderService.fetch(TransportOrder.class, order.getReference()))
+          .thenReturn(Optional.of(order));
+      orders.add(order);
+      vehicles.add(new Vehicle("vehicle-" + i).withTransportOrder(order.getReference()));
+    }
+
+    rerouteUtil.reroute(vehicles, ReroutingType.REGULAR);
+
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      // The new routes should be the ones computed by the point router for every single vehicle.
+      verify(transportOrderService).updateTransportOrderDriveOrders(
+          orders.get(i).getReference(),
+          List.of(driveOrderFor(vehicles.get(i)))
+      );
+    }
+  }
+
+  private DriveOrder driveOrderFor(Vehicle vehicle) {
+    int index = Integer.parseInt(vehicle.getName().substring("vehicle-".length()));
+    Point source = points.get(index);
+    Point destination = points.get(POINT_COUNT - 1 - index);
+
+    return new DriveOrder("drive-order", new DriveOrder.Destination(destination.getReference()))
+        .withRoute(new Route(pointRouter.getRouteSteps(source, destination)));
+  }
+
+  private PointRouter createPointRouter() {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    List<Vertex> vertices = new ArrayList<>();
+    for (Point point : points) {
+      Vertex vertex = new Vertex(point.getReference());
+      graph.addVertex(vertex);
+      vertices.add(vertex);
+    }
+    Set<Path> paths = new HashSet<>();
+    for (int i = 1; i < POINT_COUNT; i++) {
+      Path path = new Path(
+          points.get(i - 1).getName() + " --- " + points.get(i).getName(),
+          points.get(i - 1).getReference(),
+          points.get(i).getReference()
+      );
+      paths.add(path);
+      Edge forward = new Edge(path, false);
+      graph.addEdge(vertices.get(i - 1), vertices.get(i), forward);
+      graph.setEdgeWeight(forward, 1);
+      Edge backward = new Edge(path, true);
+      graph.addEdge(vertices.get(i), vertices.get(i - 1), backward);
+      graph.setEdgeWeight(backward, 1);
+    }
+
+    GraphProvider graphProvider = mock();
+    when(graphProvider.getGraphResult(any(Vehicle.class))).thenReturn(
+        new GraphProvider.GraphResult(
+            new Vehicle("some-vehicle"),
+            Set.copyOf(points),
+            paths,
+            Set.of(),
+            Set.of(),
+            graph
+        )
+    );
+    RoutingTableCache routingTableCache = mock();
+    return new FloydWarshallPointRouterFactory(graphProvider, routingTableCache)
+        .createPointRouter(new Vehicle("some-vehicle"), Set.of(), Set.of());
+  }
+
+  /**
+   * A rerouting strategy computing routes from the vehicles' indexes with the shared point router.
+   */
+  private class PointRouterReroutingStrategy
+      implements
+        ReroutingStrategy {
+
+    @Override
+    public Optional<List<DriveOrder>> reroute(Vehicle vehicle) {
+      return Optional.of(List.of(driveOrderFor(vehicle)));
+    }
+
+    @Override
+    public PreparedRerouting prepareReroute(Vehicle vehicle) {
+      return new PreparedRerouting() {
+        private volatile List<DriveOrder> driveOrders;
+
+        @Override
+        public void computeRoutes() {
+          driveOrders = List.of(driveOrderFor(vehicle));
+        }
+
+        @Override
+        public Optional<List<DriveOrder>> getDriveOrders() {
+          if (driveOrders == null) {
+            computeRoutes();
+          }
+          return Optional.of(driveOrders);
+        }
+      };
+    }
+  }
+}
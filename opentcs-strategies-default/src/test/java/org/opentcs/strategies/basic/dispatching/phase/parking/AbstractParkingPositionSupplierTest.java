@@ -5,13 +5,18 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,10 +26,12 @@ import org.mockito.ArgumentMatchers;
 import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
@@ -76,10 +83,6 @@ class AbstractParkingPositionSupplierTest {
             ArgumentMatchers.<Predicate<? super Point>>any()
         )
     ).thenReturn(setOf(point2, point3));
-    when(plantModelService.expandResources(Collections.singleton(point2.getReference())))
-        .thenReturn(Collections.singleton(point2));
-    when(plantModelService.expandResources(Collections.singleton(point3.getReference())))
-        .thenReturn(Collections.singleton(point3));
 
     Set<Point> result = supplier.findUsableParkingPositions(vehicle);
     assertTrue(result.isEmpty());
@@ -101,16 +104,80 @@ class AbstractParkingPositionSupplierTest {
             ArgumentMatchers.<Predicate<? super Point>>any()
         )
     ).thenReturn(setOf(point2, point3));
-    when(plantModelService.expandResources(Collections.singleton(point2.getReference())))
-        .thenReturn(Collections.singleton(point2));
-    when(plantModelService.expandResources(Collections.singleton(point3.getReference())))
-        .thenReturn(Collections.singleton(point3));
 
     Set<Point> result = supplier.findUsableParkingPositions(vehicle);
     assertFalse(result.isEmpty());
     assertEquals(setOf(point2, point3), result);
   }
 
+  @Test
+  void returnsEmptyParkingPositionInBlockOccupied() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("unoccupied parking position")
+        .withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("point in same block occupied by another vehicle")
+        .withOccupyingVehicle(new Vehicle("another vehicle").getReference());
+    Block block = new Block("some block")
+        .withMembers(Set.of(point2.getReference(), point3.getReference()));
+    Vehicle vehicle = new Vehicle("vehicle")
+        .withCurrentPosition(point1.getReference());
+
+    when(
+        plantModelService.fetch(
+            eq(Point.class),
+            ArgumentMatchers.<Predicate<? super Point>>any()
+        )
+    ).thenReturn(setOf(point2));
+    when(plantModelService.fetch(Point.class)).thenReturn(setOf(point1, point2, point3));
+    when(plantModelService.fetch(Block.class)).thenReturn(setOf(block));
+
+    Set<Point> result = supplier.findUsableParkingPositions(vehicle);
+    assertTrue(result.isEmpty());
+    // The blocks should be looked at once, not expanded for every single parking position.
+    verify(plantModelService, never()).expandResources(any());
+  }
+
+  @Test
+  void useRouterCostsWithRouteSelectorSelectingLowestCost() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("distant parking position");
+    Point point3 = new Point("near parking position");
+    Vehicle vehicle = new Vehicle("vehicle")
+        .withCurrentPosition(point1.getReference());
+
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(routeSelector.selectsLowestCost()).thenReturn(true);
+    when(router.getCosts(vehicle, point1, point2)).thenReturn(20L);
+    when(router.getCosts(vehicle, point1, point3)).thenReturn(10L);
+
+    assertEquals(point3, supplier.nearestPoint(vehicle, setOf(point2, point3)));
+    verify(router, never()).getRoutes(any(), any(), any(), any(), anyInt());
+    verify(routeSelector, never()).select(any());
+  }
+
+  @Test
+  void selectRoutesWithOtherRouteSelector() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("some parking position");
+    Vehicle vehicle = new Vehicle("vehicle")
+        .withCurrentPosition(point1.getReference());
+    Route route = new Route(
+        List.of(new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 10))
+    );
+
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(routeSelector.selectsLowestCost()).thenReturn(false);
+    when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1)).thenReturn(Set.of(route));
+    when(routeSelector.select(Set.of(route))).thenReturn(Optional.of(route));
+
+    assertEquals(point2, supplier.nearestPoint(vehicle, setOf(point2)));
+    verify(routeSelector).select(Set.of(route));
+    verify(router, never()).getCosts(any(), any(), any());
+  }
+
   @Test
   void returnsExpandedPoints() {
     Point[] points = new Point[5];
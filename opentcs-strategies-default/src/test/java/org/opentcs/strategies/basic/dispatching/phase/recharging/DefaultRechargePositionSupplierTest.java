@@ -102,8 +102,6 @@ class DefaultRechargePositionSupplierTest {
               return Stream.of(rechargeLoc1, rechargeLoc2, rechargeLoc3, rechargeLoc4Locked);
             }
         );
-    when(plantModelService.expandResources(Set.of(locationAccessPoint.getReference())))
-        .thenReturn(Set.of(locationAccessPoint));
     when(configuration.maxRoutesToConsider()).thenReturn(1);
     when(router.getRoutes(vehicle, currentPosition, locationAccessPoint, Set.of(), 1))
         .thenReturn(
@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.InternalPeripheralJobService;
+import org.opentcs.components.kernel.services.InternalPeripheralService;
+import org.opentcs.drivers.peripherals.PeripheralControllerPool;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link DefaultPeripheralJobDispatcher}.
+ */
+class DefaultPeripheralJobDispatcherTest {
+
+  private FullDispatchTask fullDispatchTask;
+  private DefaultPeripheralJobDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    fullDispatchTask = mock();
+    PeriodicPeripheralRedispatchingTask periodicDispatchTask = mock();
+    ImplicitDispatchTrigger implicitDispatchTrigger = mock();
+    DefaultPeripheralJobDispatcherConfiguration configuration = mock();
+    // Keep the periodic dispatch task from interfering with the tests.
+    when(configuration.idlePeripheralRedispatchingInterval()).thenReturn(3600000L);
+
+    dispatcher = new DefaultPeripheralJobDispatcher(
+        mock(InternalPeripheralService.class),
+        mock(InternalPeripheralJobService.class),
+        mock(PeripheralControllerPool.class),
+        mock(EventSource.class),
+        mock(PeripheralJobQueues.class),
+        fullDispatchTask,
+        () -> periodicDispatchTask,
+        () -> implicitDispatchTrigger,
+        configuration
+    );
+    dispatcher.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.terminate();
+  }
+
+  @Test
+  void coalesceDispatchRequestsArrivingBeforeScheduledRunStarted()
+      throws Exception {
+    CountDownLatch firstRunStarted = new CountDownLatch(1);
+    CountDownLatch firstRunReleased = new CountDownLatch(1);
+    AtomicInteger runCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      if (runCount.incrementAndGet() == 1) {
+        firstRunStarted.countDown();
+        firstRunReleased.await();
+      }
+      return null;
+    }).when(fullDispatchTask).run();
+
+    dispatcher.dispatch();
+    assertTrue(firstRunStarted.await(5, TimeUnit.SECONDS));
+    // While the first run is in progress, these requests schedule only a single subsequent run.
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+    firstRunReleased.countDown();
+
+    verify(fullDispatchTask, timeout(5000).times(2)).run();
+    verify(fullDispatchTask, after(500).times(2)).run();
+  }
+
+  @Test
+  void scheduleNewRunForDispatchRequestAfterPreviousRun() {
+    dispatcher.dispatch();
+    verify(fullDispatchTask, timeout(5000).times(1)).run();
+
+    dispatcher.dispatch();
+    verify(fullDispatchTask, timeout(5000).times(2)).run();
+  }
+}
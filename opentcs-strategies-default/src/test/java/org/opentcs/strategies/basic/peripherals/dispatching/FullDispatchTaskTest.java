@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.strategies.basic.peripherals.dispatching.phase.AssignFreePeripheralsPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.phase.AssignReservedPeripheralsPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.phase.FinishWithdrawalsPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.phase.ReleasePeripheralsPhase;
+
+/**
+ * Unit tests for {@link FullDispatchTask}.
+ */
+class FullDispatchTaskTest {
+
+  private FinishWithdrawalsPhase finishWithdrawalsPhase;
+  private AssignReservedPeripheralsPhase assignReservedPeripheralsPhase;
+  private ReleasePeripheralsPhase releasePeripheralsPhase;
+  private AssignFreePeripheralsPhase assignFreePeripheralsPhase;
+  private FullDispatchTask task;
+
+  @BeforeEach
+  void setUp() {
+    finishWithdrawalsPhase = mock();
+    assignReservedPeripheralsPhase = mock();
+    releasePeripheralsPhase = mock();
+    assignFreePeripheralsPhase = mock();
+    task = new FullDispatchTask(
+        finishWithdrawalsPhase,
+        assignReservedPeripheralsPhase,
+        releasePeripheralsPhase,
+        assignFreePeripheralsPhase
+    );
+  }
+
+  @Test
+  void runAllPhases() {
+    task.run();
+
+    verify(finishWithdrawalsPhase).run();
+    verify(assignReservedPeripheralsPhase).run();
+    verify(releasePeripheralsPhase).run();
+    verify(assignFreePeripheralsPhase).run();
+  }
+
+  @Test
+  void skipRemainingPhasesWhenCancelled() {
+    // A phase's state update is cancelled, e.g. because the dispatcher is being terminated.
+    doThrow(new CancellationException()).when(assignReservedPeripheralsPhase).run();
+
+    task.run();
+
+    verify(finishWithdrawalsPhase).run();
+    verify(releasePeripheralsPhase, never()).run();
+    verify(assignFreePeripheralsPhase, never()).run();
+  }
+}
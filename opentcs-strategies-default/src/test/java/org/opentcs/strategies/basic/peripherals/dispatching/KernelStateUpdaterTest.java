@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KernelStateUpdater}.
+ */
+class KernelStateUpdaterTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private KernelStateUpdater stateUpdater;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = Executors.newSingleThreadScheduledExecutor();
+    stateUpdater = new KernelStateUpdater(kernelExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    kernelExecutor.shutdownNow();
+    // Do not leave the test thread interrupted.
+    Thread.interrupted();
+  }
+
+  @Test
+  void applyUpdateOnKernelExecutor() {
+    AtomicReference<Thread> updateThread = new AtomicReference<>();
+
+    stateUpdater.apply(() -> updateThread.set(Thread.currentThread()));
+
+    assertThat(updateThread.get(), is(notNullValue()));
+    assertThat(updateThread.get(), is(not(sameInstance(Thread.currentThread()))));
+  }
+
+  @Test
+  void rethrowExceptionThrownByUpdate() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> stateUpdater.apply(() -> {
+          throw new IllegalArgumentException("some-message");
+        })
+    );
+  }
+
+  @Test
+  void skipUpdateIfKernelExecutorIsShutDown() {
+    Runnable update = mock();
+    kernelExecutor.shutdown();
+
+    stateUpdater.apply(update);
+
+    verify(update, never()).run();
+  }
+
+  @Test
+  void cancelUpdateIfThreadIsInterrupted() {
+    Runnable update = mock();
+    Thread.currentThread().interrupt();
+
+    assertThrows(CancellationException.class, () -> stateUpdater.apply(update));
+    assertTrue(Thread.currentThread().isInterrupted());
+    verify(update, never()).run();
+  }
+
+  @Test
+  void cancelUpdateIfThreadIsInterruptedWhileWaiting()
+      throws Exception {
+    // Keep the kernel executor busy, so the update cannot be applied before the interruption.
+    CountDownLatch kernelExecutorReleased = new CountDownLatch(1);
+    kernelExecutor.submit(() -> {
+      kernelExecutorReleased.await();
+      return null;
+    });
+    Runnable update = mock();
+    AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+    Thread dispatcherThread = new Thread(() -> {
+      try {
+        stateUpdater.apply(update);
+      }
+      catch (RuntimeException exc) {
+        thrown.set(exc);
+      }
+    });
+
+    dispatcherThread.start();
+    dispatcherThread.interrupt();
+    dispatcherThread.join(5000);
+    kernelExecutorReleased.countDown();
+    kernelExecutor.shutdown();
+    assertTrue(kernelExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+    assertThat(thrown.get(), is(instanceOf(CancellationException.class)));
+    verify(update, never()).run();
+  }
+}
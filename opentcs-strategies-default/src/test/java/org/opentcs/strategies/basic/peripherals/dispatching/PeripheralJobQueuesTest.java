@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link PeripheralJobQueues}.
+ */
+class PeripheralJobQueuesTest {
+
+  private final LocationType locationType = new LocationType("locationType");
+  private final Location location1 = new Location("location1", locationType.getReference());
+  private final Location location2 = new Location("location2", locationType.getReference());
+  private final Map<TCSObjectReference<?>, PeripheralJob> jobs = new HashMap<>();
+  private TCSObjectService objectService;
+  private PeripheralJobQueues jobQueues;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    when(objectService.fetch(eq(PeripheralJob.class), any(Predicate.class)))
+        .thenAnswer(
+            invocation -> jobs.values().stream()
+                .filter(invocation.<Predicate<PeripheralJob>>getArgument(1))
+                .collect(Collectors.toSet())
+        );
+    when(objectService.fetch(eq(PeripheralJob.class), any(TCSObjectReference.class)))
+        .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.getArgument(1))));
+
+    jobQueues = new PeripheralJobQueues(objectService, mock(EventSource.class));
+  }
+
+  @Test
+  void containJobsToBeProcessedOnInitialization() {
+    PeripheralJob job1 = addJob("job1", location1, PeripheralJob.State.TO_BE_PROCESSED);
+    addJob("job2", location1, PeripheralJob.State.FINISHED);
+    PeripheralJob job3 = addJob("job3", location2, PeripheralJob.State.TO_BE_PROCESSED);
+
+    jobQueues.initialize();
+
+    assertThat(
+        jobQueues.getLocationsWithJobs(),
+        containsInAnyOrder(location1.getReference(), location2.getReference())
+    );
+    assertThat(jobQueues.getJobsToBeProcessed(location1.getReference()), contains(job1));
+    assertThat(jobQueues.getJobsToBeProcessed(location2.getReference()), contains(job3));
+  }
+
+  @Test
+  void addCreatedJobs() {
+    jobQueues.initialize();
+
+    PeripheralJob job1 = addJob("job1", location1, PeripheralJob.State.TO_BE_PROCESSED);
+    jobQueues.onEvent(new TCSObjectEvent(job1, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    assertThat(jobQueues.getLocationsWithJobs(), contains(location1.getReference()));
+    assertThat(jobQueues.getJobsToBeProcessed(location1.getReference()), contains(job1));
+  }
+
+  @Test
+  void removeJobsNoLongerToBeProcessed() {
+    PeripheralJob job1 = addJob("job1", location1, PeripheralJob.State.TO_BE_PROCESSED);
+    jobQueues.initialize();
+
+    PeripheralJob processedJob1 = job1.withState(PeripheralJob.State.BEING_PROCESSED);
+    jobs.put(processedJob1.getReference(), processedJob1);
+    jobQueues.onEvent(
+        new TCSObjectEvent(processedJob1, job1, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(jobQueues.getLocationsWithJobs(), is(empty()));
+    assertThat(jobQueues.getJobsToBeProcessed(location1.getReference()), is(empty()));
+  }
+
+  @Test
+  void removeRemovedJobs() {
+    PeripheralJob job1 = addJob("job1", location1, PeripheralJob.State.TO_BE_PROCESSED);
+    jobQueues.initialize();
+
+    jobs.remove(job1.getReference());
+    jobQueues.onEvent(new TCSObjectEvent(null, job1, TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertThat(jobQueues.getLocationsWithJobs(), is(empty()));
+  }
+
+  @Test
+  void ignoreJobsWhoseStateChangedWithoutEvent() {
+    PeripheralJob job1 = addJob("job1", location1, PeripheralJob.State.TO_BE_PROCESSED);
+    jobQueues.initialize();
+
+    PeripheralJob failedJob1 = job1.withState(PeripheralJob.State.FAILED);
+    jobs.put(failedJob1.getReference(), failedJob1);
+
+    assertThat(jobQueues.getJobsToBeProcessed(location1.getReference()), is(Set.of()));
+  }
+
+  private PeripheralJob addJob(String name, Location location, PeripheralJob.State state) {
+    PeripheralJob job = new PeripheralJob(
+        name,
+        "token",
+        new PeripheralOperation(
+            location.getReference(),
+            "operation",
+            PeripheralOperation.ExecutionTrigger.IMMEDIATE,
+            false
+        )
+    ).withState(state);
+    jobs.put(job.getReference(), job);
+    return job;
+  }
+}
@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching.phase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.PeripheralInformation;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.drivers.peripherals.PeripheralController;
+import org.opentcs.drivers.peripherals.PeripheralControllerPool;
+import org.opentcs.strategies.basic.peripherals.dispatching.JobSelectionStrategy;
+import org.opentcs.strategies.basic.peripherals.dispatching.KernelStateUpdater;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobQueues;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
+import org.opentcs.util.ExplainedBoolean;
+
+/**
+ * Unit tests for {@link AssignFreePeripheralsPhase}.
+ */
+class AssignFreePeripheralsPhaseTest {
+
+  private final LocationType locationType = new LocationType("locationType");
+  private Location location;
+  private PeripheralJob job;
+  private TCSObjectService objectService;
+  private PeripheralJobUtil peripheralJobUtil;
+  private KernelStateUpdater stateUpdater;
+  private AssignFreePeripheralsPhase phase;
+
+  @BeforeEach
+  void setUp() {
+    location = new Location("location", locationType.getReference())
+        .withPeripheralInformation(
+            new PeripheralInformation().withState(PeripheralInformation.State.IDLE)
+        );
+    job = new PeripheralJob(
+        "job",
+        "some-token",
+        new PeripheralOperation(
+            location.getReference(),
+            "some-operation",
+            PeripheralOperation.ExecutionTrigger.IMMEDIATE,
+            true
+        )
+    );
+
+    objectService = mock();
+    when(objectService.fetch(Location.class, location.getReference()))
+        .thenReturn(Optional.of(location));
+    when(objectService.fetch(PeripheralJob.class, job.getReference()))
+        .thenReturn(Optional.of(job));
+    JobSelectionStrategy jobSelectionStrategy = mock();
+    when(jobSelectionStrategy.select(any(), eq(location))).thenReturn(Optional.of(job));
+    PeripheralController peripheralController = mock();
+    when(peripheralController.canProcess(any())).thenReturn(new ExplainedBoolean(true, ""));
+    PeripheralControllerPool peripheralControllerPool = mock();
+    when(peripheralControllerPool.getPeripheralController(location.getReference()))
+        .thenReturn(peripheralController);
+    PeripheralJobQueues jobQueues = mock();
+    when(jobQueues.getLocationsWithJobs()).thenReturn(Set.of(location.getReference()));
+    when(jobQueues.getJobsToBeProcessed(location.getReference())).thenReturn(Set.of(job));
+    // Apply state updates directly, as if on the kernel executor.
+    stateUpdater = mock();
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(stateUpdater).apply(any());
+    peripheralJobUtil = mock();
+
+    phase = new AssignFreePeripheralsPhase(
+        objectService,
+        jobSelectionStrategy,
+        peripheralControllerPool,
+        peripheralJobUtil,
+        jobQueues,
+        stateUpdater
+    );
+    phase.initialize();
+  }
+
+  @Test
+  void assignJobToAvailablePeripheral() {
+    phase.run();
+
+    verify(peripheralJobUtil).assignPeripheralJob(location, job);
+  }
+
+  @Test
+  void skipAssignmentIfJobIsNoLongerToBeProcessed() {
+    // The job has been withdrawn after it was selected, but before it is assigned.
+    when(objectService.fetch(PeripheralJob.class, job.getReference()))
+        .thenReturn(Optional.of(job.withState(PeripheralJob.State.FAILED)));
+
+    phase.run();
+
+    verify(peripheralJobUtil, never()).assignPeripheralJob(any(), any());
+  }
+
+  @Test
+  void skipAssignmentIfPeripheralIsNoLongerAvailable() {
+    // The peripheral has been assigned another job after the job was selected, but before it is
+    // assigned.
+    Location processingLocation = location.withPeripheralInformation(
+        location.getPeripheralInformation()
+            .withProcState(PeripheralInformation.ProcState.PROCESSING_JOB)
+    );
+    doAnswer(invocation -> {
+      when(objectService.fetch(Location.class, location.getReference()))
+          .thenReturn(Optional.of(processingLocation));
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(stateUpdater).apply(any());
+
+    phase.run();
+
+    verify(peripheralJobUtil, never()).assignPeripheralJob(any(), any());
+  }
+}
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.RouteComputation;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Location;
@@ -29,6 +30,7 @@ import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.util.metrics.MetricsRegistry;
 
 /**
  * Tests for {@link DefaultRouter}.
@@ -53,7 +55,8 @@ class DefaultRouterTest {
         objectService,
         pointRouterProvider,
         routingGroupMapper,
-        configuration
+        configuration,
+        new MetricsRegistry()
     );
 
     pointRouter = mock();
@@ -175,4 +178,35 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  @Test
+  void providePreparedRouteComputationResult() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+
+    RouteComputation computation
+        = defaultRouter.prepareRouteComputation(vehicle, pointA, order, 1);
+
+    assertThat(computation.getResult().isPresent(), is(false));
+
+    computation.compute();
+
+    assertThat(computation.getResult().isPresent(), is(true));
+    assertThat(computation.getResult().get(), hasSize(1));
+  }
+
+  @Test
+  void discardPreparedRouteComputationResultOnTopologyUpdate() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+
+    RouteComputation computation
+        = defaultRouter.prepareRouteComputation(vehicle, pointA, order, 1);
+    defaultRouter.updateRoutingTopology(Set.of());
+    computation.compute();
+
+    assertThat(computation.getResult().isPresent(), is(false));
+  }
 }
@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+
+/**
+ * Unit tests for {@link FloydWarshallPointRouterFactory}.
+ */
+class FloydWarshallPointRouterFactoryTest {
+
+  @TempDir
+  private File homeDirectory;
+  private Point pointA;
+  private Point pointB;
+  private Path pathAB;
+  private FloydWarshallPointRouterFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+
+    ShortestPathConfiguration configuration = mock();
+    when(configuration.routingTableCacheEnabled()).thenReturn(true);
+    when(configuration.routingTableCacheSize()).thenReturn(1);
+    factory = new FloydWarshallPointRouterFactory(
+        mock(),
+        new RoutingTableCache(homeDirectory, configuration)
+    );
+  }
+
+  @Test
+  void persistRoutingTableForGraphWithoutLockedPaths() {
+    factory.createPointRouter(createGraphResult(pathAB));
+
+    assertThat(routingTableFiles(), is(arrayWithSize(1)));
+  }
+
+  @Test
+  void doNotPersistRoutingTableForGraphWithLockedPaths() {
+    factory.createPointRouter(createGraphResult(pathAB));
+    factory.createPointRouter(createGraphResult(pathAB.withLocked(true)));
+
+    // Only the routing table for the unlocked plant model should have been persisted and kept.
+    File[] files = routingTableFiles();
+    assertThat(files, is(arrayWithSize(1)));
+    assertThat(
+        files[0].getName(),
+        is(
+            RoutingTopology.of(createGraphResult(pathAB).getGraph()).getFingerprint() + ".rtable"
+        )
+    );
+  }
+
+  @Test
+  void doNotPersistAnythingForGraphWithLockedPathsOnly() {
+    factory.createPointRouter(createGraphResult(pathAB.withLocked(true)));
+
+    File[] files = routingTableFiles();
+    assertThat(files == null ? new File[0] : files, is(emptyArray()));
+  }
+
+  @Test
+  void removeLoadedRoutingTableFile() {
+    factory.createPointRouter(createGraphResult(pathAB, 1));
+    // Load the persisted routing table, then replace it with one for a different graph.
+    factory.createPointRouter(createGraphResult(pathAB, 1));
+    factory.createPointRouter(createGraphResult(pathAB, 2));
+
+    assertThat(routingTableFiles(), is(arrayWithSize(1)));
+    assertThat(
+        factory.createPointRouter(createGraphResult(pathAB, 1))
+            .getCosts(pointA.getReference(), pointB.getReference()),
+        is(1 * ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR)
+    );
+  }
+
+  private File[] routingTableFiles() {
+    return new File(homeDirectory, "data/routingtables").listFiles();
+  }
+
+  private GraphResult createGraphResult(Path path) {
+    return createGraphResult(path, path.isLocked() ? Double.POSITIVE_INFINITY : 1);
+  }
+
+  private GraphResult createGraphResult(Path path, double weight) {
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    Edge edge = new Edge(path, false);
+
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addEdge(vertexA, vertexB, edge);
+    graph.setEdgeWeight(edge, weight);
+
+    return new GraphResult(
+        new Vehicle("some-vehicle"),
+        Set.of(pointA, pointB),
+        Set.of(path),
+        Set.of(),
+        Set.of(),
+        graph
+    );
+  }
+}
@@ -2,6 +2,11 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -13,13 +18,17 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.PlantModel;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
 
@@ -33,6 +42,8 @@ class GraphProviderTest {
   private GraphMutator graphMutator;
   private GraphProvider graphProvider;
   private PlantModelService plantModelService;
+  private Point pointA;
+  private Point pointB;
 
   @BeforeEach
   void setUp() {
@@ -49,6 +60,9 @@ class GraphProviderTest {
     );
 
     when(plantModelService.getPlantModel()).thenReturn(new PlantModel(""));
+
+    pointA = new Point("A");
+    pointB = new Point("B");
   }
 
   @Test
@@ -99,4 +113,156 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void shareIdenticalGraphsBetweenRoutingGroups() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    when(groupMapper.apply(vehicle1)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle2)).thenReturn("group-2");
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), any()))
+        .then(invocation -> createGraph("some-point"));
+
+    GraphResult graphResult1 = graphProvider.getGraphResult(vehicle1);
+    GraphResult graphResult2 = graphProvider.getGraphResult(vehicle2);
+
+    assertThat(graphResult2.getGraph(), is(sameInstance(graphResult1.getGraph())));
+    assertThat(graphResult2.getVehicle(), is(vehicle2));
+    assertThat(
+        graphProvider.getGraphFingerprint(vehicle2),
+        is(equalTo(graphProvider.getGraphFingerprint(vehicle1)))
+    );
+  }
+
+  @Test
+  void doNotShareDifferentGraphsBetweenRoutingGroups() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    when(groupMapper.apply(vehicle1)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle2)).thenReturn("group-2");
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle1)))
+        .then(invocation -> createGraph("some-point"));
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle2)))
+        .then(invocation -> createGraph("other-point"));
+
+    GraphResult graphResult1 = graphProvider.getGraphResult(vehicle1);
+    GraphResult graphResult2 = graphProvider.getGraphResult(vehicle2);
+
+    assertThat(graphResult2.getGraph(), is(not(sameInstance(graphResult1.getGraph()))));
+    assertThat(
+        graphProvider.getGraphFingerprint(vehicle2),
+        is(not(equalTo(graphProvider.getGraphFingerprint(vehicle1))))
+    );
+  }
+
+  @Test
+  void updateSharedGraphSeparatelyForRoutingGroupsWithDifferentWeights() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    Path path = new Path("some-path", pointA.getReference(), pointB.getReference());
+    setUpRoutingGroups(vehicle1, vehicle2);
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), any()))
+        .then(invocation -> createGraph(path, 1));
+    when(defaultModelGraphMapper.updateGraph(anyCollection(), eq(vehicle1), any()))
+        .then(invocation -> withWeight(invocation.getArgument(2), 5));
+    when(defaultModelGraphMapper.updateGraph(anyCollection(), eq(vehicle2), any()))
+        .then(invocation -> withWeight(invocation.getArgument(2), 7));
+    Graph<Vertex, Edge> sharedGraph = graphProvider.getGraphResult(vehicle1).getGraph();
+    assertThat(graphProvider.getGraphResult(vehicle2).getGraph(), is(sameInstance(sharedGraph)));
+
+    graphProvider.updateGraphResults(Set.of(path));
+
+    Graph<Vertex, Edge> graph1 = graphProvider.getGraphResult(vehicle1).getGraph();
+    Graph<Vertex, Edge> graph2 = graphProvider.getGraphResult(vehicle2).getGraph();
+    assertThat(graph2, is(not(sameInstance(graph1))));
+    assertThat(weightOf(graph1), is(5.0));
+    assertThat(weightOf(graph2), is(7.0));
+    // The graph shared before the update must not have been modified in place.
+    assertThat(weightOf(sharedGraph), is(1.0));
+    assertThat(
+        graphProvider.getGraphFingerprint(vehicle2),
+        is(not(equalTo(graphProvider.getGraphFingerprint(vehicle1))))
+    );
+  }
+
+  @Test
+  void shareGraphsAgainAfterUpdateForRoutingGroupsWithConvergingWeights() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    Path path = new Path("some-path", pointA.getReference(), pointB.getReference());
+    setUpRoutingGroups(vehicle1, vehicle2);
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle1)))
+        .then(invocation -> createGraph(path, 1));
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle2)))
+        .then(invocation -> createGraph(path, 2));
+    when(defaultModelGraphMapper.updateGraph(anyCollection(), any(Vehicle.class), any()))
+        .then(invocation -> withWeight(invocation.getArgument(2), 3));
+    assertThat(
+        graphProvider.getGraphResult(vehicle2).getGraph(),
+        is(not(sameInstance(graphProvider.getGraphResult(vehicle1).getGraph())))
+    );
+
+    graphProvider.updateGraphResults(Set.of(path));
+
+    GraphResult graphResult1 = graphProvider.getGraphResult(vehicle1);
+    GraphResult graphResult2 = graphProvider.getGraphResult(vehicle2);
+    assertThat(graphResult2.getGraph(), is(sameInstance(graphResult1.getGraph())));
+    assertThat(graphResult1.getVehicle(), is(vehicle1));
+    assertThat(graphResult2.getVehicle(), is(vehicle2));
+    assertThat(weightOf(graphResult1.getGraph()), is(3.0));
+    assertThat(
+        graphProvider.getGraphFingerprint(vehicle2),
+        is(equalTo(graphProvider.getGraphFingerprint(vehicle1)))
+    );
+  }
+
+  private void setUpRoutingGroups(Vehicle vehicle1, Vehicle vehicle2) {
+    when(groupMapper.apply(vehicle1)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle2)).thenReturn("group-2");
+    when(plantModelService.getPlantModel())
+        .thenReturn(new PlantModel("").withVehicles(Set.of(vehicle1, vehicle2)));
+    // Shared graphs are copied before being updated.
+    when(graphMutator.deriveGraph(anySet(), anySet(), any(GraphResult.class)))
+        .then(invocation -> copyOf(invocation.getArgument(2)));
+  }
+
+  private Graph<Vertex, Edge> createGraph(Path path, double weight) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Vertex source = new Vertex(pointA.getReference());
+    Vertex target = new Vertex(pointB.getReference());
+    graph.addVertex(source);
+    graph.addVertex(target);
+    Edge edge = new Edge(path, false);
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+    return graph;
+  }
+
+  private GraphResult copyOf(GraphResult graphResult) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Graphs.addGraph(graph, graphResult.getGraph());
+    return new GraphResult(
+        graphResult.getVehicle(),
+        graphResult.getPointBase(),
+        graphResult.getPathBase(),
+        graphResult.getExcludedPoints(),
+        graphResult.getExcludedPaths(),
+        graph
+    );
+  }
+
+  private Graph<Vertex, Edge> withWeight(Graph<Vertex, Edge> graph, double weight) {
+    graph.edgeSet().forEach(edge -> graph.setEdgeWeight(edge, weight));
+    return graph;
+  }
+
+  private double weightOf(Graph<Vertex, Edge> graph) {
+    return graph.getEdgeWeight(graph.edgeSet().iterator().next());
+  }
+
+  private Graph<Vertex, Edge> createGraph(String pointName) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(new Vertex(new Point(pointName).getReference()));
+    return graph;
+  }
 }
@@ -2,6 +2,10 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -13,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +33,7 @@ import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.opentcs.util.metrics.MetricsRegistry;
 
 /**
  * Tests for {@link PointRouterProvider}.
@@ -66,13 +72,16 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    when(graphProvider.getGraphFingerprint(any(Vehicle.class)))
+        .then(invocation -> routingGroupMapper.apply(invocation.getArgument(0)));
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        new MetricsRegistry()
     );
   }
 
@@ -153,6 +162,19 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldSharePointRouterForRoutingGroupsWithIdenticalGraphs() {
+    when(graphProvider.getGraphFingerprint(any(Vehicle.class))).thenReturn("some-fingerprint");
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 2);
+
+    Map<String, PointRouter> pointRouters = pointRouterProvider.getPointRoutersByVehicleGroup();
+
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    assertThat(pointRouters, is(aMapWithSize(2)));
+    assertThat(pointRouters.get("1"), is(sameInstance(pointRouters.get("2"))));
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
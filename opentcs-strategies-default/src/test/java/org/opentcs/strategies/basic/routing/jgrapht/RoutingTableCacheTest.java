@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link RoutingTableCache}.
+ */
+class RoutingTableCacheTest {
+
+  @TempDir
+  private File homeDirectory;
+  private Graph<Vertex, Edge> graph;
+  private Edge edgeAB;
+  private RoutingTableCache cache;
+
+  @BeforeEach
+  void setUp() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    edgeAB = new Edge(new Path("A-->B", pointA.getReference(), pointB.getReference()), false);
+
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.setEdgeWeight(edgeAB, 42);
+
+    ShortestPathConfiguration configuration = mock();
+    when(configuration.routingTableCacheEnabled()).thenReturn(true);
+    when(configuration.routingTableCacheSize()).thenReturn(1);
+    cache = new RoutingTableCache(homeDirectory, configuration);
+  }
+
+  @Test
+  void loadNothingIfNoRoutingTableWasStored() {
+    assertThat(cache.load(RoutingTopology.of(graph)), is(nullValue()));
+  }
+
+  @Test
+  void loadStoredRoutingTable() {
+    cache.store(RoutingTable.compute(RoutingTopology.of(graph)));
+
+    RoutingTable routingTable = cache.load(RoutingTopology.of(graph));
+
+    assertThat(routingTable, is(notNullValue()));
+    assertThat(routingTable.getCosts(0, 1), is(42.0));
+    assertThat(routingTable.getFirstEdge(0, 1), is(0));
+    assertThat(routingTable.getCosts(1, 0), is(Double.POSITIVE_INFINITY));
+    assertThat(routingTable.getFirstEdge(1, 0), is(RoutingTable.NO_EDGE));
+  }
+
+  @Test
+  void loadNothingIfEdgeWeightsChanged() {
+    cache.store(RoutingTable.compute(RoutingTopology.of(graph)));
+    graph.setEdgeWeight(edgeAB, 43);
+
+    assertThat(cache.load(RoutingTopology.of(graph)), is(nullValue()));
+  }
+
+  @Test
+  void keepOnlyMostRecentlyStoredRoutingTables() {
+    cache.store(RoutingTable.compute(RoutingTopology.of(graph)));
+    graph.setEdgeWeight(edgeAB, 43);
+    cache.store(RoutingTable.compute(RoutingTopology.of(graph)));
+
+    assertThat(cache.load(RoutingTopology.of(graph)), is(notNullValue()));
+    assertThat(new File(homeDirectory, "data/routingtables").listFiles(), is(arrayWithSize(1)));
+  }
+}
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+
+/**
+ * Unit tests for {@link RoutingTablePointRouter}.
+ */
+class RoutingTablePointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private RoutingTablePointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    Vertex vertexC = new Vertex(pointC.getReference());
+    Vertex vertexD = new Vertex(pointD.getReference());
+
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    Path pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addVertex(vertexC);
+    graph.addVertex(vertexD);
+
+    addEdge(graph, vertexA, vertexB, new Edge(pathAB, false), 1);
+    addEdge(graph, vertexB, vertexA, new Edge(pathAB, true), 1);
+    addEdge(graph, vertexB, vertexC, new Edge(pathBC, false), 2);
+    addEdge(graph, vertexA, vertexC, new Edge(pathAC, false), 5);
+
+    pointRouter = new RoutingTablePointRouter(
+        RoutingTable.compute(RoutingTopology.of(graph)),
+        Map.of(
+            pointA.getName(), pointA,
+            pointB.getName(), pointB,
+            pointC.getName(), pointC,
+            pointD.getName(), pointD
+        )
+    );
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(Double.NaN, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+    assertEquals(Double.NaN, pointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointD));
+    assertNull(pointRouter.getRouteSteps(pointC, pointA));
+  }
+
+  @Test
+  void returnCostsOfShortestRoute() {
+    assertEquals(
+        (long) (3 * ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR),
+        pointRouter.getCosts(pointA.getReference(), pointC.getReference())
+    );
+    assertEquals(
+        pointRouter.getCosts(pointA, pointC),
+        pointRouter.getTabulatedCosts(pointA, pointC)
+    );
+  }
+
+  @Test
+  void returnStepsOfShortestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+    assertNotNull(steps);
+    assertThat(
+        steps.stream().map(step -> step.getPath().getName()).toList(),
+        contains("A-->B", "B-->C")
+    );
+    assertThat(steps.get(0).getSourcePoint(), is(pointA));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointB));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+    assertThat(
+        steps.get(1).getCosts(),
+        is((long) (2 * ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR))
+    );
+  }
+
+  @Test
+  void returnStepsForPathsTravelledInReverse() {
+    List<Step> steps = pointRouter.getRouteSteps(pointB, pointA);
+    assertNotNull(steps);
+    assertThat(steps.size(), is(1));
+    assertThat(steps.get(0).getSourcePoint(), is(pointB));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointA));
+    assertThat(steps.get(0).getVehicleOrientation(), is(Vehicle.Orientation.BACKWARD));
+  }
+
+  private void addEdge(
+      Graph<Vertex, Edge> graph,
+      Vertex source,
+      Vertex target,
+      Edge edge,
+      double weight
+  ) {
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link RoutingTable}.
+ */
+class RoutingTableTest {
+
+  private static final int VERTEX_COUNT = 150;
+
+  private Graph<Vertex, Edge> graph;
+  private List<Vertex> vertices;
+
+  @BeforeEach
+  void setUp() {
+    // Use a graph with more vertices than fit into a single tile of the routing table.
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    vertices = new ArrayList<>();
+    for (int i = 0; i < VERTEX_COUNT; i++) {
+      Vertex vertex = new Vertex(new Point("Point-%03d".formatted(i)).getReference());
+      vertices.add(vertex);
+      graph.addVertex(vertex);
+    }
+
+    Random random = new Random(42);
+    for (int i = 0; i < 2 * VERTEX_COUNT; i++) {
+      Vertex source = vertices.get(random.nextInt(VERTEX_COUNT));
+      Vertex target = vertices.get(random.nextInt(VERTEX_COUNT));
+      if (source == target) {
+        continue;
+      }
+      Edge edge = new Edge(new Path("Path-" + i, source.getPoint(), target.getPoint()), false);
+      graph.addEdge(source, target, edge);
+      graph.setEdgeWeight(edge, 1 + random.nextInt(100));
+    }
+  }
+
+  @Test
+  void computeCostsOfShortestRoutes() {
+    RoutingTopology topology = RoutingTopology.of(graph);
+    RoutingTable routingTable = RoutingTable.compute(topology);
+    DijkstraShortestPath<Vertex, Edge> dijkstra = new DijkstraShortestPath<>(graph);
+
+    for (Vertex source : vertices) {
+      for (Vertex destination : vertices) {
+        assertThat(
+            routingTable.getCosts(
+                topology.getVertexIndex(source.getPoint().getName()),
+                topology.getVertexIndex(destination.getPoint().getName())
+            ),
+            is(dijkstra.getPathWeight(source, destination))
+        );
+      }
+    }
+  }
+
+  @Test
+  void computeFirstEdgesOfShortestRoutes() {
+    RoutingTopology topology = RoutingTopology.of(graph);
+    RoutingTable routingTable = RoutingTable.compute(topology);
+
+    for (int source = 0; source < VERTEX_COUNT; source++) {
+      for (int destination = 0; destination < VERTEX_COUNT; destination++) {
+        if (source == destination
+            || Double.isInfinite(routingTable.getCosts(source, destination))) {
+          assertThat(routingTable.getFirstEdge(source, destination), is(RoutingTable.NO_EDGE));
+          continue;
+        }
+
+        // Following the first edges must lead to the destination with the tabulated costs.
+        double costs = 0;
+        int vertex = source;
+        for (int steps = 0; vertex != destination && steps < VERTEX_COUNT; steps++) {
+          int edge = routingTable.getFirstEdge(vertex, destination);
+          costs += topology.getEdgeWeight(edge);
+          vertex = topology.getEdgeTarget(edge);
+        }
+        assertThat(vertex, is(destination));
+        assertThat(costs, is(routingTable.getCosts(source, destination)));
+      }
+    }
+  }
+}
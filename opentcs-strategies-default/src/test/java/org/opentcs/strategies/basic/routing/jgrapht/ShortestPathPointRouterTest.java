@@ -15,6 +15,7 @@ import java.util.Map;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.jgrapht.graph.EdgeReversedGraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
@@ -36,6 +37,8 @@ class ShortestPathPointRouterTest {
 
   private ShortestPathPointRouter pointRouter;
 
+  private ShortestPathPointRouter tabulatingPointRouter;
+
   @BeforeEach
   void setUp() {
     pointA = new Point("A");
@@ -64,6 +67,12 @@ class ShortestPathPointRouterTest {
         Map.of(pointA.getName(), pointA, pointB.getName(), pointB, pointC.getName(), pointC),
         graph.vertexSet()
     );
+    tabulatingPointRouter = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        new DijkstraShortestPath<>(new EdgeReversedGraph<>(graph)),
+        Map.of(pointA.getName(), pointA, pointB.getName(), pointB, pointC.getName(), pointC),
+        graph.vertexSet()
+    );
   }
 
   @Test
@@ -106,4 +115,60 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void returnZeroTabulatedCostsIfDestinationIsSource() {
+    assertEquals(0, tabulatingPointRouter.getTabulatedCosts(pointA, pointA));
+  }
+
+  @Test
+  void returnInfiniteTabulatedCostsIfNoRouteExists() {
+    assertEquals(Double.NaN, tabulatingPointRouter.getTabulatedCosts(pointA, pointB));
+    assertEquals(Double.NaN, tabulatingPointRouter.getTabulatedCosts(pointC, pointA));
+  }
+
+  @Test
+  void returnGraphPathCostsAsTabulatedCostsForExistingRoute() {
+    assertEquals(
+        pointRouter.getCosts(pointA, pointC),
+        tabulatingPointRouter.getTabulatedCosts(pointA, pointC)
+    );
+    assertEquals(
+        pointRouter.getCosts(pointA, pointC),
+        pointRouter.getTabulatedCosts(pointA, pointC)
+    );
+  }
+
+  @Test
+  void returnSumOfStepCostsAsTabulatedCosts() {
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    Edge edgeAB = new Edge(pathAB, false);
+    Edge edgeBC = new Edge(pathBC, false);
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    Vertex vertexC = new Vertex(pointC.getReference());
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addVertex(vertexC);
+    // Weights for which the step costs are rounded down to less than the costs of the whole path.
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.setEdgeWeight(edgeAB, 1.5 / ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR);
+    graph.addEdge(vertexB, vertexC, edgeBC);
+    graph.setEdgeWeight(edgeBC, 1.5 / ShortestPathPointRouter.COST_INTEGER_CAST_FACTOR);
+    Map<String, Point> points
+        = Map.of(pointA.getName(), pointA, pointB.getName(), pointB, pointC.getName(), pointC);
+    ShortestPathPointRouter router = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        new DijkstraShortestPath<>(new EdgeReversedGraph<>(graph)),
+        points,
+        graph.vertexSet()
+    );
+
+    long stepCosts = router.getRouteSteps(pointA, pointC).stream()
+        .mapToLong(Step::getCosts)
+        .sum();
+    assertEquals(stepCosts, router.getTabulatedCosts(pointA, pointC));
+  }
+
 }